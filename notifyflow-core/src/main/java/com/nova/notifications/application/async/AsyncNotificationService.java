@@ -7,6 +7,7 @@ import com.nova.notifications.common.ValidationMessages;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
@@ -19,6 +20,12 @@ import java.util.concurrent.Executor;
  * and a configurable Executor. Supports single async sends and batch
  * processing with fail-soft semantics (one failure doesn't abort others).
  * </p>
+ * <p>
+ * With an {@link Outbox} configured (durable acceptance), every notification is appended
+ * to the outbox and dispatched only once the entry is durable; it is marked complete after
+ * the send. Entries left incomplete by a crash are dispatched again on the next start via
+ * {@link #redispatchRecovered()}.
+ * </p>
  */
 public class AsyncNotificationService {
 
@@ -26,24 +33,37 @@ public class AsyncNotificationService {
 
     private final NotificationService notificationService;
     private final Executor executor;
+    private final Outbox outbox;
 
     public AsyncNotificationService(NotificationService notificationService, Executor executor) {
+        this(notificationService, executor, null);
+    }
+
+    /**
+     * @param outbox write-ahead log for accepted notifications, or null to queue them in memory only
+     */
+    public AsyncNotificationService(NotificationService notificationService, Executor executor, Outbox outbox) {
         this.notificationService = Objects.requireNonNull(notificationService, "NotificationService must not be null");
         this.executor = Objects.requireNonNull(executor, "Executor must not be null");
+        this.outbox = outbox;
     }
 
     /**
      * Sends a single notification asynchronously.
+     * <p>
+     * With durable acceptance, the send starts only after the notification is in the outbox;
+     * if it cannot be logged, nothing is sent and the future resolves to a system error.
+     * </p>
      *
      * @param notification the notification to send
      * @return a CompletableFuture that resolves to the send result
      */
     public <T extends Notification> CompletableFuture<NotificationResult> sendAsync(T notification) {
         log.debug("Queueing async {} notification to: {}", notification.channelType(), notification.recipient());
-        return CompletableFuture.supplyAsync(
-                () -> notificationService.send(notification),
-                executor
-        ).exceptionally(ex -> {
+        CompletableFuture<NotificationResult> future = outbox == null
+                ? CompletableFuture.supplyAsync(() -> notificationService.send(notification), executor)
+                : outbox.append(notification).thenApplyAsync(id -> sendAndComplete(id, notification), executor);
+        return future.exceptionally(ex -> {
             log.error("Async notification failed for {}: {}", notification.recipient(), ex.getMessage(), ex);
             return NotificationResult.systemError(ValidationMessages.ASYNC_ERROR_PREFIX + ex.getMessage(), ex);
         });
@@ -56,16 +76,28 @@ public class AsyncNotificationService {
      * cancel or affect others (fail-soft). Returns all results once every
      * notification has been processed.
      * </p>
+     * <p>
+     * The whole batch is validated first, on the calling thread (see {@link BatchValidation}).
+     * Invalid notifications resolve to their validation failure right away: they take no
+     * executor slot and publish no events.
+     * </p>
      *
      * @param notifications the notifications to send
      * @return a CompletableFuture that resolves to the list of all results
      */
     public CompletableFuture<List<NotificationResult>> sendBatch(List<? extends Notification> notifications) {
-        log.info("Sending batch of {} notifications", notifications.size());
+        var validation = BatchValidation.of(notificationService, notifications);
+        log.info("Sending batch of {} notifications ({} rejected by validation)",
+                validation.size(), validation.invalidCount());
 
-        List<CompletableFuture<NotificationResult>> futures = notifications.stream()
-                .map(this::sendAsync)
-                .toList();
+        var futures = new ArrayList<CompletableFuture<NotificationResult>>(validation.size());
+        int index = 0;
+        for (Notification notification : notifications) {
+            futures.add(validation.isValid(index)
+                    ? sendAsync(notification)
+                    : CompletableFuture.completedFuture(validation.rejection(index)));
+            index++;
+        }
 
         return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
                 .thenApply(ignored -> {
@@ -81,4 +113,39 @@ public class AsyncNotificationService {
                     return results;
                 });
     }
+
+    /**
+     * Dispatches the notifications the outbox found unfinished when it was opened.
+     *
+     * @return the number of notifications dispatched
+     */
+    public int redispatchRecovered() {
+        if (outbox == null) {
+            return 0;
+        }
+        var entries = outbox.recovered();
+        if (!entries.isEmpty()) {
+            log.info("Re-dispatching {} notifications recovered from the outbox", entries.size());
+        }
+        for (var entry : entries) {
+            CompletableFuture.runAsync(() -> sendAndComplete(entry.id(), entry.notification()), executor)
+                    .exceptionally(ex -> {
+                        log.error("Recovered notification {} failed: {}", entry.id(), ex.getMessage(), ex);
+                        return null;
+                    });
+        }
+        return entries.size();
+    }
+
+    private NotificationResult sendAndComplete(long id, Notification notification) {
+        try {
+            return notificationService.send(notification);
+        } finally {
+            try {
+                outbox.complete(id);
+            } catch (RuntimeException e) {
+                log.warn("Failed to mark outbox entry {} complete: {}", id, e.getMessage());
+            }
+        }
+    }
 }
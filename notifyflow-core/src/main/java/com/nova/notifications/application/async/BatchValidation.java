@@ -0,0 +1,144 @@
+package com.nova.notifications.application.async;
+
+import com.nova.notifications.application.service.NotificationService;
+import com.nova.notifications.common.ValidationMessages;
+import com.nova.notifications.domain.model.Notification;
+import com.nova.notifications.domain.result.NotificationResult;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * The outcome of screening a batch before anything is queued: one bitmask of error codes
+ * per notification.
+ * <p>
+ * Validation runs on the calling thread; batches larger than one chunk are split with
+ * fork/join, so idle common-pool workers take part. Codes come from each channel's
+ * {@link com.nova.notifications.application.port.NotificationValidator#check}, which builds
+ * no strings; messages are produced by {@link #messages(int)} only for rejected items.
+ * </p>
+ * <p>
+ * Only channel validation is covered. Null notifications and unconfigured channels pass
+ * the screen and are rejected by the send itself, as for a single send.
+ * </p>
+ */
+public final class BatchValidation {
+
+    /** Items validated sequentially per fork/join task; smaller batches are not split at all. */
+    static final int CHUNK_SIZE = 1024;
+
+    private final NotificationService notificationService;
+    private final Notification[] notifications;
+    private final long[] errors;
+    private final int invalidCount;
+
+    private BatchValidation(NotificationService notificationService, Notification[] notifications, long[] errors) {
+        this.notificationService = notificationService;
+        this.notifications = notifications;
+        this.errors = errors;
+        int invalid = 0;
+        for (long error : errors) {
+            if (error != 0) {
+                invalid++;
+            }
+        }
+        this.invalidCount = invalid;
+    }
+
+    /**
+     * Validates every notification of a batch against its channel's validator.
+     *
+     * @param notificationService resolves each notification's channel validator
+     * @param notifications       the batch, in order
+     * @return the error codes of each item
+     */
+    public static BatchValidation of(NotificationService notificationService,
+                                     List<? extends Notification> notifications) {
+        Objects.requireNonNull(notificationService, "NotificationService must not be null");
+        var items = notifications.toArray(new Notification[0]);
+        var errors = new long[items.length];
+        new Chunk(notificationService, items, errors, 0, items.length).invoke();
+        return new BatchValidation(notificationService, items, errors);
+    }
+
+    /**
+     * @return the number of notifications in the batch
+     */
+    public int size() {
+        return errors.length;
+    }
+
+    /**
+     * @return the number of notifications that failed validation
+     */
+    public int invalidCount() {
+        return invalidCount;
+    }
+
+    public boolean isValid(int index) {
+        return errors[index] == 0;
+    }
+
+    /**
+     * @return the validator's bitmask of error codes for the item (0 if valid)
+     */
+    public long errors(int index) {
+        return errors[index];
+    }
+
+    /**
+     * Produces the error messages for an item; nothing is built until this is called.
+     */
+    public List<String> messages(int index) {
+        return notificationService.describeErrors(notifications[index], errors[index]);
+    }
+
+    /**
+     * The validation failure reported for a rejected item, worded as a send would word it.
+     */
+    NotificationResult rejection(int index) {
+        return NotificationResult.validationError(String.join(ValidationMessages.ERROR_SEPARATOR, messages(index)));
+    }
+
+    // ForkJoinTask is Serializable, but these tasks only live inside one pool call
+    @SuppressWarnings("serial")
+    private static final class Chunk extends RecursiveAction {
+
+        private final NotificationService notificationService;
+        private final Notification[] notifications;
+        private final long[] errors;
+        private final int from;
+        private final int to;
+
+        Chunk(NotificationService notificationService, Notification[] notifications, long[] errors, int from, int to) {
+            this.notificationService = notificationService;
+            this.notifications = notifications;
+            this.errors = errors;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= CHUNK_SIZE) {
+                for (int i = from; i < to; i++) {
+                    errors[i] = check(notifications[i]);
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new Chunk(notificationService, notifications, errors, from, mid),
+                    new Chunk(notificationService, notifications, errors, mid, to));
+        }
+
+        private long check(Notification notification) {
+            try {
+                return notificationService.check(notification);
+            } catch (RuntimeException e) {
+                // A validator that throws is left to the send, which reports it as a result
+                return 0;
+            }
+        }
+    }
+}
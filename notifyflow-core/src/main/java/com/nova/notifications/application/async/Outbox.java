@@ -0,0 +1,38 @@
+package com.nova.notifications.application.async;
+
+import com.nova.notifications.domain.model.Notification;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Port for a write-ahead log of accepted notifications.
+ * <p>
+ * {@link AsyncNotificationService} appends every notification before dispatching it and
+ * marks it complete once the send has finished, successfully or not. Entries still
+ * incomplete when the process stops are handed back by {@link #recovered()} on the
+ * next start and dispatched again, so delivery is at-least-once.
+ * </p>
+ */
+public interface Outbox extends AutoCloseable {
+
+    /**
+     * Appends a notification to the log.
+     *
+     * @return a future completing with the entry id once the entry is durable
+     */
+    CompletableFuture<Long> append(Notification notification);
+
+    /**
+     * Marks an entry as done; it will not be recovered after a restart.
+     */
+    void complete(long id);
+
+    /**
+     * @return the entries found incomplete when the outbox was opened
+     */
+    List<OutboxEntry> recovered();
+
+    @Override
+    void close();
+}
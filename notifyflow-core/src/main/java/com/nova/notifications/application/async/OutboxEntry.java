@@ -0,0 +1,15 @@
+package com.nova.notifications.application.async;
+
+import com.nova.notifications.domain.model.Notification;
+
+/**
+ * A notification logged in an {@link Outbox}.
+ *
+ * @param id           outbox-assigned identifier, used to mark the entry complete
+ * @param notification the accepted notification
+ */
+public record OutboxEntry(
+        long id,
+        Notification notification
+) {
+}
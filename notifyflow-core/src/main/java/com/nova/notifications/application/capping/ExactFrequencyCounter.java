@@ -0,0 +1,115 @@
+package com.nova.notifications.application.capping;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts exactly, keeping the send times of each recipient within the window.
+ * <p>
+ * Each recipient costs its key and up to {@code limit} timestamps. Recipients with no
+ * send left in the window are purged once per window length; only the acquisition that
+ * wins the race for a due purge sweeps the map, so an idle recipient lingers for at most
+ * two windows.
+ * </p>
+ */
+final class ExactFrequencyCounter implements FrequencyCounter {
+
+    private final int limit;
+    private final long windowMillis;
+    private final Map<String, Window> windows = new ConcurrentHashMap<>();
+    /** Time from which the next acquisition sweeps idle recipients */
+    private final AtomicLong nextPurgeMillis = new AtomicLong(Long.MIN_VALUE);
+
+    ExactFrequencyCounter(FrequencyCap cap) {
+        this.limit = cap.limit();
+        this.windowMillis = cap.window().toMillis();
+    }
+
+    @Override
+    public boolean tryAcquire(String recipient, long nowMillis) {
+        long purgeDue = nextPurgeMillis.get();
+        if (nowMillis >= purgeDue && nextPurgeMillis.compareAndSet(purgeDue, nowMillis + windowMillis)) {
+            purge(nowMillis);
+        }
+        while (true) {
+            var window = windows.computeIfAbsent(recipient, key -> new Window(limit));
+            synchronized (window) {
+                if (window.purged) {
+                    continue;
+                }
+                window.expire(nowMillis - windowMillis);
+                if (window.size == limit) {
+                    return false;
+                }
+                window.times[window.size++] = nowMillis;
+                return true;
+            }
+        }
+    }
+
+    @Override
+    public void release(String recipient, long acquiredAtMillis) {
+        var window = windows.get(recipient);
+        if (window != null) {
+            synchronized (window) {
+                window.remove(acquiredAtMillis);
+            }
+        }
+    }
+
+    /**
+     * @return the number of recipients currently tracked
+     */
+    int trackedRecipients() {
+        return windows.size();
+    }
+
+    private void purge(long nowMillis) {
+        long cutoff = nowMillis - windowMillis;
+        windows.forEach((recipient, window) -> {
+            synchronized (window) {
+                window.expire(cutoff);
+                if (window.size == 0) {
+                    // Marked first so that a concurrent acquire retries with a fresh window
+                    window.purged = true;
+                    windows.remove(recipient, window);
+                }
+            }
+        });
+    }
+
+    /**
+     * Send times of one recipient within the window, oldest first; guarded by its own monitor.
+     */
+    private static final class Window {
+
+        final long[] times;
+        int size;
+        boolean purged;
+
+        Window(int limit) {
+            this.times = new long[limit];
+        }
+
+        void expire(long cutoff) {
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                if (times[i] > cutoff) {
+                    times[kept++] = times[i];
+                }
+            }
+            size = kept;
+        }
+
+        void remove(long time) {
+            for (int i = 0; i < size; i++) {
+                if (times[i] == time) {
+                    System.arraycopy(times, i + 1, times, i, size - i - 1);
+                    size--;
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.nova.notifications.application.capping;
+
+import com.nova.notifications.common.ValidationMessages;
+import com.nova.notifications.domain.model.ChannelType;
+import com.nova.notifications.domain.model.Notification;
+
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Limits how many notifications one recipient may get in a sliding window, such as
+ * "at most 3 marketing pushes per device per 24 hours".
+ * <p>
+ * Built fluently from {@link #perRecipient}; a cap counts every notification it applies
+ * to, whichever service sent it:
+ * </p>
+ * <pre>{@code
+ * var cap = FrequencyCap.perRecipient("marketing-push", 3, Duration.ofHours(24))
+ *     .channels(ChannelType.PUSH)
+ *     .matching(n -> n instanceof PushNotification push && "marketing".equals(push.data().get("category")))
+ *     .approximate(256L << 20);
+ * }</pre>
+ * <p>
+ * Counting is exact by default, which keeps a few timestamps per recipient on the heap
+ * and suits caps that see a bounded set of recipients. {@link #approximate(long)} counts
+ * in a count-min sketch of fixed size instead, see {@link FrequencyCapper}.
+ * </p>
+ *
+ * @param name         label used in results and logs
+ * @param limit        notifications allowed per recipient within the window
+ * @param window       length of the sliding window
+ * @param channelTypes channels the cap applies to (empty = all)
+ * @param selector     further restricts the notifications the cap applies to (null = all)
+ * @param sketchBytes  memory of the count-min sketch, or 0 to count exactly
+ */
+public record FrequencyCap(
+        String name,
+        int limit,
+        Duration window,
+        Set<ChannelType> channelTypes,
+        Predicate<? super Notification> selector,
+        long sketchBytes
+) {
+
+    /** Smallest sketch accepted */
+    static final long MIN_SKETCH_BYTES = 4L << 10;
+
+    /** Largest sketch accepted: the cells must fit one array */
+    static final long MAX_SKETCH_BYTES = 8L << 30;
+
+    public FrequencyCap {
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException(ValidationMessages.FREQUENCY_CAP_NAME_REQUIRED);
+        }
+        if (limit < 1) {
+            throw new IllegalArgumentException(ValidationMessages.FREQUENCY_CAP_LIMIT_INVALID);
+        }
+        if (window == null || window.compareTo(Duration.ofSeconds(1)) < 0) {
+            throw new IllegalArgumentException(ValidationMessages.FREQUENCY_CAP_WINDOW_INVALID);
+        }
+        if (sketchBytes != 0) {
+            if (sketchBytes < MIN_SKETCH_BYTES || sketchBytes > MAX_SKETCH_BYTES) {
+                throw new IllegalArgumentException(ValidationMessages.FREQUENCY_CAP_SKETCH_SIZE_INVALID);
+            }
+            if (limit > SketchFrequencyCounter.MAX_LIMIT) {
+                throw new IllegalArgumentException(
+                        ValidationMessages.FREQUENCY_CAP_SKETCH_LIMIT_INVALID.formatted(SketchFrequencyCounter.MAX_LIMIT));
+            }
+        }
+        channelTypes = channelTypes == null || channelTypes.isEmpty()
+                ? Set.of() : Set.copyOf(EnumSet.copyOf(channelTypes));
+    }
+
+    /**
+     * Allows each recipient {@code limit} notifications per {@code window}, on every channel,
+     * counted exactly.
+     */
+    public static FrequencyCap perRecipient(String name, int limit, Duration window) {
+        return new FrequencyCap(name, limit, window, Set.of(), null, 0);
+    }
+
+    public FrequencyCap channels(ChannelType... types) {
+        return new FrequencyCap(name, limit, window, Set.of(types), selector, sketchBytes);
+    }
+
+    public FrequencyCap matching(Predicate<? super Notification> predicate) {
+        Objects.requireNonNull(predicate, "Predicate must not be null");
+        return new FrequencyCap(name, limit, window, channelTypes, predicate, sketchBytes);
+    }
+
+    /**
+     * Counts in a count-min sketch of about {@code memoryBytes}, whatever the number of
+     * recipients. Limits up to {@value SketchFrequencyCounter#MAX_LIMIT} are supported.
+     */
+    public FrequencyCap approximate(long memoryBytes) {
+        return new FrequencyCap(name, limit, window, channelTypes, selector, memoryBytes);
+    }
+
+    /**
+     * Counts every recipient exactly (the default).
+     */
+    public FrequencyCap exact() {
+        return new FrequencyCap(name, limit, window, channelTypes, selector, 0);
+    }
+
+    public boolean isApproximate() {
+        return sketchBytes != 0;
+    }
+
+    /**
+     * @return true if the notification counts against this cap
+     */
+    public boolean appliesTo(Notification notification) {
+        return (channelTypes.isEmpty() || channelTypes.contains(notification.channelType()))
+                && (selector == null || selector.test(notification));
+    }
+}
@@ -0,0 +1,26 @@
+package com.nova.notifications.application.capping;
+
+/**
+ * Counts the notifications of one {@link FrequencyCap} per recipient.
+ * <p>
+ * Implementations must be safe for concurrent use. Under contention they must err on the
+ * side of refusing: concurrent acquisitions may not let more than the limit through.
+ * </p>
+ */
+interface FrequencyCounter {
+
+    /**
+     * Counts a notification to the recipient unless that would exceed the limit.
+     *
+     * @param nowMillis the current time in epoch milliseconds
+     * @return true if the notification was counted and may be sent
+     */
+    boolean tryAcquire(String recipient, long nowMillis);
+
+    /**
+     * Takes back a notification counted by {@link #tryAcquire} that was not delivered.
+     *
+     * @param acquiredAtMillis the time passed to the matching {@code tryAcquire}
+     */
+    void release(String recipient, long acquiredAtMillis);
+}
@@ -0,0 +1,209 @@
+package com.nova.notifications.application.capping;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Counts approximately in a count-min sketch whose cells are split into time buckets, so
+ * memory stays fixed however many recipients there are.
+ * <p>
+ * The sketch has {@value #DEPTH} rows; a recipient maps to one cell per row and its count
+ * is the smallest of its cells, which can only overestimate. Each cell is a {@code long}
+ * of {@value #LANES} four-bit counters, one per bucket of a ring: the current bucket,
+ * {@value #WINDOW_BUCKETS} full buckets before it and a spare that is being zeroed for
+ * the next bucket. A recipient's whole history in a row is therefore one cell, read and
+ * updated with a single atomic operation. Counters saturate at {@value #LANE_MAX}, so
+ * limits up to {@value #MAX_LIMIT} are supported.
+ * </p>
+ * <p>
+ * The window is {@value #WINDOW_BUCKETS} buckets long and the current bucket is counted
+ * too, so a send is forgotten between one window and one bucket after it was made: caps
+ * are never looser than configured. Zeroing the spare lane sweeps the whole sketch once
+ * per bucket; only threads that reach the next bucket before the sweep ends wait for it.
+ * </p>
+ */
+final class SketchFrequencyCounter implements FrequencyCounter {
+
+    /** Rows of the sketch; a recipient is refused only if every row is over the limit */
+    static final int DEPTH = 4;
+
+    /** Four-bit counters per cell, one per bucket of the ring */
+    static final int LANES = 16;
+
+    /** Full buckets in a window: the ring minus the current bucket and the spare */
+    static final int WINDOW_BUCKETS = LANES - 2;
+
+    static final int LANE_MAX = 15;
+
+    /** A saturated counter must still read as over the limit */
+    static final int MAX_LIMIT = LANE_MAX - 1;
+
+    private static final int LANE_BITS = 4;
+    private static final long LANE_MASK = LANE_MAX;
+    private static final long LOW_NIBBLES = 0x0F0F0F0F0F0F0F0FL;
+    private static final long BYTE_ONES = 0x0101010101010101L;
+    private static final VarHandle CELLS = MethodHandles.arrayElementVarHandle(long[].class);
+
+    private final int limit;
+    private final long bucketMillis;
+    private final long[] cells;
+    private final int width;
+    private final long columnMask;
+
+    /** Bucket number (epoch millis / bucket length) of the current bucket */
+    private volatile long epoch = Long.MIN_VALUE;
+
+    SketchFrequencyCounter(FrequencyCap cap) {
+        this.limit = cap.limit();
+        long windowMillis = cap.window().toMillis();
+        this.bucketMillis = (windowMillis + WINDOW_BUCKETS - 1) / WINDOW_BUCKETS;
+        int cellCount = (int) Long.highestOneBit(cap.sketchBytes() / Long.BYTES);
+        this.cells = new long[cellCount];
+        this.width = cellCount / DEPTH;
+        this.columnMask = width - 1;
+    }
+
+    @Override
+    public boolean tryAcquire(String recipient, long nowMillis) {
+        long current = currentEpoch(nowMillis);
+        int shift = laneShift(current);
+        long live = ~(LANE_MASK << laneShift(current + 1));
+        long h1 = hash(recipient);
+        long h2 = Long.rotateLeft(h1, 32) | 1;
+
+        int incrementedRows = 0;
+        int estimate = Integer.MAX_VALUE;
+        for (int row = 0; row < DEPTH; row++) {
+            int index = index(row, h1, h2);
+            long cell;
+            while (true) {
+                cell = (long) CELLS.getVolatile(cells, index);
+                if (((cell >>> shift) & LANE_MAX) == LANE_MAX) {
+                    break;
+                }
+                if (CELLS.compareAndSet(cells, index, cell, cell + (1L << shift))) {
+                    cell += 1L << shift;
+                    incrementedRows |= 1 << row;
+                    break;
+                }
+            }
+            estimate = Math.min(estimate, laneSum(cell & live));
+        }
+
+        if (estimate <= limit) {
+            return true;
+        }
+        for (int row = 0; row < DEPTH; row++) {
+            if ((incrementedRows & (1 << row)) != 0) {
+                decrement(index(row, h1, h2), shift);
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void release(String recipient, long acquiredAtMillis) {
+        long bucket = acquiredAtMillis / bucketMillis;
+        long current = epoch;
+        if (bucket > current || current - bucket > WINDOW_BUCKETS) {
+            // Already forgotten (or zeroed as the spare lane)
+            return;
+        }
+        int shift = laneShift(bucket);
+        long h1 = hash(recipient);
+        long h2 = Long.rotateLeft(h1, 32) | 1;
+        for (int row = 0; row < DEPTH; row++) {
+            decrement(index(row, h1, h2), shift);
+        }
+    }
+
+    /**
+     * 64-bit hash of a recipient (FNV-1a over the UTF-16 code units followed by a murmur3
+     * finalizer); rows derive their columns from it by double hashing.
+     */
+    static long hash(String recipient) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < recipient.length(); i++) {
+            h ^= recipient.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    private int index(int row, long h1, long h2) {
+        return row * width + (int) ((h1 + row * h2) & columnMask);
+    }
+
+    private static int laneShift(long bucket) {
+        return (int) (bucket & (LANES - 1)) * LANE_BITS;
+    }
+
+    /**
+     * Sum of the sixteen four-bit counters of a cell.
+     */
+    private static int laneSum(long cell) {
+        long bytes = (cell & LOW_NIBBLES) + ((cell >>> LANE_BITS) & LOW_NIBBLES);
+        return (int) ((bytes * BYTE_ONES) >>> 56);
+    }
+
+    private void decrement(int index, int shift) {
+        while (true) {
+            long cell = (long) CELLS.getVolatile(cells, index);
+            if (((cell >>> shift) & LANE_MAX) == 0
+                    || CELLS.compareAndSet(cells, index, cell, cell - (1L << shift))) {
+                return;
+            }
+        }
+    }
+
+    private long currentEpoch(long nowMillis) {
+        long bucket = nowMillis / bucketMillis;
+        long current = epoch;
+        if (bucket > current) {
+            advance(bucket);
+            current = epoch;
+        }
+        return current;
+    }
+
+    /**
+     * Moves the ring to a new bucket. The new bucket's lane is already zero unless buckets
+     * were skipped; the lane of the bucket after it is zeroed once the new bucket is live.
+     */
+    private synchronized void advance(long bucket) {
+        long current = epoch;
+        if (bucket <= current) {
+            return;
+        }
+        if (current != Long.MIN_VALUE) {
+            long stale = 0;
+            if (bucket - current >= LANES) {
+                stale = -1L;
+            } else {
+                // The lane of current + 1 was zeroed as the spare
+                for (long skipped = current + 2; skipped <= bucket; skipped++) {
+                    stale |= LANE_MASK << laneShift(skipped);
+                }
+            }
+            clear(stale);
+        }
+        epoch = bucket;
+        clear(LANE_MASK << laneShift(bucket + 1));
+    }
+
+    private void clear(long lanes) {
+        if (lanes == 0) {
+            return;
+        }
+        for (int i = 0; i < cells.length; i++) {
+            if ((cells[i] & lanes) != 0) {
+                CELLS.getAndBitwiseAnd(cells, i, ~lanes);
+            }
+        }
+    }
+}
@@ -4,6 +4,8 @@ import com.nova.notifications.domain.model.ChannelType;
 import com.nova.notifications.domain.model.Notification;
 import com.nova.notifications.domain.result.NotificationResult;
 
+import java.util.List;
+
 /**
  * Port interface defining the contract for a notification channel.
  * <p>
@@ -37,4 +39,13 @@ public interface NotificationChannel<T extends Notification> {
      * @return true if this channel is properly configured and ready to send
      */
     boolean isAvailable();
+
+    /**
+     * Returns the validator applied by {@link #send}, so callers can screen notifications
+     * before queueing them. The default accepts everything and leaves validation to
+     * {@code send}.
+     */
+    default NotificationValidator<T> validator() {
+        return notification -> List.of();
+    }
 }
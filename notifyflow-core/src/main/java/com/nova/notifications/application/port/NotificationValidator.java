@@ -11,6 +11,11 @@ import java.util.List;
  * (email format, phone number format, device token validity, etc.).
  * Returns a list of all validation errors found, enabling batch error reporting.
  * </p>
+ * <p>
+ * Validators can also report errors as a bitmask of codes with {@link #check}, which builds
+ * no messages; {@link #describe} turns a mask into messages only when they are reported.
+ * Batch sends use this to screen a whole batch up front.
+ * </p>
  *
  * @param <T> the specific notification type to validate
  */
@@ -23,4 +28,34 @@ public interface NotificationValidator<T extends Notification> {
      * @return list of error messages (empty if valid)
      */
     List<String> validate(T notification);
+
+    /**
+     * Error code reported by the default {@link #check} for validators without their own codes.
+     */
+    long INVALID = 1L << 63;
+
+    /**
+     * Validates a notification without building messages.
+     * <p>
+     * The default implementation runs {@link #validate} and reports {@link #INVALID};
+     * validators on a hot path should override it with one bit per error.
+     * </p>
+     *
+     * @param notification the notification to validate
+     * @return a bitmask of error codes (0 if valid)
+     */
+    default long check(T notification) {
+        return validate(notification).isEmpty() ? 0 : INVALID;
+    }
+
+    /**
+     * Produces the messages for error codes returned by {@link #check}.
+     *
+     * @param notification the notification that was checked
+     * @param errors       the bitmask returned by {@code check}
+     * @return the error messages (empty if {@code errors} is 0)
+     */
+    default List<String> describe(T notification, long errors) {
+        return errors == 0 ? List.of() : validate(notification);
+    }
 }
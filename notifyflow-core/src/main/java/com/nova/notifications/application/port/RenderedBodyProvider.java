@@ -0,0 +1,30 @@
+package com.nova.notifications.application.port;
+
+import com.nova.notifications.domain.model.Notification;
+import com.nova.notifications.domain.result.NotificationResult;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+
+/**
+ * Provider that can send a notification whose body is already encoded.
+ * <p>
+ * Lets a template be rendered straight into wire bytes and handed to the provider, so a
+ * large body never exists as a String next to its serialized request. The envelope carries
+ * everything except the body; its own body field is ignored.
+ * </p>
+ *
+ * @param <T> the specific notification type this provider handles
+ */
+public interface RenderedBodyProvider<T extends Notification> extends NotificationProvider<T> {
+
+    /**
+     * Sends a notification with a pre-rendered body.
+     *
+     * @param envelope the notification's addressing and metadata
+     * @param body     the encoded body, from its position to its limit
+     * @param charset  the charset the body is encoded in
+     * @return the result from the provider
+     */
+    NotificationResult sendRendered(T envelope, ByteBuffer body, Charset charset);
+}
@@ -0,0 +1,29 @@
+package com.nova.notifications.application.port;
+
+import com.nova.notifications.application.template.NotificationTemplate;
+import com.nova.notifications.domain.model.Notification;
+import com.nova.notifications.domain.result.NotificationResult;
+
+import java.util.Map;
+
+/**
+ * Channel that can render a template as the body of a notification while sending it.
+ * <p>
+ * With a {@link RenderedBodyProvider}, the template is encoded directly into the buffer
+ * handed to the provider; otherwise the channel falls back to rendering a String body.
+ * </p>
+ *
+ * @param <T> the specific notification type this channel handles
+ */
+public interface RenderingChannel<T extends Notification> extends NotificationChannel<T> {
+
+    /**
+     * Validates the envelope, renders the template as its body and sends it.
+     *
+     * @param envelope  the notification to send; its body is replaced by the rendered template
+     * @param template  the template to render
+     * @param variables values for the template placeholders
+     * @return the result indicating success or failure with details
+     */
+    NotificationResult sendRendered(T envelope, NotificationTemplate template, Map<String, String> variables);
+}
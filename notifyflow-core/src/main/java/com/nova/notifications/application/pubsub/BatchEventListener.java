@@ -0,0 +1,24 @@
+package com.nova.notifications.application.pubsub;
+
+import com.nova.notifications.domain.event.NotificationEvent;
+
+import java.util.List;
+
+/**
+ * Listener that receives notification events in batches.
+ * <p>
+ * Suited to sinks that pay per write (databases, log shippers, metrics backends): one
+ * call, and so one write, covers many events. Wrap it in a {@link BatchingEventListener}
+ * to subscribe it to a publisher.
+ * </p>
+ */
+@FunctionalInterface
+public interface BatchEventListener {
+
+    /**
+     * Called with the events collected since the previous batch, in publication order.
+     *
+     * @param events the batch; never empty, and not to be modified
+     */
+    void onEvents(List<NotificationEvent> events);
+}
@@ -0,0 +1,152 @@
+package com.nova.notifications.application.pubsub;
+
+import com.nova.notifications.common.ValidationMessages;
+import com.nova.notifications.domain.event.NotificationEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * EventListener that collects events into micro-batches for a {@link BatchEventListener}.
+ * <p>
+ * A batch is handed over on a dedicated thread as soon as it holds {@code maxBatchSize}
+ * events, or {@code maxDelay} after its first event, whichever comes first. While one batch
+ * is being written the next one fills up; once that one is full too, {@link #onEvent}
+ * waits, so a sink slower than the event rate slows publishers down rather than growing
+ * an unbounded buffer.
+ * </p>
+ * <p>
+ * {@link #close()} hands over the events still collected and stops the thread; events
+ * received afterwards are dropped.
+ * </p>
+ */
+public final class BatchingEventListener implements EventListener, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(BatchingEventListener.class);
+
+    private final BatchEventListener delegate;
+    private final int maxBatchSize;
+    private final long maxDelayNanos;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    /** Signalled when the collecting batch gets its first event or fills up, and on close */
+    private final Condition batchReady = lock.newCondition();
+    /** Signalled when the flusher takes the collecting batch */
+    private final Condition roomAvailable = lock.newCondition();
+    private List<NotificationEvent> collecting;
+    private long firstEventNanos;
+    private boolean running = true;
+    private final Thread flusher;
+
+    /**
+     * @param delegate     the listener to hand batches to
+     * @param maxBatchSize events per batch at most
+     * @param maxDelay     how long the first event of a batch may wait for the rest
+     */
+    public BatchingEventListener(BatchEventListener delegate, int maxBatchSize, Duration maxDelay) {
+        this.delegate = Objects.requireNonNull(delegate, ValidationMessages.BATCH_LISTENER_NULL);
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException(ValidationMessages.EVENT_BATCH_SIZE_INVALID + maxBatchSize);
+        }
+        if (maxDelay == null || maxDelay.isNegative() || maxDelay.isZero()) {
+            throw new IllegalArgumentException(ValidationMessages.EVENT_BATCH_DELAY_INVALID + maxDelay);
+        }
+        this.maxBatchSize = maxBatchSize;
+        this.maxDelayNanos = maxDelay.toNanos();
+        this.collecting = new ArrayList<>(maxBatchSize);
+        this.flusher = new Thread(this::flushLoop, "notifyflow-event-batches");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    @Override
+    public void onEvent(NotificationEvent event) {
+        lock.lock();
+        try {
+            while (running && collecting.size() >= maxBatchSize) {
+                roomAvailable.await();
+            }
+            if (!running) {
+                log.debug("Batching listener closed - dropping event {}", event.eventType());
+                return;
+            }
+            collecting.add(event);
+            if (collecting.size() == 1) {
+                firstEventNanos = System.nanoTime();
+                batchReady.signal();
+            } else if (collecting.size() == maxBatchSize) {
+                batchReady.signal();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void flushLoop() {
+        while (true) {
+            List<NotificationEvent> batch;
+            lock.lock();
+            try {
+                while (collecting.size() < maxBatchSize && running) {
+                    if (collecting.isEmpty()) {
+                        batchReady.await();
+                        continue;
+                    }
+                    long remaining = firstEventNanos + maxDelayNanos - System.nanoTime();
+                    if (remaining <= 0) {
+                        break;
+                    }
+                    batchReady.awaitNanos(remaining);
+                }
+                if (collecting.isEmpty()) {
+                    // Only reached once closed
+                    return;
+                }
+                batch = collecting;
+                collecting = new ArrayList<>(maxBatchSize);
+                roomAvailable.signalAll();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                lock.unlock();
+            }
+
+            try {
+                delegate.onEvents(Collections.unmodifiableList(batch));
+            } catch (Exception e) {
+                log.warn("Batch event listener threw exception for {} event(s): {}", batch.size(), e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            if (!running) {
+                return;
+            }
+            running = false;
+            batchReady.signal();
+            roomAvailable.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        try {
+            // The flusher hands over the last batch before it exits
+            flusher.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.nova.notifications.application.pubsub;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A wall clock read from a volatile field that a daemon thread refreshes about once a
+ * millisecond.
+ * <p>
+ * Reading it costs a field load instead of a call to {@link System#currentTimeMillis()}
+ * per event; the price is one wake-up per tick while the clock runs, and readings up to
+ * a tick behind.
+ * </p>
+ */
+final class CachedClock implements AutoCloseable {
+
+    private static final long TICK_NANOS = 1_000_000;
+
+    private volatile long millis = System.currentTimeMillis();
+    private volatile boolean running = true;
+    private final Thread ticker;
+
+    CachedClock(String threadName) {
+        this.ticker = new Thread(this::tick, threadName);
+        ticker.setDaemon(true);
+        ticker.start();
+    }
+
+    long millis() {
+        return millis;
+    }
+
+    private void tick() {
+        while (running) {
+            millis = System.currentTimeMillis();
+            LockSupport.parkNanos(TICK_NANOS);
+        }
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        LockSupport.unpark(ticker);
+        try {
+            ticker.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.nova.notifications.application.pubsub;
+
+import com.nova.notifications.domain.event.NotificationEvent;
+
+import java.time.Instant;
+
+/**
+ * Port for an append-only record of notification events that can be replayed later.
+ * <p>
+ * A journal subscribes like any other {@link EventListener} and keeps every event it
+ * receives. Replaying it into listeners rebuilds what they derive from the event stream
+ * (metrics, audit trails, delivery states) after the fact, and its timestamps reproduce
+ * the shape of past traffic.
+ * </p>
+ * <p>
+ * A journal grows until {@link #deleteBefore(Instant)} trims it; callers choose the
+ * retention, for example by trimming to the last 30 days once a day.
+ * </p>
+ */
+public interface EventJournal extends EventListener, AutoCloseable {
+
+    /**
+     * Replays every journaled event, oldest first.
+     *
+     * @param listener receives the events on the calling thread
+     * @return the number of events replayed
+     */
+    long replay(EventListener listener);
+
+    /**
+     * Replays the events that occurred in a time range, oldest first.
+     *
+     * @param from     start of the range, inclusive
+     * @param to       end of the range, exclusive
+     * @param listener receives the events on the calling thread
+     * @return the number of events replayed
+     */
+    long replay(Instant from, Instant to, EventListener listener);
+
+    /**
+     * @return the number of events in the journal
+     */
+    long size();
+
+    /**
+     * Deletes events older than {@code cutoff}. Implementations may delete in whole files,
+     * so some older events can remain until a later call.
+     *
+     * @param cutoff events before this instant may be deleted
+     * @return the number of events deleted
+     */
+    long deleteBefore(Instant cutoff);
+
+    /**
+     * Appends an event to the journal.
+     */
+    @Override
+    void onEvent(NotificationEvent event);
+
+    @Override
+    void close();
+}
@@ -1,6 +1,12 @@
 package com.nova.notifications.application.pubsub;
 
 import com.nova.notifications.domain.event.NotificationEvent;
+import com.nova.notifications.domain.event.NotificationEvent.EventType;
+import com.nova.notifications.domain.model.ChannelType;
+import com.nova.notifications.domain.result.NotificationResult;
+
+import java.time.Instant;
+import java.util.Set;
 
 /**
  * Publisher interface for notification lifecycle events.
@@ -19,12 +25,64 @@ public interface EventPublisher {
     void publish(NotificationEvent event);
 
     /**
-     * Registers a listener for notification events.
+     * Publishes an event given by its fields. Nothing is allocated when no listener would
+     * receive it; the send path uses this rather than building events up front.
+     *
+     * @param result  the result, or null for QUEUED, SENDING and RETRYING
+     * @param attempt the attempt number (1 for the first try)
+     */
+    default void publish(EventType eventType, ChannelType channelType, String recipient,
+                         NotificationResult result, int attempt) {
+        if (hasListeners(eventType, channelType)) {
+            publish(new NotificationEvent(eventType, channelType, recipient, result, attempt, Instant.now()));
+        }
+    }
+
+    /**
+     * Registers a listener for all notification events.
      *
      * @param listener the listener to register
      */
     void subscribe(EventListener listener);
 
+    /**
+     * Registers a listener for some notification events only. The publisher does the
+     * filtering, so the listener is not called at all for other events.
+     * <p>
+     * The default implementation wraps the listener in a filter and registers the wrapper
+     * with {@link #subscribe(EventListener)}, so publishers written before this method
+     * existed still honour the filters. Such a publisher cannot later
+     * {@link #unsubscribe(EventListener) unsubscribe} a filtered listener; override this
+     * method to support that.
+     * </p>
+     *
+     * @param listener     the listener to register
+     * @param eventTypes   event types to receive (empty = all)
+     * @param channelTypes channels to receive events of (empty = all)
+     */
+    default void subscribe(EventListener listener, Set<EventType> eventTypes, Set<ChannelType> channelTypes) {
+        if (eventTypes.isEmpty() && channelTypes.isEmpty()) {
+            subscribe(listener);
+            return;
+        }
+        Set<EventType> events = Set.copyOf(eventTypes);
+        Set<ChannelType> channels = Set.copyOf(channelTypes);
+        subscribe(event -> {
+            if ((events.isEmpty() || events.contains(event.eventType()))
+                    && (channels.isEmpty() || channels.contains(event.channelType()))) {
+                listener.onEvent(event);
+            }
+        });
+    }
+
+    /**
+     * Tells whether any listener would receive an event of this type and channel, so that
+     * callers can skip building events nobody receives.
+     */
+    default boolean hasListeners(EventType eventType, ChannelType channelType) {
+        return true;
+    }
+
     /**
      * Removes a previously registered listener.
      *
@@ -0,0 +1,163 @@
+package com.nova.notifications.application.pubsub;
+
+import com.nova.notifications.common.ValidationMessages;
+import com.nova.notifications.domain.event.NotificationEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * EventListener that runs another listener on its own thread behind a bounded queue.
+ * <p>
+ * {@link #onEvent} only enqueues, so a listener that is slow or stuck (a webhook call
+ * that never returns, say) delays neither the send path nor the other listeners. When the
+ * queue backs up, the {@link OverflowPolicy} decides between dropping events, sampling
+ * them and making publishers wait. Dropped events are counted; the count is logged each
+ * time it reaches a power of two.
+ * </p>
+ * <p>
+ * {@link #close()} delivers the events still queued and stops the worker, waiting at most
+ * {@value #CLOSE_TIMEOUT_MILLIS} ms for a listener that does not return.
+ * </p>
+ */
+public final class IsolatedEventListener implements EventListener, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(IsolatedEventListener.class);
+
+    /** One event in this many is kept by {@link OverflowPolicy#SAMPLE} once the queue is half full */
+    public static final int SAMPLE_RATE = 8;
+
+    static final long CLOSE_TIMEOUT_MILLIS = 5_000;
+    private static final long POLL_MILLIS = 20;
+    private static final AtomicInteger WORKER_NUMBERS = new AtomicInteger();
+
+    private final EventListener delegate;
+    private final BlockingQueue<NotificationEvent> queue;
+    private final int sampleThreshold;
+    private final OverflowPolicy overflowPolicy;
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong sampled = new AtomicLong();
+    private volatile boolean running = true;
+    private final Thread worker;
+
+    /**
+     * @param delegate       the listener to isolate
+     * @param queueCapacity  events the queue holds at most
+     * @param overflowPolicy what to do with events while the queue is backed up
+     */
+    public IsolatedEventListener(EventListener delegate, int queueCapacity, OverflowPolicy overflowPolicy) {
+        this.delegate = Objects.requireNonNull(delegate, ValidationMessages.EVENT_LISTENER_NULL);
+        this.overflowPolicy = Objects.requireNonNull(overflowPolicy, ValidationMessages.OVERFLOW_POLICY_NULL);
+        if (queueCapacity < 1) {
+            throw new IllegalArgumentException(ValidationMessages.LISTENER_QUEUE_CAPACITY_INVALID + queueCapacity);
+        }
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.sampleThreshold = Math.max(1, queueCapacity / 2);
+        this.worker = new Thread(this::work, "notifyflow-listener-" + WORKER_NUMBERS.incrementAndGet());
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @Override
+    public void onEvent(NotificationEvent event) {
+        if (!running) {
+            log.debug("Isolated listener closed - dropping event {}", event.eventType());
+            return;
+        }
+        switch (overflowPolicy) {
+            case DROP -> {
+                if (!queue.offer(event)) {
+                    drop();
+                }
+            }
+            case SAMPLE -> {
+                if (queue.size() >= sampleThreshold && sampled.getAndIncrement() % SAMPLE_RATE != 0) {
+                    drop();
+                } else if (!queue.offer(event)) {
+                    drop();
+                }
+            }
+            case BLOCK -> {
+                try {
+                    while (!queue.offer(event, POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+                        if (!running) {
+                            drop();
+                            return;
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    drop();
+                }
+            }
+        }
+    }
+
+    /**
+     * @return the number of events dropped so far
+     */
+    public long dropped() {
+        return dropped.get();
+    }
+
+    /**
+     * @return the number of events queued and not yet delivered
+     */
+    public int backlog() {
+        return queue.size();
+    }
+
+    private void drop() {
+        long count = dropped.incrementAndGet();
+        if (Long.bitCount(count) == 1) {
+            log.warn("Event listener on '{}' is backed up ({} policy) - {} event(s) dropped so far",
+                    worker.getName(), overflowPolicy, count);
+        }
+    }
+
+    private void work() {
+        while (true) {
+            NotificationEvent event;
+            try {
+                event = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                return;
+            }
+            if (event == null) {
+                if (!running) {
+                    return;
+                }
+                continue;
+            }
+            try {
+                delegate.onEvent(event);
+            } catch (Exception e) {
+                log.warn("Event listener threw exception for event {}: {}", event.eventType(), e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        try {
+            // The worker delivers what is still queued before it exits
+            worker.join(CLOSE_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (worker.isAlive()) {
+            log.warn("Event listener on '{}' did not finish within {} ms - abandoning {} queued event(s)",
+                    worker.getName(), CLOSE_TIMEOUT_MILLIS, queue.size());
+        }
+    }
+}
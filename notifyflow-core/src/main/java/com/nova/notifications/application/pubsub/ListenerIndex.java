@@ -0,0 +1,115 @@
+package com.nova.notifications.application.pubsub;
+
+import com.nova.notifications.domain.event.NotificationEvent.EventType;
+import com.nova.notifications.domain.model.ChannelType;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The listeners of a publisher, pre-sorted into one array per event type and channel.
+ * <p>
+ * Subscribing and unsubscribing rebuild the whole table (both are rare); publishing reads
+ * one volatile reference and one array slot, and gets exactly the listeners interested in
+ * the event, in subscription order. Events without a type or channel reach only the
+ * listeners that subscribed to all types or all channels.
+ * </p>
+ *
+ * @param <L> the listener type
+ */
+final class ListenerIndex<L> {
+
+    private static final EventType[] EVENT_TYPES = EventType.values();
+    private static final ChannelType[] CHANNEL_TYPES = ChannelType.values();
+    /** One row and column more for events without a type or channel */
+    private static final int EVENT_ROWS = EVENT_TYPES.length + 1;
+    private static final int CHANNEL_COLUMNS = CHANNEL_TYPES.length + 1;
+
+    private final L[] none;
+    /** Subscriptions in order; guarded by this */
+    private final List<Subscription<L>> subscriptions = new ArrayList<>();
+    /** Listeners per {@code row * CHANNEL_COLUMNS + column} */
+    private volatile L[][] table;
+
+    /**
+     * @param none an empty array of the listener type, returned when nobody listens
+     */
+    ListenerIndex(L[] none) {
+        this.none = none;
+        this.table = build(List.of());
+    }
+
+    /**
+     * @param eventTypes   event types to receive (empty = all)
+     * @param channelTypes channels to receive events of (empty = all)
+     */
+    synchronized void add(L listener, Set<EventType> eventTypes, Set<ChannelType> channelTypes) {
+        subscriptions.add(new Subscription<>(listener,
+                eventTypes.isEmpty() ? null : EnumSet.copyOf(eventTypes),
+                channelTypes.isEmpty() ? null : EnumSet.copyOf(channelTypes)));
+        table = build(subscriptions);
+    }
+
+    /**
+     * Removes the first subscription of the listener.
+     */
+    synchronized void remove(L listener) {
+        for (int i = 0; i < subscriptions.size(); i++) {
+            if (subscriptions.get(i).listener().equals(listener)) {
+                subscriptions.remove(i);
+                table = build(subscriptions);
+                return;
+            }
+        }
+    }
+
+    /**
+     * @return the listeners for events of this type and channel; empty if nobody listens.
+     * The array is shared and must not be modified.
+     */
+    L[] listenersFor(EventType eventType, ChannelType channelType) {
+        return table[row(eventType) * CHANNEL_COLUMNS + column(channelType)];
+    }
+
+    @SuppressWarnings("unchecked")
+    private L[][] build(List<Subscription<L>> subscriptions) {
+        var table = (L[][]) Array.newInstance(none.getClass(), EVENT_ROWS * CHANNEL_COLUMNS);
+        var cell = new ArrayList<L>();
+        for (int row = 0; row < EVENT_ROWS; row++) {
+            for (int column = 0; column < CHANNEL_COLUMNS; column++) {
+                cell.clear();
+                for (var subscription : subscriptions) {
+                    if (subscription.accepts(row, column)) {
+                        cell.add(subscription.listener());
+                    }
+                }
+                table[row * CHANNEL_COLUMNS + column] = cell.isEmpty() ? none : cell.toArray(none);
+            }
+        }
+        return table;
+    }
+
+    private static int row(EventType eventType) {
+        return eventType == null ? EVENT_ROWS - 1 : eventType.ordinal();
+    }
+
+    private static int column(ChannelType channelType) {
+        return channelType == null ? CHANNEL_COLUMNS - 1 : channelType.ordinal();
+    }
+
+    /**
+     * @param eventTypes   null for all types
+     * @param channelTypes null for all channels
+     */
+    private record Subscription<L>(L listener, Set<EventType> eventTypes, Set<ChannelType> channelTypes) {
+
+        boolean accepts(int row, int column) {
+            return (eventTypes == null || (row < EVENT_TYPES.length && eventTypes.contains(EVENT_TYPES[row])))
+                    && (channelTypes == null
+                        || (column < CHANNEL_TYPES.length && channelTypes.contains(CHANNEL_TYPES[column])));
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.nova.notifications.application.pubsub;
+
+/**
+ * Listener that receives events as reusable {@link MutableNotificationEvent} views.
+ * <p>
+ * A {@link RingBufferEventPublisher} hands these listeners its ring slots directly, so
+ * delivering an event to them allocates nothing. The view is only valid during the call:
+ * keep {@link MutableNotificationEvent#toEvent()} if the event must outlive it.
+ * </p>
+ */
+@FunctionalInterface
+public interface MutableEventListener {
+
+    /**
+     * Called when a notification event occurs.
+     *
+     * @param event a view of the event, overwritten after this call returns
+     */
+    void onEvent(MutableNotificationEvent event);
+}
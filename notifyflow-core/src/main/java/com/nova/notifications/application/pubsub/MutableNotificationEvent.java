@@ -0,0 +1,95 @@
+package com.nova.notifications.application.pubsub;
+
+import com.nova.notifications.domain.event.NotificationEvent;
+import com.nova.notifications.domain.event.NotificationEvent.EventType;
+import com.nova.notifications.domain.model.ChannelType;
+import com.nova.notifications.domain.result.NotificationResult;
+
+import java.time.Instant;
+
+/**
+ * A reusable, mutable view of a {@link NotificationEvent}.
+ * <p>
+ * Ring buffer publishers keep one per slot and refill it for every event, so events
+ * published by their fields cost no allocation. A view is only valid while it is being
+ * delivered; {@link #toEvent()} returns an immutable copy for listeners that keep events.
+ * </p>
+ */
+public final class MutableNotificationEvent {
+
+    private EventType eventType;
+    private ChannelType channelType;
+    private String recipient;
+    private NotificationResult result;
+    private int attempt;
+    private long timestampMillis;
+    /** The immutable event, once built or if the view was filled from one */
+    private NotificationEvent event;
+
+    MutableNotificationEvent() {
+    }
+
+    void set(EventType eventType, ChannelType channelType, String recipient, NotificationResult result,
+             int attempt, long timestampMillis) {
+        this.eventType = eventType;
+        this.channelType = channelType;
+        this.recipient = recipient;
+        this.result = result;
+        this.attempt = attempt;
+        this.timestampMillis = timestampMillis;
+        this.event = null;
+    }
+
+    void set(NotificationEvent event) {
+        set(event.eventType(), event.channelType(), event.recipient(), event.result(), event.attempt(),
+                event.timestamp() == null ? 0 : event.timestamp().toEpochMilli());
+        this.event = event;
+    }
+
+    public EventType eventType() {
+        return eventType;
+    }
+
+    public ChannelType channelType() {
+        return channelType;
+    }
+
+    public String recipient() {
+        return recipient;
+    }
+
+    /**
+     * @return the result, or null for QUEUED, SENDING and RETRYING events
+     */
+    public NotificationResult result() {
+        return result;
+    }
+
+    public int attempt() {
+        return attempt;
+    }
+
+    /**
+     * @return when the event occurred, in epoch milliseconds
+     */
+    public long timestampMillis() {
+        return timestampMillis;
+    }
+
+    /**
+     * Returns the event as an immutable {@link NotificationEvent}, building it on the first
+     * call for this event only.
+     */
+    public NotificationEvent toEvent() {
+        if (event == null) {
+            event = new NotificationEvent(eventType, channelType, recipient, result, attempt,
+                    Instant.ofEpochMilli(timestampMillis));
+        }
+        return event;
+    }
+
+    @Override
+    public String toString() {
+        return toEvent().toString();
+    }
+}
@@ -0,0 +1,20 @@
+package com.nova.notifications.application.pubsub;
+
+/**
+ * What an {@link IsolatedEventListener} does with events while its queue is backed up.
+ */
+public enum OverflowPolicy {
+
+    /** Drops new events while the queue is full; publishers never wait. */
+    DROP,
+
+    /**
+     * Keeps one new event in {@value IsolatedEventListener#SAMPLE_RATE} once the queue is
+     * half full, and drops new events while it is full; publishers never wait. The listener
+     * sees a thinned but evenly spread stream instead of losing a contiguous stretch.
+     */
+    SAMPLE,
+
+    /** Makes publishers wait for room; no event is lost, but a stuck listener stalls sends. */
+    BLOCK
+}
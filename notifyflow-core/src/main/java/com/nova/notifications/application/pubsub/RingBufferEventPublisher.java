@@ -0,0 +1,364 @@
+package com.nova.notifications.application.pubsub;
+
+import com.nova.notifications.common.ValidationMessages;
+import com.nova.notifications.domain.event.NotificationEvent;
+import com.nova.notifications.domain.event.NotificationEvent.EventType;
+import com.nova.notifications.domain.model.ChannelType;
+import com.nova.notifications.domain.result.NotificationResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * EventPublisher that hands events to listeners on a dedicated thread through a ring buffer.
+ * <p>
+ * {@link #publish} claims a slot, stores the event and marks the slot published, so a
+ * send pays a few tens of nanoseconds instead of the time its listeners take. Slots are
+ * allocated once; producers claim sequences with one atomic increment (or a plain store in
+ * single-producer mode) and mark each slot with the lap it was written in, so the
+ * consumer never reads a slot before its event is visible.
+ * </p>
+ * <p>
+ * The consumer takes every event published so far as one batch, delivers it to each
+ * listener in order and then frees the whole batch at once. Listeners therefore see
+ * events in publication order, always on the same thread. When the buffer is full,
+ * publishers wait for the consumer: a listener that stays slower than the send rate
+ * throttles sends instead of losing events. Events published by a listener itself are
+ * delivered inline, so a listener cannot deadlock on a full buffer. Events no listener
+ * subscribed to are not buffered at all.
+ * </p>
+ * <p>
+ * Every slot holds a {@link MutableNotificationEvent} that is refilled in place. Events
+ * published by their fields take their timestamp from a clock cached once a millisecond
+ * and allocate nothing on the send path; {@link MutableEventListener}s receive the slot
+ * itself, while plain listeners receive an immutable event built once per event.
+ * </p>
+ * <p>
+ * {@link #close()} delivers what is already published and stops the consumer; events
+ * published afterwards are dropped.
+ * </p>
+ */
+public final class RingBufferEventPublisher implements EventPublisher, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(RingBufferEventPublisher.class);
+
+    /** Slots in the ring unless configured otherwise */
+    public static final int DEFAULT_BUFFER_SIZE = 4096;
+
+    /** Spins before the yielding and sleeping strategies back off */
+    private static final int SPIN_TRIES = 100;
+
+    /** Park length of the sleeping strategy and of publishers waiting for room */
+    private static final long PARK_NANOS = 50_000;
+
+    private static final VarHandle LAPS = MethodHandles.arrayElementVarHandle(int[].class);
+
+    private final ListenerIndex<EventListener> listeners = new ListenerIndex<>(new EventListener[0]);
+    private final ListenerIndex<MutableEventListener> mutableListeners =
+            new ListenerIndex<>(new MutableEventListener[0]);
+    private final MutableNotificationEvent[] slots;
+    /** Lap ({@code sequence >>> indexShift}) in which each slot was last published */
+    private final int[] publishedLaps;
+    private final int mask;
+    private final int indexShift;
+    private final boolean singleProducer;
+    private final WaitStrategy waitStrategy;
+
+    /** Highest sequence claimed by a publisher */
+    private final AtomicLong claimed = new AtomicLong(-1);
+    /** Highest sequence delivered by the consumer; slots up to it may be reused */
+    private final AtomicLong consumed = new AtomicLong(-1);
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition published = lock.newCondition();
+    private volatile boolean consumerWaiting;
+    private volatile boolean running = true;
+    private final Thread consumer;
+    private final CachedClock clock;
+
+    /**
+     * Creates a multi-producer publisher with the default buffer size and blocking waits.
+     */
+    public RingBufferEventPublisher() {
+        this(DEFAULT_BUFFER_SIZE, WaitStrategy.BLOCKING, false);
+    }
+
+    /**
+     * @param bufferSize     slots in the ring, a power of two
+     * @param waitStrategy   how the consumer waits for events
+     * @param singleProducer true if only one thread ever publishes, which saves the atomic
+     *                       increment per event; publishing from several threads is then unsafe
+     */
+    public RingBufferEventPublisher(int bufferSize, WaitStrategy waitStrategy, boolean singleProducer) {
+        if (bufferSize < 2 || Integer.bitCount(bufferSize) != 1) {
+            throw new IllegalArgumentException(ValidationMessages.EVENT_BUFFER_SIZE_INVALID + bufferSize);
+        }
+        this.waitStrategy = Objects.requireNonNull(waitStrategy, ValidationMessages.WAIT_STRATEGY_NULL);
+        this.slots = new MutableNotificationEvent[bufferSize];
+        Arrays.setAll(slots, index -> new MutableNotificationEvent());
+        this.publishedLaps = new int[bufferSize];
+        Arrays.fill(publishedLaps, -1);
+        this.mask = bufferSize - 1;
+        this.indexShift = Integer.numberOfTrailingZeros(bufferSize);
+        this.singleProducer = singleProducer;
+        this.clock = new CachedClock("notifyflow-events-clock");
+        this.consumer = new Thread(this::consumeLoop, "notifyflow-events");
+        consumer.setDaemon(true);
+        consumer.start();
+        log.info("Ring buffer event publisher started with {} slots, {} wait strategy, {} producer(s)",
+                bufferSize, waitStrategy, singleProducer ? "single" : "multiple");
+    }
+
+    @Override
+    public void publish(NotificationEvent event) {
+        if (Thread.currentThread() == consumer) {
+            var view = new MutableNotificationEvent();
+            view.set(event);
+            deliver(view);
+            return;
+        }
+        long sequence = claim(event.eventType(), event.channelType());
+        if (sequence >= 0) {
+            slots[(int) sequence & mask].set(event);
+            commit(sequence);
+        }
+    }
+
+    @Override
+    public void publish(EventType eventType, ChannelType channelType, String recipient,
+                        NotificationResult result, int attempt) {
+        if (Thread.currentThread() == consumer) {
+            var view = new MutableNotificationEvent();
+            view.set(eventType, channelType, recipient, result, attempt, clock.millis());
+            deliver(view);
+            return;
+        }
+        long sequence = claim(eventType, channelType);
+        if (sequence >= 0) {
+            slots[(int) sequence & mask].set(eventType, channelType, recipient, result, attempt, clock.millis());
+            commit(sequence);
+        }
+    }
+
+    /**
+     * Claims the next slot, waiting while the ring is full.
+     *
+     * @return the claimed sequence, or -1 if nobody listens or the publisher is closed
+     */
+    private long claim(EventType eventType, ChannelType channelType) {
+        if (!hasListeners(eventType, channelType)) {
+            return -1;
+        }
+        if (!running) {
+            log.debug("Publisher closed - dropping event {}", eventType);
+            return -1;
+        }
+
+        long sequence;
+        if (singleProducer) {
+            sequence = claimed.getPlain() + 1;
+            claimed.setRelease(sequence);
+        } else {
+            sequence = claimed.incrementAndGet();
+        }
+        long wrapPoint = sequence - slots.length;
+        while (wrapPoint > consumed.get()) {
+            if (!consumer.isAlive()) {
+                // Closed while this publisher waited for room
+                return -1;
+            }
+            LockSupport.parkNanos(PARK_NANOS);
+        }
+        return sequence;
+    }
+
+    /**
+     * Marks a filled slot published and wakes the consumer if it is blocked.
+     */
+    private void commit(long sequence) {
+        int index = (int) sequence & mask;
+        // Volatile rather than release: pairs with the consumer's consumerWaiting write
+        LAPS.setVolatile(publishedLaps, index, (int) (sequence >>> indexShift));
+        if (consumerWaiting) {
+            lock.lock();
+            try {
+                published.signal();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    @Override
+    public void subscribe(EventListener listener) {
+        subscribe(listener, Set.of(), Set.of());
+    }
+
+    @Override
+    public void subscribe(EventListener listener, Set<EventType> eventTypes, Set<ChannelType> channelTypes) {
+        listeners.add(listener, eventTypes, channelTypes);
+    }
+
+    /**
+     * Registers a listener that receives the ring's reusable event views; see
+     * {@link MutableEventListener}.
+     *
+     * @param eventTypes   event types to receive (empty = all)
+     * @param channelTypes channels to receive events of (empty = all)
+     */
+    public void subscribeMutable(MutableEventListener listener, Set<EventType> eventTypes,
+                                 Set<ChannelType> channelTypes) {
+        mutableListeners.add(listener, eventTypes, channelTypes);
+    }
+
+    @Override
+    public boolean hasListeners(EventType eventType, ChannelType channelType) {
+        return listeners.listenersFor(eventType, channelType).length != 0
+                || mutableListeners.listenersFor(eventType, channelType).length != 0;
+    }
+
+    @Override
+    public void unsubscribe(EventListener listener) {
+        listeners.remove(listener);
+    }
+
+    public void unsubscribeMutable(MutableEventListener listener) {
+        mutableListeners.remove(listener);
+    }
+
+    /**
+     * @return the number of events published but not yet delivered
+     */
+    public long backlog() {
+        return Math.max(0, claimed.get() - consumed.get());
+    }
+
+    private void consumeLoop() {
+        long next = 0;
+        int idleTries = 0;
+        while (true) {
+            long available = highestPublished(next);
+            if (available < next) {
+                if (!running && claimed.get() < next) {
+                    return;
+                }
+                idleTries = waitForEvents(next, idleTries);
+                continue;
+            }
+            idleTries = 0;
+            for (long sequence = next; sequence <= available; sequence++) {
+                deliver(slots[(int) sequence & mask]);
+            }
+            consumed.set(available);
+            next = available + 1;
+        }
+    }
+
+    /**
+     * Returns the last sequence of the contiguous run of published slots starting at
+     * {@code next}, or {@code next - 1} if the slot at {@code next} is not published yet.
+     */
+    private long highestPublished(long next) {
+        long limit = next + slots.length;
+        long sequence = next;
+        while (sequence < limit
+                && (int) LAPS.getAcquire(publishedLaps, (int) sequence & mask) == (int) (sequence >>> indexShift)) {
+            sequence++;
+        }
+        return sequence - 1;
+    }
+
+    private boolean isPublished(long sequence) {
+        return (int) LAPS.getVolatile(publishedLaps, (int) sequence & mask) == (int) (sequence >>> indexShift);
+    }
+
+    private int waitForEvents(long next, int idleTries) {
+        switch (waitStrategy) {
+            case BUSY_SPIN -> Thread.onSpinWait();
+            case YIELDING -> {
+                if (idleTries < SPIN_TRIES) {
+                    Thread.onSpinWait();
+                } else {
+                    Thread.yield();
+                }
+            }
+            case SLEEPING -> {
+                if (idleTries < SPIN_TRIES) {
+                    Thread.onSpinWait();
+                } else if (idleTries < 2 * SPIN_TRIES) {
+                    Thread.yield();
+                } else {
+                    LockSupport.parkNanos(PARK_NANOS);
+                }
+            }
+            case BLOCKING -> {
+                lock.lock();
+                try {
+                    consumerWaiting = true;
+                    if (!isPublished(next) && running) {
+                        published.await();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    consumerWaiting = false;
+                    lock.unlock();
+                }
+            }
+        }
+        return idleTries + 1;
+    }
+
+    private void deliver(MutableNotificationEvent event) {
+        for (MutableEventListener listener : mutableListeners.listenersFor(event.eventType(), event.channelType())) {
+            try {
+                listener.onEvent(event);
+            } catch (Exception e) {
+                log.warn("Event listener threw exception for event {}: {}", event.eventType(), e.getMessage());
+            }
+        }
+        var interested = listeners.listenersFor(event.eventType(), event.channelType());
+        if (interested.length == 0) {
+            return;
+        }
+        var immutable = event.toEvent();
+        for (EventListener listener : interested) {
+            try {
+                listener.onEvent(immutable);
+            } catch (Exception e) {
+                log.warn("Event listener threw exception for event {}: {}", event.eventType(), e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        lock.lock();
+        try {
+            published.signal();
+        } finally {
+            lock.unlock();
+        }
+        try {
+            // The consumer delivers everything already published before it exits
+            consumer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        clock.close();
+        log.info("Ring buffer event publisher closed");
+    }
+}
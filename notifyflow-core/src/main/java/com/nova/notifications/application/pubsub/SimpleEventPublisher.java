@@ -1,17 +1,19 @@
 package com.nova.notifications.application.pubsub;
 
 import com.nova.notifications.domain.event.NotificationEvent;
+import com.nova.notifications.domain.event.NotificationEvent.EventType;
+import com.nova.notifications.domain.model.ChannelType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.List;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.Set;
 
 /**
  * Thread-safe in-memory implementation of the EventPublisher.
  * <p>
- * Uses CopyOnWriteArrayList for safe concurrent iteration during event
- * publishing. Listener exceptions are caught and logged to prevent
+ * Listeners are kept in a copy-on-write index with one array per event type and
+ * channel, so publishing calls only the listeners interested in the event and returns
+ * at once when there are none. Listener exceptions are caught and logged to prevent
  * one faulty listener from blocking others.
  * </p>
  */
@@ -19,12 +21,18 @@ public class SimpleEventPublisher implements EventPublisher {
 
     private static final Logger log = LoggerFactory.getLogger(SimpleEventPublisher.class);
 
-    private final List<EventListener> listeners = new CopyOnWriteArrayList<>();
+    private final ListenerIndex<EventListener> listeners = new ListenerIndex<>(new EventListener[0]);
 
     @Override
     public void publish(NotificationEvent event) {
-        log.debug("Publishing event: {} for {} to {}", event.eventType(), event.channelType(), event.recipient());
-        for (EventListener listener : listeners) {
+        var interested = listeners.listenersFor(event.eventType(), event.channelType());
+        if (interested.length == 0) {
+            return;
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Publishing event: {} for {} to {}", event.eventType(), event.channelType(), event.recipient());
+        }
+        for (EventListener listener : interested) {
             try {
                 listener.onEvent(event);
             } catch (Exception e) {
@@ -35,7 +43,17 @@ public class SimpleEventPublisher implements EventPublisher {
 
     @Override
     public void subscribe(EventListener listener) {
-        listeners.add(listener);
+        subscribe(listener, Set.of(), Set.of());
+    }
+
+    @Override
+    public void subscribe(EventListener listener, Set<EventType> eventTypes, Set<ChannelType> channelTypes) {
+        listeners.add(listener, eventTypes, channelTypes);
+    }
+
+    @Override
+    public boolean hasListeners(EventType eventType, ChannelType channelType) {
+        return listeners.listenersFor(eventType, channelType).length != 0;
     }
 
     @Override
@@ -0,0 +1,23 @@
+package com.nova.notifications.application.pubsub;
+
+/**
+ * How the consumer thread of a {@link RingBufferEventPublisher} waits for new events.
+ * <p>
+ * The strategies trade idle CPU for delivery latency; none of them affects how long
+ * {@code publish} takes while the buffer has room.
+ * </p>
+ */
+public enum WaitStrategy {
+
+    /** Parks on a condition and is woken by publishers; no idle CPU, a few microseconds of latency. */
+    BLOCKING,
+
+    /** Spins briefly, then yields, then sleeps in short parks; little idle CPU, tens of microseconds of latency. */
+    SLEEPING,
+
+    /** Spins briefly, then yields the core; lowest latency that still lets other threads run. */
+    YIELDING,
+
+    /** Spins on a dedicated core; lowest latency, one core fully busy. */
+    BUSY_SPIN
+}
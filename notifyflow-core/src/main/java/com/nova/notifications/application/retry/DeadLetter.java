@@ -0,0 +1,26 @@
+package com.nova.notifications.application.retry;
+
+import com.nova.notifications.domain.model.Notification;
+import com.nova.notifications.domain.result.NotificationResult;
+
+import java.time.Instant;
+
+/**
+ * A notification the retry flow gave up on, as kept by a {@link DeadLetterStore}.
+ *
+ * @param id             store-assigned identifier, used to mark the entry as replayed
+ * @param notification   the notification that could not be delivered
+ * @param result         the final failed result (its cause is reduced to text when stored)
+ * @param attempts       number of attempts performed before giving up
+ * @param deadLetteredAt when the notification was dead-lettered
+ * @param replayed       whether a later replay delivered it successfully
+ */
+public record DeadLetter(
+        long id,
+        Notification notification,
+        NotificationResult result,
+        int attempts,
+        Instant deadLetteredAt,
+        boolean replayed
+) {
+}
@@ -0,0 +1,82 @@
+package com.nova.notifications.application.retry;
+
+import com.nova.notifications.domain.model.ChannelType;
+import com.nova.notifications.domain.result.ErrorCategory;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Selects dead letters for a scan or replay.
+ * <p>
+ * Empty sets and null strings match anything; all given criteria must match.
+ * Built fluently from {@link #all()}:
+ * </p>
+ * <pre>{@code
+ * var filter = DeadLetterFilter.all()
+ *     .channels(ChannelType.SMS)
+ *     .provider("Twilio")
+ *     .categories(ErrorCategory.TRANSIENT, ErrorCategory.RATE_LIMITED);
+ * }</pre>
+ *
+ * @param channelTypes    channels to include (empty = all)
+ * @param providerName    provider that produced the final failure (null = any)
+ * @param errorSource     error source of the final failure, e.g. {@code PROVIDER:Twilio} (null = any)
+ * @param errorCategories categories of the final failure (empty = all)
+ * @param includeReplayed whether to include entries that were already replayed
+ */
+public record DeadLetterFilter(
+        Set<ChannelType> channelTypes,
+        String providerName,
+        String errorSource,
+        Set<ErrorCategory> errorCategories,
+        boolean includeReplayed
+) {
+
+    public DeadLetterFilter {
+        channelTypes = channelTypes == null || channelTypes.isEmpty()
+                ? Set.of() : Set.copyOf(EnumSet.copyOf(channelTypes));
+        errorCategories = errorCategories == null || errorCategories.isEmpty()
+                ? Set.of() : Set.copyOf(EnumSet.copyOf(errorCategories));
+    }
+
+    /**
+     * Matches every entry that has not been replayed yet.
+     */
+    public static DeadLetterFilter all() {
+        return new DeadLetterFilter(Set.of(), null, null, Set.of(), false);
+    }
+
+    public DeadLetterFilter channels(ChannelType... types) {
+        return new DeadLetterFilter(Set.of(types), providerName, errorSource, errorCategories, includeReplayed);
+    }
+
+    public DeadLetterFilter provider(String name) {
+        return new DeadLetterFilter(channelTypes, name, errorSource, errorCategories, includeReplayed);
+    }
+
+    public DeadLetterFilter errorSource(String source) {
+        return new DeadLetterFilter(channelTypes, providerName, source, errorCategories, includeReplayed);
+    }
+
+    public DeadLetterFilter categories(ErrorCategory... categories) {
+        return new DeadLetterFilter(channelTypes, providerName, errorSource, Set.of(categories), includeReplayed);
+    }
+
+    public DeadLetterFilter includingReplayed() {
+        return new DeadLetterFilter(channelTypes, providerName, errorSource, errorCategories, true);
+    }
+
+    /**
+     * @return true if the entry satisfies every criterion of this filter
+     */
+    public boolean matches(DeadLetter deadLetter) {
+        var result = deadLetter.result();
+        return (includeReplayed || !deadLetter.replayed())
+                && (channelTypes.isEmpty() || channelTypes.contains(deadLetter.notification().channelType()))
+                && (providerName == null || providerName.equals(result.providerName()))
+                && (errorSource == null || errorSource.equals(result.errorSource()))
+                && (errorCategories.isEmpty()
+                    || (result.errorCategory() != null && errorCategories.contains(result.errorCategory())));
+    }
+}
@@ -0,0 +1,101 @@
+package com.nova.notifications.application.retry;
+
+import com.nova.notifications.common.StorageConstants;
+import com.nova.notifications.domain.model.Notification;
+import com.nova.notifications.domain.result.NotificationResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Re-sends dead letters at a fixed maximum rate.
+ * <p>
+ * Each matching entry is sent once on the calling thread, paced so that no more than
+ * {@code ratePerSecond} sends start per second. Delivered entries are marked as replayed;
+ * entries that fail again stay pending and can be replayed later. Interrupting the calling
+ * thread stops the replay after the current send.
+ * </p>
+ */
+public class DeadLetterReplayer {
+
+    private static final Logger log = LoggerFactory.getLogger(DeadLetterReplayer.class);
+
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final DeadLetterStore store;
+    private final Function<Notification, NotificationResult> sender;
+    private final long intervalNanos;
+
+    /**
+     * @param store          store to replay from
+     * @param sender         performs a single send (typically {@code NotifyFlow::send})
+     * @param ratePerSecond  maximum number of sends started per second
+     */
+    public DeadLetterReplayer(DeadLetterStore store, Function<Notification, NotificationResult> sender,
+                              int ratePerSecond) {
+        if (ratePerSecond < 1) {
+            throw new IllegalArgumentException(StorageConstants.DeadLetters.REPLAY_RATE_INVALID);
+        }
+        this.store = Objects.requireNonNull(store, "DeadLetterStore must not be null");
+        this.sender = Objects.requireNonNull(sender, "Sender must not be null");
+        this.intervalNanos = NANOS_PER_SECOND / ratePerSecond;
+    }
+
+    /**
+     * Replays every pending dead letter matching the filter.
+     *
+     * @return counts of what was re-sent
+     */
+    public ReplayReport replay(DeadLetterFilter filter) {
+        Objects.requireNonNull(filter, "DeadLetterFilter must not be null");
+        var counts = new long[2];
+        var nextSlot = new long[]{System.nanoTime()};
+        var interrupted = new boolean[1];
+
+        store.scan(filter, deadLetter -> {
+            if (!awaitSlot(nextSlot[0])) {
+                interrupted[0] = true;
+                return false;
+            }
+            // After a slow send, catch up by at most one second's worth of sends
+            nextSlot[0] = Math.max(nextSlot[0] + intervalNanos, System.nanoTime() - NANOS_PER_SECOND);
+
+            var result = sender.apply(deadLetter.notification());
+            if (result.successful()) {
+                store.markReplayed(deadLetter.id());
+                counts[0]++;
+            } else {
+                counts[1]++;
+                log.debug("Replay of dead letter {} failed again: {}", deadLetter.id(), result.errorMessage());
+            }
+            return true;
+        });
+
+        var report = new ReplayReport(counts[0] + counts[1], counts[0], counts[1], !interrupted[0]);
+        log.info("Dead-letter replay {}: {} re-sent, {} delivered, {} failed",
+                report.completed() ? "finished" : "interrupted",
+                report.attempted(), report.succeeded(), report.failed());
+        return report;
+    }
+
+    /**
+     * Sleeps until the given {@link System#nanoTime()} slot.
+     *
+     * @return false if the thread was interrupted
+     */
+    private boolean awaitSlot(long slot) {
+        long wait = slot - System.nanoTime();
+        try {
+            if (wait > 0) {
+                TimeUnit.NANOSECONDS.sleep(wait);
+            }
+            return !Thread.currentThread().isInterrupted();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.nova.notifications.application.retry;
+
+import com.nova.notifications.domain.model.Notification;
+import com.nova.notifications.domain.result.NotificationResult;
+
+import java.util.function.Predicate;
+
+/**
+ * Port for keeping notifications whose retries were exhausted, so they can be
+ * re-sent later without rebuilding them from upstream systems.
+ * <p>
+ * Entries are never rewritten; a successful replay only flips their replayed flag.
+ * </p>
+ */
+public interface DeadLetterStore extends AutoCloseable {
+
+    /**
+     * Stores a notification together with its final failed result.
+     *
+     * @return the stored entry
+     */
+    DeadLetter append(Notification notification, NotificationResult finalResult, int attempts);
+
+    /**
+     * Visits the stored entries matching the filter in the order they were appended.
+     * Entries appended while the scan runs may or may not be visited.
+     *
+     * @param filter  entries to visit
+     * @param visitor called for each match; returning false stops the scan
+     */
+    void scan(DeadLetterFilter filter, Predicate<DeadLetter> visitor);
+
+    /**
+     * Marks an entry as successfully replayed, excluding it from default scans.
+     */
+    void markReplayed(long id);
+
+    /**
+     * @return the number of entries not yet replayed
+     */
+    long pendingCount();
+
+    @Override
+    void close();
+}
@@ -0,0 +1,22 @@
+package com.nova.notifications.application.retry;
+
+/**
+ * Randomization strategies applied to retry delays.
+ * <p>
+ * Without jitter, notifications that failed together retry together and hit a
+ * recovering provider in synchronized waves. Jitter spreads those retries out.
+ * </p>
+ *
+ * @see RetryPolicy#nextDelay(int, java.time.Duration)
+ */
+public enum JitterStrategy {
+
+    /** Deterministic exponential backoff (no randomization). */
+    NONE,
+
+    /** Uniformly random delay between zero and the exponential backoff delay. */
+    FULL,
+
+    /** Random delay between the initial delay and three times the previous delay, capped at maxDelay. */
+    DECORRELATED
+}
@@ -0,0 +1,21 @@
+package com.nova.notifications.application.retry;
+
+import com.nova.notifications.domain.model.Notification;
+
+import java.time.Instant;
+
+/**
+ * A retry waiting in a {@link RetryStore}.
+ *
+ * @param id            store-assigned identifier, used to remove the entry once handled
+ * @param notification  the notification to resend
+ * @param attempt       the attempt number this entry will perform (2 for the first retry)
+ * @param nextAttemptAt earliest time the attempt may run
+ */
+public record PendingRetry(
+        long id,
+        Notification notification,
+        int attempt,
+        Instant nextAttemptAt
+) {
+}
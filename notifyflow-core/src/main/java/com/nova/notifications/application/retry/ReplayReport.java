@@ -0,0 +1,17 @@
+package com.nova.notifications.application.retry;
+
+/**
+ * Outcome of a dead-letter replay.
+ *
+ * @param attempted  number of dead letters re-sent
+ * @param succeeded  number delivered and marked as replayed
+ * @param failed     number that failed again and stay pending
+ * @param completed  false if the replay was interrupted before the end of the store
+ */
+public record ReplayReport(
+        long attempted,
+        long succeeded,
+        long failed,
+        boolean completed
+) {
+}
@@ -0,0 +1,134 @@
+package com.nova.notifications.application.retry;
+
+import com.nova.notifications.common.ValidationMessages;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Caps the extra load that retries may add on top of first-attempt traffic.
+ * <p>
+ * Retries are allowed only while they stay below a fixed ratio of the first attempts
+ * seen in a recent sliding window, plus a small per-second floor so that low-traffic
+ * senders can still retry. During a provider outage this turns an N-fold retry storm
+ * into roughly {@code retryRatio} extra load.
+ * </p>
+ * <p>
+ * The window is split into buckets stored in {@link AtomicLongArray}s, so recording
+ * and checking are lock-free. Counts are approximate under heavy contention (a bucket
+ * being recycled may drop a few increments), which is acceptable for load shedding.
+ * </p>
+ */
+public final class RetryBudget {
+
+    /** Number of buckets the sliding window is split into */
+    private static final int BUCKET_COUNT = 10;
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final double retryRatio;
+    private final int minRetriesPerSecond;
+    private final long bucketNanos;
+    private final long minRetriesPerWindow;
+
+    private final AtomicLongArray bucketEpochs = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLongArray requests = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLongArray retries = new AtomicLongArray(BUCKET_COUNT);
+
+    /**
+     * Creates a retry budget.
+     *
+     * @param retryRatio          maximum retries as a fraction of first attempts (e.g., 0.1 for 10%)
+     * @param minRetriesPerSecond retries always allowed regardless of traffic, per second of window
+     * @param window              length of the sliding window over which traffic is counted
+     */
+    public RetryBudget(double retryRatio, int minRetriesPerSecond, Duration window) {
+        if (retryRatio < 0 || Double.isNaN(retryRatio)) {
+            throw new IllegalArgumentException(ValidationMessages.RETRY_RATIO_INVALID);
+        }
+        if (minRetriesPerSecond < 0) {
+            throw new IllegalArgumentException(ValidationMessages.MIN_RETRIES_PER_SECOND_INVALID);
+        }
+        if (window == null || window.toNanos() < BUCKET_COUNT) {
+            throw new IllegalArgumentException(ValidationMessages.RETRY_BUDGET_WINDOW_INVALID);
+        }
+        this.retryRatio = retryRatio;
+        this.minRetriesPerSecond = minRetriesPerSecond;
+        this.bucketNanos = window.toNanos() / BUCKET_COUNT;
+        this.minRetriesPerWindow = (long) Math.ceil(minRetriesPerSecond * (double) window.toNanos() / NANOS_PER_SECOND);
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            bucketEpochs.set(i, Long.MIN_VALUE);
+        }
+    }
+
+    /**
+     * Default budget: retries up to 10% of first attempts, at least 10 per second, over a 10s window.
+     */
+    public static RetryBudget defaultBudget() {
+        return new RetryBudget(0.1, 10, Duration.ofSeconds(10));
+    }
+
+    /**
+     * Budget that never rejects a retry.
+     */
+    public static RetryBudget unlimited() {
+        return new RetryBudget(Double.POSITIVE_INFINITY, 0, Duration.ofSeconds(1));
+    }
+
+    /**
+     * Records a first attempt, which earns retry budget.
+     */
+    public void recordRequest() {
+        requests.incrementAndGet(currentBucket());
+    }
+
+    /**
+     * Attempts to spend budget for one retry.
+     *
+     * @return true if the retry may proceed, false if the budget is exhausted
+     */
+    public boolean tryAcquireRetry() {
+        if (Double.isInfinite(retryRatio)) {
+            return true;
+        }
+        int current = currentBucket();
+        long epoch = bucketEpochs.get(current);
+        long requestTotal = 0;
+        long retryTotal = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            long bucketEpoch = bucketEpochs.get(i);
+            if (bucketEpoch > epoch - BUCKET_COUNT && bucketEpoch <= epoch) {
+                requestTotal += requests.get(i);
+                retryTotal += retries.get(i);
+            }
+        }
+        if (retryTotal >= minRetriesPerWindow + retryRatio * requestTotal) {
+            return false;
+        }
+        retries.incrementAndGet(current);
+        return true;
+    }
+
+    public double retryRatio() {
+        return retryRatio;
+    }
+
+    public int minRetriesPerSecond() {
+        return minRetriesPerSecond;
+    }
+
+    /**
+     * Returns the index of the bucket for the current time, recycling it if it
+     * still holds counts from a previous pass over the ring.
+     */
+    private int currentBucket() {
+        long epoch = System.nanoTime() / bucketNanos;
+        int index = (int) Math.floorMod(epoch, (long) BUCKET_COUNT);
+        long seen = bucketEpochs.get(index);
+        if (seen < epoch && bucketEpochs.compareAndSet(index, seen, epoch)) {
+            requests.set(index, 0);
+            retries.set(index, 0);
+        }
+        return index;
+    }
+}
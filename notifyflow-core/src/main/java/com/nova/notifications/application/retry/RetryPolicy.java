@@ -3,29 +3,46 @@ package com.nova.notifications.application.retry;
 import com.nova.notifications.common.ValidationMessages;
 
 import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Defines the retry policy for failed notification sends.
  * <p>
  * Configurable maximum attempts, initial delay, and backoff multiplier.
  * Uses exponential backoff by default to avoid overwhelming providers.
+ * An optional {@link JitterStrategy} randomizes delays so that notifications
+ * which failed together do not retry in lockstep.
  * </p>
  *
  * @param maxAttempts       maximum number of send attempts (including first try)
  * @param initialDelay      delay before first retry
  * @param backoffMultiplier multiplier applied to delay after each retry (e.g., 2.0 for exponential)
  * @param maxDelay          maximum delay cap to prevent excessive waits
+ * @param jitter            randomization applied on top of the exponential delay
  */
 public record RetryPolicy(
         int maxAttempts,
         Duration initialDelay,
         double backoffMultiplier,
-        Duration maxDelay
+        Duration maxDelay,
+        JitterStrategy jitter
 ) {
 
+    /** Upper bound factor used by decorrelated jitter relative to the previous delay */
+    private static final int DECORRELATED_GROWTH = 3;
+
     public RetryPolicy {
         if (maxAttempts < 1) throw new IllegalArgumentException(ValidationMessages.MAX_ATTEMPTS_INVALID);
         if (backoffMultiplier < 1.0) throw new IllegalArgumentException(ValidationMessages.BACKOFF_MULTIPLIER_INVALID);
+        Objects.requireNonNull(jitter, ValidationMessages.JITTER_STRATEGY_NULL);
+    }
+
+    /**
+     * Creates a policy with deterministic exponential backoff (no jitter).
+     */
+    public RetryPolicy(int maxAttempts, Duration initialDelay, double backoffMultiplier, Duration maxDelay) {
+        this(maxAttempts, initialDelay, backoffMultiplier, maxDelay, JitterStrategy.NONE);
     }
 
     /**
@@ -42,12 +59,51 @@ public record RetryPolicy(
         return new RetryPolicy(1, Duration.ZERO, 1.0, Duration.ZERO);
     }
 
+    /**
+     * Returns a copy of this policy using the given jitter strategy.
+     */
+    public RetryPolicy withJitter(JitterStrategy strategy) {
+        return new RetryPolicy(maxAttempts, initialDelay, backoffMultiplier, maxDelay, strategy);
+    }
+
     /**
      * Calculates the delay for a given attempt number (0-indexed).
+     * <p>
+     * Always deterministic; jitter is applied by {@link #nextDelay(int, Duration)}.
+     * </p>
      */
     public Duration delayForAttempt(int attempt) {
         if (attempt <= 0) return Duration.ZERO;
         long delayMs = (long) (initialDelay.toMillis() * Math.pow(backoffMultiplier, attempt - 1));
         return Duration.ofMillis(Math.min(delayMs, maxDelay.toMillis()));
     }
+
+    /**
+     * Calculates the delay before the given retry, applying the configured jitter strategy.
+     *
+     * @param attempt       the retry number (0-indexed, as in {@link #delayForAttempt(int)})
+     * @param previousDelay the delay used before the previous retry; ZERO or null for the first
+     *                      retry, which decorrelated jitter then draws from
+     *                      {@code [initialDelay, 3 * initialDelay]}
+     * @return the delay to wait, never greater than {@code maxDelay}
+     */
+    public Duration nextDelay(int attempt, Duration previousDelay) {
+        if (attempt <= 0) return Duration.ZERO;
+        return switch (jitter) {
+            case NONE -> delayForAttempt(attempt);
+            case FULL -> Duration.ofMillis(randomBetween(0, delayForAttempt(attempt).toMillis()));
+            case DECORRELATED -> {
+                long base = initialDelay.toMillis();
+                // The first retry grows from initialDelay too, so clients that failed together spread out
+                long previous = previousDelay == null || previousDelay.isZero() ? base : previousDelay.toMillis();
+                long upper = Math.max(base, previous * DECORRELATED_GROWTH);
+                yield Duration.ofMillis(Math.min(randomBetween(base, upper), maxDelay.toMillis()));
+            }
+        };
+    }
+
+    private static long randomBetween(long lowInclusive, long highInclusive) {
+        if (highInclusive <= lowInclusive) return lowInclusive;
+        return ThreadLocalRandom.current().nextLong(lowInclusive, highInclusive + 1);
+    }
 }
@@ -0,0 +1,96 @@
+package com.nova.notifications.application.retry;
+
+import com.nova.notifications.common.StorageConstants;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Feeds retries recovered from a {@link RetryStore} back into the retry flow.
+ * <p>
+ * A single scheduler thread polls the store for due, unclaimed entries every
+ * {@value #TICK_MILLIS}ms and hands them to {@link RetryableNotificationService#resume}
+ * on the given executor. The number of entries released per second is capped, so
+ * a large backlog recovered after a deploy does not hit the providers all at once.
+ * </p>
+ */
+public class RetryRecoveryDispatcher implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(RetryRecoveryDispatcher.class);
+
+    private static final long TICK_MILLIS = 100;
+    private static final double TICKS_PER_SECOND = 1000.0 / TICK_MILLIS;
+
+    private final RetryStore retryStore;
+    private final RetryableNotificationService retryService;
+    private final Executor executor;
+    private final double permitsPerTick;
+    private final ScheduledExecutorService scheduler;
+
+    private double permits;
+
+    /**
+     * @param retryStore     store holding recovered retries
+     * @param retryService   service that performs the recovered attempts
+     * @param executor       executor running the attempts
+     * @param ratePerSecond  maximum number of recovered retries released per second
+     */
+    public RetryRecoveryDispatcher(RetryStore retryStore, RetryableNotificationService retryService,
+                                   Executor executor, int ratePerSecond) {
+        if (ratePerSecond < 1) {
+            throw new IllegalArgumentException(StorageConstants.RetryStore.RECOVERY_RATE_INVALID);
+        }
+        this.retryStore = Objects.requireNonNull(retryStore, "RetryStore must not be null");
+        this.retryService = Objects.requireNonNull(retryService, "RetryableNotificationService must not be null");
+        this.executor = Objects.requireNonNull(executor, "Executor must not be null");
+        this.permitsPerTick = ratePerSecond / TICKS_PER_SECOND;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            var thread = new Thread(runnable, "notifyflow-retry-recovery");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Starts polling the store.
+     */
+    public void start() {
+        log.info("Retry recovery started with {} stored retries", retryStore.size());
+        scheduler.scheduleWithFixedDelay(this::tick, 0, TICK_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Releases the due entries allowed by the rate limit. Unused permits carry over
+     * for at most one second so an idle period cannot build up a burst.
+     */
+    void tick() {
+        try {
+            permits = Math.min(permits + permitsPerTick, permitsPerTick * TICKS_PER_SECOND);
+            int batch = (int) permits;
+            if (batch == 0) {
+                return;
+            }
+            var due = retryStore.pollDue(Instant.now(), batch);
+            permits -= due.size();
+            for (var pending : due) {
+                executor.execute(() -> retryService.resume(pending));
+            }
+            if (!due.isEmpty()) {
+                log.debug("Released {} recovered retries", due.size());
+            }
+        } catch (RuntimeException e) {
+            log.error("Retry recovery tick failed: {}", e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+}
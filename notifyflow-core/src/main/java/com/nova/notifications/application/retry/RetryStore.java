@@ -0,0 +1,44 @@
+package com.nova.notifications.application.retry;
+
+import com.nova.notifications.domain.model.Notification;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Port for persisting pending retries so they survive restarts.
+ * <p>
+ * An entry added by a running {@link RetryableNotificationService} is claimed by
+ * that service: it is still being handled in-process and is never returned by
+ * {@link #pollDue(Instant, int)}. Entries loaded from disk after a restart are
+ * unclaimed and are handed out by {@code pollDue} once they are due.
+ * </p>
+ */
+public interface RetryStore extends AutoCloseable {
+
+    /**
+     * Persists a retry that the caller will perform itself.
+     *
+     * @return the stored entry
+     */
+    PendingRetry add(Notification notification, int attempt, Instant nextAttemptAt);
+
+    /**
+     * Removes an entry once its attempt has been performed.
+     */
+    void remove(long id);
+
+    /**
+     * Claims and returns up to {@code max} unclaimed entries due at or before {@code now},
+     * earliest first.
+     */
+    List<PendingRetry> pollDue(Instant now, int max);
+
+    /**
+     * @return the number of entries currently stored (claimed or not)
+     */
+    int size();
+
+    @Override
+    void close();
+}
@@ -1,20 +1,39 @@
 package com.nova.notifications.application.retry;
 
-import com.nova.notifications.common.ErrorSource;
 import com.nova.notifications.application.pubsub.EventPublisher;
 import com.nova.notifications.application.service.NotificationService;
-import com.nova.notifications.domain.event.NotificationEvent;
+import com.nova.notifications.domain.event.NotificationEvent.EventType;
 import com.nova.notifications.domain.model.Notification;
 import com.nova.notifications.domain.result.NotificationResult;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+
 /**
  * Decorator that adds retry logic with exponential backoff to NotificationService.
  * <p>
  * Wraps a NotificationService and retries failed sends according to the
- * configured RetryPolicy. Only retries provider errors, not validation errors
- * (which would fail again on retry). Publishes RETRYING events for observability.
+ * configured RetryPolicy. Only retries failures whose {@code ErrorCategory} is retryable
+ * (transient, rate-limited, system), not validation errors, rejected recipients or bad
+ * credentials (which would fail again on retry). Rate-limited failures wait at least the
+ * provider's retry-after hint. Publishes RETRYING events for observability.
+ * </p>
+ * <p>
+ * Every first attempt is recorded in a {@link RetryBudget}; each retry must acquire
+ * budget first, so a provider outage cannot multiply traffic by {@code maxAttempts}.
+ * </p>
+ * <p>
+ * When a {@link RetryStore} is configured, each pending attempt is persisted before the
+ * thread sleeps and removed once performed. After a restart, {@link RetryRecoveryDispatcher}
+ * feeds the recovered entries back through {@link #resume(PendingRetry)}.
+ * </p>
+ * <p>
+ * When a {@link DeadLetterStore} is configured, retryable failures that are given up on
+ * (attempts exhausted or retry budget refused) are appended to it with their final result,
+ * so they can be replayed once the provider recovers.
  * </p>
  */
 public class RetryableNotificationService {
@@ -24,63 +43,183 @@ public class RetryableNotificationService {
     private final NotificationService delegate;
     private final RetryPolicy retryPolicy;
     private final EventPublisher eventPublisher;
+    private final RetryBudget retryBudget;
+    private final RetryStore retryStore;
+    private final DeadLetterStore deadLetterStore;
 
     public RetryableNotificationService(NotificationService delegate, RetryPolicy retryPolicy,
                                         EventPublisher eventPublisher) {
+        this(delegate, retryPolicy, eventPublisher, RetryBudget.unlimited());
+    }
+
+    public RetryableNotificationService(NotificationService delegate, RetryPolicy retryPolicy,
+                                        EventPublisher eventPublisher, RetryBudget retryBudget) {
+        this(delegate, retryPolicy, eventPublisher, retryBudget, null);
+    }
+
+    /**
+     * @param retryStore durable store for pending retries, or null to keep them in memory only
+     */
+    public RetryableNotificationService(NotificationService delegate, RetryPolicy retryPolicy,
+                                        EventPublisher eventPublisher, RetryBudget retryBudget,
+                                        RetryStore retryStore) {
+        this(delegate, retryPolicy, eventPublisher, retryBudget, retryStore, null);
+    }
+
+    /**
+     * @param retryStore      durable store for pending retries, or null to keep them in memory only
+     * @param deadLetterStore store for notifications whose retries were given up on, or null to drop them
+     */
+    public RetryableNotificationService(NotificationService delegate, RetryPolicy retryPolicy,
+                                        EventPublisher eventPublisher, RetryBudget retryBudget,
+                                        RetryStore retryStore, DeadLetterStore deadLetterStore) {
         this.delegate = delegate;
         this.retryPolicy = retryPolicy;
         this.eventPublisher = eventPublisher;
+        this.retryBudget = Objects.requireNonNull(retryBudget, "RetryBudget must not be null");
+        this.retryStore = retryStore;
+        this.deadLetterStore = deadLetterStore;
     }
 
     /**
      * Sends a notification with automatic retry on provider failures.
      * <p>
-     * Validation errors are returned immediately without retry.
-     * Provider and system errors trigger retries up to maxAttempts.
+     * Non-retryable failures are returned immediately without retry.
+     * Transient provider and system errors trigger retries up to maxAttempts, as long as
+     * the retry budget allows it; otherwise the last failure is returned.
      * </p>
      *
      * @param notification the notification to send
      * @return the final result after all attempts
      */
     public <T extends Notification> NotificationResult sendWithRetry(T notification) {
-        NotificationResult result = null;
-
-        for (int attempt = 1; attempt <= retryPolicy.maxAttempts(); attempt++) {
-            if (attempt > 1) {
-                var delay = retryPolicy.delayForAttempt(attempt - 1);
-                log.info("Retry attempt {}/{} for {} notification to {} (delay: {}ms)",
-                        attempt, retryPolicy.maxAttempts(), notification.channelType(),
-                        notification.recipient(), delay.toMillis());
-                eventPublisher.publish(
-                        NotificationEvent.retrying(notification.channelType(), notification.recipient(), attempt)
-                );
-                sleep(delay.toMillis());
-            }
+        retryBudget.recordRequest();
+        var result = delegate.send(notification);
+        return continueRetries(notification, 1, result, Duration.ZERO);
+    }
 
+    /**
+     * Performs a retry recovered from the {@link RetryStore} after a restart, then
+     * continues with any remaining attempts as {@link #sendWithRetry} would.
+     *
+     * @param pending the recovered retry (already due)
+     * @return the final result after all remaining attempts
+     */
+    public NotificationResult resume(PendingRetry pending) {
+        var notification = pending.notification();
+        log.info("Resuming recovered retry attempt {}/{} for {} notification to {}",
+                pending.attempt(), retryPolicy.maxAttempts(), notification.channelType(), notification.recipient());
+        eventPublisher.publish(EventType.RETRYING, notification.channelType(), notification.recipient(), null,
+                pending.attempt());
+        NotificationResult result;
+        try {
             result = delegate.send(notification);
+        } finally {
+            removeFromStore(pending);
+        }
+        return continueRetries(notification, pending.attempt(), result, Duration.ZERO);
+    }
 
-            if (result.successful()) {
+    private NotificationResult continueRetries(Notification notification, int attempt,
+                                               NotificationResult result, Duration previousDelay) {
+        while (!result.successful()) {
+            // Don't retry failures that will fail again (validation, invalid recipient, auth, ...)
+            if (!result.isRetryable()) {
+                log.debug("{} error - not retrying: {}", result.errorCategory(), result.errorMessage());
                 return result;
             }
 
-            // Don't retry validation errors - they'll fail again
-            if (result.errorSource() != null && result.errorSource().equals(ErrorSource.VALIDATION)) {
-                log.debug("Validation error - not retrying: {}", result.errorMessage());
+            if (attempt >= retryPolicy.maxAttempts()) {
+                log.error("All {} retry attempts exhausted for {} notification to {}",
+                        retryPolicy.maxAttempts(), notification.channelType(), notification.recipient());
+                deadLetter(notification, result, attempt);
                 return result;
             }
 
-            if (attempt < retryPolicy.maxAttempts()) {
-                log.warn("Attempt {}/{} failed for {} to {}: {}",
-                        attempt, retryPolicy.maxAttempts(), notification.channelType(),
-                        notification.recipient(), result.errorMessage());
+            log.warn("Attempt {}/{} failed for {} to {}: {}",
+                    attempt, retryPolicy.maxAttempts(), notification.channelType(),
+                    notification.recipient(), result.errorMessage());
+
+            if (!retryBudget.tryAcquireRetry()) {
+                log.warn("Retry budget exhausted - not retrying {} notification to {} after {} attempt(s)",
+                        notification.channelType(), notification.recipient(), attempt);
+                deadLetter(notification, result, attempt);
+                return result;
             }
-        }
 
-        log.error("All {} retry attempts exhausted for {} notification to {}",
-                retryPolicy.maxAttempts(), notification.channelType(), notification.recipient());
+            attempt++;
+            var delay = retryDelay(attempt - 1, previousDelay, result);
+            previousDelay = delay;
+            log.info("Retry attempt {}/{} for {} notification to {} (delay: {}ms)",
+                    attempt, retryPolicy.maxAttempts(), notification.channelType(),
+                    notification.recipient(), delay.toMillis());
+            eventPublisher.publish(EventType.RETRYING, notification.channelType(), notification.recipient(), null,
+                    attempt);
+
+            var pending = persist(notification, attempt, delay);
+            sleep(delay.toMillis());
+            try {
+                result = delegate.send(notification);
+            } finally {
+                removeFromStore(pending);
+            }
+        }
         return result;
     }
 
+    /**
+     * Records the upcoming attempt in the retry store so it survives a restart while
+     * this thread sleeps. Store failures degrade to in-memory retrying.
+     */
+    private PendingRetry persist(Notification notification, int attempt, Duration delay) {
+        if (retryStore == null) {
+            return null;
+        }
+        try {
+            return retryStore.add(notification, attempt, Instant.now().plus(delay));
+        } catch (RuntimeException e) {
+            log.warn("Failed to persist pending retry for {} notification to {}: {}",
+                    notification.channelType(), notification.recipient(), e.getMessage());
+            return null;
+        }
+    }
+
+    private void removeFromStore(PendingRetry pending) {
+        if (retryStore == null || pending == null) {
+            return;
+        }
+        try {
+            retryStore.remove(pending.id());
+        } catch (RuntimeException e) {
+            log.warn("Failed to remove retry entry {} from store: {}", pending.id(), e.getMessage());
+        }
+    }
+
+    /**
+     * Keeps a notification that is being given up on. Store failures are logged, since the
+     * caller still receives the failed result.
+     */
+    private void deadLetter(Notification notification, NotificationResult result, int attempts) {
+        if (deadLetterStore == null) {
+            return;
+        }
+        try {
+            deadLetterStore.append(notification, result, attempts);
+        } catch (RuntimeException e) {
+            log.warn("Failed to dead-letter {} notification to {}: {}",
+                    notification.channelType(), notification.recipient(), e.getMessage());
+        }
+    }
+
+    /**
+     * Uses the policy delay, stretched to the provider's retry-after hint when it asks for longer.
+     */
+    private Duration retryDelay(int retry, Duration previousDelay, NotificationResult lastResult) {
+        var delay = retryPolicy.nextDelay(retry, previousDelay);
+        var retryAfter = lastResult.retryAfter();
+        return retryAfter != null && retryAfter.compareTo(delay) > 0 ? retryAfter : delay;
+    }
+
     private void sleep(long millis) {
         try {
             Thread.sleep(millis);
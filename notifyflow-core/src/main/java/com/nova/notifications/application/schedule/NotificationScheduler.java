@@ -0,0 +1,300 @@
+package com.nova.notifications.application.schedule;
+
+import com.nova.notifications.common.StorageConstants;
+import com.nova.notifications.domain.model.Notification;
+import com.nova.notifications.domain.result.NotificationResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Sends notifications at a requested time, keeping only the near future in memory.
+ * <p>
+ * Every scheduled send is persisted in the {@link ScheduleStore} bucket of its due minute.
+ * Only the buckets of the current minute and the next {@code lookaheadMinutes} minutes are
+ * loaded, into a hashed timing wheel with one slot per second; a background thread advances
+ * the wheel every {@value #TICK_MILLIS}ms and hands due entries to the sender. Sends due
+ * further ahead cost disk space only, so tens of millions of reminders scheduled days in
+ * advance do not grow the heap.
+ * </p>
+ * <p>
+ * Buckets are loaded ahead of time, so reading a large bucket does not delay the sends
+ * that fall due at the start of its minute. A bucket is deleted once its minute has passed
+ * and all of its entries have been sent or cancelled. Entries are marked complete after
+ * their send finishes; after a crash, overdue buckets are loaded on start and their
+ * unfinished entries are sent at once (at-least-once delivery).
+ * </p>
+ */
+public class NotificationScheduler implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(NotificationScheduler.class);
+
+    private static final long TICK_MILLIS = 100;
+    private static final int SECONDS_PER_MINUTE = 60;
+
+    private final ScheduleStore store;
+    private final Function<Notification, CompletableFuture<NotificationResult>> sender;
+    private final int lookaheadMinutes;
+    private final Clock clock;
+    private final ScheduledExecutorService ticker;
+
+    /** A loaded entry and the wheel slot holding it */
+    private record Placement(ScheduledNotification entry, int slot) {
+    }
+
+    private final List<List<ScheduledNotification>> wheel;
+    private final Map<Long, Placement> loaded = new HashMap<>();
+    private final Set<Long> inFlight = new HashSet<>();
+    /** Loaded bucket minute -> entries not yet completed or cancelled */
+    private final TreeMap<Long, Integer> outstanding = new TreeMap<>();
+
+    private long cursorSecond;
+    private long loadedThroughMinute = Long.MIN_VALUE;
+    private boolean initialized;
+
+    /**
+     * @param store            store holding the scheduled sends
+     * @param sender           sends a due notification
+     * @param lookaheadMinutes number of minutes past the current one kept in memory
+     * @param clock            time source for due checks
+     */
+    public NotificationScheduler(ScheduleStore store,
+                                 Function<Notification, CompletableFuture<NotificationResult>> sender,
+                                 int lookaheadMinutes, Clock clock) {
+        if (lookaheadMinutes < 1) {
+            throw new IllegalArgumentException(StorageConstants.Schedule.LOOKAHEAD_INVALID);
+        }
+        this.store = Objects.requireNonNull(store, "ScheduleStore must not be null");
+        this.sender = Objects.requireNonNull(sender, "Sender must not be null");
+        this.lookaheadMinutes = lookaheadMinutes;
+        this.clock = Objects.requireNonNull(clock, "Clock must not be null");
+
+        // The loaded window spans at most (lookahead + 1) minutes past the cursor, so slots never wrap onto live entries
+        int slots = (lookaheadMinutes + 2) * SECONDS_PER_MINUTE;
+        this.wheel = new ArrayList<>(slots);
+        for (int i = 0; i < slots; i++) {
+            wheel.add(new ArrayList<>());
+        }
+        this.ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            var thread = new Thread(runnable, "notifyflow-scheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Starts advancing the wheel in the background.
+     */
+    public void start() {
+        ticker.scheduleWithFixedDelay(this::tick, 0, TICK_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Schedules a notification to be sent at {@code dueAt}. A time in the past sends it on
+     * the next tick.
+     *
+     * @return an identifier for {@link #cancel(long)}
+     */
+    public synchronized long schedule(Notification notification, Instant dueAt) {
+        Objects.requireNonNull(notification, "Notification must not be null");
+        Objects.requireNonNull(dueAt, StorageConstants.Schedule.DUE_AT_REQUIRED);
+        // Stored under the lock: the entry is either in a bucket not loaded yet or placed here, never both
+        long id = store.add(notification, dueAt);
+        long minute = minuteOf(dueAt.getEpochSecond());
+        if (minute <= loadedThroughMinute) {
+            place(new ScheduledNotification(id, notification, dueAt));
+            outstanding.merge(minute, 1, Integer::sum);
+        }
+        return id;
+    }
+
+    /**
+     * Cancels a scheduled send.
+     *
+     * @return true if the send was cancelled, false if it was already sent (or is being
+     *         sent), was cancelled before, or is unknown
+     */
+    public synchronized boolean cancel(long id) {
+        if (inFlight.contains(id)) {
+            return false;
+        }
+        var placement = loaded.remove(id);
+        if (placement != null) {
+            wheel.get(placement.slot()).remove(placement.entry());
+            release(minuteOf(placement.entry().dueAt().getEpochSecond()));
+        }
+        return store.cancel(id);
+    }
+
+    /**
+     * Sends the entries due by now and loads buckets entering the lookahead window.
+     * Called by the background thread every {@value #TICK_MILLIS}ms. The first tick loads
+     * the overdue buckets left by a previous run along with the upcoming ones.
+     */
+    public void tick() {
+        try {
+            for (var entry : advance()) {
+                dispatch(entry);
+            }
+        } catch (RuntimeException e) {
+            log.error("Scheduler tick failed: {}", e.getMessage(), e);
+        }
+    }
+
+    private synchronized List<ScheduledNotification> advance() {
+        var now = clock.instant();
+        if (!initialized) {
+            initialize(now);
+        }
+        long nowSecond = now.getEpochSecond();
+        var due = new ArrayList<ScheduledNotification>();
+
+        // Seconds before the current one are drained completely, the current one only up to now.
+        // After a long pause every slot is visited once, which is enough since entries are checked by time.
+        long from = Math.max(Math.min(cursorSecond, nowSecond), nowSecond - wheel.size() + 1);
+        for (long second = from; second <= nowSecond; second++) {
+            var slot = wheel.get(slotOf(second));
+            var iterator = slot.iterator();
+            while (iterator.hasNext()) {
+                var entry = iterator.next();
+                if (!entry.dueAt().isAfter(now)) {
+                    iterator.remove();
+                    loaded.remove(entry.id());
+                    inFlight.add(entry.id());
+                    due.add(entry);
+                }
+            }
+        }
+        cursorSecond = Math.max(cursorSecond, nowSecond);
+
+        long horizon = minuteOf(nowSecond) + lookaheadMinutes;
+        while (loadedThroughMinute < horizon) {
+            // Advanced only once the bucket is placed, so a failed load is retried on the next tick
+            long minute = loadedThroughMinute + 1;
+            placeBucket(minute, store.loadBucket(minute));
+            loadedThroughMinute = minute;
+        }
+        dropFinishedBuckets();
+        return due;
+    }
+
+    private void initialize(Instant now) {
+        long nowSecond = now.getEpochSecond();
+        long horizon = minuteOf(nowSecond) + lookaheadMinutes;
+        // Every bucket is read before any is placed, so a failed start is retried from scratch
+        var buckets = new TreeMap<Long, List<ScheduledNotification>>();
+        for (long minute : store.bucketsThrough(horizon)) {
+            buckets.put(minute, store.loadBucket(minute));
+        }
+        cursorSecond = nowSecond;
+        buckets.forEach(this::placeBucket);
+        loadedThroughMinute = horizon;
+        initialized = true;
+        log.info("Scheduler started with {} sends due within {} minute(s)", loaded.size(), lookaheadMinutes);
+    }
+
+    private void placeBucket(long minute, List<ScheduledNotification> entries) {
+        for (var entry : entries) {
+            place(entry);
+        }
+        outstanding.merge(minute, entries.size(), Integer::sum);
+        if (!entries.isEmpty()) {
+            log.debug("Loaded {} scheduled sends for minute {}", entries.size(), minute);
+        }
+    }
+
+    /**
+     * Puts an entry in the slot of its due second; overdue entries go to the cursor slot.
+     */
+    private void place(ScheduledNotification entry) {
+        int slot = slotOf(Math.max(entry.dueAt().getEpochSecond(), cursorSecond));
+        wheel.get(slot).add(entry);
+        loaded.put(entry.id(), new Placement(entry, slot));
+    }
+
+    private void dispatch(ScheduledNotification entry) {
+        CompletableFuture<NotificationResult> send;
+        try {
+            send = sender.apply(entry.notification());
+        } catch (RuntimeException e) {
+            send = CompletableFuture.failedFuture(e);
+        }
+        send.whenComplete((result, error) -> {
+            if (error != null) {
+                log.error("Scheduled send {} failed: {}", entry.id(), error.getMessage());
+            }
+            finish(entry);
+        });
+    }
+
+    private void finish(ScheduledNotification entry) {
+        try {
+            store.complete(entry.id());
+        } catch (RuntimeException e) {
+            log.warn("Failed to mark scheduled send {} complete: {}", entry.id(), e.getMessage());
+        }
+        synchronized (this) {
+            inFlight.remove(entry.id());
+            release(minuteOf(entry.dueAt().getEpochSecond()));
+            dropFinishedBuckets();
+        }
+    }
+
+    private void release(long minute) {
+        outstanding.computeIfPresent(minute, (key, count) -> count - 1);
+    }
+
+    /**
+     * Deletes the buckets whose minute has passed and that have nothing left to send.
+     */
+    private void dropFinishedBuckets() {
+        long currentMinute = minuteOf(cursorSecond);
+        var passed = outstanding.headMap(currentMinute, false).entrySet().iterator();
+        while (passed.hasNext()) {
+            var bucket = passed.next();
+            if (bucket.getValue() <= 0) {
+                passed.remove();
+                try {
+                    store.dropBucket(bucket.getKey());
+                } catch (RuntimeException e) {
+                    log.warn("Failed to drop schedule bucket {}: {}", bucket.getKey(), e.getMessage());
+                }
+            }
+        }
+    }
+
+    private int slotOf(long epochSecond) {
+        return (int) Math.floorMod(epochSecond, (long) wheel.size());
+    }
+
+    private static long minuteOf(long epochSecond) {
+        return Math.floorDiv(epochSecond, SECONDS_PER_MINUTE);
+    }
+
+    /**
+     * Returns the number of scheduled sends currently held in memory.
+     */
+    public synchronized int loadedCount() {
+        return loaded.size();
+    }
+
+    @Override
+    public void close() {
+        ticker.shutdownNow();
+    }
+}
@@ -0,0 +1,55 @@
+package com.nova.notifications.application.schedule;
+
+import com.nova.notifications.domain.model.Notification;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Port for persisting scheduled sends, grouped into one bucket per minute of due time.
+ * <p>
+ * Buckets are addressed by epoch minute ({@code dueAt.getEpochSecond() / 60}).
+ * {@link NotificationScheduler} only ever reads the few buckets that fall due next,
+ * so the number of stored entries is bounded by disk, not by heap.
+ * </p>
+ */
+public interface ScheduleStore extends AutoCloseable {
+
+    /**
+     * Persists a send in the bucket of its due minute.
+     *
+     * @return the identifier of the new entry
+     */
+    long add(Notification notification, Instant dueAt);
+
+    /**
+     * Cancels a pending entry.
+     *
+     * @return true if the entry was pending, false if it is unknown, cancelled or completed
+     */
+    boolean cancel(long id);
+
+    /**
+     * Marks an entry as sent so it is not loaded again.
+     */
+    void complete(long id);
+
+    /**
+     * Returns the pending entries of one bucket, in insertion order.
+     */
+    List<ScheduledNotification> loadBucket(long epochMinute);
+
+    /**
+     * Returns the minutes, in ascending order, of all stored buckets up to and including
+     * {@code epochMinute}.
+     */
+    List<Long> bucketsThrough(long epochMinute);
+
+    /**
+     * Deletes a bucket once all of its entries have been sent or cancelled.
+     */
+    void dropBucket(long epochMinute);
+
+    @Override
+    void close();
+}
@@ -0,0 +1,19 @@
+package com.nova.notifications.application.schedule;
+
+import com.nova.notifications.domain.model.Notification;
+
+import java.time.Instant;
+
+/**
+ * A notification waiting in a {@link ScheduleStore} for its send time.
+ *
+ * @param id           store-assigned identifier, used to cancel or complete the entry
+ * @param notification the notification to send
+ * @param dueAt        time at which the notification should be sent
+ */
+public record ScheduledNotification(
+        long id,
+        Notification notification,
+        Instant dueAt
+) {
+}
@@ -1,8 +1,13 @@
 package com.nova.notifications.application.service;
 
+import com.nova.notifications.application.capping.FrequencyCapper;
 import com.nova.notifications.application.port.NotificationChannel;
+import com.nova.notifications.application.port.NotificationValidator;
+import com.nova.notifications.application.port.RenderingChannel;
 import com.nova.notifications.application.pubsub.EventPublisher;
-import com.nova.notifications.domain.event.NotificationEvent;
+import com.nova.notifications.application.suppression.SuppressionList;
+import com.nova.notifications.application.template.NotificationTemplate;
+import com.nova.notifications.domain.event.NotificationEvent.EventType;
 import com.nova.notifications.domain.model.ChannelType;
 import com.nova.notifications.domain.model.EmailNotification;
 import com.nova.notifications.domain.model.Notification;
@@ -16,8 +21,10 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.EnumMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.Function;
 
 /**
  * Core notification service that routes notifications to the appropriate channel.
@@ -26,6 +33,12 @@ import java.util.Objects;
  * resolution based on the notification's channel type. Publishes lifecycle events
  * through the EventPublisher for observability.
  * </p>
+ * <p>
+ * With a {@link SuppressionList}, recipients on it get a {@code SUPPRESSED} result before
+ * their channel, and so their provider, is called. With a {@link FrequencyCapper}, a
+ * recipient that reached a frequency cap gets a {@code FREQUENCY_CAPPED} result the same
+ * way; sends that fail give their counts back.
+ * </p>
  */
 public class NotificationService {
 
@@ -33,10 +46,31 @@ public class NotificationService {
 
     private final Map<ChannelType, NotificationChannel<?>> channels;
     private final EventPublisher eventPublisher;
+    private final SuppressionList suppressionList;
+    private final FrequencyCapper frequencyCapper;
 
     public NotificationService(Map<ChannelType, NotificationChannel<?>> channels, EventPublisher eventPublisher) {
+        this(channels, eventPublisher, null);
+    }
+
+    /**
+     * @param suppressionList recipients never to send to, or null to send to everyone
+     */
+    public NotificationService(Map<ChannelType, NotificationChannel<?>> channels, EventPublisher eventPublisher,
+                               SuppressionList suppressionList) {
+        this(channels, eventPublisher, suppressionList, null);
+    }
+
+    /**
+     * @param suppressionList recipients never to send to, or null to send to everyone
+     * @param frequencyCapper caps on notifications per recipient, or null for none
+     */
+    public NotificationService(Map<ChannelType, NotificationChannel<?>> channels, EventPublisher eventPublisher,
+                               SuppressionList suppressionList, FrequencyCapper frequencyCapper) {
         this.channels = new EnumMap<>(channels);
         this.eventPublisher = Objects.requireNonNull(eventPublisher, "EventPublisher must not be null");
+        this.suppressionList = suppressionList;
+        this.frequencyCapper = frequencyCapper;
     }
 
     /**
@@ -49,8 +83,40 @@ public class NotificationService {
      * @param notification the notification to send
      * @return the result of the send attempt
      */
-    @SuppressWarnings("unchecked")
     public <T extends Notification> NotificationResult send(T notification) {
+        return dispatch(notification, channel -> channel.send(notification));
+    }
+
+    /**
+     * Sends a notification whose body is rendered from a template during the send.
+     * <p>
+     * Follows the same flow and events as {@link #send}. The envelope carries everything
+     * but the body; channels that can stream the rendered template to their provider
+     * (email) do so without building the body as a String.
+     * </p>
+     *
+     * @param envelope  the notification to send, without its body
+     * @param template  the template rendered as the body
+     * @param variables values for the template placeholders
+     * @return the result of the send attempt
+     */
+    public <T extends Notification> NotificationResult sendRendered(T envelope, NotificationTemplate template,
+                                                                    Map<String, String> variables) {
+        Objects.requireNonNull(template, "Template must not be null");
+        return dispatch(envelope, channel -> channel instanceof RenderingChannel<T> rendering
+                ? rendering.sendRendered(envelope, template, variables)
+                : NotificationResult.configurationError(
+                        ValidationMessages.CHANNEL_CANNOT_RENDER.formatted(channel.getChannelType())));
+    }
+
+    /**
+     * Flow: validate channel exists → check suppression and frequency caps → publish SENDING event
+     * → delegate to channel → publish result event. A suppressed or capped recipient only gets a
+     * FAILED event.
+     */
+    @SuppressWarnings("unchecked")
+    private <T extends Notification> NotificationResult dispatch(T notification,
+                                                                 Function<NotificationChannel<T>, NotificationResult> send) {
         if (notification == null) {
             log.warn("Attempted to send null notification");
             return NotificationResult.validationError(ValidationMessages.NOTIFICATION_NULL);
@@ -74,28 +140,89 @@ public class NotificationService {
             );
         }
 
+        if (suppressionList != null && suppressionList.isSuppressed(notification.recipient())) {
+            log.debug("Suppressed {}", describeNotification(notification));
+            var result = NotificationResult.suppressed(ValidationMessages.RECIPIENT_SUPPRESSED);
+            eventPublisher.publish(EventType.FAILED, channelType, notification.recipient(), result, 1);
+            return result;
+        }
+
+        long acquiredAt = 0;
+        if (frequencyCapper != null) {
+            acquiredAt = System.currentTimeMillis();
+            var cap = frequencyCapper.tryAcquire(notification, acquiredAt);
+            if (cap != null) {
+                log.debug("Frequency cap '{}' reached for {}", cap.name(), describeNotification(notification));
+                var result = NotificationResult.frequencyCapped(
+                        ValidationMessages.FREQUENCY_CAP_REACHED.formatted(cap.name(), cap.limit(), cap.window()));
+                eventPublisher.publish(EventType.FAILED, channelType, notification.recipient(), result, 1);
+                return result;
+            }
+        }
+
         try {
-            eventPublisher.publish(NotificationEvent.sending(channelType, notification.recipient(), 1));
+            eventPublisher.publish(EventType.SENDING, channelType, notification.recipient(), null, 1);
 
-            NotificationResult result = channel.send(notification);
+            NotificationResult result = send.apply(channel);
 
             if (result.successful()) {
-                eventPublisher.publish(NotificationEvent.sent(channelType, notification.recipient(), result));
+                eventPublisher.publish(EventType.SENT, channelType, notification.recipient(), result, 1);
                 log.info("Successfully sent {}", describeNotification(notification));
             } else {
-                eventPublisher.publish(NotificationEvent.failed(channelType, notification.recipient(), result, 1));
+                eventPublisher.publish(EventType.FAILED, channelType, notification.recipient(), result, 1);
                 log.warn("Failed to send {} - {}", describeNotification(notification), result.errorMessage());
+                releaseFrequencyCaps(notification, acquiredAt);
             }
 
             return result;
         } catch (Exception e) {
             log.error("Unexpected error sending {}", describeNotification(notification), e);
             var result = NotificationResult.systemError(ValidationMessages.UNEXPECTED_ERROR_PREFIX + e.getMessage(), e);
-            eventPublisher.publish(NotificationEvent.failed(channelType, notification.recipient(), result, 1));
+            eventPublisher.publish(EventType.FAILED, channelType, notification.recipient(), result, 1);
+            releaseFrequencyCaps(notification, acquiredAt);
             return result;
         }
     }
 
+    private void releaseFrequencyCaps(Notification notification, long acquiredAt) {
+        if (frequencyCapper != null) {
+            frequencyCapper.release(notification, acquiredAt);
+        }
+    }
+
+    /**
+     * Validates a notification against its channel's validator without sending it or
+     * publishing events.
+     * <p>
+     * Only channel validation is covered: a null notification, or one whose channel is not
+     * configured, reports no errors here and is rejected by {@link #send} as usual.
+     * </p>
+     *
+     * @return the validator's bitmask of error codes (0 if valid)
+     * @see NotificationValidator#check
+     */
+    public long check(Notification notification) {
+        var validator = validatorFor(notification);
+        return validator == null ? 0 : validator.check(notification);
+    }
+
+    /**
+     * Produces the messages for error codes returned by {@link #check(Notification)}.
+     */
+    public List<String> describeErrors(Notification notification, long errors) {
+        var validator = validatorFor(notification);
+        return validator == null || errors == 0 ? List.of() : validator.describe(notification, errors);
+    }
+
+    @SuppressWarnings("unchecked")
+    private NotificationValidator<Notification> validatorFor(Notification notification) {
+        if (notification == null) {
+            return null;
+        }
+        var channel = (NotificationChannel<Notification>) channels.get(notification.channelType());
+        return channel == null ? null : channel.validator();
+    }
+
     /**
      * Checks if a specific channel is configured and available.
      */
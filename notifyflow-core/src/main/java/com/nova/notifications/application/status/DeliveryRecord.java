@@ -0,0 +1,23 @@
+package com.nova.notifications.application.status;
+
+import com.nova.notifications.domain.model.ChannelType;
+
+import java.time.Instant;
+
+/**
+ * One recorded state change of a notification.
+ *
+ * @param notificationId provider or internal notification id (e.g. {@code sg-…}, {@code SM…})
+ * @param status         the recorded state
+ * @param channelType    channel of the notification (null if unknown)
+ * @param recordedAt     when the state was recorded
+ * @param detail         optional detail, such as the provider's error message
+ */
+public record DeliveryRecord(
+        String notificationId,
+        DeliveryStatus status,
+        ChannelType channelType,
+        Instant recordedAt,
+        String detail
+) {
+}
@@ -0,0 +1,22 @@
+package com.nova.notifications.application.status;
+
+/**
+ * Delivery state of a notification, as tracked by a {@link DeliveryStatusStore}.
+ */
+public enum DeliveryStatus {
+
+    /** Accepted for sending (e.g. logged in the outbox) */
+    ACCEPTED,
+
+    /** Handed over to the provider */
+    SENT,
+
+    /** Rejected by the provider or failed to send */
+    FAILED,
+
+    /** Waiting for another attempt */
+    RETRYING,
+
+    /** Confirmed delivered by the provider (delivery receipt or webhook) */
+    DELIVERED
+}
@@ -0,0 +1,48 @@
+package com.nova.notifications.application.status;
+
+import com.nova.notifications.application.pubsub.EventListener;
+import com.nova.notifications.domain.event.NotificationEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Objects;
+
+/**
+ * Event listener that records delivery states in a {@link DeliveryStatusStore}.
+ * <p>
+ * Only events whose result carries a notification id can be keyed: SENT events, and
+ * FAILED events from providers that return an id with the failure. QUEUED, SENDING and
+ * RETRYING events happen before any id exists and are skipped.
+ * </p>
+ */
+public class DeliveryStatusRecorder implements EventListener {
+
+    private static final Logger log = LoggerFactory.getLogger(DeliveryStatusRecorder.class);
+
+    private final DeliveryStatusStore store;
+
+    public DeliveryStatusRecorder(DeliveryStatusStore store) {
+        this.store = Objects.requireNonNull(store, "DeliveryStatusStore must not be null");
+    }
+
+    @Override
+    public void onEvent(NotificationEvent event) {
+        var result = event.result();
+        if (result == null || result.notificationId() == null) {
+            return;
+        }
+        var status = switch (event.eventType()) {
+            case SENT -> DeliveryStatus.SENT;
+            case FAILED -> DeliveryStatus.FAILED;
+            case QUEUED, SENDING, RETRYING -> null;
+        };
+        if (status == null) {
+            return;
+        }
+        try {
+            store.record(result.notificationId(), status, event.channelType(), result.errorMessage());
+        } catch (RuntimeException e) {
+            log.warn("Failed to record {} status for {}: {}", status, result.notificationId(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.nova.notifications.application.status;
+
+import com.nova.notifications.domain.model.ChannelType;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Port for recording and querying the delivery state of notifications by notification id.
+ * <p>
+ * Fed from the event stream by {@link DeliveryStatusRecorder}; states the library does not
+ * observe itself, such as provider delivery receipts, are recorded directly through
+ * {@link #record}.
+ * </p>
+ */
+public interface DeliveryStatusStore extends AutoCloseable {
+
+    /**
+     * Records a new state for a notification.
+     *
+     * @param notificationId the notification id
+     * @param status         the new state
+     * @param channelType    channel of the notification, or null if unknown
+     * @param detail         optional detail, or null
+     */
+    void record(String notificationId, DeliveryStatus status, ChannelType channelType, String detail);
+
+    /**
+     * @return the most recent state recorded for the notification, if any
+     */
+    Optional<DeliveryRecord> latest(String notificationId);
+
+    /**
+     * @return every state recorded for the notification, oldest first
+     */
+    List<DeliveryRecord> history(String notificationId);
+
+    /**
+     * @return the number of distinct notification ids tracked
+     */
+    long size();
+
+    @Override
+    void close();
+}
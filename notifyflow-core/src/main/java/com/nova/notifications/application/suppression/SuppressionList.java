@@ -0,0 +1,35 @@
+package com.nova.notifications.application.suppression;
+
+/**
+ * Port for the recipients that must not be sent to: hard-bounced addresses, unsubscribed
+ * numbers, unregistered device tokens.
+ * <p>
+ * Checked for every notification before its channel is called; a suppressed recipient gets
+ * a {@link com.nova.notifications.domain.result.ErrorCategory#SUPPRESSED SUPPRESSED} result
+ * and the provider is never contacted. Implementations must be safe for concurrent lookups
+ * and should make lookups cheap, since most recipients are not suppressed.
+ * </p>
+ */
+public interface SuppressionList extends AutoCloseable {
+
+    /**
+     * @param recipient an email address, phone number or device token
+     * @return true if nothing may be sent to the recipient
+     */
+    boolean isSuppressed(String recipient);
+
+    /**
+     * @return the number of suppressed recipients
+     */
+    long size();
+
+    /**
+     * Reloads the list from its source. Lookups running meanwhile see either the old or
+     * the new list, never a mix.
+     */
+    void reload();
+
+    @Override
+    default void close() {
+    }
+}
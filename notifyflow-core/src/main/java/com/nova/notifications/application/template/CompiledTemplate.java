@@ -0,0 +1,46 @@
+package com.nova.notifications.application.template;
+
+import java.util.Map;
+
+/**
+ * A template compiled into a Java class at build time.
+ * <p>
+ * Subclasses are generated by {@code notifyflow-template-maven-plugin}: they pass the
+ * segments parsed at build time to the constructor, so nothing is parsed at startup, and
+ * implement {@link #render(Map)} as plain string concatenation of constants and variables,
+ * which the JIT optimizes like hand-written code. Each generated class also offers a
+ * static method taking the variables as parameters, so a missing variable is a compile
+ * error at the call site.
+ * </p>
+ * <p>
+ * This is a {@link java.util.ServiceLoader} service type: generated classes are listed in
+ * {@code META-INF/services} and picked up by {@link TemplateRegistry#registerCompiled(ClassLoader)}.
+ * </p>
+ */
+public abstract class CompiledTemplate extends NotificationTemplate {
+
+    /**
+     * @param literals the text before each slot, followed by the text after the last one
+     * @param slots    the variable name of each placeholder
+     */
+    protected CompiledTemplate(String name, TemplateMode mode, String[] literals, String[] slots) {
+        super(name, mode, literals, slots);
+    }
+
+    /**
+     * @param literals  the text before each slot, followed by the text after the last one
+     * @param slots     the variable name of each placeholder
+     * @param escapings the escaping of each placeholder
+     */
+    protected CompiledTemplate(String name, TemplateMode mode, String[] literals, String[] slots,
+                               Escaping[] escapings) {
+        super(name, mode, literals, slots, escapings);
+    }
+
+    /**
+     * Renders the template; implementations look each variable up with
+     * {@link #value(Map, int)}, so the template mode applies as usual.
+     */
+    @Override
+    public abstract String render(Map<String, String> variables);
+}
@@ -0,0 +1,179 @@
+package com.nova.notifications.application.template;
+
+import com.nova.notifications.common.TemplateConstants;
+
+/**
+ * How a variable value is escaped when it is inserted into a template.
+ * <p>
+ * Selected per placeholder with a filter, as in {@code {{name|html}}}, or for every
+ * placeholder without one through the registry default. Each escaper first scans the value
+ * for a character it must replace and returns the value itself when there is none, so the
+ * common case allocates nothing; otherwise it copies the clean prefix in bulk and escapes
+ * from the first hit on.
+ * </p>
+ */
+public enum Escaping {
+
+    /** Inserts values verbatim ({@code {{name|raw}}}) */
+    NONE("raw") {
+        @Override
+        int firstEscapable(String value) {
+            return -1;
+        }
+
+        @Override
+        void appendEscaped(char c, StringBuilder target) {
+            target.append(c);
+        }
+    },
+
+    /** Escapes {@code & < > " '} for HTML text and quoted attributes ({@code {{name|html}}}) */
+    HTML("html") {
+        @Override
+        int firstEscapable(String value) {
+            for (int i = 0; i < value.length(); i++) {
+                switch (value.charAt(i)) {
+                    case '&', '<', '>', '"', '\'' -> {
+                        return i;
+                    }
+                    default -> {
+                    }
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        void appendEscaped(char c, StringBuilder target) {
+            switch (c) {
+                case '&' -> target.append("&amp;");
+                case '<' -> target.append("&lt;");
+                case '>' -> target.append("&gt;");
+                case '"' -> target.append("&quot;");
+                case '\'' -> target.append("&#39;");
+                default -> target.append(c);
+            }
+        }
+    },
+
+    /**
+     * Escapes for the inside of a JSON string: quotes, backslashes, control characters and
+     * the line and paragraph separators JavaScript does not allow in strings ({@code {{name|json}}})
+     */
+    JSON("json") {
+        @Override
+        int firstEscapable(String value) {
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c < 0x20 || c == '"' || c == '\\' || c == '\u2028' || c == '\u2029') {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        void appendEscaped(char c, StringBuilder target) {
+            switch (c) {
+                case '"' -> target.append("\\\"");
+                case '\\' -> target.append("\\\\");
+                case '\n' -> target.append("\\n");
+                case '\r' -> target.append("\\r");
+                case '\t' -> target.append("\\t");
+                case '\b' -> target.append("\\b");
+                case '\f' -> target.append("\\f");
+                default -> {
+                    if (c < 0x20 || c == '\u2028' || c == '\u2029') {
+                        target.append("\\u").append(HEX[c >> 12 & 0xF]).append(HEX[c >> 8 & 0xF])
+                                .append(HEX[c >> 4 & 0xF]).append(HEX[c & 0xF]);
+                    } else {
+                        target.append(c);
+                    }
+                }
+            }
+        }
+    },
+
+    /**
+     * Escapes {@code & < >} as Slack mrkdwn requires, so values cannot form links or
+     * mentions ({@code {{name|slack}}})
+     */
+    SLACK("slack") {
+        @Override
+        int firstEscapable(String value) {
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c == '&' || c == '<' || c == '>') {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        void appendEscaped(char c, StringBuilder target) {
+            switch (c) {
+                case '&' -> target.append("&amp;");
+                case '<' -> target.append("&lt;");
+                case '>' -> target.append("&gt;");
+                default -> target.append(c);
+            }
+        }
+    };
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final String filterName;
+
+    Escaping(String filterName) {
+        this.filterName = filterName;
+    }
+
+    /**
+     * Returns the name used after {@value TemplateConstants#FILTER_SEPARATOR} in a placeholder.
+     */
+    public String filterName() {
+        return filterName;
+    }
+
+    /**
+     * Returns the escaping for a placeholder filter name.
+     *
+     * @throws IllegalArgumentException if the name is unknown
+     */
+    public static Escaping forFilter(String filterName) {
+        for (var escaping : values()) {
+            if (escaping.filterName.equals(filterName)) {
+                return escaping;
+            }
+        }
+        throw new IllegalArgumentException(TemplateConstants.UNKNOWN_FILTER + filterName);
+    }
+
+    /**
+     * Escapes a value.
+     *
+     * @return the value itself if nothing needs escaping; null for null
+     */
+    public String escape(String value) {
+        if (value == null) {
+            return null;
+        }
+        int first = firstEscapable(value);
+        if (first < 0) {
+            return value;
+        }
+        var escaped = new StringBuilder(value.length() + 16).append(value, 0, first);
+        for (int i = first; i < value.length(); i++) {
+            appendEscaped(value.charAt(i), escaped);
+        }
+        return escaped.toString();
+    }
+
+    /**
+     * Returns the index of the first character that must be escaped, or -1.
+     */
+    abstract int firstEscapable(String value);
+
+    abstract void appendEscaped(char c, StringBuilder target);
+}
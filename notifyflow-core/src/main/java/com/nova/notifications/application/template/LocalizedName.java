@@ -0,0 +1,65 @@
+package com.nova.notifications.application.template;
+
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * A template name paired with a locale: the key of the precomputed locale lookup, and the
+ * parsed form of a variant name such as {@code welcome_de_AT}.
+ *
+ * @param name   the base template name
+ * @param locale the locale, language and country only
+ */
+record LocalizedName(String name, Locale locale) {
+
+    private static final Set<String> LANGUAGES = Set.of(Locale.getISOLanguages());
+    private static final Set<String> COUNTRIES = Set.of(Locale.getISOCountries());
+
+    /**
+     * Parses a template name ending in {@code _language} or {@code _language_COUNTRY}, where
+     * the language is an ISO 639 code and the country an ISO 3166 code or a three digit
+     * UN M.49 area, as {@link java.util.ResourceBundle} names do.
+     *
+     * @return the variant, or null if the name has no locale suffix
+     */
+    static LocalizedName parse(String templateName) {
+        int last = templateName.lastIndexOf('_');
+        if (last <= 0) {
+            return null;
+        }
+        var tail = templateName.substring(last + 1);
+        if (LANGUAGES.contains(tail)) {
+            return new LocalizedName(templateName.substring(0, last), Locale.of(tail));
+        }
+        if (!COUNTRIES.contains(tail) && !isAreaCode(tail)) {
+            return null;
+        }
+        int previous = templateName.lastIndexOf('_', last - 1);
+        if (previous <= 0) {
+            return null;
+        }
+        var language = templateName.substring(previous + 1, last);
+        return LANGUAGES.contains(language)
+                ? new LocalizedName(templateName.substring(0, previous), Locale.of(language, tail))
+                : null;
+    }
+
+    private static boolean isAreaCode(String value) {
+        return value.length() == 3 && value.chars().allMatch(c -> c >= '0' && c <= '9');
+    }
+
+    /**
+     * Returns the template names to try for a base name and locale, most specific first:
+     * {@code name_language_COUNTRY}, {@code name_language}, {@code name}.
+     */
+    static String[] candidates(String name, Locale locale) {
+        var language = locale.getLanguage();
+        if (language.isEmpty()) {
+            return new String[] {name};
+        }
+        var country = locale.getCountry();
+        return country.isEmpty()
+                ? new String[] {name + '_' + language, name}
+                : new String[] {name + '_' + language + '_' + country, name + '_' + language, name};
+    }
+}
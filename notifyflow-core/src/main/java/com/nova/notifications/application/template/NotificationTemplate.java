@@ -2,7 +2,20 @@ package com.nova.notifications.application.template;
 
 import com.nova.notifications.common.TemplateConstants;
 
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 /**
  * Reusable notification template with variable placeholders.
@@ -11,11 +24,164 @@ import java.util.Map;
  * that are resolved at send time. Useful for transactional emails,
  * welcome messages, password resets, etc.
  * </p>
- *
- * @param name     unique template name for identification
- * @param template the template string with {{variable}} placeholders
+ * <p>
+ * The template is compiled once, on construction, into the literal text between
+ * placeholders and the variable name of each placeholder. Rendering looks every variable
+ * up once and appends literals and values in a single pass into a buffer sized exactly
+ * for the result, so its cost is linear in the output and independent of the number of
+ * variables supplied. {@code renderTo} writes the same segments straight into an
+ * {@link Appendable} or encodes them into a {@link ByteBuffer}, so a large body can go from
+ * template to wire bytes without ever existing as one String.
+ * </p>
+ * <p>
+ * Each placeholder can name an {@link Escaping} filter, as in {@code {{name|html}}} or
+ * {@code {{payload|json}}}; placeholders without one use the template's default escaping.
+ * Values that contain nothing to escape are inserted as they are, without copying.
+ * </p>
  */
-public record NotificationTemplate(String name, String template) {
+public class NotificationTemplate {
+
+    private final String name;
+    private final String template;
+    private final TemplateMode mode;
+
+    /** {@code literals[i]} precedes slot {@code i}; the last literal ends the template */
+    private final String[] literals;
+    private final String[] slots;
+    private final Escaping[] escapings;
+    /** Original placeholder text per slot, emitted for missing variables in lenient mode */
+    private final String[] placeholders;
+    private final int literalLength;
+
+    /**
+     * Compiles a lenient template.
+     *
+     * @param name     unique template name for identification
+     * @param template the template string with {{variable}} placeholders
+     */
+    public NotificationTemplate(String name, String template) {
+        this(name, template, TemplateMode.LENIENT);
+    }
+
+    /**
+     * Compiles a template.
+     *
+     * @param name     unique template name for identification
+     * @param template the template string with {{variable}} placeholders
+     * @param mode     how placeholders without a variable are rendered
+     */
+    public NotificationTemplate(String name, String template, TemplateMode mode) {
+        this(name, template, mode, Escaping.NONE);
+    }
+
+    /**
+     * Compiles a template whose placeholders without a filter are escaped with
+     * {@code defaultEscaping}.
+     *
+     * @param name            unique template name for identification
+     * @param template        the template string with {{variable}} or {{variable|filter}} placeholders
+     * @param mode            how placeholders without a variable are rendered
+     * @param defaultEscaping escaping for placeholders without a filter
+     * @throws IllegalArgumentException if a placeholder names an unknown filter
+     */
+    public NotificationTemplate(String name, String template, TemplateMode mode, Escaping defaultEscaping) {
+        this.name = name;
+        this.template = Objects.requireNonNull(template, TemplateConstants.TEMPLATE_REQUIRED);
+        this.mode = Objects.requireNonNull(mode, TemplateConstants.MODE_REQUIRED);
+        Objects.requireNonNull(defaultEscaping, TemplateConstants.ESCAPING_REQUIRED);
+
+        List<String> literalList = new ArrayList<>();
+        List<String> slotList = new ArrayList<>();
+        List<Escaping> escapingList = new ArrayList<>();
+        List<String> placeholderList = new ArrayList<>();
+        int prefixLength = TemplateConstants.PLACEHOLDER_PREFIX.length();
+        int suffixLength = TemplateConstants.PLACEHOLDER_SUFFIX.length();
+        int literalStart = 0;
+        int length = 0;
+        int open = template.indexOf(TemplateConstants.PLACEHOLDER_PREFIX);
+        while (open >= 0) {
+            int close = template.indexOf(TemplateConstants.PLACEHOLDER_SUFFIX, open + prefixLength);
+            if (close < 0) {
+                // Unterminated placeholder: the rest is literal text
+                break;
+            }
+            literalList.add(template.substring(literalStart, open));
+            length += open - literalStart;
+            var slot = template.substring(open + prefixLength, close);
+            int separator = slot.indexOf(TemplateConstants.FILTER_SEPARATOR);
+            slotList.add(separator < 0 ? slot : slot.substring(0, separator));
+            escapingList.add(separator < 0 ? defaultEscaping : Escaping.forFilter(slot.substring(separator + 1)));
+            placeholderList.add(template.substring(open, close + suffixLength));
+            literalStart = close + suffixLength;
+            open = template.indexOf(TemplateConstants.PLACEHOLDER_PREFIX, literalStart);
+        }
+        literalList.add(template.substring(literalStart));
+        length += template.length() - literalStart;
+
+        this.literals = literalList.toArray(String[]::new);
+        this.slots = slotList.toArray(String[]::new);
+        this.escapings = escapingList.toArray(Escaping[]::new);
+        this.placeholders = placeholderList.toArray(String[]::new);
+        this.literalLength = length;
+    }
+
+    /**
+     * Creates a template from segments compiled ahead of time, without parsing. The template
+     * text is reassembled from the segments.
+     *
+     * @param literals the text before each slot, followed by the text after the last one
+     * @param slots    the variable name of each placeholder
+     */
+    protected NotificationTemplate(String name, TemplateMode mode, String[] literals, String[] slots) {
+        this(name, mode, literals, slots, unescaped(slots.length));
+    }
+
+    /**
+     * Creates a template from segments compiled ahead of time, without parsing.
+     *
+     * @param literals  the text before each slot, followed by the text after the last one
+     * @param slots     the variable name of each placeholder
+     * @param escapings the escaping of each placeholder
+     */
+    protected NotificationTemplate(String name, TemplateMode mode, String[] literals, String[] slots,
+                                   Escaping[] escapings) {
+        if (literals.length != slots.length + 1 || escapings.length != slots.length) {
+            throw new IllegalArgumentException(TemplateConstants.SEGMENTS_MISMATCH);
+        }
+        this.name = name;
+        this.mode = Objects.requireNonNull(mode, TemplateConstants.MODE_REQUIRED);
+        this.literals = literals.clone();
+        this.slots = slots.clone();
+        this.escapings = escapings.clone();
+        this.placeholders = placeholdersOf(slots, escapings);
+
+        var text = new StringBuilder();
+        int length = 0;
+        for (int i = 0; i < slots.length; i++) {
+            text.append(literals[i]).append(placeholders[i]);
+            length += literals[i].length();
+        }
+        this.template = text.append(literals[slots.length]).toString();
+        this.literalLength = length + literals[slots.length].length();
+    }
+
+    private static Escaping[] unescaped(int slots) {
+        var escapings = new Escaping[slots];
+        Arrays.fill(escapings, Escaping.NONE);
+        return escapings;
+    }
+
+    private static String[] placeholdersOf(String[] slots, Escaping[] escapings) {
+        String[] placeholders = new String[slots.length];
+        for (int i = 0; i < slots.length; i++) {
+            var filter = escapings[i] == Escaping.NONE
+                    ? ""
+                    : TemplateConstants.FILTER_SEPARATOR + escapings[i].filterName();
+            placeholders[i] = TemplateConstants.PLACEHOLDER_PREFIX + slots[i] + filter
+                    + TemplateConstants.PLACEHOLDER_SUFFIX;
+        }
+        return placeholders;
+    }
 
     /**
      * Renders the template by replacing all {{key}} placeholders
@@ -23,12 +189,190 @@ public record NotificationTemplate(String name, String template) {
      *
      * @param variables key-value pairs for placeholder replacement
      * @return the rendered string with all placeholders replaced
+     * @throws IllegalArgumentException in strict mode, if a placeholder has no variable
      */
     public String render(Map<String, String> variables) {
-        String rendered = template;
-        for (Map.Entry<String, String> entry : variables.entrySet()) {
-            rendered = rendered.replace(TemplateConstants.PLACEHOLDER_PREFIX + entry.getKey() + TemplateConstants.PLACEHOLDER_SUFFIX, entry.getValue());
+        String[] values = resolve(variables);
+        var rendered = new StringBuilder(renderedLength(values));
+        for (int i = 0; i < slots.length; i++) {
+            rendered.append(literals[i]).append(values[i]);
+        }
+        return rendered.append(literals[slots.length]).toString();
+    }
+
+    /**
+     * Renders the template segment by segment into the given target, without building the
+     * result as a String. All variables are resolved before anything is written, so in
+     * strict mode a missing variable leaves the target untouched.
+     *
+     * @throws IOException if the target fails
+     * @throws IllegalArgumentException in strict mode, if a placeholder has no variable
+     */
+    public void renderTo(Map<String, String> variables, Appendable target) throws IOException {
+        String[] values = resolve(variables);
+        for (int i = 0; i < slots.length; i++) {
+            target.append(literals[i]).append(values[i]);
+        }
+        target.append(literals[slots.length]);
+    }
+
+    /**
+     * Encodes the rendered template straight into the given buffer, starting at its position.
+     * Unmappable characters are replaced, as {@link String#getBytes(Charset)} does.
+     *
+     * @return the number of bytes written
+     * @throws BufferOverflowException if the buffer is too small; its position is then unchanged
+     * @throws IllegalArgumentException in strict mode, if a placeholder has no variable
+     */
+    public int renderTo(Map<String, String> variables, ByteBuffer target, Charset charset) {
+        String[] values = resolve(variables);
+        int start = target.position();
+        var encoder = newEncoder(charset);
+        for (int i = 0; i < slots.length; i++) {
+            if (!encode(encoder, literals[i], target) || !encode(encoder, values[i], target)) {
+                target.position(start);
+                throw new BufferOverflowException();
+            }
         }
-        return rendered;
+        if (!encode(encoder, literals[slots.length], target)) {
+            target.position(start);
+            throw new BufferOverflowException();
+        }
+        return target.position() - start;
+    }
+
+    /**
+     * Encodes the rendered template into a new heap buffer, returned ready for reading.
+     * The buffer is sized from the rendered length and the charset's average width, and
+     * only grows if the output turns out wider.
+     *
+     * @throws IllegalArgumentException in strict mode, if a placeholder has no variable
+     */
+    public ByteBuffer renderToBuffer(Map<String, String> variables, Charset charset) {
+        String[] values = resolve(variables);
+        var encoder = newEncoder(charset);
+        var buffer = ByteBuffer.allocate((int) Math.ceil(renderedLength(values) * encoder.averageBytesPerChar()));
+        for (int i = 0; i < slots.length; i++) {
+            buffer = encodeGrowing(encoder, literals[i], buffer);
+            buffer = encodeGrowing(encoder, values[i], buffer);
+        }
+        return encodeGrowing(encoder, literals[slots.length], buffer).flip();
+    }
+
+    /**
+     * Looks every slot up once and escapes its value.
+     */
+    private String[] resolve(Map<String, String> variables) {
+        String[] values = new String[slots.length];
+        for (int i = 0; i < slots.length; i++) {
+            values[i] = escapings[i].escape(value(variables, i));
+        }
+        return values;
+    }
+
+    private int renderedLength(String[] values) {
+        int length = literalLength;
+        for (String value : values) {
+            length += value.length();
+        }
+        return length;
+    }
+
+    private static CharsetEncoder newEncoder(Charset charset) {
+        return charset.newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    }
+
+    /**
+     * Encodes one segment; segments never split a surrogate pair, so each is encoded as
+     * complete input.
+     *
+     * @return false if the target ran out of space
+     */
+    private static boolean encode(CharsetEncoder encoder, String segment, ByteBuffer target) {
+        if (segment.isEmpty()) {
+            return true;
+        }
+        encoder.reset();
+        var input = CharBuffer.wrap(segment);
+        return !encoder.encode(input, target, true).isOverflow() && !encoder.flush(target).isOverflow();
+    }
+
+    private static ByteBuffer encodeGrowing(CharsetEncoder encoder, String segment, ByteBuffer target) {
+        if (segment.isEmpty()) {
+            return target;
+        }
+        encoder.reset();
+        var input = CharBuffer.wrap(segment);
+        while (encoder.encode(input, target, true).isOverflow()) {
+            target = grow(target, input.remaining());
+        }
+        while (encoder.flush(target).isOverflow()) {
+            target = grow(target, 1);
+        }
+        return target;
+    }
+
+    private static ByteBuffer grow(ByteBuffer buffer, int minExtra) {
+        int capacity = Math.max(buffer.capacity() * 2, buffer.capacity() + minExtra * 4);
+        return ByteBuffer.allocate(capacity).put(buffer.flip());
+    }
+
+    /**
+     * Returns the unescaped value of a slot's variable, applying the template mode if it is
+     * missing.
+     *
+     * @throws IllegalArgumentException in strict mode, if the variable is missing
+     */
+    protected final String value(Map<String, String> variables, int slot) {
+        String value = variables.get(slots[slot]);
+        return value != null ? value : missing(slot);
+    }
+
+    private String missing(int slot) {
+        if (mode == TemplateMode.STRICT) {
+            throw new IllegalArgumentException(
+                    TemplateConstants.MISSING_VARIABLE.formatted(slots[slot], name));
+        }
+        return placeholders[slot];
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public String template() {
+        return template;
+    }
+
+    public TemplateMode mode() {
+        return mode;
+    }
+
+    /**
+     * Returns the distinct variable names used by the template, in order of first use.
+     */
+    public Set<String> variables() {
+        return new LinkedHashSet<>(Arrays.asList(slots));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof NotificationTemplate that
+                && Objects.equals(name, that.name)
+                && template.equals(that.template)
+                && mode == that.mode
+                && Arrays.equals(escapings, that.escapings);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, template, mode, Arrays.hashCode(escapings));
+    }
+
+    @Override
+    public String toString() {
+        return "NotificationTemplate[name=" + name + ", mode=" + mode + ", slots=" + slots.length + "]";
     }
 }
@@ -0,0 +1,13 @@
+package com.nova.notifications.application.template;
+
+/**
+ * How a template handles a placeholder with no matching variable at render time.
+ */
+public enum TemplateMode {
+
+    /** The placeholder is left in the output unchanged */
+    LENIENT,
+
+    /** Rendering fails with an {@link IllegalArgumentException} naming the missing variable */
+    STRICT
+}
@@ -1,27 +1,208 @@
 package com.nova.notifications.application.template;
 
+import com.nova.notifications.common.TemplateConstants;
 import com.nova.notifications.common.ValidationMessages;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.ServiceLoader;
+import java.util.Set;
 
 /**
  * Registry for notification templates.
  * <p>
  * Thread-safe template storage that allows registering and
- * retrieving templates by name. Templates are immutable records.
+ * retrieving templates by name. Templates are immutable and compiled
+ * when registered, so rendering does no parsing.
+ * </p>
+ * <p>
+ * The templates are held in an immutable snapshot that writers replace as a whole, so
+ * lookups on the send path are a single volatile read and never lock. Templates are
+ * compiled before the snapshot is swapped; a reload changing several templates becomes
+ * visible all at once.
+ * </p>
+ * <p>
+ * Templates named {@code name_language} or {@code name_language_COUNTRY} (for example
+ * {@code welcome_de} and {@code welcome_de_AT}) are locale variants of {@code name}.
+ * {@link #get(String, Locale)} picks the most specific variant, falling back from
+ * {@code welcome_de_AT} to {@code welcome_de} to {@code welcome}. The fallback is resolved
+ * when templates are registered, for every template and every locale that has a variant,
+ * into one table, so a lookup is a single map probe. Locales declared with
+ * {@link #addLocales(Collection)} are resolved too, so {@code de_DE} can be a single probe
+ * even when only {@code welcome_de} exists; other locales take the slower path of trying
+ * each candidate name.
  * </p>
  */
 public class TemplateRegistry {
 
-    private final Map<String, NotificationTemplate> templates = new ConcurrentHashMap<>();
+    /**
+     * The registered templates, and the resolved template for every (name, locale) pair
+     * where the locale has a variant of some template.
+     */
+    private record Snapshot(Map<String, NotificationTemplate> byName,
+                            Map<LocalizedName, NotificationTemplate> byLocale) {
+
+        static Snapshot of(Map<String, NotificationTemplate> byName, Set<Locale> declaredLocales) {
+            var bases = new HashSet<String>();
+            var locales = new HashSet<>(declaredLocales);
+            for (var name : byName.keySet()) {
+                var variant = LocalizedName.parse(name);
+                if (variant == null) {
+                    bases.add(name);
+                } else {
+                    bases.add(variant.name());
+                    locales.add(variant.locale());
+                    locales.add(Locale.of(variant.locale().getLanguage()));
+                }
+            }
+            var byLocale = new HashMap<LocalizedName, NotificationTemplate>();
+            for (var base : bases) {
+                for (var locale : locales) {
+                    var resolved = resolve(byName, base, locale);
+                    if (resolved != null) {
+                        byLocale.put(new LocalizedName(base, locale), resolved);
+                    }
+                }
+            }
+            return new Snapshot(Map.copyOf(byName), Map.copyOf(byLocale));
+        }
+
+        static NotificationTemplate resolve(Map<String, NotificationTemplate> byName, String name, Locale locale) {
+            for (var candidate : LocalizedName.candidates(name, locale)) {
+                var template = byName.get(candidate);
+                if (template != null) {
+                    return template;
+                }
+            }
+            return null;
+        }
+    }
+
+    private volatile Snapshot snapshot = Snapshot.of(Map.of(), Set.of());
+    private final Set<Locale> declaredLocales = new HashSet<>();
+    private final TemplateMode mode;
+    private final Escaping defaultEscaping;
+
+    /**
+     * Creates a registry of lenient templates, which leave unresolved placeholders in place.
+     */
+    public TemplateRegistry() {
+        this(TemplateMode.LENIENT);
+    }
+
+    /**
+     * Creates a registry whose templates are compiled with the given mode.
+     */
+    public TemplateRegistry(TemplateMode mode) {
+        this(mode, Escaping.NONE);
+    }
 
     /**
-     * Registers a template. Overwrites if name already exists.
+     * Creates a registry whose templates are compiled with the given mode, and escape the
+     * values of placeholders without a filter with {@code defaultEscaping}.
+     */
+    public TemplateRegistry(TemplateMode mode, Escaping defaultEscaping) {
+        this.mode = Objects.requireNonNull(mode, TemplateConstants.MODE_REQUIRED);
+        this.defaultEscaping = Objects.requireNonNull(defaultEscaping, TemplateConstants.ESCAPING_REQUIRED);
+    }
+
+    /**
+     * Compiles and registers a template. Overwrites if name already exists.
      */
     public TemplateRegistry register(String name, String templateContent) {
-        templates.put(name, new NotificationTemplate(name, templateContent));
+        var template = new NotificationTemplate(name, templateContent, mode, defaultEscaping);
+        swap(Map.of(name, template), Set.of());
+        return this;
+    }
+
+    /**
+     * Registers every {@link CompiledTemplate} the class loader provides through
+     * {@link ServiceLoader}, in one snapshot. Compiled templates keep the mode they were
+     * generated with.
+     *
+     * @return the number of templates registered
+     */
+    public int registerCompiled(ClassLoader classLoader) {
+        var compiled = new HashMap<String, NotificationTemplate>();
+        for (var template : ServiceLoader.load(CompiledTemplate.class, classLoader)) {
+            compiled.put(template.name(), template);
+        }
+        if (!compiled.isEmpty()) {
+            swap(compiled, Set.of());
+        }
+        return compiled.size();
+    }
+
+    /**
+     * Removes a template.
+     *
+     * @return true if a template with that name was registered
+     */
+    public boolean unregister(String name) {
+        if (!snapshot.byName().containsKey(name)) {
+            return false;
+        }
+        swap(Map.of(), Set.of(name));
+        return true;
+    }
+
+    /**
+     * Compiles the given templates and swaps them in, together with the removals, as one
+     * new snapshot. Compilation happens before the swap, so an invalid template leaves the
+     * registry unchanged.
+     *
+     * @param added   template contents by name, registered or overwritten
+     * @param removed names of templates to remove
+     */
+    public void update(Map<String, String> added, Collection<String> removed) {
+        var compiled = new HashMap<String, NotificationTemplate>(added.size());
+        added.forEach((name, content) -> compiled.put(name, compile(name, content)));
+        swap(compiled, removed);
+    }
+
+    /**
+     * Compiles a template with this registry's mode and default escaping, without
+     * registering it.
+     *
+     * @throws IllegalArgumentException if the template is invalid
+     */
+    public NotificationTemplate compile(String name, String templateContent) {
+        return new NotificationTemplate(name, templateContent, mode, defaultEscaping);
+    }
+
+    /**
+     * Swaps already compiled templates in, together with the removals, as one new snapshot.
+     * Lets a caller compile templates one by one with {@link #compile} and keep the ones
+     * that succeeded.
+     *
+     * @param compiled templates by name, registered or overwritten
+     * @param removed  names of templates to remove
+     */
+    public void updateCompiled(Map<String, NotificationTemplate> compiled, Collection<String> removed) {
+        swap(Map.copyOf(compiled), removed);
+    }
+
+    private synchronized void swap(Map<String, NotificationTemplate> compiled, Collection<String> removed) {
+        var next = new HashMap<>(snapshot.byName());
+        next.keySet().removeAll(removed);
+        next.putAll(compiled);
+        snapshot = Snapshot.of(next, declaredLocales);
+    }
+
+    /**
+     * Declares locales that notifications are sent in, so their fallback is precomputed
+     * for every template even if no template has a variant for exactly that locale.
+     */
+    public synchronized TemplateRegistry addLocales(Collection<Locale> locales) {
+        for (var locale : locales) {
+            declaredLocales.add(Locale.of(locale.getLanguage(), locale.getCountry()));
+        }
+        snapshot = Snapshot.of(snapshot.byName(), declaredLocales);
         return this;
     }
 
@@ -29,17 +210,51 @@ public class TemplateRegistry {
      * Retrieves a template by name.
      */
     public Optional<NotificationTemplate> get(String name) {
-        return Optional.ofNullable(templates.get(name));
+        return Optional.ofNullable(snapshot.byName().get(name));
+    }
+
+    /**
+     * Retrieves the most specific variant of a template for a locale: {@code name_de_AT},
+     * then {@code name_de}, then {@code name}. Only the language and country of the locale
+     * are considered.
+     */
+    public Optional<NotificationTemplate> get(String name, Locale locale) {
+        var current = snapshot;
+        var resolved = current.byLocale().get(new LocalizedName(name, locale));
+        if (resolved == null) {
+            // Locale neither declared nor used by any variant, or it carries a script or variant
+            resolved = Snapshot.resolve(current.byName(), name, locale);
+        }
+        return Optional.ofNullable(resolved);
+    }
+
+    /**
+     * Returns the names of the registered templates.
+     */
+    public Set<String> names() {
+        return snapshot.byName().keySet();
     }
 
     /**
      * Renders a template by name with the given variables.
      *
-     * @throws IllegalArgumentException if template not found
+     * @throws IllegalArgumentException if template not found, or a variable is missing in strict mode
      */
     public String render(String templateName, Map<String, String> variables) {
         return get(templateName)
                 .orElseThrow(() -> new IllegalArgumentException(ValidationMessages.TEMPLATE_NOT_FOUND + templateName))
                 .render(variables);
     }
+
+    /**
+     * Renders the most specific variant of a template for a locale.
+     *
+     * @throws IllegalArgumentException if no variant is found, or a variable is missing in strict mode
+     * @see #get(String, Locale)
+     */
+    public String render(String templateName, Locale locale, Map<String, String> variables) {
+        return get(templateName, locale)
+                .orElseThrow(() -> new IllegalArgumentException(ValidationMessages.TEMPLATE_NOT_FOUND + templateName))
+                .render(variables);
+    }
 }
@@ -4,8 +4,9 @@ package com.nova.notifications.common;
  * Constants for notification error source categories.
  * <p>
  * Defines the error source identifiers used in {@link com.nova.notifications.domain.result.NotificationResult}
- * to categorize failures. These constants ensure consistency between error creation
- * and error checking across the library (e.g., retry logic skips VALIDATION errors).
+ * to label failures for logs and display. Control flow (retry, dead-lettering) uses the
+ * structured {@link com.nova.notifications.domain.result.ErrorCategory} instead of
+ * comparing these strings.
  * </p>
  */
 public final class ErrorSource {
@@ -22,6 +23,12 @@ public final class ErrorSource {
     /** Unexpected system errors (runtime exceptions, thread issues) */
     public static final String SYSTEM = "SYSTEM";
 
+    /** Recipient on the suppression list - never sent, should NOT be retried */
+    public static final String SUPPRESSION = "SUPPRESSION";
+
+    /** Recipient reached a frequency cap - not sent, should NOT be retried */
+    public static final String FREQUENCY_CAP = "FREQUENCY_CAP";
+
     private ErrorSource() {
         // Utility class - prevent instantiation
     }
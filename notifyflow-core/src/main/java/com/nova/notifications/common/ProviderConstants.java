@@ -68,6 +68,24 @@ public final class ProviderConstants {
         private Vonage() {}
     }
 
+    // ========== SMS Routing ==========
+
+    public static final class SmsRouting {
+        public static final String PROVIDER_NAME = "SmsRouter";
+        public static final String REGION_TABLE = "e164-regions.txt";
+        public static final String REGION_TABLE_MISSING = "Bundled E.164 region table not found: ";
+        public static final String REGION_TABLE_INVALID = "Invalid line %d in E.164 region table: %s";
+        public static final String PROVIDER_REQUIRED = "SMS route provider must not be null";
+        public static final String DEFAULT_PROVIDER_REQUIRED = "SMS routes need a default SMS provider; configure withSms first";
+        public static final String DESTINATIONS_REQUIRED = "SMS route needs at least one destination";
+        public static final String UNKNOWN_DESTINATION = "Unknown SMS route destination (expected an ISO region or a +prefix): ";
+        public static final String DUPLICATE_DESTINATION = "SMS route destination is routed twice: ";
+        public static final String RATE_INVALID = "SMS route rate must be >= 0 (0 means unlimited)";
+        public static final String RATE_LIMITED = "SMS route via %s is over its limit of %d per second";
+
+        private SmsRouting() {}
+    }
+
     // ========== FCM ==========
 
     public static final class Fcm {
@@ -1,5 +1,8 @@
 package com.nova.notifications.common;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+
 /**
  * Utility class for security-related operations across the library.
  * <p>
@@ -72,4 +75,22 @@ public final class SecurityUtils {
                 ? content.substring(0, maxLength) + MASK_ELLIPSIS
                 : content;
     }
+
+    /**
+     * Truncates encoded content for safe logging, decoding only its first bytes.
+     *
+     * @param content the encoded content, from its position to its limit (left unchanged)
+     * @param charset the charset the content is encoded in
+     * @return truncated content with ellipsis, or empty string if null
+     */
+    public static String truncateForLog(ByteBuffer content, Charset charset) {
+        if (content == null) return "";
+        var head = content.duplicate();
+        // No common charset needs more than 4 bytes per character
+        head.limit(head.position() + Math.min(head.remaining(), DEFAULT_MAX_LOG_LENGTH * 4 + 4));
+        String decoded = charset.decode(head).toString();
+        return decoded.length() > DEFAULT_MAX_LOG_LENGTH
+                ? decoded.substring(0, DEFAULT_MAX_LOG_LENGTH) + MASK_ELLIPSIS
+                : decoded;
+    }
 }
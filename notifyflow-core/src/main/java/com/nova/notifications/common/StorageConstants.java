@@ -0,0 +1,125 @@
+package com.nova.notifications.common;
+
+/**
+ * Constants for the on-disk stores (file names, default sizes, error messages).
+ * <p>
+ * Groups all persistence-related constants to avoid magic strings and numbers
+ * in the store implementations. Each inner class corresponds to a specific store.
+ * </p>
+ */
+public final class StorageConstants {
+
+    private StorageConstants() {
+        // Utility class - prevent instantiation
+    }
+
+    // ========== Shared ==========
+
+    public static final String CORRUPT_RECORD = "Corrupt or truncated record";
+    public static final String UNSUPPORTED_FORMAT_VERSION = "Unsupported record format version: ";
+    public static final String UNKNOWN_NOTIFICATION_TYPE = "Unknown notification type tag: ";
+    public static final String DIRECTORY_REQUIRED = "Storage directory must not be null";
+    public static final String STORE_CLOSED = "Store is closed";
+    public static final String SEGMENT_SIZE_INVALID = "Segment size must be positive";
+    public static final String UNKNOWN_RECORD_ID = "Unknown record id: ";
+
+    // ========== Retry Store ==========
+
+    public static final class RetryStore {
+        public static final String SEGMENT_PREFIX = "retry-";
+        public static final String SEGMENT_SUFFIX = ".log";
+        public static final long DEFAULT_SEGMENT_BYTES = 16L * 1024 * 1024;
+        public static final int DEFAULT_RECOVERY_RATE_PER_SECOND = 100;
+        public static final String OPEN_FAILED = "Failed to open retry store at ";
+        public static final String RECOVERY_RATE_INVALID = "Recovery rate must be at least 1 per second";
+
+        private RetryStore() {}
+    }
+
+    // ========== Dead Letters ==========
+
+    public static final class DeadLetters {
+        public static final String SEGMENT_PREFIX = "dead-letters-";
+        public static final String SEGMENT_SUFFIX = ".seg";
+        public static final int DEFAULT_SEGMENT_BYTES = 64 * 1024 * 1024;
+        public static final int DEFAULT_REPLAY_RATE_PER_SECOND = 50;
+        public static final String OPEN_FAILED = "Failed to open dead-letter store at ";
+        public static final String REPLAY_RATE_INVALID = "Replay rate must be at least 1 per second";
+        public static final String NOT_CONFIGURED = "No dead-letter store configured - use withDeadLetters(...)";
+
+        private DeadLetters() {}
+    }
+
+    // ========== Outbox ==========
+
+    public static final class Outbox {
+        public static final String SEGMENT_PREFIX = "outbox-";
+        public static final String SEGMENT_SUFFIX = ".wal";
+        public static final int DEFAULT_SEGMENT_BYTES = 64 * 1024 * 1024;
+        public static final long DEFAULT_CHECKPOINT_INTERVAL_MILLIS = 1000;
+        public static final String OPEN_FAILED = "Failed to open outbox at ";
+        public static final String CHECKPOINT_INTERVAL_INVALID = "Checkpoint interval must be positive";
+
+        private Outbox() {}
+    }
+
+    // ========== Delivery Status ==========
+
+    public static final class DeliveryStatus {
+        public static final String SEGMENT_PREFIX = "status-";
+        public static final String SEGMENT_SUFFIX = ".log";
+        public static final int DEFAULT_SEGMENT_BYTES = 64 * 1024 * 1024;
+        public static final long DEFAULT_EXPECTED_ENTRIES = 1L << 20;
+        public static final String OPEN_FAILED = "Failed to open delivery status store at ";
+        public static final String NOTIFICATION_ID_REQUIRED = "notificationId must not be null or blank";
+        public static final String STATUS_REQUIRED = "status must not be null";
+
+        private DeliveryStatus() {}
+    }
+
+    // ========== Schedule ==========
+
+    public static final class Schedule {
+        public static final String BUCKET_PREFIX = "schedule-";
+        public static final String BUCKET_SUFFIX = ".bkt";
+        public static final int DEFAULT_LOOKAHEAD_MINUTES = 2;
+        public static final int MAX_OPEN_BUCKETS = 64;
+        public static final String OPEN_FAILED = "Failed to open schedule store at ";
+        public static final String BUCKET_FULL = "Schedule bucket is full for minute ";
+        public static final String LOOKAHEAD_INVALID = "Lookahead must be at least 1 minute";
+        public static final String DUE_AT_REQUIRED = "dueAt must not be null";
+        public static final String NOT_CONFIGURED = "No scheduler configured - use withScheduledDelivery(...)";
+
+        private Schedule() {}
+    }
+
+    // ========== Event Journal ==========
+
+    public static final class EventJournal {
+        public static final String SEGMENT_PREFIX = "events-";
+        public static final String SEGMENT_SUFFIX = ".jnl";
+        public static final int DEFAULT_SEGMENT_BYTES = 64 * 1024 * 1024;
+        public static final int INDEX_INTERVAL = 4096;
+        public static final String OPEN_FAILED = "Failed to open event journal at ";
+        public static final String RANGE_REQUIRED = "Replay range bounds must not be null";
+        public static final String CUTOFF_REQUIRED = "Retention cutoff must not be null";
+
+        private EventJournal() {}
+    }
+
+    // ========== Suppression List ==========
+
+    public static final class Suppression {
+        public static final String INDEX_SUFFIX = ".idx";
+        public static final String TEMP_SUFFIX = ".tmp";
+        public static final int MAGIC = 0x4E46534C;
+        public static final int FORMAT_VERSION = 1;
+        public static final int BLOOM_BITS_PER_ENTRY = 10;
+        public static final int BLOOM_HASH_FUNCTIONS = 7;
+        public static final String SOURCE_REQUIRED = "Suppression list file must not be null";
+        public static final String LOAD_FAILED = "Failed to load suppression list from ";
+        public static final String TOO_LARGE = "Suppression list has too many entries for one mapped region: ";
+
+        private Suppression() {}
+    }
+}
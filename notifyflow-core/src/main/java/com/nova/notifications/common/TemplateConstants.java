@@ -11,6 +11,20 @@ public final class TemplateConstants {
     /** Closing delimiter for template placeholders */
     public static final String PLACEHOLDER_SUFFIX = "}}";
 
+    /** Separates the variable name from the escaping filter, as in {@code {{name|html}}} */
+    public static final String FILTER_SEPARATOR = "|";
+
+    // ========== Error Messages ==========
+
+    public static final String TEMPLATE_REQUIRED = "Template content must not be null";
+    public static final String MODE_REQUIRED = "Template mode must not be null";
+    public static final String ESCAPING_REQUIRED = "Template escaping must not be null";
+    public static final String UNKNOWN_FILTER = "Unknown placeholder filter: ";
+    public static final String MISSING_VARIABLE = "Missing variable '%s' for template '%s'";
+    public static final String SEGMENTS_MISMATCH = "Compiled template needs one more literal than slots, and one escaping per slot";
+    public static final String DIRECTORY_REQUIRED = "Template directory must not be null";
+    public static final String DIRECTORY_OPEN_FAILED = "Failed to watch template directory ";
+
     private TemplateConstants() {
         // Utility class - prevent instantiation
     }
@@ -55,12 +55,39 @@ public final class ValidationMessages {
     public static final String UNEXPECTED_ERROR_PREFIX = "Unexpected error: ";
     public static final String ASYNC_ERROR_PREFIX = "Async execution failed: ";
     public static final String TEMPLATE_NOT_FOUND = "Template not found: ";
+    public static final String CHANNEL_CANNOT_RENDER = "Channel %s cannot send template-rendered bodies";
     public static final String AT_LEAST_ONE_CHANNEL = "At least one notification channel must be configured";
+    public static final String RECIPIENT_SUPPRESSED = "Recipient is on the suppression list";
 
     // ========== Retry Messages ==========
 
     public static final String MAX_ATTEMPTS_INVALID = "maxAttempts must be at least 1";
     public static final String BACKOFF_MULTIPLIER_INVALID = "backoffMultiplier must be >= 1.0";
+    public static final String JITTER_STRATEGY_NULL = "jitter must not be null";
+    public static final String RETRY_RATIO_INVALID = "retryRatio must be >= 0";
+    public static final String MIN_RETRIES_PER_SECOND_INVALID = "minRetriesPerSecond must be >= 0";
+    public static final String RETRY_BUDGET_WINDOW_INVALID = "Retry budget window must be positive";
+
+    // ========== Event Publisher Messages ==========
+
+    public static final String EVENT_BUFFER_SIZE_INVALID = "Event buffer size must be a power of two of at least 2: ";
+    public static final String WAIT_STRATEGY_NULL = "waitStrategy must not be null";
+    public static final String MUTABLE_EVENTS_REQUIRE_ASYNC = "Mutable event listeners require withAsyncEvents()";
+    public static final String BATCH_LISTENER_NULL = "BatchEventListener must not be null";
+    public static final String EVENT_BATCH_SIZE_INVALID = "Event batch size must be at least 1: ";
+    public static final String EVENT_BATCH_DELAY_INVALID = "Event batch delay must be positive: ";
+    public static final String EVENT_LISTENER_NULL = "EventListener must not be null";
+    public static final String OVERFLOW_POLICY_NULL = "overflowPolicy must not be null";
+    public static final String LISTENER_QUEUE_CAPACITY_INVALID = "Listener queue capacity must be at least 1: ";
+
+    // ========== Frequency Cap Messages ==========
+
+    public static final String FREQUENCY_CAP_REACHED = "Frequency cap '%s' reached: at most %d per %s";
+    public static final String FREQUENCY_CAP_NAME_REQUIRED = "Frequency cap name is required";
+    public static final String FREQUENCY_CAP_LIMIT_INVALID = "Frequency cap limit must be at least 1";
+    public static final String FREQUENCY_CAP_WINDOW_INVALID = "Frequency cap window must be at least 1 second";
+    public static final String FREQUENCY_CAP_SKETCH_SIZE_INVALID = "Sketch memory must be between 4 KiB and 8 GiB";
+    public static final String FREQUENCY_CAP_SKETCH_LIMIT_INVALID = "Approximate frequency caps allow at most %d per window";
 
     private ValidationMessages() {
         // Utility class - prevent instantiation
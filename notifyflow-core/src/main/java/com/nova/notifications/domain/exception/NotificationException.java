@@ -17,4 +17,13 @@ public sealed class NotificationException extends RuntimeException
     public NotificationException(String message, Throwable cause) {
         super(message, cause);
     }
+
+    /**
+     * Creates an exception that optionally skips stack trace capture.
+     * Intended for expected failures raised at high rates, where filling
+     * in the stack trace would dominate the cost of the failure.
+     */
+    protected NotificationException(String message, Throwable cause, boolean writableStackTrace) {
+        super(message, cause, true, writableStackTrace);
+    }
 }
@@ -1,27 +1,105 @@
 package com.nova.notifications.domain.exception;
 
+import com.nova.notifications.domain.result.ErrorCategory;
+
+import java.time.Duration;
+
 /**
  * Exception thrown when a provider fails to send a notification.
  * <p>
  * Wraps the underlying provider error with the provider name
- * for clear identification of which integration failed.
+ * for clear identification of which integration failed, and classifies
+ * it with an {@link ErrorCategory} so retry logic knows whether another
+ * attempt can succeed.
+ * </p>
+ * <p>
+ * The static factories create exceptions for expected provider answers
+ * (throttling, bad credentials, rejected recipient). They skip stack trace
+ * capture, which keeps failures cheap during outage storms.
  * </p>
  */
 public final class ProviderException extends NotificationException {
 
     private final String providerName;
+    private final ErrorCategory category;
+    private final Duration retryAfter;
 
     public ProviderException(String providerName, String message) {
-        super("[" + providerName + "] " + message);
-        this.providerName = providerName;
+        this(providerName, message, null);
     }
 
     public ProviderException(String providerName, String message, Throwable cause) {
         super("[" + providerName + "] " + message, cause);
         this.providerName = providerName;
+        this.category = ErrorCategory.TRANSIENT;
+        this.retryAfter = null;
+    }
+
+    /**
+     * Creates a classified provider exception.
+     *
+     * @param providerName      the provider that failed
+     * @param category          the failure classification
+     * @param message           human-readable description
+     * @param retryAfter        provider hint for when to retry (may be null)
+     * @param cause             original exception (may be null)
+     * @param captureStackTrace false to skip stack trace capture for expected failures
+     */
+    public ProviderException(String providerName, ErrorCategory category, String message,
+                             Duration retryAfter, Throwable cause, boolean captureStackTrace) {
+        super("[" + providerName + "] " + message, cause, captureStackTrace);
+        this.providerName = providerName;
+        this.category = category;
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * Provider throttled the request; retry no earlier than {@code retryAfter}.
+     */
+    public static ProviderException rateLimited(String providerName, String message, Duration retryAfter) {
+        return new ProviderException(providerName, ErrorCategory.RATE_LIMITED, message, retryAfter, null, false);
+    }
+
+    /**
+     * Provider rejected the configured credentials.
+     */
+    public static ProviderException authenticationFailed(String providerName, String message) {
+        return new ProviderException(providerName, ErrorCategory.AUTHENTICATION, message, null, null, false);
+    }
+
+    /**
+     * Provider rejected the recipient (unknown number, unregistered token, bounced address).
+     */
+    public static ProviderException invalidRecipient(String providerName, String message) {
+        return new ProviderException(providerName, ErrorCategory.INVALID_RECIPIENT, message, null, null, false);
+    }
+
+    /**
+     * Provider reported a temporary failure that may succeed on retry.
+     */
+    public static ProviderException transientFailure(String providerName, String message) {
+        return new ProviderException(providerName, ErrorCategory.TRANSIENT, message, null, null, false);
+    }
+
+    /**
+     * Provider reported a final failure that will not succeed on retry.
+     */
+    public static ProviderException permanent(String providerName, String message) {
+        return new ProviderException(providerName, ErrorCategory.PERMANENT, message, null, null, false);
     }
 
     public String getProviderName() {
         return providerName;
     }
+
+    public ErrorCategory getCategory() {
+        return category;
+    }
+
+    /**
+     * @return the provider's retry-after hint, or null if none was given
+     */
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
 }
@@ -0,0 +1,55 @@
+package com.nova.notifications.domain.result;
+
+/**
+ * Structured classification of a failed notification send.
+ * <p>
+ * Replaces string matching on {@link NotificationResult#errorSource()} for control
+ * flow: retry logic asks the category whether another attempt can succeed instead
+ * of comparing error source labels.
+ * </p>
+ */
+public enum ErrorCategory {
+
+    /** Invalid notification data; fails again on retry */
+    VALIDATION(false),
+
+    /** Channel missing or unavailable; fails again until reconfigured */
+    CONFIGURATION(false),
+
+    /** Unexpected runtime error inside the library */
+    SYSTEM(true),
+
+    /** Temporary provider failure (timeout, 5xx, connection reset) */
+    TRANSIENT(true),
+
+    /** Provider throttled the request; see {@link NotificationResult#retryAfter()} */
+    RATE_LIMITED(true),
+
+    /** Provider rejected the credentials */
+    AUTHENTICATION(false),
+
+    /** Provider rejected the recipient (unknown number, unregistered token, bounced address) */
+    INVALID_RECIPIENT(false),
+
+    /** Any other failure the provider reported as final */
+    PERMANENT(false),
+
+    /** Recipient is on the suppression list (bounced, unsubscribed); the provider was not called */
+    SUPPRESSED(false),
+
+    /** Recipient already got as many notifications as a frequency cap allows; the provider was not called */
+    FREQUENCY_CAPPED(false);
+
+    private final boolean retryable;
+
+    ErrorCategory(boolean retryable) {
+        this.retryable = retryable;
+    }
+
+    /**
+     * @return true if a later attempt of the same notification may succeed
+     */
+    public boolean isRetryable() {
+        return retryable;
+    }
+}
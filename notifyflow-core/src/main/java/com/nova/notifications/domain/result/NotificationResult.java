@@ -1,7 +1,9 @@
 package com.nova.notifications.domain.result;
 
 import com.nova.notifications.common.ErrorSource;
+import com.nova.notifications.domain.exception.ProviderException;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Optional;
 
@@ -12,6 +14,11 @@ import java.util.Optional;
  * enabling safe batch processing where one failure doesn't abort others.
  * Provides detailed error information including source, message, and cause.
  * </p>
+ * <p>
+ * Failures carry a structured {@link ErrorCategory}; code that decides what to do
+ * with a failure (retry, dead-letter, alert) should use {@link #errorCategory()}
+ * and {@link #isRetryable()} rather than parsing {@link #errorSource()}.
+ * </p>
  *
  * @param successful      whether the notification was sent successfully
  * @param notificationId unique identifier for tracking (provider-generated or internal)
@@ -19,6 +26,9 @@ import java.util.Optional;
  * @param errorMessage human-readable description of what went wrong
  * @param cause        original exception if available
  * @param timestamp    when the result was created
+ * @param errorCategory structured failure classification (null on success)
+ * @param providerName name of the provider that failed (null unless a provider error)
+ * @param retryAfter   provider hint for the earliest retry (null if none)
  */
 public record NotificationResult(
         boolean successful,
@@ -26,49 +36,146 @@ public record NotificationResult(
         String errorSource,
         String errorMessage,
         Throwable cause,
-        Instant timestamp
+        Instant timestamp,
+        ErrorCategory errorCategory,
+        String providerName,
+        Duration retryAfter
 ) {
 
+    /**
+     * Creates a result from the original six components, for code written before
+     * results were classified.
+     * <p>
+     * The {@link ErrorCategory} is derived from {@code errorSource}; provider errors
+     * count as transient and unknown sources as system errors. {@code providerName}
+     * and {@code retryAfter} are null.
+     * </p>
+     */
+    public NotificationResult(boolean successful, String notificationId, String errorSource,
+                              String errorMessage, Throwable cause, Instant timestamp) {
+        this(successful, notificationId, errorSource, errorMessage, cause, timestamp,
+                successful ? null : categoryOf(errorSource), null, null);
+    }
+
     /**
      * Creates a successful result with a notification ID.
      */
     public static NotificationResult success(String notificationId) {
-        return new NotificationResult(true, notificationId, null, null, null, Instant.now());
+        return new NotificationResult(true, notificationId, null, null, null, Instant.now(), null, null, null);
     }
 
     /**
      * Creates a successful result without a notification ID.
      */
     public static NotificationResult success() {
-        return new NotificationResult(true, null, null, null, null, Instant.now());
+        return success(null);
     }
 
     /**
      * Creates a failure result from a validation error.
      */
     public static NotificationResult validationError(String message) {
-        return new NotificationResult(false, null, ErrorSource.VALIDATION, message, null, Instant.now());
+        return failure(ErrorSource.VALIDATION, ErrorCategory.VALIDATION, message, null);
     }
 
     /**
      * Creates a failure result from a provider/sending error.
+     * <p>
+     * If the cause is a {@link ProviderException}, its classification and retry-after
+     * hint are carried over; otherwise the failure is treated as transient.
+     * </p>
      */
     public static NotificationResult providerError(String providerName, String message, Throwable cause) {
-        return new NotificationResult(false, null, ErrorSource.provider(providerName), message, cause, Instant.now());
+        if (cause instanceof ProviderException pe) {
+            return providerError(providerName, pe.getCategory(), message, pe.getRetryAfter(), cause);
+        }
+        return providerError(providerName, ErrorCategory.TRANSIENT, message, null, cause);
+    }
+
+    /**
+     * Creates a failure result from a classified provider exception.
+     */
+    public static NotificationResult providerError(ProviderException exception) {
+        return providerError(exception.getProviderName(), exception.getCategory(), exception.getMessage(),
+                exception.getRetryAfter(), exception);
+    }
+
+    /**
+     * Creates a classified failure result from a provider error.
+     *
+     * @param providerName the provider that failed
+     * @param category     the failure classification
+     * @param message      human-readable description
+     * @param retryAfter   provider hint for the earliest retry (may be null)
+     * @param cause        original exception (may be null)
+     */
+    public static NotificationResult providerError(String providerName, ErrorCategory category, String message,
+                                                   Duration retryAfter, Throwable cause) {
+        return new NotificationResult(false, null, ErrorSource.provider(providerName), message, cause,
+                Instant.now(), category, providerName, retryAfter);
+    }
+
+    /**
+     * Creates a failure result for a provider that throttled the request.
+     */
+    public static NotificationResult rateLimited(String providerName, String message, Duration retryAfter) {
+        return providerError(providerName, ErrorCategory.RATE_LIMITED, message, retryAfter, null);
     }
 
     /**
      * Creates a failure result from a configuration error.
      */
     public static NotificationResult configurationError(String message) {
-        return new NotificationResult(false, null, ErrorSource.CONFIGURATION, message, null, Instant.now());
+        return failure(ErrorSource.CONFIGURATION, ErrorCategory.CONFIGURATION, message, null);
+    }
+
+    /**
+     * Creates a failure result for a recipient on the suppression list.
+     */
+    public static NotificationResult suppressed(String message) {
+        return failure(ErrorSource.SUPPRESSION, ErrorCategory.SUPPRESSED, message, null);
+    }
+
+    /**
+     * Creates a failure result for a recipient that reached a frequency cap.
+     */
+    public static NotificationResult frequencyCapped(String message) {
+        return failure(ErrorSource.FREQUENCY_CAP, ErrorCategory.FREQUENCY_CAPPED, message, null);
     }
 
     /**
      * Creates a failure result from an unexpected system error.
      */
     public static NotificationResult systemError(String message, Throwable cause) {
-        return new NotificationResult(false, null, ErrorSource.SYSTEM, message, cause, Instant.now());
+        return failure(ErrorSource.SYSTEM, ErrorCategory.SYSTEM, message, cause);
+    }
+
+    private static NotificationResult failure(String errorSource, ErrorCategory category,
+                                              String message, Throwable cause) {
+        return new NotificationResult(false, null, errorSource, message, cause, Instant.now(), category, null, null);
+    }
+
+    private static ErrorCategory categoryOf(String errorSource) {
+        if (errorSource == null) {
+            return ErrorCategory.SYSTEM;
+        }
+        if (errorSource.startsWith(ErrorSource.PROVIDER_PREFIX)) {
+            return ErrorCategory.TRANSIENT;
+        }
+        return switch (errorSource) {
+            case ErrorSource.VALIDATION -> ErrorCategory.VALIDATION;
+            case ErrorSource.CONFIGURATION -> ErrorCategory.CONFIGURATION;
+            case ErrorSource.SUPPRESSION -> ErrorCategory.SUPPRESSED;
+            case ErrorSource.FREQUENCY_CAP -> ErrorCategory.FREQUENCY_CAPPED;
+            default -> ErrorCategory.SYSTEM;
+        };
+    }
+
+    /**
+     * @return true if this is a failure that a later attempt may turn into a success
+     */
+    public boolean isRetryable() {
+        return !successful && errorCategory != null && errorCategory.isRetryable();
     }
 
     public Optional<String> getNotificationId() {
@@ -86,4 +193,16 @@ public record NotificationResult(
     public Optional<Throwable> getCause() {
         return Optional.ofNullable(cause);
     }
+
+    public Optional<ErrorCategory> getErrorCategory() {
+        return Optional.ofNullable(errorCategory);
+    }
+
+    public Optional<String> getProviderName() {
+        return Optional.ofNullable(providerName);
+    }
+
+    public Optional<Duration> getRetryAfter() {
+        return Optional.ofNullable(retryAfter);
+    }
 }
@@ -3,6 +3,7 @@ package com.nova.notifications.infrastructure.channel;
 import com.nova.notifications.application.port.NotificationChannel;
 import com.nova.notifications.application.port.NotificationProvider;
 import com.nova.notifications.application.port.NotificationValidator;
+import com.nova.notifications.domain.exception.ProviderException;
 import com.nova.notifications.domain.model.ChannelType;
 import com.nova.notifications.domain.model.Notification;
 import com.nova.notifications.domain.result.NotificationResult;
@@ -10,6 +11,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.List;
+import java.util.function.Supplier;
 
 /**
  * Abstract base class implementing the Template Method pattern for all channels.
@@ -43,14 +45,29 @@ public abstract class AbstractNotificationChannel<T extends Notification> implem
         // Step 1: Validate
         List<String> errors = validator.validate(notification);
         if (!errors.isEmpty()) {
-            String joined = String.join("; ", errors);
-            log.warn("{} validation failed: {}", getChannelType(), joined);
-            return NotificationResult.validationError(joined);
+            return rejected(errors);
         }
 
         // Step 2: Send via provider
+        return deliver(notification, () -> provider.send(notification));
+    }
+
+    /**
+     * Turns validation errors into a failure result.
+     */
+    protected final NotificationResult rejected(List<String> errors) {
+        String joined = String.join("; ", errors);
+        log.warn("{} validation failed: {}", getChannelType(), joined);
+        return NotificationResult.validationError(joined);
+    }
+
+    /**
+     * Performs a provider call for a validated notification, logging the outcome and
+     * converting provider exceptions into failure results.
+     */
+    protected final NotificationResult deliver(T notification, Supplier<NotificationResult> providerCall) {
         try {
-            NotificationResult result = provider.send(notification);
+            NotificationResult result = providerCall.get();
 
             // Step 3: Log based on actual result
             if (result.successful()) {
@@ -63,6 +80,10 @@ public abstract class AbstractNotificationChannel<T extends Notification> implem
                         notification.recipient(), result.errorMessage());
             }
             return result;
+        } catch (ProviderException e) {
+            log.warn("{} provider '{}' reported {} failure: {}",
+                    getChannelType(), provider.getProviderName(), e.getCategory(), e.getMessage());
+            return NotificationResult.providerError(e);
         } catch (Exception e) {
             log.error("Unexpected error sending {} via '{}': {}",
                     getChannelType(), provider.getProviderName(), e.getMessage());
@@ -70,6 +91,15 @@ public abstract class AbstractNotificationChannel<T extends Notification> implem
         }
     }
 
+    protected NotificationProvider<T> provider() {
+        return provider;
+    }
+
+    @Override
+    public NotificationValidator<T> validator() {
+        return validator;
+    }
+
     @Override
     public boolean isAvailable() {
         return true;
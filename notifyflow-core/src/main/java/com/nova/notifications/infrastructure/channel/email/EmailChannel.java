@@ -2,15 +2,32 @@ package com.nova.notifications.infrastructure.channel.email;
 
 import com.nova.notifications.application.port.NotificationProvider;
 import com.nova.notifications.application.port.NotificationValidator;
+import com.nova.notifications.application.port.RenderedBodyProvider;
+import com.nova.notifications.application.port.RenderingChannel;
+import com.nova.notifications.application.template.NotificationTemplate;
+import com.nova.notifications.common.ValidationMessages;
 import com.nova.notifications.domain.model.ChannelType;
 import com.nova.notifications.domain.model.EmailNotification;
+import com.nova.notifications.domain.result.NotificationResult;
 import com.nova.notifications.infrastructure.channel.AbstractNotificationChannel;
+import com.nova.notifications.infrastructure.channel.email.validation.EmailValidator;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Email notification channel.
  * Inherits the Template Method flow from {@link AbstractNotificationChannel}.
+ * <p>
+ * Template-rendered emails are encoded as UTF-8 straight into the buffer handed to a
+ * {@link RenderedBodyProvider}; other providers receive a rendered String body.
+ * </p>
  */
-public class EmailChannel extends AbstractNotificationChannel<EmailNotification> {
+public class EmailChannel extends AbstractNotificationChannel<EmailNotification>
+        implements RenderingChannel<EmailNotification> {
 
     public EmailChannel(NotificationProvider<EmailNotification> provider,
                         NotificationValidator<EmailNotification> validator) {
@@ -21,4 +38,32 @@ public class EmailChannel extends AbstractNotificationChannel<EmailNotification>
     public ChannelType getChannelType() {
         return ChannelType.EMAIL;
     }
+
+    @Override
+    public NotificationResult sendRendered(EmailNotification envelope, NotificationTemplate template,
+                                           Map<String, String> variables) {
+        // The body comes from the template, so the envelope may leave it empty
+        long errors = validator().check(envelope) & ~EmailValidator.BODY_REQUIRED;
+        if (errors != 0) {
+            var messages = new ArrayList<>(validator().describe(envelope, errors));
+            // Validators without their own codes describe every error, the body included
+            messages.remove(ValidationMessages.EMAIL_BODY_REQUIRED);
+            if (!messages.isEmpty()) {
+                return rejected(messages);
+            }
+        }
+
+        try {
+            if (provider() instanceof RenderedBodyProvider<EmailNotification> rendered) {
+                ByteBuffer body = template.renderToBuffer(variables, StandardCharsets.UTF_8);
+                return deliver(envelope, () -> rendered.sendRendered(envelope, body, StandardCharsets.UTF_8));
+            }
+            var notification = new EmailNotification(envelope.from(), envelope.to(), envelope.subject(),
+                    template.render(variables), envelope.isHtml(), envelope.cc(), envelope.bcc());
+            return deliver(notification, () -> provider().send(notification));
+        } catch (IllegalArgumentException e) {
+            // Strict template with a missing variable
+            return rejected(List.of(e.getMessage()));
+        }
+    }
 }
@@ -1,6 +1,6 @@
 package com.nova.notifications.infrastructure.channel.email.provider;
 
-import com.nova.notifications.application.port.NotificationProvider;
+import com.nova.notifications.application.port.RenderedBodyProvider;
 import com.nova.notifications.domain.exception.ProviderException;
 import com.nova.notifications.domain.model.EmailNotification;
 import com.nova.notifications.domain.result.NotificationResult;
@@ -9,6 +9,8 @@ import com.nova.notifications.common.SecurityUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
 import java.util.UUID;
 
 /**
@@ -21,7 +23,7 @@ import java.util.UUID;
  * Credentials are never logged or exposed in any output.
  * </p>
  */
-public class MailgunProvider implements NotificationProvider<EmailNotification> {
+public class MailgunProvider implements RenderedBodyProvider<EmailNotification> {
 
     private static final Logger log = LoggerFactory.getLogger(MailgunProvider.class);
 
@@ -48,6 +50,20 @@ public class MailgunProvider implements NotificationProvider<EmailNotification>
 
     @Override
     public NotificationResult send(EmailNotification notification) {
+        return post(notification, SecurityUtils.truncateForLog(notification.body()));
+    }
+
+    /**
+     * Sends an email whose body was rendered straight into a buffer; the buffer would be
+     * written to the request as the content value without being decoded into a String.
+     */
+    @Override
+    public NotificationResult sendRendered(EmailNotification envelope, ByteBuffer body, Charset charset) {
+        log.info("[Mailgun] Streaming pre-rendered body: {} bytes ({})", body.remaining(), charset);
+        return post(envelope, SecurityUtils.truncateForLog(body, charset));
+    }
+
+    private NotificationResult post(EmailNotification notification, String loggedBody) {
         try {
             String contentField = notification.isHtml() ? ProviderConstants.Mailgun.CONTENT_FIELD_HTML : ProviderConstants.Mailgun.CONTENT_FIELD_TEXT;
 
@@ -58,7 +74,7 @@ public class MailgunProvider implements NotificationProvider<EmailNotification>
                     notification.to(),
                     notification.subject(),
                     contentField,
-                    SecurityUtils.truncateForLog(notification.body()));
+                    loggedBody);
 
             if (!notification.cc().isEmpty()) {
                 log.info("[Mailgun] Form data: cc={}", String.join(",", notification.cc()));
@@ -1,6 +1,7 @@
 package com.nova.notifications.infrastructure.channel.email.provider;
 
-import com.nova.notifications.application.port.NotificationProvider;
+import com.nova.notifications.application.port.RenderedBodyProvider;
+import com.nova.notifications.application.template.Escaping;
 import com.nova.notifications.domain.exception.ProviderException;
 import com.nova.notifications.domain.model.EmailNotification;
 import com.nova.notifications.domain.result.NotificationResult;
@@ -9,6 +10,8 @@ import com.nova.notifications.common.SecurityUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
 import java.util.UUID;
 
 /**
@@ -16,13 +19,14 @@ import java.util.UUID;
  * <p>
  * Simulates the SendGrid v3 Mail Send API ({@code POST /v3/mail/send}).
  * Logs the JSON structure that would be sent to the real API, including
- * personalizations, sender, subject, and content blocks.
+ * personalizations, sender, subject, and content blocks, with every value
+ * JSON-escaped as the real request body would be.
  * </p>
  * <p>
  * Credentials are never logged or exposed in any output.
  * </p>
  */
-public class SendGridProvider implements NotificationProvider<EmailNotification> {
+public class SendGridProvider implements RenderedBodyProvider<EmailNotification> {
 
     private static final Logger log = LoggerFactory.getLogger(SendGridProvider.class);
 
@@ -43,6 +47,20 @@ public class SendGridProvider implements NotificationProvider<EmailNotification>
 
     @Override
     public NotificationResult send(EmailNotification notification) {
+        return post(notification, SecurityUtils.truncateForLog(notification.body()));
+    }
+
+    /**
+     * Sends an email whose body was rendered straight into a buffer; the buffer would be
+     * written to the request as the content value without being decoded into a String.
+     */
+    @Override
+    public NotificationResult sendRendered(EmailNotification envelope, ByteBuffer body, Charset charset) {
+        log.info("[SendGrid] Streaming pre-rendered body: {} bytes ({})", body.remaining(), charset);
+        return post(envelope, SecurityUtils.truncateForLog(body, charset));
+    }
+
+    private NotificationResult post(EmailNotification notification, String loggedBody) {
         try {
             String contentType = notification.isHtml() ? ProviderConstants.CONTENT_TYPE_HTML : ProviderConstants.CONTENT_TYPE_PLAIN;
 
@@ -55,13 +73,13 @@ public class SendGridProvider implements NotificationProvider<EmailNotification>
                             "\"subject\": \"{}\", " +
                             "\"content\": [{{\"type\": \"{}\", \"value\": \"{}\"}}]" +
                             "}}",
-                    notification.to(),
+                    Escaping.JSON.escape(notification.to()),
                     formatCcList(notification),
                     formatBccList(notification),
-                    notification.from(),
-                    notification.subject(),
+                    Escaping.JSON.escape(notification.from()),
+                    Escaping.JSON.escape(notification.subject()),
                     contentType,
-                    SecurityUtils.truncateForLog(notification.body()));
+                    Escaping.JSON.escape(loggedBody));
 
             String messageId = ProviderConstants.SendGrid.MESSAGE_ID_PREFIX + UUID.randomUUID();
             log.info("[SendGrid] Response: 202 Accepted, Message-ID: {}", messageId);
@@ -85,7 +103,7 @@ public class SendGridProvider implements NotificationProvider<EmailNotification>
         var sb = new StringBuilder(", \"cc\": [");
         for (int i = 0; i < notification.cc().size(); i++) {
             if (i > 0) sb.append(", ");
-            sb.append("{\"email\": \"").append(notification.cc().get(i)).append("\"}");
+            sb.append("{\"email\": \"").append(Escaping.JSON.escape(notification.cc().get(i))).append("\"}");
         }
         sb.append("]");
         return sb.toString();
@@ -98,7 +116,7 @@ public class SendGridProvider implements NotificationProvider<EmailNotification>
         var sb = new StringBuilder(", \"bcc\": [");
         for (int i = 0; i < notification.bcc().size(); i++) {
             if (i > 0) sb.append(", ");
-            sb.append("{\"email\": \"").append(notification.bcc().get(i)).append("\"}");
+            sb.append("{\"email\": \"").append(Escaping.JSON.escape(notification.bcc().get(i))).append("\"}");
         }
         sb.append("]");
         return sb.toString();
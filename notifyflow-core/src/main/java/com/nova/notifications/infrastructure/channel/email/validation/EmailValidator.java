@@ -8,7 +8,6 @@ import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.regex.Pattern;
 
 /**
  * Validator for email notifications.
@@ -17,60 +16,168 @@ import java.util.regex.Pattern;
  * recipient address, subject, body, and optional CC/BCC lists.
  * All validation errors are collected and returned together.
  * </p>
+ * <p>
+ * Addresses are checked by a hand-written scanner rather than a regex, and errors are
+ * collected as a bitmask of the codes below, so validating a valid notification allocates
+ * nothing; messages are built only for a notification that fails.
+ * </p>
  */
 public class EmailValidator implements NotificationValidator<EmailNotification> {
 
     private static final Logger log = LoggerFactory.getLogger(EmailValidator.class);
 
-    private static final Pattern EMAIL_PATTERN =
-            Pattern.compile("^[A-Za-z0-9._%+-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}$");
+    public static final long RECIPIENT_REQUIRED = 1L;
+    public static final long RECIPIENT_INVALID = 1L << 1;
+    public static final long SENDER_REQUIRED = 1L << 2;
+    public static final long SENDER_INVALID = 1L << 3;
+    public static final long SUBJECT_REQUIRED = 1L << 4;
+    public static final long BODY_REQUIRED = 1L << 5;
+    public static final long CC_INVALID = 1L << 6;
+    public static final long BCC_INVALID = 1L << 7;
 
     @Override
     public List<String> validate(EmailNotification notification) {
         log.debug("Validating email notification to '{}'", notification.to());
 
-        var errors = new ArrayList<String>();
+        long errors = check(notification);
+        if (errors == 0) {
+            return List.of();
+        }
+        var messages = describe(notification, errors);
+        log.warn("Email validation failed with {} error(s)", messages.size());
+        return messages;
+    }
+
+    @Override
+    public long check(EmailNotification notification) {
+        long errors = 0;
 
         if (notification.to() == null || notification.to().isBlank()) {
-            errors.add(ValidationMessages.EMAIL_RECIPIENT_REQUIRED);
-        } else if (!isValidEmail(notification.to())) {
-            errors.add(ValidationMessages.EMAIL_RECIPIENT_INVALID_FORMAT + notification.to());
+            errors |= RECIPIENT_REQUIRED;
+        } else if (!isValidAddress(notification.to())) {
+            errors |= RECIPIENT_INVALID;
         }
 
         if (notification.from() == null || notification.from().isBlank()) {
-            errors.add(ValidationMessages.EMAIL_SENDER_REQUIRED);
-        } else if (!isValidEmail(notification.from())) {
-            errors.add(ValidationMessages.EMAIL_SENDER_INVALID_FORMAT + notification.from());
+            errors |= SENDER_REQUIRED;
+        } else if (!isValidAddress(notification.from())) {
+            errors |= SENDER_INVALID;
         }
 
         if (notification.subject() == null || notification.subject().isBlank()) {
-            errors.add(ValidationMessages.EMAIL_SUBJECT_REQUIRED);
+            errors |= SUBJECT_REQUIRED;
         }
 
         if (notification.body() == null || notification.body().isBlank()) {
-            errors.add(ValidationMessages.EMAIL_BODY_REQUIRED);
+            errors |= BODY_REQUIRED;
         }
 
-        for (String cc : notification.cc()) {
-            if (!isValidEmail(cc)) {
-                errors.add(ValidationMessages.EMAIL_CC_INVALID_FORMAT + cc);
-            }
+        if (firstInvalid(notification.cc()) >= 0) {
+            errors |= CC_INVALID;
+        }
+
+        if (firstInvalid(notification.bcc()) >= 0) {
+            errors |= BCC_INVALID;
+        }
+
+        return errors;
+    }
+
+    @Override
+    public List<String> describe(EmailNotification notification, long errors) {
+        if (errors == 0) {
+            return List.of();
+        }
+        var messages = new ArrayList<String>(Long.bitCount(errors));
+        if ((errors & RECIPIENT_REQUIRED) != 0) {
+            messages.add(ValidationMessages.EMAIL_RECIPIENT_REQUIRED);
+        }
+        if ((errors & RECIPIENT_INVALID) != 0) {
+            messages.add(ValidationMessages.EMAIL_RECIPIENT_INVALID_FORMAT + notification.to());
         }
+        if ((errors & SENDER_REQUIRED) != 0) {
+            messages.add(ValidationMessages.EMAIL_SENDER_REQUIRED);
+        }
+        if ((errors & SENDER_INVALID) != 0) {
+            messages.add(ValidationMessages.EMAIL_SENDER_INVALID_FORMAT + notification.from());
+        }
+        if ((errors & SUBJECT_REQUIRED) != 0) {
+            messages.add(ValidationMessages.EMAIL_SUBJECT_REQUIRED);
+        }
+        if ((errors & BODY_REQUIRED) != 0) {
+            messages.add(ValidationMessages.EMAIL_BODY_REQUIRED);
+        }
+        if ((errors & CC_INVALID) != 0) {
+            addInvalid(messages, ValidationMessages.EMAIL_CC_INVALID_FORMAT, notification.cc());
+        }
+        if ((errors & BCC_INVALID) != 0) {
+            addInvalid(messages, ValidationMessages.EMAIL_BCC_INVALID_FORMAT, notification.bcc());
+        }
+        return messages;
+    }
 
-        for (String bcc : notification.bcc()) {
-            if (!isValidEmail(bcc)) {
-                errors.add(ValidationMessages.EMAIL_BCC_INVALID_FORMAT + bcc);
+    // Indexed loops: no iterator per list on the common, valid path
+    private static int firstInvalid(List<String> addresses) {
+        for (int i = 0; i < addresses.size(); i++) {
+            if (!isValidAddress(addresses.get(i))) {
+                return i;
             }
         }
+        return -1;
+    }
 
-        if (!errors.isEmpty()) {
-            log.warn("Email validation failed with {} error(s)", errors.size());
+    private static void addInvalid(List<String> messages, String prefix, List<String> addresses) {
+        for (int i = firstInvalid(addresses); i < addresses.size(); i++) {
+            if (!isValidAddress(addresses.get(i))) {
+                messages.add(prefix + addresses.get(i));
+            }
         }
+    }
 
-        return errors;
+    /**
+     * Checks an address against {@code ^[A-Za-z0-9._%+-]+@[A-Za-z0-9.-]+\.[A-Za-z]{2,}$} in a
+     * single pass, without a regex engine: a non-empty local part, one {@code @}, and a domain
+     * whose last dot is followed by at least two letters.
+     *
+     * @param email the address to check, may be null
+     * @return true if the address has the accepted format
+     */
+    public static boolean isValidAddress(String email) {
+        if (email == null) {
+            return false;
+        }
+        int length = email.length();
+        int at = -1;
+        int lastDot = -1;
+        for (int i = 0; i < length; i++) {
+            char c = email.charAt(i);
+            if (isAsciiLetterOrDigit(c) || c == '.' || c == '-') {
+                if (c == '.' && at >= 0) {
+                    lastDot = i;
+                }
+            } else if (c == '@') {
+                if (at >= 0) {
+                    return false;
+                }
+                at = i;
+            } else if (at >= 0 || (c != '_' && c != '%' && c != '+')) {
+                return false;
+            }
+        }
+        // Local part and the domain before the last dot are non-empty; at least two TLD characters
+        if (at < 1 || lastDot < at + 2 || length - lastDot < 3) {
+            return false;
+        }
+        for (int i = lastDot + 1; i < length; i++) {
+            char c = email.charAt(i);
+            if ((c < 'A' || c > 'Z') && (c < 'a' || c > 'z')) {
+                return false;
+            }
+        }
+        return true;
     }
 
-    private boolean isValidEmail(String email) {
-        return email != null && EMAIL_PATTERN.matcher(email).matches();
+    private static boolean isAsciiLetterOrDigit(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
     }
 }
@@ -1,6 +1,7 @@
 package com.nova.notifications.infrastructure.channel.push.provider;
 
 import com.nova.notifications.application.port.NotificationProvider;
+import com.nova.notifications.application.template.Escaping;
 import com.nova.notifications.domain.exception.ProviderException;
 import com.nova.notifications.domain.model.PushNotification;
 import com.nova.notifications.domain.result.NotificationResult;
@@ -62,8 +63,8 @@ public class ApnsProvider implements NotificationProvider<PushNotification> {
                             "\"alert\": {{\"title\": \"{}\", \"body\": \"{}\"}}" +
                             "{}{}" +
                             "}}}}",
-                    notification.title(),
-                    SecurityUtils.truncateForLog(notification.body()),
+                    Escaping.JSON.escape(notification.title()),
+                    Escaping.JSON.escape(SecurityUtils.truncateForLog(notification.body())),
                     formatBadge(notification.badge()),
                     formatSound(notification.sound()));
 
@@ -87,7 +88,7 @@ public class ApnsProvider implements NotificationProvider<PushNotification> {
     }
 
     private String formatSound(String sound) {
-        return sound != null ? ", \"sound\": \"" + sound + "\"" : "";
+        return sound != null ? ", \"sound\": \"" + Escaping.JSON.escape(sound) + "\"" : "";
     }
 
 }
@@ -1,6 +1,7 @@
 package com.nova.notifications.infrastructure.channel.push.provider;
 
 import com.nova.notifications.application.port.NotificationProvider;
+import com.nova.notifications.application.template.Escaping;
 import com.nova.notifications.domain.exception.ProviderException;
 import com.nova.notifications.domain.model.PushNotification;
 import com.nova.notifications.domain.result.NotificationResult;
@@ -52,8 +53,8 @@ public class FcmProvider implements NotificationProvider<PushNotification> {
                             "\"notification\": {{\"title\": \"{}\", \"body\": \"{}\"}}" +
                             "{}}}}}",
                     SecurityUtils.maskToken(notification.deviceToken()),
-                    notification.title(),
-                    SecurityUtils.truncateForLog(notification.body()),
+                    Escaping.JSON.escape(notification.title()),
+                    Escaping.JSON.escape(SecurityUtils.truncateForLog(notification.body())),
                     formatDataPayload(notification));
 
             String messageId = ProviderConstants.Fcm.MESSAGE_ID_PREFIX + UUID.randomUUID();
@@ -79,7 +80,8 @@ public class FcmProvider implements NotificationProvider<PushNotification> {
         var entries = notification.data().entrySet().iterator();
         while (entries.hasNext()) {
             var entry = entries.next();
-            sb.append("\"").append(entry.getKey()).append("\": \"").append(entry.getValue()).append("\"");
+            sb.append("\"").append(Escaping.JSON.escape(entry.getKey()))
+                    .append("\": \"").append(Escaping.JSON.escape(entry.getValue())).append("\"");
             if (entries.hasNext()) sb.append(", ");
         }
         sb.append("}");
@@ -23,32 +23,64 @@ public class PushValidator implements NotificationValidator<PushNotification> {
 
     private static final int MIN_DEVICE_TOKEN_LENGTH = 10;
 
+    public static final long TOKEN_REQUIRED = 1L;
+    public static final long TOKEN_TOO_SHORT = 1L << 1;
+    public static final long TITLE_REQUIRED = 1L << 2;
+    public static final long BODY_REQUIRED = 1L << 3;
+
     @Override
     public List<String> validate(PushNotification notification) {
         log.debug("Validating push notification to device '{}'",
                 SecurityUtils.maskToken(notification.deviceToken()));
 
-        var errors = new ArrayList<String>();
+        long errors = check(notification);
+        if (errors == 0) {
+            return List.of();
+        }
+        var messages = describe(notification, errors);
+        log.warn("Push validation failed with {} error(s)", messages.size());
+        return messages;
+    }
+
+    @Override
+    public long check(PushNotification notification) {
+        long errors = 0;
 
         if (notification.deviceToken() == null || notification.deviceToken().isBlank()) {
-            errors.add(ValidationMessages.PUSH_TOKEN_REQUIRED);
+            errors |= TOKEN_REQUIRED;
         } else if (notification.deviceToken().length() < MIN_DEVICE_TOKEN_LENGTH) {
-            errors.add(ValidationMessages.PUSH_TOKEN_TOO_SHORT.formatted(MIN_DEVICE_TOKEN_LENGTH));
+            errors |= TOKEN_TOO_SHORT;
         }
 
         if (notification.title() == null || notification.title().isBlank()) {
-            errors.add(ValidationMessages.PUSH_TITLE_REQUIRED);
+            errors |= TITLE_REQUIRED;
         }
 
         if (notification.body() == null || notification.body().isBlank()) {
-            errors.add(ValidationMessages.PUSH_BODY_REQUIRED);
-        }
-
-        if (!errors.isEmpty()) {
-            log.warn("Push validation failed with {} error(s)", errors.size());
+            errors |= BODY_REQUIRED;
         }
 
         return errors;
     }
 
+    @Override
+    public List<String> describe(PushNotification notification, long errors) {
+        if (errors == 0) {
+            return List.of();
+        }
+        var messages = new ArrayList<String>(Long.bitCount(errors));
+        if ((errors & TOKEN_REQUIRED) != 0) {
+            messages.add(ValidationMessages.PUSH_TOKEN_REQUIRED);
+        }
+        if ((errors & TOKEN_TOO_SHORT) != 0) {
+            messages.add(ValidationMessages.PUSH_TOKEN_TOO_SHORT.formatted(MIN_DEVICE_TOKEN_LENGTH));
+        }
+        if ((errors & TITLE_REQUIRED) != 0) {
+            messages.add(ValidationMessages.PUSH_TITLE_REQUIRED);
+        }
+        if ((errors & BODY_REQUIRED) != 0) {
+            messages.add(ValidationMessages.PUSH_BODY_REQUIRED);
+        }
+        return messages;
+    }
 }
@@ -1,6 +1,7 @@
 package com.nova.notifications.infrastructure.channel.slack.provider;
 
 import com.nova.notifications.application.port.NotificationProvider;
+import com.nova.notifications.application.template.Escaping;
 import com.nova.notifications.domain.exception.ProviderException;
 import com.nova.notifications.domain.model.SlackNotification;
 import com.nova.notifications.domain.result.NotificationResult;
@@ -50,8 +51,8 @@ public class SlackWebhookProvider implements NotificationProvider<SlackNotificat
                             "\"channel\": \"{}\"" +
                             "{}{}" +
                             "}}",
-                    SecurityUtils.truncateForLog(notification.message()),
-                    notification.channel(),
+                    Escaping.JSON.escape(SecurityUtils.truncateForLog(notification.message())),
+                    Escaping.JSON.escape(notification.channel()),
                     formatUsername(notification.username()),
                     formatIconEmoji(notification.iconEmoji()));
 
@@ -72,11 +73,11 @@ public class SlackWebhookProvider implements NotificationProvider<SlackNotificat
     }
 
     private String formatUsername(String username) {
-        return username != null ? ", \"username\": \"" + username + "\"" : "";
+        return username != null ? ", \"username\": \"" + Escaping.JSON.escape(username) + "\"" : "";
     }
 
     private String formatIconEmoji(String iconEmoji) {
-        return iconEmoji != null ? ", \"icon_emoji\": \"" + iconEmoji + "\"" : "";
+        return iconEmoji != null ? ", \"icon_emoji\": \"" + Escaping.JSON.escape(iconEmoji) + "\"" : "";
     }
 
 }
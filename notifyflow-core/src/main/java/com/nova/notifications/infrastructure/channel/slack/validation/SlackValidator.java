@@ -20,24 +20,49 @@ public class SlackValidator implements NotificationValidator<SlackNotification>
 
     private static final Logger log = LoggerFactory.getLogger(SlackValidator.class);
 
+    public static final long CHANNEL_REQUIRED = 1L;
+    public static final long MESSAGE_REQUIRED = 1L << 1;
+
     @Override
     public List<String> validate(SlackNotification notification) {
         log.debug("Validating Slack notification to channel '{}'", notification.channel());
 
-        var errors = new ArrayList<String>();
+        long errors = check(notification);
+        if (errors == 0) {
+            return List.of();
+        }
+        var messages = describe(notification, errors);
+        log.warn("Slack validation failed with {} error(s)", messages.size());
+        return messages;
+    }
+
+    @Override
+    public long check(SlackNotification notification) {
+        long errors = 0;
 
         if (notification.channel() == null || notification.channel().isBlank()) {
-            errors.add(ValidationMessages.SLACK_CHANNEL_REQUIRED);
+            errors |= CHANNEL_REQUIRED;
         }
 
         if (notification.message() == null || notification.message().isBlank()) {
-            errors.add(ValidationMessages.SLACK_MESSAGE_REQUIRED);
-        }
-
-        if (!errors.isEmpty()) {
-            log.warn("Slack validation failed with {} error(s)", errors.size());
+            errors |= MESSAGE_REQUIRED;
         }
 
         return errors;
     }
+
+    @Override
+    public List<String> describe(SlackNotification notification, long errors) {
+        if (errors == 0) {
+            return List.of();
+        }
+        var messages = new ArrayList<String>(Long.bitCount(errors));
+        if ((errors & CHANNEL_REQUIRED) != 0) {
+            messages.add(ValidationMessages.SLACK_CHANNEL_REQUIRED);
+        }
+        if ((errors & MESSAGE_REQUIRED) != 0) {
+            messages.add(ValidationMessages.SLACK_MESSAGE_REQUIRED);
+        }
+        return messages;
+    }
 }
@@ -1,6 +1,7 @@
 package com.nova.notifications.infrastructure.channel.sms.provider;
 
 import com.nova.notifications.application.port.NotificationProvider;
+import com.nova.notifications.application.template.Escaping;
 import com.nova.notifications.domain.exception.ProviderException;
 import com.nova.notifications.domain.model.SmsNotification;
 import com.nova.notifications.domain.result.NotificationResult;
@@ -57,9 +58,9 @@ public class VonageProvider implements NotificationProvider<SmsNotification> {
                             "\"to\": \"{}\", " +
                             "\"text\": \"{}\"" +
                             "}}",
-                    notification.from(),
-                    notification.phoneNumber(),
-                    SecurityUtils.truncateForLog(notification.message()));
+                    Escaping.JSON.escape(notification.from()),
+                    Escaping.JSON.escape(notification.phoneNumber()),
+                    Escaping.JSON.escape(SecurityUtils.truncateForLog(notification.message())));
 
             String messageId = ProviderConstants.Vonage.MESSAGE_ID_PREFIX + UUID.randomUUID();
             log.info("[Vonage] Response: 200 OK, message-id: {}", messageId);
@@ -0,0 +1,91 @@
+package com.nova.notifications.infrastructure.channel.sms.routing;
+
+import java.util.Arrays;
+
+/**
+ * A digit trie mapping phone-number prefixes to values, answering longest-prefix lookups.
+ * <p>
+ * Nodes are rows of ten child indexes in one flat {@code int} array, so a lookup is a
+ * few array reads per digit and allocates nothing. The trie is filled once and then only
+ * read; it is not safe to {@link #put} while other threads look values up.
+ * </p>
+ *
+ * @param <V> the value stored per prefix
+ */
+final class PhonePrefixTrie<V> {
+
+    private static final int RADIX = 10;
+
+    /** Child node index per node and digit; 0 means no child (the root is never a child). */
+    private int[] children = new int[RADIX * 64];
+    private Object[] values = new Object[64];
+    private int nodeCount = 1;
+
+    /**
+     * Maps a prefix to a value, replacing any previous value for the same prefix.
+     *
+     * @param prefix the prefix digits, with or without a leading {@code +}
+     * @return the value previously mapped to the prefix, or null
+     * @throws IllegalArgumentException if the prefix is empty or not all digits
+     */
+    @SuppressWarnings("unchecked")
+    V put(String prefix, V value) {
+        int start = prefix.startsWith("+") ? 1 : 0;
+        if (prefix.length() == start) {
+            throw new IllegalArgumentException(prefix);
+        }
+        int node = 0;
+        for (int i = start; i < prefix.length(); i++) {
+            int digit = prefix.charAt(i) - '0';
+            if (digit < 0 || digit >= RADIX) {
+                throw new IllegalArgumentException(prefix);
+            }
+            int child = children[node * RADIX + digit];
+            if (child == 0) {
+                child = newNode();
+                children[node * RADIX + digit] = child;
+            }
+            node = child;
+        }
+        var previous = (V) values[node];
+        values[node] = value;
+        return previous;
+    }
+
+    /**
+     * Returns the value of the longest prefix of the number, reading digits after an
+     * optional leading {@code +} until the first non-digit.
+     *
+     * @param number a phone number, for example in E.164 format
+     * @return the value of the longest matching prefix, or null if none matches
+     */
+    @SuppressWarnings("unchecked")
+    V find(CharSequence number) {
+        int length = number.length();
+        int i = length > 0 && number.charAt(0) == '+' ? 1 : 0;
+        int node = 0;
+        Object best = null;
+        for (; i < length; i++) {
+            int digit = number.charAt(i) - '0';
+            if (digit < 0 || digit >= RADIX) {
+                break;
+            }
+            node = children[node * RADIX + digit];
+            if (node == 0) {
+                break;
+            }
+            if (values[node] != null) {
+                best = values[node];
+            }
+        }
+        return (V) best;
+    }
+
+    private int newNode() {
+        if (nodeCount == values.length) {
+            values = Arrays.copyOf(values, nodeCount * 2);
+            children = Arrays.copyOf(children, nodeCount * 2 * RADIX);
+        }
+        return nodeCount++;
+    }
+}
@@ -0,0 +1,96 @@
+package com.nova.notifications.infrastructure.channel.sms.routing;
+
+import com.nova.notifications.common.ProviderConstants;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Resolves E.164 phone numbers to ISO 3166 regions from the bundled calling-code table.
+ * <p>
+ * The table lists country calling codes and, for the shared {@code +1} and {@code +7}
+ * codes, the longer prefixes of the other members (Canadian and Caribbean area codes,
+ * Kazakhstan). Lookups walk a {@link PhonePrefixTrie} and allocate nothing.
+ * </p>
+ */
+public final class PhoneRegions {
+
+    /** The member states of the European Union. */
+    public static final Set<String> EUROPEAN_UNION = Set.of(
+            "AT", "BE", "BG", "CY", "CZ", "DE", "DK", "EE", "ES", "FI", "FR", "GR", "HR", "HU",
+            "IE", "IT", "LT", "LU", "LV", "MT", "NL", "PL", "PT", "RO", "SE", "SI", "SK");
+
+    /** Canada and the United States. */
+    public static final Set<String> NORTH_AMERICA = Set.of("CA", "US");
+
+    private static final PhonePrefixTrie<String> REGIONS = new PhonePrefixTrie<>();
+    private static final Map<String, List<String>> PREFIXES = new HashMap<>();
+
+    static {
+        var table = PhoneRegions.class.getResourceAsStream(ProviderConstants.SmsRouting.REGION_TABLE);
+        if (table == null) {
+            throw new IllegalStateException(ProviderConstants.SmsRouting.REGION_TABLE_MISSING
+                    + ProviderConstants.SmsRouting.REGION_TABLE);
+        }
+        try (var reader = new BufferedReader(new InputStreamReader(table, StandardCharsets.US_ASCII))) {
+            int lineNumber = 0;
+            for (String line; (line = reader.readLine()) != null; ) {
+                lineNumber++;
+                line = line.strip();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                var fields = line.split("\\s+");
+                if (fields.length != 2 || fields[1].length() != 2) {
+                    throw new IllegalStateException(
+                            ProviderConstants.SmsRouting.REGION_TABLE_INVALID.formatted(lineNumber, line));
+                }
+                REGIONS.put(fields[0], fields[1]);
+                PREFIXES.computeIfAbsent(fields[1], region -> new ArrayList<>()).add(fields[0]);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        PREFIXES.replaceAll((region, prefixes) -> List.copyOf(prefixes));
+    }
+
+    private PhoneRegions() {
+    }
+
+    /**
+     * Returns the region of a phone number.
+     *
+     * @param phoneNumber a number in E.164 format
+     * @return the ISO 3166 region code, or null if the calling code is unknown
+     */
+    public static String regionOf(CharSequence phoneNumber) {
+        return REGIONS.find(phoneNumber);
+    }
+
+    /**
+     * Returns the prefixes (digits, without {@code +}) the table assigns to a region.
+     * For {@code US} this is {@code 1}, which also covers every other {@code +1} number
+     * unless a longer prefix claims it.
+     *
+     * @param region an ISO 3166 region code
+     * @return the prefixes, empty if the region is not in the table
+     */
+    public static List<String> prefixesOf(String region) {
+        return PREFIXES.getOrDefault(region, List.of());
+    }
+
+    /**
+     * Returns the whole table as prefixes per region.
+     */
+    static Map<String, List<String>> prefixesByRegion() {
+        return PREFIXES;
+    }
+}
@@ -0,0 +1,49 @@
+package com.nova.notifications.infrastructure.channel.sms.routing;
+
+import com.nova.notifications.application.port.NotificationProvider;
+import com.nova.notifications.common.ProviderConstants;
+import com.nova.notifications.domain.model.SmsNotification;
+
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Sends SMS to some destinations through a specific provider, at a bounded rate.
+ *
+ * @param provider      the provider for these destinations
+ * @param ratePerSecond maximum sends per second through this route, or {@link #UNLIMITED}
+ * @param destinations  ISO 3166 regions ({@code "DE"}) and calling-code prefixes ({@code "+44"})
+ */
+public record SmsRoute(NotificationProvider<SmsNotification> provider, int ratePerSecond, Set<String> destinations) {
+
+    /** Rate of a route without a limit. */
+    public static final int UNLIMITED = 0;
+
+    public SmsRoute {
+        Objects.requireNonNull(provider, ProviderConstants.SmsRouting.PROVIDER_REQUIRED);
+        if (ratePerSecond < 0) {
+            throw new IllegalArgumentException(ProviderConstants.SmsRouting.RATE_INVALID);
+        }
+        if (destinations == null || destinations.isEmpty()) {
+            throw new IllegalArgumentException(ProviderConstants.SmsRouting.DESTINATIONS_REQUIRED);
+        }
+        destinations = Set.copyOf(destinations);
+        for (var destination : destinations) {
+            if (!isPrefix(destination) && PhoneRegions.prefixesOf(destination).isEmpty()) {
+                throw new IllegalArgumentException(ProviderConstants.SmsRouting.UNKNOWN_DESTINATION + destination);
+            }
+        }
+    }
+
+    static boolean isPrefix(String destination) {
+        if (destination.length() < 2 || destination.charAt(0) != '+') {
+            return false;
+        }
+        for (int i = 1; i < destination.length(); i++) {
+            if (destination.charAt(i) < '0' || destination.charAt(i) > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
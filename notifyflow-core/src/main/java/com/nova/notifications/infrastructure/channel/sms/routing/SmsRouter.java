@@ -0,0 +1,164 @@
+package com.nova.notifications.infrastructure.channel.sms.routing;
+
+import com.nova.notifications.application.port.NotificationProvider;
+import com.nova.notifications.common.ProviderConstants;
+import com.nova.notifications.domain.model.SmsNotification;
+import com.nova.notifications.domain.result.NotificationResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * SMS provider that picks the provider for each message by its destination.
+ * <p>
+ * Routes name ISO regions or calling-code prefixes; numbers no route claims go to the
+ * default provider. Routing is a longest-prefix walk over a {@link PhonePrefixTrie} that
+ * holds every prefix of the bundled region table, so a region route also covers numbers
+ * that share a calling code with another region (Canada is not routed as {@code US}).
+ * A prefix route wins over the regions under it that have no route of their own.
+ * </p>
+ * <p>
+ * Each route has its own rate limit, enforced without locks (GCRA, allowing a burst of
+ * one second's worth). A message over the limit is not sent: it fails with a
+ * {@link com.nova.notifications.domain.result.ErrorCategory#RATE_LIMITED RATE_LIMITED}
+ * result carrying the wait, which the retry policy honours.
+ * </p>
+ */
+public class SmsRouter implements NotificationProvider<SmsNotification> {
+
+    private static final Logger log = LoggerFactory.getLogger(SmsRouter.class);
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final Route defaultRoute;
+    private final PhonePrefixTrie<Route> routes = new PhonePrefixTrie<>();
+
+    /**
+     * @param defaultProvider the provider for destinations no route claims
+     * @param routes          the routes; a destination may appear in only one of them
+     * @throws IllegalArgumentException if a destination is routed twice
+     */
+    public SmsRouter(NotificationProvider<SmsNotification> defaultProvider, List<SmsRoute> routes) {
+        this.defaultRoute = new Route(
+                Objects.requireNonNull(defaultProvider, ProviderConstants.SmsRouting.DEFAULT_PROVIDER_REQUIRED),
+                SmsRoute.UNLIMITED);
+
+        Map<String, Route> byRegion = new HashMap<>();
+        Map<String, Route> byPrefix = new HashMap<>();
+        for (var route : routes) {
+            var compiled = new Route(route.provider(), route.ratePerSecond());
+            for (var destination : route.destinations()) {
+                var previous = SmsRoute.isPrefix(destination)
+                        ? byPrefix.putIfAbsent(destination.substring(1), compiled)
+                        : byRegion.putIfAbsent(destination, compiled);
+                if (previous != null) {
+                    throw new IllegalArgumentException(ProviderConstants.SmsRouting.DUPLICATE_DESTINATION + destination);
+                }
+            }
+        }
+
+        var table = PhoneRegions.prefixesByRegion();
+        table.forEach((region, prefixes) -> {
+            var route = byRegion.getOrDefault(region, defaultRoute);
+            prefixes.forEach(prefix -> this.routes.put(prefix, route));
+        });
+        // Prefixes of regions with a route of their own, which no prefix route may take over
+        Set<String> routedRegionPrefixes = new HashSet<>();
+        byRegion.keySet().forEach(region -> routedRegionPrefixes.addAll(table.getOrDefault(region, List.of())));
+        // Shortest first, so a longer prefix route overrides a shorter one beneath it
+        byPrefix.entrySet().stream()
+                .sorted(Comparator.comparingInt(entry -> entry.getKey().length()))
+                .forEach(entry -> {
+                    var prefix = entry.getKey();
+                    if (!routedRegionPrefixes.contains(prefix)) {
+                        this.routes.put(prefix, entry.getValue());
+                    }
+                    table.forEach((region, prefixes) -> {
+                        if (!byRegion.containsKey(region)) {
+                            prefixes.stream()
+                                    .filter(longer -> longer.length() > prefix.length() && longer.startsWith(prefix))
+                                    .forEach(longer -> this.routes.put(longer, entry.getValue()));
+                        }
+                    });
+                });
+        log.info("SMS router initialized with {} route(s), default provider '{}'",
+                routes.size(), defaultProvider.getProviderName());
+    }
+
+    @Override
+    public NotificationResult send(SmsNotification notification) {
+        var route = notification.phoneNumber() == null ? null : routes.find(notification.phoneNumber());
+        if (route == null) {
+            route = defaultRoute;
+        }
+
+        long waitNanos = route.tryAcquire(System.nanoTime());
+        if (waitNanos > 0) {
+            String providerName = route.provider.getProviderName();
+            log.debug("SMS route via {} is over its rate limit; retry in {} ns", providerName, waitNanos);
+            return NotificationResult.rateLimited(providerName,
+                    ProviderConstants.SmsRouting.RATE_LIMITED.formatted(providerName, route.ratePerSecond),
+                    Duration.ofNanos(waitNanos));
+        }
+        return route.provider.send(notification);
+    }
+
+    /**
+     * Returns the provider a number would be sent through, ignoring rate limits.
+     */
+    public NotificationProvider<SmsNotification> providerFor(String phoneNumber) {
+        var route = routes.find(phoneNumber);
+        return (route == null ? defaultRoute : route).provider;
+    }
+
+    @Override
+    public String getProviderName() {
+        return ProviderConstants.SmsRouting.PROVIDER_NAME;
+    }
+
+    private static final class Route {
+
+        private final NotificationProvider<SmsNotification> provider;
+        private final int ratePerSecond;
+        private final long intervalNanos;
+        /** Theoretical arrival time of the next send; may run up to one second ahead of now. */
+        private final AtomicLong nextNanos = new AtomicLong(System.nanoTime());
+
+        Route(NotificationProvider<SmsNotification> provider, int ratePerSecond) {
+            this.provider = provider;
+            this.ratePerSecond = ratePerSecond;
+            this.intervalNanos = ratePerSecond == SmsRoute.UNLIMITED ? 0 : NANOS_PER_SECOND / ratePerSecond;
+        }
+
+        /**
+         * Takes a permit if one is available.
+         *
+         * @return 0 if the send may proceed, otherwise the nanoseconds until a permit frees up
+         */
+        long tryAcquire(long now) {
+            if (intervalNanos == 0) {
+                return 0;
+            }
+            while (true) {
+                long next = nextNanos.get();
+                long reserved = Math.max(next, now) + intervalNanos;
+                long excess = reserved - now - NANOS_PER_SECOND;
+                if (excess > 0) {
+                    return excess;
+                }
+                if (nextNanos.compareAndSet(next, reserved)) {
+                    return 0;
+                }
+            }
+        }
+    }
+}
@@ -8,7 +8,6 @@ import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.regex.Pattern;
 
 /**
  * Validator for SMS notifications.
@@ -22,35 +21,98 @@ public class SmsValidator implements NotificationValidator<SmsNotification> {
 
     private static final Logger log = LoggerFactory.getLogger(SmsValidator.class);
 
-    private static final Pattern E164_PATTERN = Pattern.compile("^\\+[1-9]\\d{7,14}$");
+    private static final int E164_MIN_LENGTH = 9;
+    private static final int E164_MAX_LENGTH = 16;
     private static final int MAX_MESSAGE_LENGTH = 1600;
 
+    public static final long PHONE_REQUIRED = 1L;
+    public static final long PHONE_INVALID = 1L << 1;
+    public static final long SENDER_REQUIRED = 1L << 2;
+    public static final long MESSAGE_REQUIRED = 1L << 3;
+    public static final long MESSAGE_TOO_LONG = 1L << 4;
+
     @Override
     public List<String> validate(SmsNotification notification) {
         log.debug("Validating SMS notification to '{}'", notification.phoneNumber());
 
-        var errors = new ArrayList<String>();
+        long errors = check(notification);
+        if (errors == 0) {
+            return List.of();
+        }
+        var messages = describe(notification, errors);
+        log.warn("SMS validation failed with {} error(s)", messages.size());
+        return messages;
+    }
+
+    @Override
+    public long check(SmsNotification notification) {
+        long errors = 0;
 
         if (notification.phoneNumber() == null || notification.phoneNumber().isBlank()) {
-            errors.add(ValidationMessages.SMS_PHONE_REQUIRED);
-        } else if (!E164_PATTERN.matcher(notification.phoneNumber()).matches()) {
-            errors.add(ValidationMessages.SMS_PHONE_INVALID_FORMAT + notification.phoneNumber());
+            errors |= PHONE_REQUIRED;
+        } else if (!isE164(notification.phoneNumber())) {
+            errors |= PHONE_INVALID;
         }
 
         if (notification.from() == null || notification.from().isBlank()) {
-            errors.add(ValidationMessages.SMS_SENDER_REQUIRED);
+            errors |= SENDER_REQUIRED;
         }
 
         if (notification.message() == null || notification.message().isBlank()) {
-            errors.add(ValidationMessages.SMS_MESSAGE_REQUIRED);
+            errors |= MESSAGE_REQUIRED;
         } else if (notification.message().length() > MAX_MESSAGE_LENGTH) {
-            errors.add(ValidationMessages.SMS_MESSAGE_TOO_LONG.formatted(MAX_MESSAGE_LENGTH, notification.message().length()));
+            errors |= MESSAGE_TOO_LONG;
         }
 
-        if (!errors.isEmpty()) {
-            log.warn("SMS validation failed with {} error(s)", errors.size());
+        return errors;
+    }
+
+    @Override
+    public List<String> describe(SmsNotification notification, long errors) {
+        if (errors == 0) {
+            return List.of();
+        }
+        var messages = new ArrayList<String>(Long.bitCount(errors));
+        if ((errors & PHONE_REQUIRED) != 0) {
+            messages.add(ValidationMessages.SMS_PHONE_REQUIRED);
         }
+        if ((errors & PHONE_INVALID) != 0) {
+            messages.add(ValidationMessages.SMS_PHONE_INVALID_FORMAT + notification.phoneNumber());
+        }
+        if ((errors & SENDER_REQUIRED) != 0) {
+            messages.add(ValidationMessages.SMS_SENDER_REQUIRED);
+        }
+        if ((errors & MESSAGE_REQUIRED) != 0) {
+            messages.add(ValidationMessages.SMS_MESSAGE_REQUIRED);
+        }
+        if ((errors & MESSAGE_TOO_LONG) != 0) {
+            messages.add(ValidationMessages.SMS_MESSAGE_TOO_LONG.formatted(MAX_MESSAGE_LENGTH, notification.message().length()));
+        }
+        return messages;
+    }
 
-        return errors;
+    /**
+     * Checks a phone number against {@code ^\+[1-9]\d{7,14}$} without a regex engine:
+     * a {@code +}, a non-zero digit, then 7 to 14 more ASCII digits.
+     *
+     * @param phoneNumber the number to check, may be null
+     * @return true if the number is in E.164 format
+     */
+    public static boolean isE164(String phoneNumber) {
+        if (phoneNumber == null) {
+            return false;
+        }
+        int length = phoneNumber.length();
+        if (length < E164_MIN_LENGTH || length > E164_MAX_LENGTH
+                || phoneNumber.charAt(0) != '+' || phoneNumber.charAt(1) == '0') {
+            return false;
+        }
+        for (int i = 1; i < length; i++) {
+            char c = phoneNumber.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
     }
 }
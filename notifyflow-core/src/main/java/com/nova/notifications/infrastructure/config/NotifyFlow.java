@@ -1,17 +1,35 @@
 package com.nova.notifications.infrastructure.config;
 
 import com.nova.notifications.application.async.AsyncNotificationService;
+import com.nova.notifications.application.pubsub.EventJournal;
 import com.nova.notifications.application.pubsub.EventListener;
 import com.nova.notifications.application.pubsub.EventPublisher;
+import com.nova.notifications.application.pubsub.IsolatedEventListener;
+import com.nova.notifications.application.retry.DeadLetterFilter;
+import com.nova.notifications.application.retry.DeadLetterReplayer;
+import com.nova.notifications.application.retry.DeadLetterStore;
+import com.nova.notifications.application.retry.ReplayReport;
 import com.nova.notifications.application.retry.RetryableNotificationService;
+import com.nova.notifications.application.schedule.NotificationScheduler;
 import com.nova.notifications.application.service.NotificationService;
+import com.nova.notifications.application.status.DeliveryStatusStore;
+import com.nova.notifications.application.suppression.SuppressionList;
 import com.nova.notifications.application.template.TemplateRegistry;
+import com.nova.notifications.common.StorageConstants;
+import com.nova.notifications.common.ValidationMessages;
+import com.nova.notifications.domain.event.NotificationEvent.EventType;
 import com.nova.notifications.domain.model.ChannelType;
 import com.nova.notifications.domain.model.Notification;
 import com.nova.notifications.domain.result.NotificationResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 
 /**
@@ -39,24 +57,49 @@ import java.util.concurrent.CompletableFuture;
  * notifyFlow.sendBatch(List.of(email, sms, push)).thenAccept(results -> ...);
  * }</pre>
  */
-public class NotifyFlow {
+public class NotifyFlow implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(NotifyFlow.class);
 
     private final NotificationService notificationService;
     private final RetryableNotificationService retryService;
     private final AsyncNotificationService asyncService;
     private final TemplateRegistry templateRegistry;
     private final EventPublisher eventPublisher;
+    private final DeadLetterStore deadLetterStore;
+    private final DeliveryStatusStore deliveryStatusStore;
+    private final SuppressionList suppressionList;
+    private final EventJournal eventJournal;
+    private final NotificationScheduler scheduler;
+    private final List<AutoCloseable> resources;
+    private final List<IsolatedEventListener> isolatedListeners;
 
     NotifyFlow(NotificationService notificationService,
                RetryableNotificationService retryService,
                AsyncNotificationService asyncService,
                TemplateRegistry templateRegistry,
-               EventPublisher eventPublisher) {
+               EventPublisher eventPublisher,
+               DeadLetterStore deadLetterStore,
+               DeliveryStatusStore deliveryStatusStore,
+               SuppressionList suppressionList,
+               EventJournal eventJournal,
+               NotificationScheduler scheduler,
+               List<AutoCloseable> resources) {
         this.notificationService = notificationService;
         this.retryService = retryService;
         this.asyncService = asyncService;
         this.templateRegistry = templateRegistry;
         this.eventPublisher = eventPublisher;
+        this.deadLetterStore = deadLetterStore;
+        this.deliveryStatusStore = deliveryStatusStore;
+        this.suppressionList = suppressionList;
+        this.eventJournal = eventJournal;
+        this.scheduler = scheduler;
+        this.resources = List.copyOf(resources);
+        this.isolatedListeners = resources.stream()
+                .filter(IsolatedEventListener.class::isInstance)
+                .map(IsolatedEventListener.class::cast)
+                .toList();
     }
 
     /**
@@ -100,6 +143,95 @@ public class NotifyFlow {
         return asyncService.sendBatch(notifications);
     }
 
+    /**
+     * Schedules a notification to be sent asynchronously at the given time. The schedule is
+     * persisted, so it survives restarts; a time in the past sends it right away.
+     *
+     * @param notification the notification to send
+     * @param sendAt       when to send it
+     * @return an identifier for {@link #cancelScheduled(long)}
+     * @throws IllegalStateException if scheduled delivery is not configured
+     */
+    public <T extends Notification> long sendAt(T notification, Instant sendAt) {
+        return requireScheduler().schedule(notification, sendAt);
+    }
+
+    /**
+     * Cancels a notification scheduled with {@link #sendAt}.
+     *
+     * @param scheduleId the identifier returned by {@code sendAt}
+     * @return true if it was cancelled, false if it was already sent or is unknown
+     * @throws IllegalStateException if scheduled delivery is not configured
+     */
+    public boolean cancelScheduled(long scheduleId) {
+        return requireScheduler().cancel(scheduleId);
+    }
+
+    private NotificationScheduler requireScheduler() {
+        if (scheduler == null) {
+            throw new IllegalStateException(StorageConstants.Schedule.NOT_CONFIGURED);
+        }
+        return scheduler;
+    }
+
+    /**
+     * Re-sends dead letters matching the filter at the default replay rate.
+     *
+     * @see #replayDeadLetters(DeadLetterFilter, int)
+     */
+    public ReplayReport replayDeadLetters(DeadLetterFilter filter) {
+        return replayDeadLetters(filter, StorageConstants.DeadLetters.DEFAULT_REPLAY_RATE_PER_SECOND);
+    }
+
+    /**
+     * Re-sends dead letters matching the filter, one attempt each, on the calling thread.
+     * Delivered entries are marked as replayed; the others stay pending.
+     *
+     * @param filter        which dead letters to replay
+     * @param ratePerSecond maximum number of sends started per second
+     * @return counts of what was re-sent
+     * @throws IllegalStateException if no dead-letter store is configured
+     */
+    public ReplayReport replayDeadLetters(DeadLetterFilter filter, int ratePerSecond) {
+        var store = deadLetters().orElseThrow(
+                () -> new IllegalStateException(StorageConstants.DeadLetters.NOT_CONFIGURED));
+        return new DeadLetterReplayer(store, this::send, ratePerSecond).replay(filter);
+    }
+
+    /**
+     * Returns the dead-letter store, if one is configured.
+     */
+    public Optional<DeadLetterStore> deadLetters() {
+        return Optional.ofNullable(deadLetterStore);
+    }
+
+    /**
+     * Returns the delivery status store, if one is configured.
+     * <p>
+     * Answers "where is message X" by notification id; provider delivery receipts can be
+     * recorded into it as {@code DELIVERED}.
+     * </p>
+     */
+    public Optional<DeliveryStatusStore> deliveryStatuses() {
+        return Optional.ofNullable(deliveryStatusStore);
+    }
+
+    /**
+     * Returns the suppression list, if one is configured; call {@link SuppressionList#reload()}
+     * on it after the underlying file changes.
+     */
+    public Optional<SuppressionList> suppressions() {
+        return Optional.ofNullable(suppressionList);
+    }
+
+    /**
+     * Returns the event journal, if one is configured; replay it into listeners to rebuild
+     * what they derive from past events.
+     */
+    public Optional<EventJournal> eventJournal() {
+        return Optional.ofNullable(eventJournal);
+    }
+
     /**
      * Checks if a channel is configured and available.
      */
@@ -125,6 +257,50 @@ public class NotifyFlow {
         return templateRegistry.render(templateName, variables);
     }
 
+    /**
+     * Renders the variant of a template closest to the given locale: {@code name_de_AT},
+     * then {@code name_de}, then {@code name}.
+     *
+     * @throws IllegalArgumentException if the template is not found
+     */
+    public String renderTemplate(String templateName, Locale locale, Map<String, String> variables) {
+        return templateRegistry.render(templateName, locale, variables);
+    }
+
+    /**
+     * Sends a notification whose body is the rendered template, synchronously.
+     * <p>
+     * Email bodies are encoded straight into the buffer handed to the provider, so a large
+     * template never exists as a String; the envelope's own body is ignored.
+     * </p>
+     *
+     * @param envelope     the notification to send, without its body
+     * @param templateName the registered template to render as the body
+     * @param variables    key-value pairs for placeholder replacement
+     * @return the result of the send attempt
+     * @throws IllegalArgumentException if the template is not found
+     */
+    public <T extends Notification> NotificationResult sendTemplate(T envelope, String templateName,
+                                                                    Map<String, String> variables) {
+        var template = templateRegistry.get(templateName)
+                .orElseThrow(() -> new IllegalArgumentException(ValidationMessages.TEMPLATE_NOT_FOUND + templateName));
+        return notificationService.sendRendered(envelope, template, variables);
+    }
+
+    /**
+     * Sends a notification whose body is the variant of a template closest to the given
+     * locale, synchronously.
+     *
+     * @throws IllegalArgumentException if the template is not found
+     * @see #sendTemplate(Notification, String, Map)
+     */
+    public <T extends Notification> NotificationResult sendTemplate(T envelope, String templateName, Locale locale,
+                                                                    Map<String, String> variables) {
+        var template = templateRegistry.get(templateName, locale)
+                .orElseThrow(() -> new IllegalArgumentException(ValidationMessages.TEMPLATE_NOT_FOUND + templateName));
+        return notificationService.sendRendered(envelope, template, variables);
+    }
+
     /**
      * Subscribes to notification lifecycle events.
      */
@@ -132,6 +308,39 @@ public class NotifyFlow {
         eventPublisher.subscribe(listener);
     }
 
+    /**
+     * Subscribes to some lifecycle events only.
+     *
+     * @param eventTypes   event types to receive (empty = all)
+     * @param channelTypes channels to receive events of (empty = all)
+     */
+    public void onEvent(EventListener listener, Set<EventType> eventTypes, Set<ChannelType> channelTypes) {
+        eventPublisher.subscribe(listener, eventTypes, channelTypes);
+    }
+
+    /**
+     * Returns the number of events dropped so far because an isolated listener was backed
+     * up; always 0 without {@link NotifyFlowBuilder#withListenerIsolation}.
+     */
+    public long droppedEvents() {
+        return isolatedListeners.stream().mapToLong(IsolatedEventListener::dropped).sum();
+    }
+
+    /**
+     * Releases background threads and on-disk stores owned by this instance
+     * (retry recovery, durable stores). Safe to call more than once.
+     */
+    @Override
+    public void close() {
+        for (var resource : resources.reversed()) {
+            try {
+                resource.close();
+            } catch (Exception e) {
+                log.warn("Failed to close {}: {}", resource.getClass().getSimpleName(), e.getMessage());
+            }
+        }
+    }
+
     /**
      * Creates a new builder for configuring NotifyFlow.
      */
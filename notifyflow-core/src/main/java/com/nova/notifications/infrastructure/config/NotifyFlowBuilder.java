@@ -1,17 +1,42 @@
 package com.nova.notifications.infrastructure.config;
 
+import com.nova.notifications.common.ProviderConstants;
+import com.nova.notifications.common.StorageConstants;
 import com.nova.notifications.common.ValidationMessages;
 import com.nova.notifications.application.async.AsyncNotificationService;
+import com.nova.notifications.application.async.Outbox;
+import com.nova.notifications.application.capping.FrequencyCap;
+import com.nova.notifications.application.capping.FrequencyCapper;
 import com.nova.notifications.application.port.NotificationChannel;
 import com.nova.notifications.application.port.NotificationProvider;
 import com.nova.notifications.application.port.NotificationValidator;
+import com.nova.notifications.application.pubsub.BatchEventListener;
+import com.nova.notifications.application.pubsub.BatchingEventListener;
+import com.nova.notifications.application.pubsub.EventJournal;
 import com.nova.notifications.application.pubsub.EventListener;
 import com.nova.notifications.application.pubsub.EventPublisher;
+import com.nova.notifications.application.pubsub.IsolatedEventListener;
+import com.nova.notifications.application.pubsub.MutableEventListener;
+import com.nova.notifications.application.pubsub.OverflowPolicy;
+import com.nova.notifications.application.pubsub.RingBufferEventPublisher;
 import com.nova.notifications.application.pubsub.SimpleEventPublisher;
+import com.nova.notifications.application.pubsub.WaitStrategy;
+import com.nova.notifications.application.retry.DeadLetterStore;
+import com.nova.notifications.application.retry.RetryBudget;
 import com.nova.notifications.application.retry.RetryPolicy;
+import com.nova.notifications.application.retry.RetryRecoveryDispatcher;
+import com.nova.notifications.application.retry.RetryStore;
 import com.nova.notifications.application.retry.RetryableNotificationService;
+import com.nova.notifications.application.schedule.NotificationScheduler;
+import com.nova.notifications.application.schedule.ScheduleStore;
 import com.nova.notifications.application.service.NotificationService;
+import com.nova.notifications.application.status.DeliveryStatusRecorder;
+import com.nova.notifications.application.status.DeliveryStatusStore;
+import com.nova.notifications.application.suppression.SuppressionList;
+import com.nova.notifications.application.template.Escaping;
+import com.nova.notifications.application.template.TemplateMode;
 import com.nova.notifications.application.template.TemplateRegistry;
+import com.nova.notifications.domain.event.NotificationEvent.EventType;
 import com.nova.notifications.domain.model.*;
 import com.nova.notifications.infrastructure.channel.email.EmailChannel;
 import com.nova.notifications.infrastructure.channel.email.provider.MailgunProvider;
@@ -27,12 +52,33 @@ import com.nova.notifications.infrastructure.channel.slack.validation.SlackValid
 import com.nova.notifications.infrastructure.channel.sms.SmsChannel;
 import com.nova.notifications.infrastructure.channel.sms.provider.TwilioProvider;
 import com.nova.notifications.infrastructure.channel.sms.provider.VonageProvider;
+import com.nova.notifications.infrastructure.channel.sms.routing.PhoneRegions;
+import com.nova.notifications.infrastructure.channel.sms.routing.SmsRoute;
+import com.nova.notifications.infrastructure.channel.sms.routing.SmsRouter;
 import com.nova.notifications.infrastructure.channel.sms.validation.SmsValidator;
-
+import com.nova.notifications.infrastructure.persistence.FileRetryStore;
+import com.nova.notifications.infrastructure.persistence.FileScheduleStore;
+import com.nova.notifications.infrastructure.persistence.MappedDeadLetterStore;
+import com.nova.notifications.infrastructure.persistence.MappedDeliveryStatusStore;
+import com.nova.notifications.infrastructure.persistence.MappedEventJournal;
+import com.nova.notifications.infrastructure.persistence.MappedOutbox;
+import com.nova.notifications.infrastructure.persistence.MappedSuppressionList;
+import com.nova.notifications.infrastructure.template.TemplateDirectoryWatcher;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiConsumer;
 
 /**
  * Fluent builder for configuring and assembling the NotifyFlow notification system.
@@ -56,11 +102,40 @@ import java.util.concurrent.ForkJoinPool;
 public class NotifyFlowBuilder {
 
     private final Map<ChannelType, NotificationChannel<?>> channels = new EnumMap<>(ChannelType.class);
-    private final SimpleEventPublisher eventPublisher = new SimpleEventPublisher();
-    private final TemplateRegistry templateRegistry = new TemplateRegistry();
+    /** Applied to the publisher in build(); may add what they start to the resources */
+    private final List<BiConsumer<EventPublisher, List<AutoCloseable>>> eventSubscriptions = new ArrayList<>();
+    private final Map<String, String> templates = new LinkedHashMap<>();
+    private final Set<Locale> templateLocales = new LinkedHashSet<>();
+    private final List<SmsRoute> smsRoutes = new ArrayList<>();
 
     private RetryPolicy retryPolicy = RetryPolicy.noRetry();
+    private RetryBudget retryBudget = RetryBudget.unlimited();
+    private Path retryStoreDirectory;
+    private RetryStore retryStore;
+    private int retryRecoveryRate = StorageConstants.RetryStore.DEFAULT_RECOVERY_RATE_PER_SECOND;
+    private Path deadLetterDirectory;
+    private DeadLetterStore deadLetterStore;
+    private Path outboxDirectory;
+    private Outbox outbox;
+    private Path deliveryStatusDirectory;
+    private DeliveryStatusStore deliveryStatusStore;
+    private Path scheduleDirectory;
+    private ScheduleStore scheduleStore;
+    private Path suppressionFile;
+    private SuppressionList suppressionList;
+    private Path eventJournalDirectory;
+    private EventJournal eventJournal;
+    private final List<FrequencyCap> frequencyCaps = new ArrayList<>();
     private Executor asyncExecutor = ForkJoinPool.commonPool();
+    private int eventBufferSize;
+    private WaitStrategy eventWaitStrategy = WaitStrategy.BLOCKING;
+    private int listenerQueueCapacity;
+    private OverflowPolicy listenerOverflowPolicy;
+    private TemplateMode templateMode = TemplateMode.LENIENT;
+    private Escaping templateEscaping = Escaping.NONE;
+    private Path templateDirectory;
+    private NotificationProvider<SmsNotification> smsProvider;
+    private NotificationValidator<SmsNotification> smsValidator;
 
     private NotifyFlowBuilder() {
     }
@@ -119,6 +194,38 @@ public class NotifyFlowBuilder {
     public NotifyFlowBuilder withSms(NotificationProvider<SmsNotification> provider,
                                      NotificationValidator<SmsNotification> validator) {
         channels.put(ChannelType.SMS, new SmsChannel(provider, validator));
+        smsProvider = provider;
+        smsValidator = validator;
+        return this;
+    }
+
+    /**
+     * Sends SMS to some destinations through another provider, without a rate limit.
+     *
+     * @see #withSmsRoute(NotificationProvider, int, String...)
+     */
+    public NotifyFlowBuilder withSmsRoute(NotificationProvider<SmsNotification> provider, String... destinations) {
+        return withSmsRoute(provider, SmsRoute.UNLIMITED, destinations);
+    }
+
+    /**
+     * Sends SMS to some destinations through another provider than the one configured with
+     * {@code withSms}, which remains the default for every other destination.
+     * <pre>{@code
+     * .withTwilio("sid", "token")
+     * .withSmsRoute(new VonageProvider("key", "secret"), 50, "DE", "FR", "+44")
+     * }</pre>
+     *
+     * @param provider      the provider for these destinations
+     * @param ratePerSecond maximum sends per second through this route; sends over it fail
+     *                      as rate limited
+     * @param destinations  ISO 3166 regions ({@code "DE"}, see {@link PhoneRegions#EUROPEAN_UNION})
+     *                      or calling-code prefixes ({@code "+44"})
+     * @throws IllegalArgumentException if a destination is unknown
+     */
+    public NotifyFlowBuilder withSmsRoute(NotificationProvider<SmsNotification> provider, int ratePerSecond,
+                                          String... destinations) {
+        smsRoutes.add(new SmsRoute(provider, ratePerSecond, Set.of(destinations)));
         return this;
     }
 
@@ -217,11 +324,252 @@ public class NotifyFlowBuilder {
         return this;
     }
 
+    /**
+     * Configures the retry budget that caps retries relative to first-attempt traffic.
+     * Defaults to {@link RetryBudget#unlimited()}.
+     */
+    public NotifyFlowBuilder withRetryBudget(RetryBudget budget) {
+        this.retryBudget = budget;
+        return this;
+    }
+
+    /**
+     * Persists pending retries in segment files under the given directory so they survive
+     * restarts. Retries recovered on startup are re-sent at the configured recovery rate.
+     */
+    public NotifyFlowBuilder withDurableRetries(Path directory) {
+        this.retryStoreDirectory = directory;
+        return this;
+    }
+
+    /**
+     * Persists pending retries in a custom store.
+     */
+    public NotifyFlowBuilder withDurableRetries(RetryStore store) {
+        this.retryStore = store;
+        return this;
+    }
+
+    /**
+     * Configures how many recovered retries are re-sent per second after a restart.
+     */
+    public NotifyFlowBuilder withRetryRecoveryRate(int retriesPerSecond) {
+        this.retryRecoveryRate = retriesPerSecond;
+        return this;
+    }
+
+    /**
+     * Keeps notifications whose retries were exhausted in memory-mapped segment files under
+     * the given directory, so they can be re-sent with {@link NotifyFlow#replayDeadLetters}.
+     */
+    public NotifyFlowBuilder withDeadLetters(Path directory) {
+        this.deadLetterDirectory = directory;
+        return this;
+    }
+
+    /**
+     * Keeps notifications whose retries were exhausted in a custom store.
+     */
+    public NotifyFlowBuilder withDeadLetters(DeadLetterStore store) {
+        this.deadLetterStore = store;
+        return this;
+    }
+
+    /**
+     * Enables durable acceptance: {@code sendAsync} and {@code sendBatch} log each notification
+     * to a write-ahead outbox under the given directory before sending it, and notifications
+     * left unfinished by a crash are sent again on the next start.
+     */
+    public NotifyFlowBuilder withDurableAcceptance(Path directory) {
+        this.outboxDirectory = directory;
+        return this;
+    }
+
+    /**
+     * Enables durable acceptance with a custom outbox.
+     */
+    public NotifyFlowBuilder withDurableAcceptance(Outbox outbox) {
+        this.outbox = outbox;
+        return this;
+    }
+
+    /**
+     * Records the delivery state of every notification by notification id in a store under
+     * the given directory, queryable through {@link NotifyFlow#deliveryStatuses()}.
+     */
+    public NotifyFlowBuilder withDeliveryStatus(Path directory) {
+        this.deliveryStatusDirectory = directory;
+        return this;
+    }
+
+    /**
+     * Records delivery states in a custom store.
+     */
+    public NotifyFlowBuilder withDeliveryStatus(DeliveryStatusStore store) {
+        this.deliveryStatusStore = store;
+        return this;
+    }
+
+    /**
+     * Appends every notification event to a memory-mapped journal under the given directory,
+     * which can be replayed through {@link NotifyFlow#eventJournal()}.
+     */
+    public NotifyFlowBuilder withEventJournal(Path directory) {
+        this.eventJournalDirectory = directory;
+        return this;
+    }
+
+    /**
+     * Appends every notification event to a custom journal.
+     */
+    public NotifyFlowBuilder withEventJournal(EventJournal journal) {
+        this.eventJournal = journal;
+        return this;
+    }
+
+    /**
+     * Never sends to the recipients listed in the given file, one email address, phone number
+     * or device token per line; they get a {@code SUPPRESSED} result without a provider call.
+     * The list is compiled into a memory-mapped index next to the file and can be reloaded
+     * through {@link NotifyFlow#suppressions()}.
+     */
+    public NotifyFlowBuilder withSuppressionList(Path file) {
+        this.suppressionFile = file;
+        return this;
+    }
+
+    /**
+     * Never sends to the recipients of a custom suppression list.
+     */
+    public NotifyFlowBuilder withSuppressionList(SuppressionList list) {
+        this.suppressionList = list;
+        return this;
+    }
+
+    /**
+     * Adds a frequency cap, e.g. at most 3 marketing pushes per device per 24 hours; a
+     * recipient that reached it gets a {@code FREQUENCY_CAPPED} result without a provider
+     * call. Every cap that applies to a notification must admit it.
+     */
+    public NotifyFlowBuilder withFrequencyCap(FrequencyCap cap) {
+        this.frequencyCaps.add(cap);
+        return this;
+    }
+
+    /**
+     * Enables {@link NotifyFlow#sendAt}: scheduled sends are kept in per-minute bucket files
+     * under the given directory, and only the next few minutes are held in memory.
+     */
+    public NotifyFlowBuilder withScheduledDelivery(Path directory) {
+        this.scheduleDirectory = directory;
+        return this;
+    }
+
+    /**
+     * Enables {@link NotifyFlow#sendAt} with a custom schedule store.
+     */
+    public NotifyFlowBuilder withScheduledDelivery(ScheduleStore store) {
+        this.scheduleStore = store;
+        return this;
+    }
+
     /**
      * Registers an event listener for notification lifecycle events.
      */
     public NotifyFlowBuilder onEvent(EventListener listener) {
-        this.eventPublisher.subscribe(listener);
+        this.eventSubscriptions.add((publisher, resources) -> publisher.subscribe(isolate(listener, resources)));
+        return this;
+    }
+
+    /**
+     * Registers an event listener for some event types and channels only; it is not called
+     * for any other event.
+     *
+     * @param eventTypes   event types to receive (empty = all)
+     * @param channelTypes channels to receive events of (empty = all)
+     */
+    public NotifyFlowBuilder onEvent(EventListener listener, Set<EventType> eventTypes, Set<ChannelType> channelTypes) {
+        this.eventSubscriptions.add((publisher, resources) ->
+                publisher.subscribe(isolate(listener, resources), eventTypes, channelTypes));
+        return this;
+    }
+
+    /**
+     * Runs every listener registered with {@code onEvent} on its own thread behind a queue of
+     * the given capacity, so a slow or stuck listener holds up neither sends nor other
+     * listeners. Dropped events are reported by {@link NotifyFlow#droppedEvents()}.
+     *
+     * @param queueCapacity  events each listener's queue holds at most
+     * @param overflowPolicy what to do with events while a listener's queue is backed up
+     * @throws IllegalArgumentException if the capacity is below 1
+     * @see IsolatedEventListener
+     */
+    public NotifyFlowBuilder withListenerIsolation(int queueCapacity, OverflowPolicy overflowPolicy) {
+        if (queueCapacity < 1) {
+            throw new IllegalArgumentException(ValidationMessages.LISTENER_QUEUE_CAPACITY_INVALID + queueCapacity);
+        }
+        this.listenerQueueCapacity = queueCapacity;
+        this.listenerOverflowPolicy = overflowPolicy;
+        return this;
+    }
+
+    /**
+     * Registers a listener that receives events in batches of up to {@code maxBatchSize},
+     * handed over on a dedicated thread no later than {@code maxDelay} after the first event
+     * of each batch. The events still collected are handed over on {@link NotifyFlow#close()}.
+     *
+     * @param eventTypes   event types to receive (empty = all)
+     * @param channelTypes channels to receive events of (empty = all)
+     * @see BatchingEventListener
+     */
+    public NotifyFlowBuilder onEvents(BatchEventListener listener, int maxBatchSize, Duration maxDelay,
+                                      Set<EventType> eventTypes, Set<ChannelType> channelTypes) {
+        this.eventSubscriptions.add((publisher, resources) -> {
+            var batching = new BatchingEventListener(listener, maxBatchSize, maxDelay);
+            // Closed after the publisher, which may still deliver to it
+            resources.add(batching);
+            publisher.subscribe(batching, eventTypes, channelTypes);
+        });
+        return this;
+    }
+
+    /**
+     * Registers a listener that receives the ring buffer's reusable event views, so
+     * delivering events to it allocates nothing. Requires {@link #withAsyncEvents()}.
+     *
+     * @param eventTypes   event types to receive (empty = all)
+     * @param channelTypes channels to receive events of (empty = all)
+     * @see MutableEventListener
+     */
+    public NotifyFlowBuilder onMutableEvent(MutableEventListener listener, Set<EventType> eventTypes,
+                                            Set<ChannelType> channelTypes) {
+        this.eventSubscriptions.add((publisher, resources) -> {
+            if (!(publisher instanceof RingBufferEventPublisher ringBuffer)) {
+                throw new IllegalStateException(ValidationMessages.MUTABLE_EVENTS_REQUIRE_ASYNC);
+            }
+            ringBuffer.subscribeMutable(listener, eventTypes, channelTypes);
+        });
+        return this;
+    }
+
+    /**
+     * Delivers events to listeners on a dedicated thread through a ring buffer of
+     * {@value RingBufferEventPublisher#DEFAULT_BUFFER_SIZE} slots, so slow listeners no
+     * longer add their latency to sends.
+     */
+    public NotifyFlowBuilder withAsyncEvents() {
+        return withAsyncEvents(RingBufferEventPublisher.DEFAULT_BUFFER_SIZE, WaitStrategy.BLOCKING);
+    }
+
+    /**
+     * Delivers events to listeners on a dedicated thread through a ring buffer.
+     *
+     * @param bufferSize   slots in the ring, a power of two; sends wait while it is full
+     * @param waitStrategy how the delivery thread waits for events
+     */
+    public NotifyFlowBuilder withAsyncEvents(int bufferSize, WaitStrategy waitStrategy) {
+        this.eventBufferSize = bufferSize;
+        this.eventWaitStrategy = waitStrategy;
         return this;
     }
 
@@ -234,10 +582,54 @@ public class NotifyFlowBuilder {
     }
 
     /**
-     * Registers a message template.
+     * Registers a message template. Templates compiled at build time by
+     * {@code notifyflow-template-maven-plugin} are registered automatically; one registered
+     * here with the same name replaces the compiled one.
      */
     public NotifyFlowBuilder withTemplate(String name, String templateContent) {
-        this.templateRegistry.register(name, templateContent);
+        this.templates.put(name, templateContent);
+        return this;
+    }
+
+    /**
+     * Loads templates from a directory, one file per template named after the file without
+     * its extension, and reloads them while the application runs when files are added,
+     * changed or deleted. Directory templates take precedence over {@link #withTemplate}
+     * registrations with the same name.
+     */
+    public NotifyFlowBuilder withTemplateDirectory(Path directory) {
+        this.templateDirectory = directory;
+        return this;
+    }
+
+    /**
+     * Declares the locales notifications are sent in. Locale variants of templates are
+     * named {@code name_language} or {@code name_language_COUNTRY}; the fallback to the
+     * closest variant is precomputed for these locales, so
+     * {@link NotifyFlow#renderTemplate(String, Locale, Map)} resolves it with one lookup.
+     */
+    public NotifyFlowBuilder withTemplateLocales(Locale... locales) {
+        this.templateLocales.addAll(List.of(locales));
+        return this;
+    }
+
+    /**
+     * Configures how templates treat placeholders without a variable. Defaults to
+     * {@link TemplateMode#LENIENT}; {@link TemplateMode#STRICT} makes rendering fail instead.
+     */
+    public NotifyFlowBuilder withTemplateMode(TemplateMode mode) {
+        this.templateMode = mode;
+        return this;
+    }
+
+    /**
+     * Configures how values are escaped in template placeholders that do not name a filter.
+     * Defaults to {@link Escaping#NONE}; use {@link Escaping#HTML} when templates are HTML
+     * bodies. A placeholder can always choose its own, as in {@code {{name|json}}} or
+     * {@code {{name|raw}}}.
+     */
+    public NotifyFlowBuilder withTemplateEscaping(Escaping escaping) {
+        this.templateEscaping = escaping;
         return this;
     }
 
@@ -247,17 +639,124 @@ public class NotifyFlowBuilder {
      * Builds and returns the configured NotifyFlow instance.
      *
      * @return the fully configured NotifyFlow facade
-     * @throws IllegalStateException if no channels are configured
+     * @throws IllegalStateException if no channels are configured, or mutable event listeners
+     *                               are registered without async events
      */
     public NotifyFlow build() {
         if (channels.isEmpty()) {
             throw new IllegalStateException(ValidationMessages.AT_LEAST_ONE_CHANNEL);
         }
+        if (!smsRoutes.isEmpty()) {
+            if (smsProvider == null) {
+                throw new IllegalStateException(ProviderConstants.SmsRouting.DEFAULT_PROVIDER_REQUIRED);
+            }
+            channels.put(ChannelType.SMS, new SmsChannel(new SmsRouter(smsProvider, smsRoutes), smsValidator));
+        }
+
+        List<AutoCloseable> resources = new ArrayList<>();
+        var store = retryStore;
+        if (store == null && retryStoreDirectory != null) {
+            store = FileRetryStore.open(retryStoreDirectory);
+        }
+        var deadLetters = deadLetterStore;
+        if (deadLetters == null && deadLetterDirectory != null) {
+            deadLetters = MappedDeadLetterStore.open(deadLetterDirectory);
+        }
+        if (deadLetters != null) {
+            resources.add(deadLetters);
+        }
+        EventPublisher eventPublisher = eventBufferSize > 0
+                ? new RingBufferEventPublisher(eventBufferSize, eventWaitStrategy, false)
+                : new SimpleEventPublisher();
+        eventSubscriptions.forEach(subscription -> subscription.accept(eventPublisher, resources));
+        var statusStore = deliveryStatusStore;
+        if (statusStore == null && deliveryStatusDirectory != null) {
+            statusStore = MappedDeliveryStatusStore.open(deliveryStatusDirectory);
+        }
+        if (statusStore != null) {
+            eventPublisher.subscribe(new DeliveryStatusRecorder(statusStore), Set.of(EventType.SENT, EventType.FAILED),
+                    Set.of());
+            resources.add(statusStore);
+        }
+        var journal = eventJournal;
+        if (journal == null && eventJournalDirectory != null) {
+            journal = MappedEventJournal.open(eventJournalDirectory);
+        }
+        if (journal != null) {
+            eventPublisher.subscribe(journal);
+            resources.add(journal);
+        }
+        if (eventPublisher instanceof RingBufferEventPublisher ringBuffer) {
+            // Closed after everything that publishes and before the status store it feeds
+            resources.add(ringBuffer);
+        }
+        var acceptanceLog = outbox;
+        if (acceptanceLog == null && outboxDirectory != null) {
+            acceptanceLog = MappedOutbox.open(outboxDirectory);
+        }
+        if (acceptanceLog != null) {
+            resources.add(acceptanceLog);
+        }
+
+        var templateRegistry = new TemplateRegistry(templateMode, templateEscaping);
+        // Build-time compiled templates first, so templates configured here can override them
+        templateRegistry.registerCompiled(Thread.currentThread().getContextClassLoader());
+        templateRegistry.addLocales(templateLocales);
+        templateRegistry.update(templates, Set.of());
+        if (templateDirectory != null) {
+            var watcher = new TemplateDirectoryWatcher(templateDirectory, templateRegistry);
+            watcher.start();
+            resources.add(watcher);
+        }
+
+        var suppressions = suppressionList;
+        if (suppressions == null && suppressionFile != null) {
+            suppressions = MappedSuppressionList.open(suppressionFile);
+        }
+        if (suppressions != null) {
+            resources.add(suppressions);
+        }
 
-        var notificationService = new NotificationService(channels, eventPublisher);
-        var retryService = new RetryableNotificationService(notificationService, retryPolicy, eventPublisher);
-        var asyncService = new AsyncNotificationService(notificationService, asyncExecutor);
+        var frequencyCapper = frequencyCaps.isEmpty() ? null : new FrequencyCapper(frequencyCaps);
+        var notificationService = new NotificationService(channels, eventPublisher, suppressions, frequencyCapper);
+        var retryService = new RetryableNotificationService(notificationService, retryPolicy, eventPublisher,
+                retryBudget, store, deadLetters);
+        var asyncService = new AsyncNotificationService(notificationService, asyncExecutor, acceptanceLog);
+        asyncService.redispatchRecovered();
+
+        if (store != null) {
+            var recovery = new RetryRecoveryDispatcher(store, retryService, asyncExecutor, retryRecoveryRate);
+            recovery.start();
+            // Closed in reverse order: stop releasing retries before closing the store
+            resources.add(store);
+            resources.add(recovery);
+        }
 
-        return new NotifyFlow(notificationService, retryService, asyncService, templateRegistry, eventPublisher);
+        var schedules = scheduleStore;
+        if (schedules == null && scheduleDirectory != null) {
+            schedules = FileScheduleStore.open(scheduleDirectory);
+        }
+        NotificationScheduler scheduler = null;
+        if (schedules != null) {
+            scheduler = new NotificationScheduler(schedules, asyncService::sendAsync,
+                    StorageConstants.Schedule.DEFAULT_LOOKAHEAD_MINUTES, Clock.systemUTC());
+            scheduler.start();
+            // Closed in reverse order: stop the wheel before closing the store
+            resources.add(schedules);
+            resources.add(scheduler);
+        }
+
+        return new NotifyFlow(notificationService, retryService, asyncService, templateRegistry, eventPublisher,
+                deadLetters, statusStore, suppressions, journal, scheduler, resources);
+    }
+
+    private EventListener isolate(EventListener listener, List<AutoCloseable> resources) {
+        if (listenerQueueCapacity == 0) {
+            return listener;
+        }
+        var isolated = new IsolatedEventListener(listener, listenerQueueCapacity, listenerOverflowPolicy);
+        // Closed after the publisher, which may still deliver to it
+        resources.add(isolated);
+        return isolated;
     }
 }
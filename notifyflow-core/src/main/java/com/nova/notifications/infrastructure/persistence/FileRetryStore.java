@@ -0,0 +1,380 @@
+package com.nova.notifications.infrastructure.persistence;
+
+import com.nova.notifications.application.retry.PendingRetry;
+import com.nova.notifications.application.retry.RetryStore;
+import com.nova.notifications.common.StorageConstants;
+import com.nova.notifications.domain.model.Notification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.zip.CRC32;
+
+/**
+ * Disk-backed {@link RetryStore} built from append-only segment files.
+ * <p>
+ * Every change is appended as a checksummed record ({@code ADD} or {@code REMOVE}) to
+ * the active segment; segments roll once they exceed a size limit, and the oldest
+ * segments are deleted as soon as none of their entries is still pending. Only a small
+ * index is kept in memory, ordered by next-attempt time and pointing at the record on
+ * disk; the notification itself is read back when the entry is polled.
+ * </p>
+ * <p>
+ * On open, all segments are replayed in order. A torn record at the tail of the last
+ * segment (crash mid-write) ends the replay and is truncated. {@code ADD} records are
+ * forced to disk before {@link #add} returns; {@code REMOVE} records are not, so a crash
+ * can resurrect an already-performed retry (at-least-once delivery).
+ * </p>
+ *
+ * <pre>
+ * record := length:int crc32:int body
+ * body   := ADD id:long attempt:int nextAttemptAt:long notification:bytes
+ *         | REMOVE id:long
+ * </pre>
+ */
+public final class FileRetryStore implements RetryStore {
+
+    private static final Logger log = LoggerFactory.getLogger(FileRetryStore.class);
+
+    private static final byte RECORD_ADD = 1;
+    private static final byte RECORD_REMOVE = 2;
+    private static final int HEADER_BYTES = Integer.BYTES * 2;
+    private static final int ADD_FIXED_BYTES = 1 + Long.BYTES + Integer.BYTES + Long.BYTES;
+    private static final int REMOVE_BYTES = 1 + Long.BYTES;
+
+    private record IndexKey(long nextAttemptMillis, long id) implements Comparable<IndexKey> {
+        @Override
+        public int compareTo(IndexKey other) {
+            int byTime = Long.compare(nextAttemptMillis, other.nextAttemptMillis);
+            return byTime != 0 ? byTime : Long.compare(id, other.id);
+        }
+    }
+
+    private record Location(long segment, long offset, int length, int attempt) {
+    }
+
+    private final Path directory;
+    private final long maxSegmentBytes;
+    private final boolean fsyncOnAdd;
+
+    private final TreeMap<IndexKey, Location> index = new TreeMap<>();
+    private final Map<Long, IndexKey> keysById = new HashMap<>();
+    private final Set<Long> claimed = new HashSet<>();
+    private final TreeMap<Long, FileChannel> segments = new TreeMap<>();
+    private final Map<Long, Integer> liveEntries = new HashMap<>();
+
+    private long activeSegment;
+    private FileChannel activeChannel;
+    private long nextId = 1;
+    private boolean closed;
+
+    /**
+     * Opens (or creates) a retry store in the given directory.
+     *
+     * @param directory       directory holding the segment files
+     * @param maxSegmentBytes size after which the active segment is rolled
+     * @param fsyncOnAdd      whether to force each added entry to disk before returning
+     */
+    public FileRetryStore(Path directory, long maxSegmentBytes, boolean fsyncOnAdd) {
+        this.directory = Objects.requireNonNull(directory, StorageConstants.DIRECTORY_REQUIRED);
+        if (maxSegmentBytes <= 0) {
+            throw new IllegalArgumentException(StorageConstants.SEGMENT_SIZE_INVALID);
+        }
+        this.maxSegmentBytes = maxSegmentBytes;
+        this.fsyncOnAdd = fsyncOnAdd;
+        try {
+            Files.createDirectories(directory);
+            recover();
+        } catch (IOException e) {
+            closeQuietly();
+            throw new UncheckedIOException(StorageConstants.RetryStore.OPEN_FAILED + directory, e);
+        }
+        log.info("Retry store opened at '{}' with {} pending retries in {} segment(s)",
+                directory, index.size(), segments.size());
+    }
+
+    /**
+     * Opens a store with default segment size and fsync on every add.
+     */
+    public static FileRetryStore open(Path directory) {
+        return new FileRetryStore(directory, StorageConstants.RetryStore.DEFAULT_SEGMENT_BYTES, true);
+    }
+
+    @Override
+    public synchronized PendingRetry add(Notification notification, int attempt, Instant nextAttemptAt) {
+        ensureOpen();
+        long id = nextId++;
+        byte[] payload = NotificationCodec.encode(notification);
+        var body = ByteBuffer.allocate(ADD_FIXED_BYTES + payload.length)
+                .put(RECORD_ADD)
+                .putLong(id)
+                .putInt(attempt)
+                .putLong(nextAttemptAt.toEpochMilli())
+                .put(payload)
+                .flip();
+        try {
+            long offset = append(body, fsyncOnAdd);
+            var key = new IndexKey(nextAttemptAt.toEpochMilli(), id);
+            index.put(key, new Location(activeSegment, offset, body.limit(), attempt));
+            keysById.put(id, key);
+            claimed.add(id);
+            liveEntries.merge(activeSegment, 1, Integer::sum);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new PendingRetry(id, notification, attempt, nextAttemptAt);
+    }
+
+    @Override
+    public synchronized void remove(long id) {
+        ensureOpen();
+        var key = keysById.remove(id);
+        if (key == null) {
+            return;
+        }
+        var location = index.remove(key);
+        claimed.remove(id);
+        var body = ByteBuffer.allocate(REMOVE_BYTES).put(RECORD_REMOVE).putLong(id).flip();
+        try {
+            append(body, false);
+            releaseSegmentEntry(location.segment());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public synchronized List<PendingRetry> pollDue(Instant now, int max) {
+        ensureOpen();
+        var due = new ArrayList<PendingRetry>();
+        long nowMillis = now.toEpochMilli();
+        for (var entry : index.entrySet()) {
+            if (due.size() >= max || entry.getKey().nextAttemptMillis() > nowMillis) {
+                break;
+            }
+            long id = entry.getKey().id();
+            if (claimed.contains(id)) {
+                continue;
+            }
+            try {
+                var location = entry.getValue();
+                var notification = readNotification(location);
+                claimed.add(id);
+                due.add(new PendingRetry(id, notification, location.attempt(),
+                        Instant.ofEpochMilli(entry.getKey().nextAttemptMillis())));
+            } catch (IOException | IllegalArgumentException e) {
+                log.error("Skipping unreadable retry entry {}: {}", id, e.getMessage());
+                claimed.add(id);
+            }
+        }
+        return due;
+    }
+
+    @Override
+    public synchronized int size() {
+        return index.size();
+    }
+
+    @Override
+    public synchronized void close() {
+        if (closed) return;
+        closed = true;
+        closeQuietly();
+    }
+
+    // ========== Recovery ==========
+
+    private void recover() throws IOException {
+        List<Long> ids = new ArrayList<>();
+        try (var files = Files.list(directory)) {
+            files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.startsWith(StorageConstants.RetryStore.SEGMENT_PREFIX)
+                            && name.endsWith(StorageConstants.RetryStore.SEGMENT_SUFFIX))
+                    .map(name -> name.substring(StorageConstants.RetryStore.SEGMENT_PREFIX.length(),
+                            name.length() - StorageConstants.RetryStore.SEGMENT_SUFFIX.length()))
+                    .map(Long::parseLong)
+                    .sorted()
+                    .forEach(ids::add);
+        }
+
+        for (long segment : ids) {
+            var channel = FileChannel.open(segmentPath(segment), StandardOpenOption.READ, StandardOpenOption.WRITE);
+            segments.put(segment, channel);
+            long validEnd = replay(segment, channel);
+            if (validEnd < channel.size()) {
+                log.warn("Truncating torn tail of retry segment {} at offset {}", segment, validEnd);
+                channel.truncate(validEnd);
+            }
+        }
+
+        if (ids.isEmpty()) {
+            openNewSegment(1);
+        } else {
+            activeSegment = ids.getLast();
+            activeChannel = segments.get(activeSegment);
+        }
+        deleteDeadPrefix();
+    }
+
+    private long replay(long segment, FileChannel channel) throws IOException {
+        long position = 0;
+        long size = channel.size();
+        var header = ByteBuffer.allocate(HEADER_BYTES);
+        var crc = new CRC32();
+        while (position + HEADER_BYTES <= size) {
+            header.clear();
+            channel.read(header, position);
+            header.flip();
+            int length = header.getInt();
+            int checksum = header.getInt();
+            if (length <= 0 || position + HEADER_BYTES + length > size) {
+                break;
+            }
+            var body = ByteBuffer.allocate(length);
+            channel.read(body, position + HEADER_BYTES);
+            body.flip();
+            crc.reset();
+            crc.update(body.duplicate());
+            if ((int) crc.getValue() != checksum) {
+                break;
+            }
+            apply(segment, position + HEADER_BYTES, body);
+            position += HEADER_BYTES + length;
+        }
+        return position;
+    }
+
+    private void apply(long segment, long bodyOffset, ByteBuffer body) {
+        byte type = body.get();
+        long id = body.getLong();
+        nextId = Math.max(nextId, id + 1);
+        if (type == RECORD_ADD) {
+            int attempt = body.getInt();
+            long nextAttemptMillis = body.getLong();
+            var key = new IndexKey(nextAttemptMillis, id);
+            index.put(key, new Location(segment, bodyOffset, body.limit(), attempt));
+            keysById.put(id, key);
+            liveEntries.merge(segment, 1, Integer::sum);
+        } else if (type == RECORD_REMOVE) {
+            var key = keysById.remove(id);
+            if (key != null) {
+                var location = index.remove(key);
+                liveEntries.merge(location.segment(), -1, Integer::sum);
+            }
+        }
+    }
+
+    // ========== Segment I/O ==========
+
+    private long append(ByteBuffer body, boolean force) throws IOException {
+        if (activeChannel.size() >= maxSegmentBytes) {
+            rollSegment();
+        }
+        var crc = new CRC32();
+        crc.update(body.duplicate());
+        var record = ByteBuffer.allocate(HEADER_BYTES + body.remaining())
+                .putInt(body.remaining())
+                .putInt((int) crc.getValue())
+                .put(body)
+                .flip();
+        long offset = activeChannel.size();
+        while (record.hasRemaining()) {
+            activeChannel.write(record, offset + record.position());
+        }
+        if (force) {
+            activeChannel.force(false);
+        }
+        return offset + HEADER_BYTES;
+    }
+
+    private Notification readNotification(Location location) throws IOException {
+        var channel = segments.get(location.segment());
+        var body = ByteBuffer.allocate(location.length());
+        while (body.hasRemaining()) {
+            if (channel.read(body, location.offset() + body.position()) < 0) {
+                throw new IOException(StorageConstants.CORRUPT_RECORD);
+            }
+        }
+        byte[] payload = new byte[location.length() - ADD_FIXED_BYTES];
+        body.position(ADD_FIXED_BYTES);
+        body.get(payload);
+        return NotificationCodec.decode(payload);
+    }
+
+    private void rollSegment() throws IOException {
+        long previous = activeSegment;
+        activeChannel.force(false);
+        openNewSegment(previous + 1);
+        deleteDeadPrefix();
+    }
+
+    private void openNewSegment(long segment) throws IOException {
+        activeSegment = segment;
+        activeChannel = FileChannel.open(segmentPath(segment),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        segments.put(segment, activeChannel);
+    }
+
+    private void releaseSegmentEntry(long segment) throws IOException {
+        int remaining = liveEntries.merge(segment, -1, Integer::sum);
+        if (remaining <= 0 && segment == segments.firstKey()) {
+            deleteDeadPrefix();
+        }
+    }
+
+    /**
+     * Deletes the oldest segments while none of their entries is pending.
+     * <p>
+     * Only a prefix may be deleted: a REMOVE record can live in a later segment than
+     * its ADD, so deleting a segment in the middle could resurrect removed entries.
+     * </p>
+     */
+    private void deleteDeadPrefix() throws IOException {
+        while (!segments.isEmpty()) {
+            long oldest = segments.firstKey();
+            if (oldest == activeSegment || liveEntries.getOrDefault(oldest, 0) > 0) {
+                return;
+            }
+            segments.remove(oldest).close();
+            liveEntries.remove(oldest);
+            Files.deleteIfExists(segmentPath(oldest));
+        }
+    }
+
+    private Path segmentPath(long segment) {
+        return directory.resolve(StorageConstants.RetryStore.SEGMENT_PREFIX
+                + "%012d".formatted(segment) + StorageConstants.RetryStore.SEGMENT_SUFFIX);
+    }
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException(StorageConstants.STORE_CLOSED);
+        }
+    }
+
+    private void closeQuietly() {
+        for (var channel : segments.values()) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                log.warn("Failed to close retry segment: {}", e.getMessage());
+            }
+        }
+        segments.clear();
+    }
+}
@@ -0,0 +1,385 @@
+package com.nova.notifications.infrastructure.persistence;
+
+import com.nova.notifications.application.schedule.ScheduleStore;
+import com.nova.notifications.application.schedule.ScheduledNotification;
+import com.nova.notifications.common.StorageConstants;
+import com.nova.notifications.domain.model.Notification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.zip.CRC32;
+
+/**
+ * Disk-backed {@link ScheduleStore} with one append-only file per minute of due time.
+ * <p>
+ * Nothing is kept in memory per entry: the id of an entry is its bucket minute and its
+ * offset in the bucket file, so cancelling or completing it is a single positional write
+ * of its state byte. A bucket is read only when the scheduler loads it, sequentially from
+ * a read-only mapping. Recently used bucket files are kept open, up to
+ * {@value StorageConstants.Schedule#MAX_OPEN_BUCKETS}.
+ * </p>
+ * <p>
+ * The first time a bucket is opened in a process, it is scanned and a torn record at its
+ * tail (crash mid-write) is truncated. Added entries and cancellations are forced to disk
+ * before returning when {@code fsyncOnWrite} is set; completions never are, so a crash can
+ * resend an entry that was just sent (at-least-once delivery).
+ * </p>
+ *
+ * <pre>
+ * record := length:int crc32:int state:byte body
+ * body   := dueAtMillis:long notification:bytes
+ * </pre>
+ */
+public final class FileScheduleStore implements ScheduleStore {
+
+    private static final Logger log = LoggerFactory.getLogger(FileScheduleStore.class);
+
+    private static final byte STATE_PENDING = 1;
+    private static final byte STATE_CANCELLED = 2;
+    private static final byte STATE_DONE = 3;
+    private static final int HEADER_BYTES = Integer.BYTES * 2 + 1;
+    private static final int STATE_OFFSET = Integer.BYTES * 2;
+    private static final int BODY_FIXED_BYTES = Long.BYTES;
+    private static final int SECONDS_PER_MINUTE = 60;
+
+    /** Ids are the bucket minute in the high bits and the record offset in the low bits. */
+    private static final int OFFSET_BITS = 32;
+    private static final long OFFSET_MASK = (1L << OFFSET_BITS) - 1;
+    /** Buckets are loaded through a single mapping, which is limited to 2GB */
+    private static final long MAX_BUCKET_BYTES = Integer.MAX_VALUE;
+    /** Longest digit run that always fits in a long */
+    private static final int MAX_MINUTE_DIGITS = 18;
+
+    private static final class Bucket {
+        private final FileChannel channel;
+        private long end;
+
+        private Bucket(FileChannel channel, long end) {
+            this.channel = channel;
+            this.end = end;
+        }
+    }
+
+    private final Path directory;
+    private final boolean fsyncOnWrite;
+    /** Data end of buckets already checked in this process, so reopening one skips the scan */
+    private final Map<Long, Long> knownEnds = new HashMap<>();
+    private final Map<Long, Bucket> openBuckets =
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, Bucket> eldest) {
+                    if (size() <= StorageConstants.Schedule.MAX_OPEN_BUCKETS) {
+                        return false;
+                    }
+                    closeChannel(eldest.getValue());
+                    knownEnds.put(eldest.getKey(), eldest.getValue().end);
+                    return true;
+                }
+            };
+
+    private boolean closed;
+
+    /**
+     * Opens (or creates) a schedule store in the given directory.
+     *
+     * @param directory    directory holding the bucket files
+     * @param fsyncOnWrite whether to force added and cancelled entries to disk before returning
+     */
+    public FileScheduleStore(Path directory, boolean fsyncOnWrite) {
+        this.directory = Objects.requireNonNull(directory, StorageConstants.DIRECTORY_REQUIRED);
+        this.fsyncOnWrite = fsyncOnWrite;
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException(StorageConstants.Schedule.OPEN_FAILED + directory, e);
+        }
+        log.info("Schedule store opened at '{}'", directory);
+    }
+
+    /**
+     * Opens a store that forces every added or cancelled entry to disk.
+     */
+    public static FileScheduleStore open(Path directory) {
+        return new FileScheduleStore(directory, true);
+    }
+
+    @Override
+    public synchronized long add(Notification notification, Instant dueAt) {
+        ensureOpen();
+        long minute = Math.floorDiv(dueAt.getEpochSecond(), SECONDS_PER_MINUTE);
+        byte[] payload = NotificationCodec.encode(notification);
+        int length = BODY_FIXED_BYTES + payload.length;
+        var record = ByteBuffer.allocate(HEADER_BYTES + length);
+        record.position(HEADER_BYTES);
+        record.putLong(dueAt.toEpochMilli()).put(payload);
+        var crc = new CRC32();
+        crc.update(record.array(), HEADER_BYTES, length);
+        record.putInt(0, length).putInt(Integer.BYTES, (int) crc.getValue()).put(STATE_OFFSET, STATE_PENDING);
+        record.position(0);
+        try {
+            var bucket = bucket(minute, true);
+            long offset = bucket.end;
+            if (offset + record.limit() > MAX_BUCKET_BYTES) {
+                throw new IllegalStateException(StorageConstants.Schedule.BUCKET_FULL + minute);
+            }
+            while (record.hasRemaining()) {
+                bucket.channel.write(record, offset + record.position());
+            }
+            bucket.end = offset + record.limit();
+            if (fsyncOnWrite) {
+                bucket.channel.force(false);
+            }
+            return (minute << OFFSET_BITS) | offset;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public synchronized boolean cancel(long id) {
+        ensureOpen();
+        return transition(id, STATE_CANCELLED, fsyncOnWrite);
+    }
+
+    @Override
+    public synchronized void complete(long id) {
+        ensureOpen();
+        transition(id, STATE_DONE, false);
+    }
+
+    /**
+     * Moves a pending entry to a final state.
+     *
+     * @return false if the id does not name a pending entry
+     */
+    private boolean transition(long id, byte state, boolean force) {
+        long minute = id >> OFFSET_BITS;
+        long offset = id & OFFSET_MASK;
+        try {
+            var bucket = bucket(minute, false);
+            if (bucket == null || offset + HEADER_BYTES > bucket.end) {
+                return false;
+            }
+            var header = ByteBuffer.allocate(HEADER_BYTES);
+            readFully(bucket.channel, header, offset);
+            int length = header.getInt(0);
+            // Guard against ids that do not point at a record start
+            if (length < BODY_FIXED_BYTES || offset + HEADER_BYTES + length > bucket.end
+                    || header.get(STATE_OFFSET) != STATE_PENDING) {
+                return false;
+            }
+            var body = ByteBuffer.allocate(length);
+            readFully(bucket.channel, body, offset + HEADER_BYTES);
+            var crc = new CRC32();
+            crc.update(body.array());
+            if ((int) crc.getValue() != header.getInt(Integer.BYTES)) {
+                return false;
+            }
+            bucket.channel.write(ByteBuffer.wrap(new byte[]{state}), offset + STATE_OFFSET);
+            if (force) {
+                bucket.channel.force(false);
+            }
+            return true;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public synchronized List<ScheduledNotification> loadBucket(long epochMinute) {
+        ensureOpen();
+        try {
+            var bucket = bucket(epochMinute, false);
+            if (bucket == null || bucket.end == 0) {
+                return List.of();
+            }
+            var data = bucket.channel.map(FileChannel.MapMode.READ_ONLY, 0, bucket.end);
+            var entries = new ArrayList<ScheduledNotification>();
+            var crc = new CRC32();
+            long offset = 0;
+            while (offset < bucket.end) {
+                int length = data.getInt((int) offset);
+                int checksum = data.getInt((int) offset + Integer.BYTES);
+                byte state = data.get((int) offset + STATE_OFFSET);
+                byte[] body = new byte[length];
+                data.get((int) offset + HEADER_BYTES, body);
+                crc.reset();
+                crc.update(body);
+                if ((int) crc.getValue() != checksum) {
+                    log.error("Skipping corrupt scheduled send at {} in bucket {}", offset, epochMinute);
+                } else if (state == STATE_PENDING) {
+                    var buffer = ByteBuffer.wrap(body);
+                    long dueAt = buffer.getLong();
+                    byte[] payload = new byte[length - BODY_FIXED_BYTES];
+                    buffer.get(payload);
+                    try {
+                        entries.add(new ScheduledNotification((epochMinute << OFFSET_BITS) | offset,
+                                NotificationCodec.decode(payload), Instant.ofEpochMilli(dueAt)));
+                    } catch (IllegalArgumentException e) {
+                        log.error("Skipping undecodable scheduled send at {} in bucket {}: {}",
+                                offset, epochMinute, e.getMessage());
+                    }
+                }
+                offset += HEADER_BYTES + length;
+            }
+            return entries;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public synchronized List<Long> bucketsThrough(long epochMinute) {
+        ensureOpen();
+        try (var files = Files.list(directory)) {
+            return files.map(path -> bucketMinute(path.getFileName().toString()))
+                    .filter(minute -> minute != null && minute <= epochMinute)
+                    .sorted()
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Returns the minute of a bucket file name, or null for any other file, such as a
+     * backup copy left in the directory.
+     */
+    private static Long bucketMinute(String name) {
+        var prefix = StorageConstants.Schedule.BUCKET_PREFIX;
+        var suffix = StorageConstants.Schedule.BUCKET_SUFFIX;
+        if (!name.startsWith(prefix) || !name.endsWith(suffix)) {
+            return null;
+        }
+        var digits = name.substring(prefix.length(), Math.max(prefix.length(), name.length() - suffix.length()));
+        if (digits.isEmpty() || digits.length() > MAX_MINUTE_DIGITS
+                || !digits.chars().allMatch(c -> c >= '0' && c <= '9')) {
+            log.warn("Ignoring unrecognised file '{}' in schedule store", name);
+            return null;
+        }
+        return Long.parseLong(digits);
+    }
+
+    @Override
+    public synchronized void dropBucket(long epochMinute) {
+        ensureOpen();
+        knownEnds.remove(epochMinute);
+        var bucket = openBuckets.remove(epochMinute);
+        if (bucket != null) {
+            closeChannel(bucket);
+        }
+        try {
+            Files.deleteIfExists(bucketPath(epochMinute));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        if (closed) return;
+        closed = true;
+        for (var bucket : openBuckets.values()) {
+            closeChannel(bucket);
+        }
+        openBuckets.clear();
+    }
+
+    // ========== Buckets ==========
+
+    /**
+     * Returns the open bucket for a minute, opening its file if needed.
+     *
+     * @param create whether to create the file when it does not exist
+     * @return the bucket, or null if it does not exist and {@code create} is false
+     */
+    private Bucket bucket(long minute, boolean create) throws IOException {
+        var bucket = openBuckets.get(minute);
+        if (bucket != null) {
+            return bucket;
+        }
+        var path = bucketPath(minute);
+        if (!create && !Files.exists(path)) {
+            return null;
+        }
+        var channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        var known = knownEnds.remove(minute);
+        long end = known != null ? known : validEnd(channel);
+        if (end < channel.size()) {
+            log.warn("Truncating torn tail of schedule bucket {} at offset {}", minute, end);
+            channel.truncate(end);
+        }
+        bucket = new Bucket(channel, end);
+        openBuckets.put(minute, bucket);
+        return bucket;
+    }
+
+    /**
+     * Scans a bucket file and returns the offset just past its last intact record.
+     */
+    private static long validEnd(FileChannel channel) throws IOException {
+        long size = channel.size();
+        long position = 0;
+        var header = ByteBuffer.allocate(HEADER_BYTES);
+        var crc = new CRC32();
+        while (position + HEADER_BYTES <= size) {
+            header.clear();
+            readFully(channel, header, position);
+            int length = header.getInt(0);
+            if (length < BODY_FIXED_BYTES || position + HEADER_BYTES + length > size) {
+                break;
+            }
+            var body = ByteBuffer.allocate(length);
+            readFully(channel, body, position + HEADER_BYTES);
+            crc.reset();
+            crc.update(body.array());
+            if ((int) crc.getValue() != header.getInt(Integer.BYTES)) {
+                break;
+            }
+            position += HEADER_BYTES + length;
+        }
+        return position;
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException(StorageConstants.CORRUPT_RECORD);
+            }
+        }
+    }
+
+    private Path bucketPath(long minute) {
+        return directory.resolve(StorageConstants.Schedule.BUCKET_PREFIX
+                + "%012d".formatted(minute) + StorageConstants.Schedule.BUCKET_SUFFIX);
+    }
+
+    private static void closeChannel(Bucket bucket) {
+        try {
+            bucket.channel.close();
+        } catch (IOException e) {
+            log.warn("Failed to close schedule bucket: {}", e.getMessage());
+        }
+    }
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException(StorageConstants.STORE_CLOSED);
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package com.nova.notifications.infrastructure.persistence;
+
+import com.nova.notifications.application.status.DeliveryRecord;
+import com.nova.notifications.application.status.DeliveryStatus;
+import com.nova.notifications.application.status.DeliveryStatusStore;
+import com.nova.notifications.common.StorageConstants;
+import com.nova.notifications.domain.model.ChannelType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * {@link DeliveryStatusStore} made of an append-only record log and an off-heap hash index.
+ * <p>
+ * Every state change is appended to memory-mapped segments (see {@link MappedRecordLog})
+ * and links back to the previous record for the same notification, so the full history
+ * is a walk along that chain. An {@link OffHeapHashIndex} maps each notification id to its
+ * latest record; neither the index nor the records live on the Java heap, so the store can
+ * track hundreds of millions of notifications without GC pressure.
+ * </p>
+ * <p>
+ * The index is rebuilt by scanning the log when the store is opened.
+ * </p>
+ *
+ * <pre>
+ * body := notificationId:string previous:long status:byte channel:byte recordedAt:long detail:string
+ * </pre>
+ */
+public final class MappedDeliveryStatusStore implements DeliveryStatusStore {
+
+    private static final Logger log = LoggerFactory.getLogger(MappedDeliveryStatusStore.class);
+
+    private static final byte STATE_LIVE = 1;
+    private static final long NO_PREVIOUS = -1;
+    private static final byte NO_CHANNEL = -1;
+
+    private static final DeliveryStatus[] STATUSES = DeliveryStatus.values();
+    private static final ChannelType[] CHANNELS = ChannelType.values();
+
+    private final Path directory;
+    private final MappedRecordLog recordLog;
+    private final OffHeapHashIndex index;
+    private boolean closed;
+
+    /**
+     * Opens (or creates) a delivery status store in the given directory.
+     *
+     * @param directory       directory holding the segment files
+     * @param segmentBytes    size each segment file is preallocated to
+     * @param expectedEntries number of notification ids to size the index for
+     */
+    public MappedDeliveryStatusStore(Path directory, int segmentBytes, long expectedEntries) {
+        this.directory = Objects.requireNonNull(directory, StorageConstants.DIRECTORY_REQUIRED);
+        this.index = new OffHeapHashIndex(expectedEntries);
+        try {
+            this.recordLog = new MappedRecordLog(directory, StorageConstants.DeliveryStatus.SEGMENT_PREFIX,
+                    StorageConstants.DeliveryStatus.SEGMENT_SUFFIX, segmentBytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(StorageConstants.DeliveryStatus.OPEN_FAILED + directory, e);
+        }
+        recordLog.scan((id, state, body) -> {
+            var notificationId = decode(body).notificationId();
+            index.put(OffHeapHashIndex.hash(notificationId), id, candidate -> isRecordOf(candidate, notificationId));
+            return true;
+        });
+        log.info("Delivery status store opened at '{}' tracking {} notifications", directory, index.size());
+    }
+
+    /**
+     * Opens a store with the default segment size and index capacity.
+     */
+    public static MappedDeliveryStatusStore open(Path directory) {
+        return new MappedDeliveryStatusStore(directory, StorageConstants.DeliveryStatus.DEFAULT_SEGMENT_BYTES,
+                StorageConstants.DeliveryStatus.DEFAULT_EXPECTED_ENTRIES);
+    }
+
+    @Override
+    public synchronized void record(String notificationId, DeliveryStatus status, ChannelType channelType,
+                                    String detail) {
+        if (notificationId == null || notificationId.isBlank()) {
+            throw new IllegalArgumentException(StorageConstants.DeliveryStatus.NOTIFICATION_ID_REQUIRED);
+        }
+        Objects.requireNonNull(status, StorageConstants.DeliveryStatus.STATUS_REQUIRED);
+        ensureOpen();
+        long hash = OffHeapHashIndex.hash(notificationId);
+        long previous = index.get(hash, candidate -> isRecordOf(candidate, notificationId));
+        byte[] body = encode(notificationId, previous, status, channelType, Instant.now(), detail);
+        try {
+            long id = recordLog.append(STATE_LIVE, body);
+            index.put(hash, id, candidate -> candidate == previous);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public synchronized Optional<DeliveryRecord> latest(String notificationId) {
+        ensureOpen();
+        long id = lookup(notificationId);
+        return id == OffHeapHashIndex.NOT_FOUND ? Optional.empty() : Optional.of(decode(recordLog.read(id)).record());
+    }
+
+    @Override
+    public synchronized List<DeliveryRecord> history(String notificationId) {
+        ensureOpen();
+        var records = new ArrayList<DeliveryRecord>();
+        for (long id = lookup(notificationId); id != NO_PREVIOUS; ) {
+            var stored = decode(recordLog.read(id));
+            records.add(stored.record());
+            id = stored.previous();
+        }
+        Collections.reverse(records);
+        return records;
+    }
+
+    @Override
+    public synchronized long size() {
+        return index.size();
+    }
+
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        recordLog.close();
+        log.info("Delivery status store at '{}' closed", directory);
+    }
+
+    private long lookup(String notificationId) {
+        if (notificationId == null) {
+            return OffHeapHashIndex.NOT_FOUND;
+        }
+        return index.get(OffHeapHashIndex.hash(notificationId), candidate -> isRecordOf(candidate, notificationId));
+    }
+
+    private boolean isRecordOf(long recordId, String notificationId) {
+        return decode(recordLog.read(recordId)).notificationId().equals(notificationId);
+    }
+
+    // ========== Encoding ==========
+
+    private record StoredRecord(DeliveryRecord record, long previous) {
+        String notificationId() {
+            return record.notificationId();
+        }
+    }
+
+    private static byte[] encode(String notificationId, long previous, DeliveryStatus status,
+                                 ChannelType channelType, Instant recordedAt, String detail) {
+        var bytes = new ByteArrayOutputStream(64);
+        try (var out = new DataOutputStream(bytes)) {
+            NotificationCodec.writeString(out, notificationId);
+            out.writeLong(previous);
+            out.writeByte(status.ordinal());
+            out.writeByte(channelType != null ? channelType.ordinal() : NO_CHANNEL);
+            out.writeLong(recordedAt.toEpochMilli());
+            NotificationCodec.writeString(out, detail);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static StoredRecord decode(byte[] body) {
+        try (var in = new DataInputStream(new ByteArrayInputStream(body))) {
+            String notificationId = NotificationCodec.readString(in);
+            long previous = in.readLong();
+            var status = STATUSES[in.readByte()];
+            byte channel = in.readByte();
+            var recordedAt = Instant.ofEpochMilli(in.readLong());
+            String detail = NotificationCodec.readString(in);
+            return new StoredRecord(new DeliveryRecord(notificationId, status,
+                    channel == NO_CHANNEL ? null : CHANNELS[channel], recordedAt, detail), previous);
+        } catch (IOException | ArrayIndexOutOfBoundsException e) {
+            throw new IllegalStateException(StorageConstants.CORRUPT_RECORD, e);
+        }
+    }
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException(StorageConstants.STORE_CLOSED);
+        }
+    }
+}
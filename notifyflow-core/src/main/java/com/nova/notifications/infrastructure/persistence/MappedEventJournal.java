@@ -0,0 +1,294 @@
+package com.nova.notifications.infrastructure.persistence;
+
+import com.nova.notifications.application.pubsub.EventJournal;
+import com.nova.notifications.application.pubsub.EventListener;
+import com.nova.notifications.common.StorageConstants;
+import com.nova.notifications.domain.event.NotificationEvent;
+import com.nova.notifications.domain.event.NotificationEvent.EventType;
+import com.nova.notifications.domain.model.ChannelType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * {@link EventJournal} that appends events to memory-mapped segments of a {@link MappedRecordLog}.
+ * <p>
+ * Each event is a compact binary record of a few dozen bytes plus its result, copied into
+ * the mapped segment with no system call. A sparse time index holds the timestamp and id
+ * of the first record of every segment and of every {@value StorageConstants.EventJournal#INDEX_INTERVAL}th
+ * record, so a time-range replay seeks close to its start and reads sequentially from
+ * there, stopping at the end of the range.
+ * </p>
+ * <p>
+ * Journal timestamps never decrease: an event stamped slightly earlier than the one
+ * journaled before it (publishers on different threads) is journaled with the later
+ * time. Timestamps are kept to the millisecond. The index is rebuilt by scanning the
+ * segments when the journal is opened.
+ * </p>
+ * <p>
+ * Segments stay on disk and mapped until {@link #deleteBefore(Instant)} removes them. It
+ * deletes whole segments, oldest first, whose events are all older than the cutoff; the
+ * segment being written is always kept.
+ * </p>
+ *
+ * <pre>
+ * body := timestamp:long type:byte channel:byte attempt:int recipient:string hasResult:boolean result?
+ * </pre>
+ */
+public final class MappedEventJournal implements EventJournal {
+
+    private static final Logger log = LoggerFactory.getLogger(MappedEventJournal.class);
+
+    private static final byte STATE_LIVE = 1;
+    private static final byte NONE = -1;
+
+    private static final EventType[] EVENT_TYPES = EventType.values();
+    private static final ChannelType[] CHANNELS = ChannelType.values();
+
+    private final Path directory;
+    private final MappedRecordLog recordLog;
+    private final ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+    private final DataOutputStream out = new DataOutputStream(bytes);
+
+    /** Sparse time index: the timestamp and id of every indexed record, in journal order */
+    private long[] indexTimes = new long[64];
+    private long[] indexIds = new long[64];
+    private int indexSize;
+    /** Segment -> {timestamp of its first event, number of events} */
+    private final TreeMap<Long, long[]> segmentStats = new TreeMap<>();
+    private long[] lastSegmentStats;
+    private long count;
+    private long lastTimestamp = Long.MIN_VALUE;
+    private long lastSegment = -1;
+    private boolean closed;
+
+    /**
+     * Opens (or creates) an event journal in the given directory.
+     *
+     * @param directory    directory holding the segment files
+     * @param segmentBytes size each segment file is preallocated to
+     */
+    public MappedEventJournal(Path directory, int segmentBytes) {
+        this.directory = Objects.requireNonNull(directory, StorageConstants.DIRECTORY_REQUIRED);
+        try {
+            this.recordLog = new MappedRecordLog(directory, StorageConstants.EventJournal.SEGMENT_PREFIX,
+                    StorageConstants.EventJournal.SEGMENT_SUFFIX, segmentBytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(StorageConstants.EventJournal.OPEN_FAILED + directory, e);
+        }
+        recordLog.scan((id, state, body) -> {
+            indexRecord(id, timestampOf(body));
+            return true;
+        });
+        log.info("Event journal opened at '{}' with {} events", directory, count);
+    }
+
+    /**
+     * Opens a journal with the default segment size.
+     */
+    public static MappedEventJournal open(Path directory) {
+        return new MappedEventJournal(directory, StorageConstants.EventJournal.DEFAULT_SEGMENT_BYTES);
+    }
+
+    @Override
+    public synchronized void onEvent(NotificationEvent event) {
+        if (closed) {
+            log.debug("Event journal closed - dropping event {}", event.eventType());
+            return;
+        }
+        long timestamp = Math.max(lastTimestamp,
+                event.timestamp() != null ? event.timestamp().toEpochMilli() : System.currentTimeMillis());
+        try {
+            bytes.reset();
+            encode(out, event, timestamp);
+            indexRecord(recordLog.append(STATE_LIVE, bytes.toByteArray()), timestamp);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public long replay(EventListener listener) {
+        return replay(Long.MIN_VALUE, Long.MAX_VALUE, listener);
+    }
+
+    @Override
+    public long replay(Instant from, Instant to, EventListener listener) {
+        if (from == null || to == null) {
+            throw new IllegalArgumentException(StorageConstants.EventJournal.RANGE_REQUIRED);
+        }
+        return replay(from.toEpochMilli(), to.toEpochMilli(), listener);
+    }
+
+    @Override
+    public synchronized long size() {
+        return count;
+    }
+
+    @Override
+    public synchronized long deleteBefore(Instant cutoff) {
+        Objects.requireNonNull(cutoff, StorageConstants.EventJournal.CUTOFF_REQUIRED);
+        ensureOpen();
+        long cutoffMillis = cutoff.toEpochMilli();
+        long deleted = 0;
+        long deletedThrough = -1;
+        for (var entry : new ArrayList<>(segmentStats.entrySet())) {
+            // Timestamps never decrease, so no event of a segment is later than the next segment's first
+            var next = segmentStats.higherEntry(entry.getKey());
+            if (next == null || next.getValue()[0] >= cutoffMillis || !recordLog.deleteSegment(entry.getKey())) {
+                break;
+            }
+            segmentStats.remove(entry.getKey());
+            deleted += entry.getValue()[1];
+            deletedThrough = entry.getKey();
+        }
+        if (deleted > 0) {
+            int dropped = 0;
+            while (dropped < indexSize && MappedRecordLog.segmentOf(indexIds[dropped]) <= deletedThrough) {
+                dropped++;
+            }
+            System.arraycopy(indexTimes, dropped, indexTimes, 0, indexSize - dropped);
+            System.arraycopy(indexIds, dropped, indexIds, 0, indexSize - dropped);
+            indexSize -= dropped;
+            count -= deleted;
+            log.info("Deleted {} journaled events before {} from '{}'", deleted, cutoff, directory);
+        }
+        return deleted;
+    }
+
+    /**
+     * Forces the events journaled since the last call to the storage device.
+     */
+    public synchronized void force() {
+        ensureOpen();
+        recordLog.force();
+    }
+
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        recordLog.close();
+        log.info("Event journal at '{}' closed", directory);
+    }
+
+    private long replay(long fromMillis, long toMillis, EventListener listener) {
+        long startId;
+        synchronized (this) {
+            ensureOpen();
+            startId = seek(fromMillis);
+        }
+        long[] replayed = {0};
+        recordLog.scanFrom(startId, (id, state, body) -> {
+            long timestamp = timestampOf(body);
+            if (timestamp >= toMillis) {
+                return false;
+            }
+            if (timestamp >= fromMillis) {
+                listener.onEvent(decode(body));
+                replayed[0]++;
+            }
+            return true;
+        });
+        return replayed[0];
+    }
+
+    // ========== Time Index ==========
+
+    private void indexRecord(long id, long timestamp) {
+        long segment = MappedRecordLog.segmentOf(id);
+        boolean newSegment = segment != lastSegment;
+        if (newSegment) {
+            lastSegmentStats = new long[] {timestamp, 0};
+            segmentStats.put(segment, lastSegmentStats);
+            lastSegment = segment;
+        }
+        if (newSegment || count % StorageConstants.EventJournal.INDEX_INTERVAL == 0) {
+            if (indexSize == indexTimes.length) {
+                indexTimes = Arrays.copyOf(indexTimes, indexSize * 2);
+                indexIds = Arrays.copyOf(indexIds, indexSize * 2);
+            }
+            indexTimes[indexSize] = timestamp;
+            indexIds[indexSize] = id;
+            indexSize++;
+        }
+        lastSegmentStats[1]++;
+        lastTimestamp = timestamp;
+        count++;
+    }
+
+    /**
+     * Returns the id of the last indexed record older than {@code fromMillis}: every record
+     * before it is older too, since timestamps never decrease. Returns 0 (the start of the
+     * journal) if there is none.
+     */
+    private long seek(long fromMillis) {
+        int low = 0;
+        int high = indexSize - 1;
+        int found = -1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (indexTimes[mid] < fromMillis) {
+                found = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return found < 0 ? 0 : indexIds[found];
+    }
+
+    // ========== Encoding ==========
+
+    private static void encode(DataOutputStream out, NotificationEvent event, long timestamp) throws IOException {
+        out.writeLong(timestamp);
+        out.writeByte(event.eventType() != null ? event.eventType().ordinal() : NONE);
+        out.writeByte(event.channelType() != null ? event.channelType().ordinal() : NONE);
+        out.writeInt(event.attempt());
+        NotificationCodec.writeString(out, event.recipient());
+        out.writeBoolean(event.result() != null);
+        if (event.result() != null) {
+            NotificationCodec.writeResult(out, event.result());
+        }
+    }
+
+    private static long timestampOf(byte[] body) {
+        return ByteBuffer.wrap(body).getLong(0);
+    }
+
+    private static NotificationEvent decode(byte[] body) {
+        try (var in = new DataInputStream(new ByteArrayInputStream(body))) {
+            var timestamp = Instant.ofEpochMilli(in.readLong());
+            byte type = in.readByte();
+            byte channel = in.readByte();
+            int attempt = in.readInt();
+            String recipient = NotificationCodec.readString(in);
+            var result = in.readBoolean() ? NotificationCodec.readResult(in) : null;
+            return new NotificationEvent(type == NONE ? null : EVENT_TYPES[type],
+                    channel == NONE ? null : CHANNELS[channel], recipient, result, attempt, timestamp);
+        } catch (IOException | ArrayIndexOutOfBoundsException e) {
+            throw new IllegalStateException(StorageConstants.CORRUPT_RECORD, e);
+        }
+    }
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException(StorageConstants.STORE_CLOSED);
+        }
+    }
+}
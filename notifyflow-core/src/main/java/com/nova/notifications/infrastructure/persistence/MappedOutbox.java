@@ -0,0 +1,259 @@
+package com.nova.notifications.infrastructure.persistence;
+
+import com.nova.notifications.application.async.Outbox;
+import com.nova.notifications.application.async.OutboxEntry;
+import com.nova.notifications.common.StorageConstants;
+import com.nova.notifications.domain.model.Notification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * {@link Outbox} backed by preallocated, memory-mapped segment files with group commit.
+ * <p>
+ * Appends copy the encoded notification into the mapped log (see {@link MappedRecordLog})
+ * and queue the caller's future. A single commit thread forces everything appended so far
+ * with one {@code msync} and then completes all queued futures, so concurrent callers share
+ * each flush: while one flush is in progress, the next batch accumulates.
+ * </p>
+ * <p>
+ * Completion flips the entry's state byte in place without forcing it. A periodic checkpoint
+ * forces those flips and deletes segments with no incomplete entry left. A crash can therefore
+ * re-dispatch entries completed since the last checkpoint (at-least-once delivery).
+ * </p>
+ * <p>
+ * If a flush fails, the batch's entries are marked aborted before their callers are failed,
+ * so an entry whose pages reached disk anyway is not dispatched after a restart on top of
+ * the caller's own retry.
+ * </p>
+ *
+ * <pre>
+ * body := notification:bytes
+ * </pre>
+ */
+public final class MappedOutbox implements Outbox {
+
+    private static final Logger log = LoggerFactory.getLogger(MappedOutbox.class);
+
+    private static final byte STATE_PENDING = 1;
+    private static final byte STATE_DONE = 2;
+    /** Appended, but the caller was told the append failed; never dispatched */
+    private static final byte STATE_ABORTED = 3;
+
+    private record Waiter(long id, CompletableFuture<Long> future) {
+    }
+
+    private final Path directory;
+    private final MappedRecordLog recordLog;
+    private final long checkpointIntervalMillis;
+    private final List<OutboxEntry> recovered = new ArrayList<>();
+    private final Map<Long, Integer> liveEntries = new HashMap<>();
+    private final Thread committer;
+
+    private List<Waiter> waiting = new ArrayList<>();
+    private long nextCheckpointAt;
+    private boolean closed;
+
+    /**
+     * Opens (or creates) an outbox in the given directory.
+     *
+     * @param directory          directory holding the segment files
+     * @param segmentBytes       size each segment file is preallocated to
+     * @param checkpointInterval how often completions are forced and finished segments deleted
+     */
+    public MappedOutbox(Path directory, int segmentBytes, Duration checkpointInterval) {
+        this.directory = Objects.requireNonNull(directory, StorageConstants.DIRECTORY_REQUIRED);
+        if (checkpointInterval == null || checkpointInterval.isNegative() || checkpointInterval.isZero()) {
+            throw new IllegalArgumentException(StorageConstants.Outbox.CHECKPOINT_INTERVAL_INVALID);
+        }
+        this.checkpointIntervalMillis = checkpointInterval.toMillis();
+        try {
+            this.recordLog = new MappedRecordLog(directory, StorageConstants.Outbox.SEGMENT_PREFIX,
+                    StorageConstants.Outbox.SEGMENT_SUFFIX, segmentBytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(StorageConstants.Outbox.OPEN_FAILED + directory, e);
+        }
+        recordLog.scan((id, state, body) -> {
+            if (state == STATE_PENDING) {
+                recovered.add(new OutboxEntry(id, NotificationCodec.decode(body)));
+                liveEntries.merge(MappedRecordLog.segmentOf(id), 1, Integer::sum);
+            }
+            return true;
+        });
+        this.nextCheckpointAt = System.currentTimeMillis() + checkpointIntervalMillis;
+        this.committer = new Thread(this::commitLoop, "notifyflow-outbox-commit");
+        committer.setDaemon(true);
+        committer.start();
+        log.info("Outbox opened at '{}' with {} unfinished entries in {} segment(s)",
+                directory, recovered.size(), recordLog.segmentCount());
+    }
+
+    /**
+     * Opens an outbox with the default segment size and checkpoint interval.
+     */
+    public static MappedOutbox open(Path directory) {
+        return new MappedOutbox(directory, StorageConstants.Outbox.DEFAULT_SEGMENT_BYTES,
+                Duration.ofMillis(StorageConstants.Outbox.DEFAULT_CHECKPOINT_INTERVAL_MILLIS));
+    }
+
+    @Override
+    public CompletableFuture<Long> append(Notification notification) {
+        byte[] body = NotificationCodec.encode(notification);
+        var future = new CompletableFuture<Long>();
+        synchronized (this) {
+            if (closed) {
+                return CompletableFuture.failedFuture(new IllegalStateException(StorageConstants.STORE_CLOSED));
+            }
+            try {
+                long id = recordLog.append(STATE_PENDING, body);
+                liveEntries.merge(MappedRecordLog.segmentOf(id), 1, Integer::sum);
+                waiting.add(new Waiter(id, future));
+                notifyAll();
+            } catch (IOException e) {
+                return CompletableFuture.failedFuture(new UncheckedIOException(e));
+            }
+        }
+        return future;
+    }
+
+    @Override
+    public synchronized void complete(long id) {
+        if (closed) {
+            // Left incomplete on disk; dispatched again after the next start
+            return;
+        }
+        try {
+            if (recordLog.setState(id, STATE_DONE) == STATE_PENDING) {
+                liveEntries.merge(MappedRecordLog.segmentOf(id), -1, Integer::sum);
+            }
+        } catch (IllegalArgumentException e) {
+            // Segment already deleted by a checkpoint, so the entry was complete
+            log.debug("Outbox entry {} already checkpointed", id);
+        }
+    }
+
+    @Override
+    public List<OutboxEntry> recovered() {
+        return List.copyOf(recovered);
+    }
+
+    /**
+     * Forces completions to disk and deletes segments whose entries are all complete.
+     */
+    void checkpoint() {
+        recordLog.forceAll();
+        synchronized (this) {
+            long active = recordLog.activeSegment();
+            for (long segment : recordLog.segmentIndexes()) {
+                if (segment != active && liveEntries.getOrDefault(segment, 0) == 0
+                        && recordLog.deleteSegment(segment)) {
+                    liveEntries.remove(segment);
+                    log.debug("Outbox segment {} fully completed - deleted", segment);
+                }
+            }
+        }
+    }
+
+    /**
+     * Group commit: each pass forces every record appended so far and completes the
+     * futures of all callers that were waiting for it.
+     */
+    private void commitLoop() {
+        while (true) {
+            List<Waiter> batch;
+            synchronized (this) {
+                try {
+                    long now = System.currentTimeMillis();
+                    while (waiting.isEmpty() && !closed && now < nextCheckpointAt) {
+                        wait(nextCheckpointAt - now);
+                        now = System.currentTimeMillis();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                if (closed && waiting.isEmpty()) {
+                    return;
+                }
+                batch = waiting;
+                waiting = new ArrayList<>();
+            }
+
+            if (!batch.isEmpty()) {
+                commit(batch);
+            }
+            if (System.currentTimeMillis() >= nextCheckpointAt) {
+                checkpointQuietly();
+                nextCheckpointAt = System.currentTimeMillis() + checkpointIntervalMillis;
+            }
+        }
+    }
+
+    private void commit(List<Waiter> batch) {
+        try {
+            recordLog.force();
+        } catch (RuntimeException e) {
+            log.error("Outbox flush failed for {} entries: {}", batch.size(), e.getMessage(), e);
+            abort(batch);
+            batch.forEach(waiter -> waiter.future().completeExceptionally(e));
+            return;
+        }
+        batch.forEach(waiter -> waiter.future().complete(waiter.id()));
+    }
+
+    /**
+     * Marks the entries of a batch whose flush failed as aborted, so recovery skips them.
+     */
+    private synchronized void abort(List<Waiter> batch) {
+        for (var waiter : batch) {
+            if (recordLog.setState(waiter.id(), STATE_ABORTED) == STATE_PENDING) {
+                liveEntries.merge(MappedRecordLog.segmentOf(waiter.id()), -1, Integer::sum);
+            }
+        }
+    }
+
+    /**
+     * The underlying log, for tests.
+     */
+    MappedRecordLog recordLog() {
+        return recordLog;
+    }
+
+    private void checkpointQuietly() {
+        try {
+            checkpoint();
+        } catch (RuntimeException e) {
+            log.warn("Outbox checkpoint failed: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            notifyAll();
+        }
+        try {
+            // The committer drains waiting callers before it exits
+            committer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        checkpointQuietly();
+        recordLog.close();
+        log.info("Outbox at '{}' closed", directory);
+    }
+}
@@ -0,0 +1,392 @@
+package com.nova.notifications.infrastructure.persistence;
+
+import com.nova.notifications.common.StorageConstants;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only log of checksummed records in preallocated, memory-mapped segment files.
+ * <p>
+ * Shared by the mapped stores in this package. Appends are copies into the mapped region
+ * of the active segment, with no system call per record; segments roll once full. Dirty
+ * pages belong to the operating system, so records survive a crash of the JVM as soon as
+ * they are written, and survive a crash of the machine once {@link #force()} returns.
+ * </p>
+ * <p>
+ * A record is published by writing its length last: segments are zero-filled, so a zero
+ * length marks the end of the data and a record torn by a crash fails its checksum. Each
+ * record carries a one-byte state that the owning store may change in place; it is
+ * excluded from the checksum. Record ids encode the segment index and the offset.
+ * </p>
+ *
+ * <pre>
+ * record := length:int crc32:int state:byte body
+ * </pre>
+ */
+final class MappedRecordLog implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(MappedRecordLog.class);
+
+    static final int HEADER_BYTES = Integer.BYTES * 2 + 1;
+    private static final int STATE_OFFSET = Integer.BYTES * 2;
+
+    /** Ids are the segment index in the high bits and the record offset in the low bits. */
+    private static final int OFFSET_BITS = 40;
+    private static final long OFFSET_MASK = (1L << OFFSET_BITS) - 1;
+    /** Longest digit run that always fits in a long */
+    private static final int MAX_INDEX_DIGITS = 18;
+
+    /**
+     * Receives records during a {@link #scan}.
+     */
+    @FunctionalInterface
+    interface RecordVisitor {
+        /**
+         * @return false to stop the scan
+         */
+        boolean visit(long id, byte state, byte[] body);
+    }
+
+    private static final class Segment {
+        final long index;
+        final Path file;
+        final MappedByteBuffer buffer;
+        int end;
+        int forcedEnd;
+
+        Segment(long index, Path file, MappedByteBuffer buffer) {
+            this.index = index;
+            this.file = file;
+            this.buffer = buffer;
+        }
+    }
+
+    private final Path directory;
+    private final String prefix;
+    private final String suffix;
+    private final int segmentBytes;
+
+    private final TreeMap<Long, Segment> segments = new TreeMap<>();
+    private Segment active;
+    /** Runs between taking the dirty ranges and forcing them; tests use it to act mid-flush */
+    volatile Runnable syncHook = () -> { };
+
+    /**
+     * Opens (or creates) the log, scanning existing segments for the end of their data.
+     */
+    MappedRecordLog(Path directory, String prefix, String suffix, int segmentBytes) throws IOException {
+        if (segmentBytes <= HEADER_BYTES) {
+            throw new IllegalArgumentException(StorageConstants.SEGMENT_SIZE_INVALID);
+        }
+        this.directory = directory;
+        this.prefix = prefix;
+        this.suffix = suffix;
+        this.segmentBytes = segmentBytes;
+        Files.createDirectories(directory);
+        recover();
+    }
+
+    /**
+     * Appends a record.
+     *
+     * @return the record id
+     */
+    synchronized long append(byte state, byte[] body) throws IOException {
+        int recordBytes = HEADER_BYTES + body.length;
+        if (active.end + recordBytes > active.buffer.capacity()) {
+            roll(recordBytes);
+        }
+        var buffer = active.buffer;
+        int offset = active.end;
+        buffer.put(offset + HEADER_BYTES, body);
+        buffer.put(offset + STATE_OFFSET, state);
+        buffer.putInt(offset + Integer.BYTES, checksum(body));
+        buffer.putInt(offset, body.length);
+        active.end += recordBytes;
+        return idOf(active.index, offset);
+    }
+
+    /**
+     * Changes the state byte of a record in place.
+     *
+     * @return the previous state
+     * @throws IllegalArgumentException if no record has this id
+     */
+    synchronized byte setState(long id, byte state) {
+        var segment = segments.get(segmentOf(id));
+        int offset = (int) (id & OFFSET_MASK);
+        if (segment == null || offset >= segment.end) {
+            throw new IllegalArgumentException(StorageConstants.UNKNOWN_RECORD_ID + id);
+        }
+        byte previous = segment.buffer.get(offset + STATE_OFFSET);
+        segment.buffer.put(offset + STATE_OFFSET, state);
+        return previous;
+    }
+
+    /**
+     * Reads the body of a record.
+     *
+     * @throws IllegalArgumentException if no record has this id
+     */
+    synchronized byte[] read(long id) {
+        var segment = segments.get(segmentOf(id));
+        int offset = (int) (id & OFFSET_MASK);
+        if (segment == null || offset >= segment.end) {
+            throw new IllegalArgumentException(StorageConstants.UNKNOWN_RECORD_ID + id);
+        }
+        byte[] body = new byte[segment.buffer.getInt(offset)];
+        segment.buffer.get(offset + HEADER_BYTES, body);
+        return body;
+    }
+
+    /**
+     * Forces the records appended since the last call to the storage device.
+     * State changes are not covered; use {@link #forceAll()} for those.
+     * <p>
+     * Only taking the dirty ranges holds the lock; the {@code msync} itself runs outside it,
+     * so appends continue while a flush is in progress.
+     * </p>
+     */
+    void force() {
+        List<Segment> dirty = new ArrayList<>();
+        List<int[]> ranges = new ArrayList<>();
+        synchronized (this) {
+            for (var segment : segments.values()) {
+                if (segment.end > segment.forcedEnd) {
+                    dirty.add(segment);
+                    ranges.add(new int[] {segment.forcedEnd, segment.end});
+                }
+            }
+        }
+        syncHook.run();
+        for (int i = 0; i < dirty.size(); i++) {
+            int[] range = ranges.get(i);
+            dirty.get(i).buffer.force(range[0], range[1] - range[0]);
+        }
+        synchronized (this) {
+            for (int i = 0; i < dirty.size(); i++) {
+                var segment = dirty.get(i);
+                segment.forcedEnd = Math.max(segment.forcedEnd, ranges.get(i)[1]);
+            }
+        }
+    }
+
+    /**
+     * Forces every dirty page of every segment, including in-place state changes. Like
+     * {@link #force()}, the {@code msync} runs outside the lock.
+     */
+    void forceAll() {
+        List<Segment> snapshot;
+        List<Integer> ends = new ArrayList<>();
+        synchronized (this) {
+            snapshot = new ArrayList<>(segments.values());
+            snapshot.forEach(segment -> ends.add(segment.end));
+        }
+        syncHook.run();
+        snapshot.forEach(segment -> segment.buffer.force());
+        synchronized (this) {
+            for (int i = 0; i < snapshot.size(); i++) {
+                var segment = snapshot.get(i);
+                segment.forcedEnd = Math.max(segment.forcedEnd, ends.get(i));
+            }
+        }
+    }
+
+    /**
+     * Visits every record in append order. Runs over a snapshot of the segment ends taken
+     * under the lock; published records are immutable apart from their state byte.
+     */
+    void scan(RecordVisitor visitor) {
+        scanFrom(0, visitor);
+    }
+
+    /**
+     * Visits the records from the given id on, in append order, as {@link #scan} does.
+     *
+     * @param fromId id of the first record to visit; records of deleted segments are skipped
+     */
+    void scanFrom(long fromId, RecordVisitor visitor) {
+        List<Segment> snapshot;
+        List<Integer> ends = new ArrayList<>();
+        synchronized (this) {
+            snapshot = new ArrayList<>(segments.tailMap(segmentOf(fromId)).values());
+            snapshot.forEach(segment -> ends.add(segment.end));
+        }
+        for (int i = 0; i < snapshot.size(); i++) {
+            var segment = snapshot.get(i);
+            int position = segment.index == segmentOf(fromId) ? (int) (fromId & OFFSET_MASK) : 0;
+            while (position < ends.get(i)) {
+                int length = segment.buffer.getInt(position);
+                byte[] body = new byte[length];
+                segment.buffer.get(position + HEADER_BYTES, body);
+                byte state = segment.buffer.get(position + STATE_OFFSET);
+                if (!visitor.visit(idOf(segment.index, position), state, body)) {
+                    return;
+                }
+                position += HEADER_BYTES + length;
+            }
+        }
+    }
+
+    /**
+     * Deletes the given segment file. The active segment is never deleted.
+     *
+     * @return true if the segment was deleted
+     */
+    synchronized boolean deleteSegment(long index) {
+        var segment = segments.get(index);
+        if (segment == null || segment == active) {
+            return false;
+        }
+        try {
+            // The mapping stays valid until garbage collected; the file is gone on POSIX systems
+            Files.deleteIfExists(segment.file);
+            segments.remove(index);
+            return true;
+        } catch (IOException e) {
+            log.warn("Failed to delete segment '{}': {}", segment.file, e.getMessage());
+            return false;
+        }
+    }
+
+    synchronized long activeSegment() {
+        return active.index;
+    }
+
+    synchronized List<Long> segmentIndexes() {
+        return List.copyOf(segments.keySet());
+    }
+
+    synchronized int segmentCount() {
+        return segments.size();
+    }
+
+    static long segmentOf(long id) {
+        return id >>> OFFSET_BITS;
+    }
+
+    @Override
+    public synchronized void close() {
+        forceAll();
+        // Mappings are released once the buffers are garbage collected
+        segments.clear();
+    }
+
+    // ========== Recovery ==========
+
+    private void recover() throws IOException {
+        List<Path> files;
+        try (Stream<Path> list = Files.list(directory)) {
+            files = list.filter(this::isSegmentFile).sorted().toList();
+        }
+        for (var file : files) {
+            var segment = map(file, segmentIndex(file), Files.size(file));
+            segment.end = scanEnd(segment);
+            segment.forcedEnd = segment.end;
+            segments.put(segment.index, segment);
+        }
+        if (segments.isEmpty()) {
+            roll(0);
+            return;
+        }
+        active = segments.lastEntry().getValue();
+        clearTornTail();
+    }
+
+    private static int scanEnd(Segment segment) {
+        var buffer = segment.buffer;
+        int position = 0;
+        while (position + HEADER_BYTES <= buffer.capacity()) {
+            int length = buffer.getInt(position);
+            if (length <= 0 || length > buffer.capacity() - position - HEADER_BYTES) {
+                break;
+            }
+            byte[] body = new byte[length];
+            buffer.get(position + HEADER_BYTES, body);
+            if (checksum(body) != buffer.getInt(position + Integer.BYTES)) {
+                log.warn("Torn record in segment '{}' at offset {} - ignoring the rest of the segment",
+                        segment.file.getFileName(), position);
+                break;
+            }
+            position += HEADER_BYTES + length;
+        }
+        return position;
+    }
+
+    /**
+     * Zeroes whatever a crash left after the last valid record, so the next append
+     * cannot be followed by stale bytes that happen to look like a record.
+     */
+    private void clearTornTail() {
+        var buffer = active.buffer;
+        if (active.end + Integer.BYTES > buffer.capacity() || buffer.getInt(active.end) == 0) {
+            return;
+        }
+        for (int i = active.end; i < buffer.capacity(); i++) {
+            buffer.put(i, (byte) 0);
+        }
+        buffer.force();
+    }
+
+    // ========== Segments ==========
+
+    private void roll(int minimumBytes) throws IOException {
+        long index = active == null ? 0 : active.index + 1;
+        var file = directory.resolve(prefix + String.format("%012d", index) + suffix);
+        active = map(file, index, Math.max(segmentBytes, minimumBytes));
+        segments.put(index, active);
+    }
+
+    private static Segment map(Path file, long index, long size) throws IOException {
+        try (var channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            // Mapping past the end of the file extends it; the mapping outlives the channel
+            return new Segment(index, file, channel.map(FileChannel.MapMode.READ_WRITE, 0, size));
+        }
+    }
+
+    /**
+     * Tells whether a file is one of this log's segments. Other files carrying the prefix
+     * and suffix, such as a copy left in the directory, are logged and skipped.
+     */
+    private boolean isSegmentFile(Path file) {
+        String name = file.getFileName().toString();
+        if (!name.startsWith(prefix) || !name.endsWith(suffix)) {
+            return false;
+        }
+        String digits = name.substring(prefix.length(), Math.max(prefix.length(), name.length() - suffix.length()));
+        if (digits.isEmpty() || digits.length() > MAX_INDEX_DIGITS
+                || !digits.chars().allMatch(c -> c >= '0' && c <= '9')) {
+            log.warn("Ignoring unrecognised file '{}' in record log directory", name);
+            return false;
+        }
+        return true;
+    }
+
+    private long segmentIndex(Path file) {
+        String name = file.getFileName().toString();
+        return Long.parseLong(name.substring(prefix.length(), name.length() - suffix.length()));
+    }
+
+    private static long idOf(long segmentIndex, int offset) {
+        return (segmentIndex << OFFSET_BITS) | offset;
+    }
+
+    private static int checksum(byte[] body) {
+        var crc = new CRC32();
+        crc.update(body);
+        return (int) crc.getValue();
+    }
+}
@@ -0,0 +1,273 @@
+package com.nova.notifications.infrastructure.persistence;
+
+import com.nova.notifications.application.suppression.SuppressionList;
+import com.nova.notifications.common.StorageConstants;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * {@link SuppressionList} backed by a memory-mapped index compiled from a text file.
+ * <p>
+ * The source file holds one recipient per line (blank lines and lines starting with
+ * {@code #} are skipped). It is compiled into {@code <source>.idx}: a Bloom filter
+ * followed by the sorted 64-bit hashes of every recipient. Both are mapped read-only, so
+ * tens of millions of recipients cost no Java heap once loaded. A lookup hashes the
+ * recipient without allocating, rejects almost every recipient that is not suppressed in
+ * the Bloom filter, and binary-searches the hashes for the rest. Comparing hashes rather
+ * than strings admits a false positive with probability about {@code n / 2^64}.
+ * </p>
+ * <p>
+ * Email addresses are matched case-insensitively; phone numbers and tokens exactly. An
+ * index newer than its source is reused when the list is opened. {@link #reload()}
+ * compiles a fresh index next to the old one, renames it into place and swaps the mapping
+ * in one volatile write. Compiling holds the hashes in a {@code long[]} (8 bytes per entry)
+ * while sorting.
+ * </p>
+ *
+ * <pre>
+ * index := magic:int version:int count:long bloomWords:long hashFunctions:int pad:int
+ *          bloom:long[bloomWords] hashes:long[count]
+ * </pre>
+ */
+public final class MappedSuppressionList implements SuppressionList {
+
+    private static final Logger log = LoggerFactory.getLogger(MappedSuppressionList.class);
+
+    private static final int HEADER_BYTES = 32;
+    private static final int WRITE_BUFFER_BYTES = 1 << 20;
+
+    private final Path source;
+    private final Path indexFile;
+    private volatile Snapshot snapshot;
+
+    private MappedSuppressionList(Path source) {
+        this.source = Objects.requireNonNull(source, StorageConstants.Suppression.SOURCE_REQUIRED);
+        this.indexFile = source.resolveSibling(source.getFileName() + StorageConstants.Suppression.INDEX_SUFFIX);
+    }
+
+    /**
+     * Opens a suppression list, compiling its index unless an up-to-date one exists.
+     *
+     * @param source text file with one recipient per line
+     * @throws UncheckedIOException if the file cannot be read or the index written
+     */
+    public static MappedSuppressionList open(Path source) {
+        var list = new MappedSuppressionList(source);
+        try {
+            if (Files.exists(list.indexFile)
+                    && Files.getLastModifiedTime(list.indexFile).compareTo(Files.getLastModifiedTime(source)) >= 0) {
+                list.snapshot = Snapshot.map(list.indexFile);
+            }
+        } catch (IOException | IllegalStateException e) {
+            log.warn("Ignoring unreadable suppression index '{}': {}", list.indexFile, e.getMessage());
+        }
+        if (list.snapshot == null) {
+            list.reload();
+        }
+        log.info("Suppression list opened from '{}' with {} recipients", source, list.size());
+        return list;
+    }
+
+    @Override
+    public boolean isSuppressed(String recipient) {
+        return recipient != null && snapshot.contains(hash(recipient));
+    }
+
+    @Override
+    public long size() {
+        return snapshot.count;
+    }
+
+    @Override
+    public synchronized void reload() {
+        var temp = indexFile.resolveSibling(indexFile.getFileName() + StorageConstants.Suppression.TEMP_SUFFIX);
+        try {
+            long count = compile(source, temp);
+            Files.move(temp, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            snapshot = Snapshot.map(indexFile);
+            log.info("Suppression list compiled from '{}': {} recipients", source, count);
+        } catch (IOException e) {
+            throw new UncheckedIOException(StorageConstants.Suppression.LOAD_FAILED + source, e);
+        }
+    }
+
+    /**
+     * 64-bit hash of a recipient, folding ASCII case for email addresses (FNV-1a over the
+     * UTF-16 code units followed by a murmur3 finalizer).
+     */
+    static long hash(String recipient) {
+        boolean foldCase = recipient.indexOf('@') >= 0;
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < recipient.length(); i++) {
+            char c = recipient.charAt(i);
+            if (foldCase && c >= 'A' && c <= 'Z') {
+                c += 'a' - 'A';
+            }
+            h ^= c;
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    private static long compile(Path source, Path target) throws IOException {
+        long[] hashes = new long[1 << 16];
+        int count = 0;
+        try (BufferedReader reader = Files.newBufferedReader(source, StandardCharsets.UTF_8)) {
+            for (String line; (line = reader.readLine()) != null; ) {
+                line = line.strip();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                if (count == hashes.length) {
+                    if (count == Integer.MAX_VALUE / Long.BYTES) {
+                        throw new IllegalStateException(StorageConstants.Suppression.TOO_LARGE + count);
+                    }
+                    hashes = Arrays.copyOf(hashes, (int) Math.min(count * 2L, Integer.MAX_VALUE / Long.BYTES));
+                }
+                hashes[count++] = hash(line);
+            }
+        }
+        Arrays.parallelSort(hashes, 0, count);
+        int unique = 0;
+        for (int i = 0; i < count; i++) {
+            if (unique == 0 || hashes[i] != hashes[unique - 1]) {
+                hashes[unique++] = hashes[i];
+            }
+        }
+
+        long[] bloom = new long[bloomWordsFor(unique)];
+        long bloomMask = bloom.length * 64L - 1;
+        for (int i = 0; i < unique; i++) {
+            long h1 = hashes[i];
+            long h2 = Long.rotateLeft(h1, 32) | 1;
+            for (int k = 0; k < StorageConstants.Suppression.BLOOM_HASH_FUNCTIONS; k++) {
+                long bit = (h1 + k * h2) & bloomMask;
+                bloom[(int) (bit >>> 6)] |= 1L << bit;
+            }
+        }
+
+        try (var channel = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            var buffer = ByteBuffer.allocateDirect(WRITE_BUFFER_BYTES);
+            buffer.putInt(StorageConstants.Suppression.MAGIC)
+                    .putInt(StorageConstants.Suppression.FORMAT_VERSION)
+                    .putLong(unique)
+                    .putLong(bloom.length)
+                    .putInt(StorageConstants.Suppression.BLOOM_HASH_FUNCTIONS)
+                    .putInt(0);
+            writeLongs(channel, buffer, bloom, bloom.length);
+            writeLongs(channel, buffer, hashes, unique);
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+        return unique;
+    }
+
+    private static void writeLongs(FileChannel channel, ByteBuffer buffer, long[] values, int length)
+            throws IOException {
+        for (int i = 0; i < length; i++) {
+            if (buffer.remaining() < Long.BYTES) {
+                buffer.flip();
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                buffer.clear();
+            }
+            buffer.putLong(values[i]);
+        }
+    }
+
+    /**
+     * Bloom filter size in 64-bit words: about ten bits per entry, rounded up to a power of
+     * two so a bit index is a mask away from the hash.
+     */
+    private static int bloomWordsFor(int entries) {
+        long bits = Math.max(64, (long) entries * StorageConstants.Suppression.BLOOM_BITS_PER_ENTRY);
+        return (int) (Long.highestOneBit(bits - 1) << 1 >>> 6);
+    }
+
+    /**
+     * One compiled index, mapped read-only; immutable once published.
+     */
+    private static final class Snapshot {
+
+        private final ByteBuffer bloom;
+        private final long bloomMask;
+        private final int hashFunctions;
+        private final ByteBuffer hashes;
+        private final int count;
+
+        private Snapshot(ByteBuffer bloom, long bloomMask, int hashFunctions, ByteBuffer hashes, int count) {
+            this.bloom = bloom;
+            this.bloomMask = bloomMask;
+            this.hashFunctions = hashFunctions;
+            this.hashes = hashes;
+            this.count = count;
+        }
+
+        static Snapshot map(Path indexFile) throws IOException {
+            try (var channel = FileChannel.open(indexFile, StandardOpenOption.READ)) {
+                var header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_BYTES);
+                if (header.getInt(0) != StorageConstants.Suppression.MAGIC
+                        || header.getInt(4) != StorageConstants.Suppression.FORMAT_VERSION) {
+                    throw new IllegalStateException(StorageConstants.UNSUPPORTED_FORMAT_VERSION + header.getInt(4));
+                }
+                long count = header.getLong(8);
+                long bloomWords = header.getLong(16);
+                int hashFunctions = header.getInt(24);
+                long bloomBytes = bloomWords * Long.BYTES;
+                if (HEADER_BYTES + bloomBytes + count * Long.BYTES != channel.size()) {
+                    throw new IllegalStateException(StorageConstants.CORRUPT_RECORD);
+                }
+                var bloom = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_BYTES, bloomBytes);
+                var hashes = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_BYTES + bloomBytes, count * Long.BYTES);
+                return new Snapshot(bloom, bloomWords * 64 - 1, hashFunctions, hashes, (int) count);
+            }
+        }
+
+        boolean contains(long hash) {
+            long h2 = Long.rotateLeft(hash, 32) | 1;
+            for (int k = 0; k < hashFunctions; k++) {
+                long bit = (hash + k * h2) & bloomMask;
+                if ((bloom.getLong((int) (bit >>> 6) * Long.BYTES) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            int low = 0;
+            int high = count - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                long value = hashes.getLong(mid * Long.BYTES);
+                if (value < hash) {
+                    low = mid + 1;
+                } else if (value > hash) {
+                    high = mid - 1;
+                } else {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
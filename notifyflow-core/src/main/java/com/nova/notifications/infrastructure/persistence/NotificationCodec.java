@@ -0,0 +1,241 @@
+package com.nova.notifications.infrastructure.persistence;
+
+import com.nova.notifications.common.StorageConstants;
+import com.nova.notifications.domain.model.EmailNotification;
+import com.nova.notifications.domain.model.Notification;
+import com.nova.notifications.domain.model.PushNotification;
+import com.nova.notifications.domain.model.SlackNotification;
+import com.nova.notifications.domain.model.SmsNotification;
+import com.nova.notifications.domain.result.ErrorCategory;
+import com.nova.notifications.domain.result.NotificationResult;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compact binary codec for {@link Notification} records and their {@link NotificationResult}s.
+ * <p>
+ * Used by the on-disk stores (retry queue, dead letters, outbox) to persist
+ * notifications without a serialization framework. The switch over the sealed
+ * {@link Notification} hierarchy is exhaustive, so adding a new notification type
+ * fails compilation here until its encoding is defined.
+ * </p>
+ * <p>
+ * Strings are written as a length-prefixed UTF-8 byte sequence (length -1 for null),
+ * so bodies are not limited to the 64KB of {@link DataOutput#writeUTF(String)}.
+ * </p>
+ */
+public final class NotificationCodec {
+
+    private static final byte FORMAT_VERSION = 1;
+
+    private static final byte TYPE_EMAIL = 1;
+    private static final byte TYPE_SMS = 2;
+    private static final byte TYPE_PUSH = 3;
+    private static final byte TYPE_SLACK = 4;
+
+    private static final int NULL_LENGTH = -1;
+
+    private NotificationCodec() {
+        // Utility class - prevent instantiation
+    }
+
+    /**
+     * Encodes a notification into a standalone byte array.
+     */
+    public static byte[] encode(Notification notification) {
+        var bytes = new ByteArrayOutputStream(256);
+        try (var out = new DataOutputStream(bytes)) {
+            write(out, notification);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Decodes a notification previously produced by {@link #encode(Notification)}.
+     *
+     * @throws IllegalArgumentException if the bytes are not a valid encoding
+     */
+    public static Notification decode(byte[] bytes) {
+        try (var in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            return read(in);
+        } catch (IOException e) {
+            throw new IllegalArgumentException(StorageConstants.CORRUPT_RECORD, e);
+        }
+    }
+
+    /**
+     * Writes a notification to a data stream.
+     */
+    public static void write(DataOutput out, Notification notification) throws IOException {
+        out.writeByte(FORMAT_VERSION);
+        switch (notification) {
+            case EmailNotification e -> {
+                out.writeByte(TYPE_EMAIL);
+                writeString(out, e.from());
+                writeString(out, e.to());
+                writeString(out, e.subject());
+                writeString(out, e.body());
+                out.writeBoolean(e.isHtml());
+                writeStringList(out, e.cc());
+                writeStringList(out, e.bcc());
+            }
+            case SmsNotification s -> {
+                out.writeByte(TYPE_SMS);
+                writeString(out, s.from());
+                writeString(out, s.phoneNumber());
+                writeString(out, s.message());
+            }
+            case PushNotification p -> {
+                out.writeByte(TYPE_PUSH);
+                writeString(out, p.deviceToken());
+                writeString(out, p.title());
+                writeString(out, p.body());
+                out.writeInt(p.data().size());
+                for (var entry : p.data().entrySet()) {
+                    writeString(out, entry.getKey());
+                    writeString(out, entry.getValue());
+                }
+                out.writeBoolean(p.badge() != null);
+                if (p.badge() != null) out.writeInt(p.badge());
+                writeString(out, p.sound());
+            }
+            case SlackNotification sl -> {
+                out.writeByte(TYPE_SLACK);
+                writeString(out, sl.channel());
+                writeString(out, sl.message());
+                writeString(out, sl.username());
+                writeString(out, sl.iconEmoji());
+            }
+        }
+    }
+
+    /**
+     * Reads a notification from a data stream.
+     */
+    public static Notification read(DataInput in) throws IOException {
+        byte version = in.readByte();
+        if (version != FORMAT_VERSION) {
+            throw new IOException(StorageConstants.UNSUPPORTED_FORMAT_VERSION + version);
+        }
+        byte type = in.readByte();
+        return switch (type) {
+            case TYPE_EMAIL -> new EmailNotification(
+                    readString(in), readString(in), readString(in), readString(in),
+                    in.readBoolean(), readStringList(in), readStringList(in));
+            case TYPE_SMS -> new SmsNotification(readString(in), readString(in), readString(in));
+            case TYPE_PUSH -> {
+                String token = readString(in);
+                String title = readString(in);
+                String body = readString(in);
+                int size = in.readInt();
+                Map<String, String> data = new LinkedHashMap<>();
+                for (int i = 0; i < size; i++) {
+                    data.put(readString(in), readString(in));
+                }
+                Integer badge = in.readBoolean() ? in.readInt() : null;
+                yield new PushNotification(token, title, body, data, badge, readString(in));
+            }
+            case TYPE_SLACK -> new SlackNotification(readString(in), readString(in), readString(in), readString(in));
+            default -> throw new IOException(StorageConstants.UNKNOWN_NOTIFICATION_TYPE + type);
+        };
+    }
+
+    /**
+     * Writes a send result to a data stream.
+     * <p>
+     * The {@code cause} is not serializable in general; only its type and message are kept,
+     * folded into the error message. Decoded results therefore have a null cause.
+     * </p>
+     */
+    public static void writeResult(DataOutput out, NotificationResult result) throws IOException {
+        out.writeByte(FORMAT_VERSION);
+        out.writeBoolean(result.successful());
+        writeString(out, result.notificationId());
+        writeString(out, result.errorSource());
+        writeString(out, describeFailure(result));
+        out.writeLong(result.timestamp() != null ? result.timestamp().toEpochMilli() : 0L);
+        writeString(out, result.errorCategory() != null ? result.errorCategory().name() : null);
+        writeString(out, result.providerName());
+        out.writeLong(result.retryAfter() != null ? result.retryAfter().toMillis() : NULL_LENGTH);
+    }
+
+    /**
+     * Reads a send result written by {@link #writeResult(DataOutput, NotificationResult)}.
+     */
+    public static NotificationResult readResult(DataInput in) throws IOException {
+        byte version = in.readByte();
+        if (version != FORMAT_VERSION) {
+            throw new IOException(StorageConstants.UNSUPPORTED_FORMAT_VERSION + version);
+        }
+        boolean successful = in.readBoolean();
+        String notificationId = readString(in);
+        String errorSource = readString(in);
+        String errorMessage = readString(in);
+        Instant timestamp = Instant.ofEpochMilli(in.readLong());
+        String category = readString(in);
+        String providerName = readString(in);
+        long retryAfterMillis = in.readLong();
+        return new NotificationResult(successful, notificationId, errorSource, errorMessage, null, timestamp,
+                category != null ? ErrorCategory.valueOf(category) : null,
+                providerName,
+                retryAfterMillis >= 0 ? Duration.ofMillis(retryAfterMillis) : null);
+    }
+
+    private static String describeFailure(NotificationResult result) {
+        if (result.cause() == null || result.errorMessage() == null) {
+            return result.errorMessage();
+        }
+        return result.errorMessage() + " (" + result.cause().getClass().getName() + ")";
+    }
+
+    static void writeString(DataOutput out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(NULL_LENGTH);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    static String readString(DataInput in) throws IOException {
+        int length = in.readInt();
+        if (length == NULL_LENGTH) return null;
+        if (length < 0) throw new IOException(StorageConstants.CORRUPT_RECORD);
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeStringList(DataOutput out, List<String> values) throws IOException {
+        out.writeInt(values.size());
+        for (String value : values) {
+            writeString(out, value);
+        }
+    }
+
+    private static List<String> readStringList(DataInput in) throws IOException {
+        int size = in.readInt();
+        var values = new ArrayList<String>(size);
+        for (int i = 0; i < size; i++) {
+            values.add(readString(in));
+        }
+        return values;
+    }
+}
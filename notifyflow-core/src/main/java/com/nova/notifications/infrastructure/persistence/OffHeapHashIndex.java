@@ -0,0 +1,163 @@
+package com.nova.notifications.infrastructure.persistence;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.function.LongPredicate;
+
+/**
+ * Open-addressing hash table from 64-bit key hashes to long values, stored off-heap.
+ * <p>
+ * Each slot holds the key's hash and the value plus one (zero marks an empty slot) in
+ * direct {@link ByteBuffer}s of up to 1GB each, so the table can grow past the 2GB
+ * limit of a single buffer without adding objects to the Java heap. Collisions are
+ * resolved by linear probing; since the keys themselves are not stored, callers confirm
+ * a hash match through a predicate over the candidate value (typically by reading the
+ * referenced record). The table doubles once it is 70% full.
+ * </p>
+ * <p>
+ * Direct memory is bounded by {@code -XX:MaxDirectMemorySize}; at 16 bytes per slot,
+ * 100 million keys need about 2.3GB. Not thread-safe.
+ * </p>
+ */
+final class OffHeapHashIndex {
+
+    private static final int SLOT_BYTES = 16;
+    private static final int MAX_SLOTS_PER_BUFFER_BITS = 26;
+    private static final double MAX_LOAD = 0.7;
+
+    static final long NOT_FOUND = -1;
+
+    private ByteBuffer[] buffers;
+    private int slotsPerBufferBits;
+    private long capacity;
+    private long size;
+
+    /**
+     * @param expectedEntries number of keys to size the table for
+     */
+    OffHeapHashIndex(long expectedEntries) {
+        allocate(tableSizeFor((long) (Math.max(expectedEntries, 16) / MAX_LOAD)));
+    }
+
+    /**
+     * @param matches confirms that a candidate value belongs to the key being looked up
+     * @return the value stored for the key, or {@link #NOT_FOUND}
+     */
+    long get(long hash, LongPredicate matches) {
+        long mask = capacity - 1;
+        for (long slot = hash & mask; ; slot = (slot + 1) & mask) {
+            long stored = valueAt(slot);
+            if (stored == 0) {
+                return NOT_FOUND;
+            }
+            if (hashAt(slot) == hash && matches.test(stored - 1)) {
+                return stored - 1;
+            }
+        }
+    }
+
+    /**
+     * Stores a value for a key, replacing the current value if {@code matches} accepts it.
+     *
+     * @param value a non-negative value
+     */
+    void put(long hash, long value, LongPredicate matches) {
+        if (size + 1 > capacity * MAX_LOAD) {
+            resize();
+        }
+        long mask = capacity - 1;
+        for (long slot = hash & mask; ; slot = (slot + 1) & mask) {
+            long stored = valueAt(slot);
+            if (stored == 0) {
+                write(slot, hash, value + 1);
+                size++;
+                return;
+            }
+            if (hashAt(slot) == hash && matches.test(stored - 1)) {
+                write(slot, hash, value + 1);
+                return;
+            }
+        }
+    }
+
+    long size() {
+        return size;
+    }
+
+    long capacity() {
+        return capacity;
+    }
+
+    /**
+     * 64-bit hash of a string key (FNV-1a over UTF-8 followed by a murmur3 finalizer, so
+     * the low bits used for the slot are well mixed).
+     */
+    static long hash(String key) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b & 0xff;
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    private void resize() {
+        var oldBuffers = buffers;
+        int oldBits = slotsPerBufferBits;
+        long oldCapacity = capacity;
+        allocate(oldCapacity * 2);
+        long mask = capacity - 1;
+        for (long slot = 0; slot < oldCapacity; slot++) {
+            var buffer = oldBuffers[(int) (slot >>> oldBits)];
+            int offset = (int) (slot & ((1L << oldBits) - 1)) * SLOT_BYTES;
+            long stored = buffer.getLong(offset + Long.BYTES);
+            if (stored == 0) {
+                continue;
+            }
+            long hash = buffer.getLong(offset);
+            long target = hash & mask;
+            while (valueAt(target) != 0) {
+                target = (target + 1) & mask;
+            }
+            write(target, hash, stored);
+        }
+    }
+
+    private void allocate(long slots) {
+        capacity = slots;
+        slotsPerBufferBits = Math.min(Long.numberOfTrailingZeros(slots), MAX_SLOTS_PER_BUFFER_BITS);
+        int slotsPerBuffer = 1 << slotsPerBufferBits;
+        buffers = new ByteBuffer[(int) (slots / slotsPerBuffer)];
+        for (int i = 0; i < buffers.length; i++) {
+            buffers[i] = ByteBuffer.allocateDirect(slotsPerBuffer * SLOT_BYTES);
+        }
+    }
+
+    private long hashAt(long slot) {
+        return buffers[(int) (slot >>> slotsPerBufferBits)].getLong(offsetOf(slot));
+    }
+
+    private long valueAt(long slot) {
+        return buffers[(int) (slot >>> slotsPerBufferBits)].getLong(offsetOf(slot) + Long.BYTES);
+    }
+
+    private void write(long slot, long hash, long storedValue) {
+        var buffer = buffers[(int) (slot >>> slotsPerBufferBits)];
+        int offset = offsetOf(slot);
+        buffer.putLong(offset, hash);
+        buffer.putLong(offset + Long.BYTES, storedValue);
+    }
+
+    private int offsetOf(long slot) {
+        return (int) (slot & ((1L << slotsPerBufferBits) - 1)) * SLOT_BYTES;
+    }
+
+    private static long tableSizeFor(long slots) {
+        return Long.highestOneBit(slots - 1) << 1;
+    }
+}
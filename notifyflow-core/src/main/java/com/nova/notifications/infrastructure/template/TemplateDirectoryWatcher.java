@@ -0,0 +1,242 @@
+package com.nova.notifications.infrastructure.template;
+
+import com.nova.notifications.application.template.NotificationTemplate;
+import com.nova.notifications.application.template.TemplateRegistry;
+import com.nova.notifications.common.TemplateConstants;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Loads templates from a directory into a {@link TemplateRegistry} and reloads them when
+ * the files change.
+ * <p>
+ * Each regular file is one template, named after the file without its extension
+ * ({@code welcome.html} registers {@code welcome}); hidden files and editor backups ending
+ * in {@code ~} are ignored. Files are read as UTF-8.
+ * </p>
+ * <p>
+ * A background thread waits on a {@link WatchService}. Changes arriving within
+ * {@value #SETTLE_MILLIS}ms of each other are collected, the affected files are read and
+ * compiled on that thread, and the result is swapped into the registry as one snapshot,
+ * so sends never wait for a reload. Deleting a file removes its template; if another
+ * file of the same name remains, the template is loaded from that file instead, and
+ * deleting a file the template was not loaded from changes nothing. A file that cannot be
+ * read or compiled keeps the previous version of its template; the rest of the batch
+ * still applies.
+ * </p>
+ */
+public class TemplateDirectoryWatcher implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(TemplateDirectoryWatcher.class);
+
+    private static final long SETTLE_MILLIS = 50;
+
+    private final Path directory;
+    private final TemplateRegistry registry;
+    private final WatchService watchService;
+    private final ExecutorService worker;
+    /**
+     * File each template in the registry was last loaded from, by template name; touched
+     * by the worker only once started
+     */
+    private final Map<String, Path> loaded = new HashMap<>();
+
+    /**
+     * Starts watching {@code directory}; call {@link #start()} to load the templates.
+     *
+     * @throws UncheckedIOException if the directory cannot be watched
+     */
+    public TemplateDirectoryWatcher(Path directory, TemplateRegistry registry) {
+        this.directory = Objects.requireNonNull(directory, TemplateConstants.DIRECTORY_REQUIRED);
+        this.registry = Objects.requireNonNull(registry, "TemplateRegistry must not be null");
+        try {
+            // Registered before the first load, so no change between loading and watching is missed
+            this.watchService = directory.getFileSystem().newWatchService();
+            directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(TemplateConstants.DIRECTORY_OPEN_FAILED + directory, e);
+        }
+        this.worker = Executors.newSingleThreadExecutor(runnable -> {
+            var thread = new Thread(runnable, "notifyflow-template-watcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Loads every template in the directory, then reloads changes in the background.
+     *
+     * @throws UncheckedIOException if the directory cannot be listed
+     */
+    public void start() {
+        reloadAll();
+        worker.execute(this::watch);
+    }
+
+    private void watch() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                var changed = new HashSet<Path>();
+                boolean overflow = collect(watchService.take(), changed);
+                // Editors and deploy tools write in several steps; wait for the burst to settle
+                WatchKey key;
+                while ((key = watchService.poll(SETTLE_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+                    overflow |= collect(key, changed);
+                }
+                try {
+                    if (overflow) {
+                        reloadAll();
+                    } else {
+                        reload(changed);
+                    }
+                } catch (RuntimeException e) {
+                    log.warn("Template reload from {} failed: {}", directory, e.getMessage());
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // Closing
+        }
+    }
+
+    /**
+     * Adds the changed file names of a key to {@code changed}.
+     *
+     * @return true if events were lost and the whole directory must be rescanned
+     */
+    private static boolean collect(WatchKey key, Set<Path> changed) {
+        boolean overflow = false;
+        for (var event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                overflow = true;
+            } else {
+                changed.add((Path) event.context());
+            }
+        }
+        key.reset();
+        return overflow;
+    }
+
+    private void reload(Set<Path> changed) {
+        var added = new HashMap<String, NotificationTemplate>();
+        var sources = new HashMap<String, Path>();
+        var removed = new HashSet<String>();
+        for (var fileName : changed) {
+            var name = templateName(fileName);
+            if (name == null) {
+                continue;
+            }
+            var file = directory.resolve(fileName);
+            if (Files.isRegularFile(file)) {
+                load(file, name, added, sources);
+            } else if (fileName.equals(loaded.get(name))) {
+                // Only the file the template came from removes it, not a stray welcome.tmp
+                var remaining = fileNamed(name);
+                if (remaining != null) {
+                    load(remaining, name, added, sources);
+                } else {
+                    removed.add(name);
+                }
+            }
+        }
+        apply(added, sources, removed);
+    }
+
+    private void reloadAll() {
+        var added = new HashMap<String, NotificationTemplate>();
+        var sources = new HashMap<String, Path>();
+        var present = new HashSet<String>();
+        try (var files = Files.list(directory)) {
+            for (var file : (Iterable<Path>) files::iterator) {
+                var name = templateName(file.getFileName());
+                if (name != null && Files.isRegularFile(file)) {
+                    present.add(name);
+                    load(file, name, added, sources);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(TemplateConstants.DIRECTORY_OPEN_FAILED + directory, e);
+        }
+        var removed = new HashSet<>(loaded.keySet());
+        removed.removeAll(present);
+        apply(added, sources, removed);
+    }
+
+    /**
+     * Returns a regular file in the directory whose template name is {@code name}, or null.
+     */
+    private Path fileNamed(String name) {
+        try (var files = Files.list(directory)) {
+            return files.filter(file -> name.equals(templateName(file.getFileName())) && Files.isRegularFile(file))
+                    .findFirst()
+                    .orElse(null);
+        } catch (IOException e) {
+            throw new UncheckedIOException(TemplateConstants.DIRECTORY_OPEN_FAILED + directory, e);
+        }
+    }
+
+    /**
+     * Reads and compiles one file into {@code added}; a file that fails either step is
+     * logged and skipped, so its template keeps the previous version.
+     */
+    private void load(Path file, String name, Map<String, NotificationTemplate> added, Map<String, Path> sources) {
+        try {
+            added.put(name, registry.compile(name, Files.readString(file, StandardCharsets.UTF_8)));
+            sources.put(name, file.getFileName());
+        } catch (IOException e) {
+            log.warn("Keeping previous template '{}': failed to read {}: {}", name, file, e.getMessage());
+        } catch (IllegalArgumentException e) {
+            log.warn("Keeping previous template '{}': failed to compile {}: {}", name, file, e.getMessage());
+        }
+    }
+
+    private void apply(Map<String, NotificationTemplate> added, Map<String, Path> sources, Set<String> removed) {
+        if (added.isEmpty() && removed.isEmpty()) {
+            return;
+        }
+        registry.updateCompiled(added, removed);
+        loaded.keySet().removeAll(removed);
+        loaded.putAll(sources);
+        log.info("Loaded {} template(s) and removed {} from {}", added.size(), removed.size(), directory);
+    }
+
+    /**
+     * Returns the template name for a file name, or null for files that are not templates.
+     */
+    private static String templateName(Path fileName) {
+        var name = fileName.toString();
+        if (name.startsWith(".") || name.endsWith("~")) {
+            return null;
+        }
+        int dot = name.lastIndexOf('.');
+        return dot > 0 ? name.substring(0, dot) : name;
+    }
+
+    @Override
+    public void close() {
+        worker.shutdownNow();
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            log.warn("Failed to close template watcher for {}: {}", directory, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.nova.notifications.application.capping;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ExactFrequencyCounter - Idle Recipient Purging")
+class ExactFrequencyCounterTest {
+
+    private static final long NOW = 1_700_000_000_000L;
+    private static final long HOUR = Duration.ofHours(1).toMillis();
+
+    @Test
+    @DisplayName("Should sweep idle recipients once per window rather than per number of sends")
+    void purgesOncePerWindow() {
+        var counter = new ExactFrequencyCounter(FrequencyCap.perRecipient("hourly", 2, Duration.ofHours(1)));
+
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(counter.tryAcquire("user-" + i, NOW)).isTrue();
+        }
+        // Every sender is idle after an hour, but the next sweep is not due yet
+        assertThat(counter.tryAcquire("late", NOW + HOUR - 1)).isTrue();
+        assertThat(counter.trackedRecipients()).isEqualTo(10_001);
+
+        assertThat(counter.tryAcquire("late", NOW + HOUR)).isTrue();
+        assertThat(counter.trackedRecipients()).isEqualTo(1);
+        assertThat(counter.tryAcquire("late", NOW + HOUR + 1)).isFalse();
+    }
+}
@@ -1,12 +1,16 @@
 package com.nova.notifications.application.service;
 
 import com.nova.notifications.application.async.AsyncNotificationService;
+import com.nova.notifications.application.async.Outbox;
+import com.nova.notifications.application.async.OutboxEntry;
 import com.nova.notifications.application.port.NotificationChannel;
 import com.nova.notifications.application.pubsub.SimpleEventPublisher;
 import com.nova.notifications.domain.model.ChannelType;
 import com.nova.notifications.domain.model.EmailNotification;
 import com.nova.notifications.domain.model.SmsNotification;
+import com.nova.notifications.domain.result.ErrorCategory;
 import com.nova.notifications.domain.result.NotificationResult;
+import com.nova.notifications.infrastructure.channel.email.validation.EmailValidator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -14,14 +18,15 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.ArrayList;
 import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.lenient;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("AsyncNotificationService - Async & Batch")
@@ -104,4 +109,60 @@ class AsyncNotificationServiceTest {
         assertThat(results).hasSize(2);
         assertThat(results).allMatch(NotificationResult::successful);
     }
+
+    @Test
+    @DisplayName("Should send only after the outbox accepts, then complete the entry and re-dispatch recovered ones")
+    void durableAcceptance() {
+        var email = EmailNotification.simple("from@test.com", "to@test.com", "Subject", "Body");
+        var sms = new SmsNotification("+15551234567", "+15559876543", "Recovered");
+        var outbox = mock(Outbox.class);
+        when(outbox.append(email)).thenReturn(CompletableFuture.completedFuture(7L));
+        when(outbox.append(sms)).thenReturn(CompletableFuture.failedFuture(new IllegalStateException("disk full")));
+        when(outbox.recovered()).thenReturn(List.of(new OutboxEntry(3L, sms)));
+        when(emailChannel.send(any())).thenReturn(NotificationResult.success("accepted-1"));
+        when(smsChannel.send(any())).thenReturn(NotificationResult.success("recovered-1"));
+
+        Map<ChannelType, NotificationChannel<?>> channels = new EnumMap<>(ChannelType.class);
+        channels.put(ChannelType.EMAIL, emailChannel);
+        channels.put(ChannelType.SMS, smsChannel);
+        var durableService = new AsyncNotificationService(
+                new NotificationService(channels, new SimpleEventPublisher()), Runnable::run, outbox);
+
+        assertThat(durableService.sendAsync(email).join().notificationId()).isEqualTo("accepted-1");
+        verify(outbox).complete(7L);
+
+        assertThat(durableService.sendAsync(sms).join().successful()).isFalse();
+        verify(smsChannel, never()).send(any());
+
+        assertThat(durableService.redispatchRecovered()).isEqualTo(1);
+        verify(smsChannel).send(sms);
+        verify(outbox).complete(3L);
+    }
+
+    @Test
+    @DisplayName("Should reject invalid batch items up front without sending them, keeping batch order")
+    void sendBatchPreValidates() {
+        when(emailChannel.validator()).thenReturn(new EmailValidator());
+        when(emailChannel.send(any())).thenReturn(NotificationResult.success("batch-ok"));
+        var batch = new ArrayList<EmailNotification>();
+        for (int i = 0; i < 5_000; i++) {
+            batch.add(i % 7 == 0
+                    ? EmailNotification.simple("from@test.com", "bad-" + i, "Subject", "Body")
+                    : EmailNotification.simple("from@test.com", "to" + i + "@test.com", "Subject", "Body"));
+        }
+
+        var results = asyncService.sendBatch(batch).join();
+
+        assertThat(results).hasSize(5_000);
+        for (int i = 0; i < results.size(); i++) {
+            if (i % 7 == 0) {
+                assertThat(results.get(i).errorCategory()).isEqualTo(ErrorCategory.VALIDATION);
+                assertThat(results.get(i).errorMessage()).endsWith("bad-" + i);
+            } else {
+                assertThat(results.get(i).successful()).isTrue();
+            }
+        }
+        verify(emailChannel, times(5_000 - 715)).send(any());
+        verify(emailChannel, never()).send(batch.get(7));
+    }
 }
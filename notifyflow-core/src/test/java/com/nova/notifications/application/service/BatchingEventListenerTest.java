@@ -0,0 +1,82 @@
+package com.nova.notifications.application.service;
+
+import com.nova.notifications.application.pubsub.BatchingEventListener;
+import com.nova.notifications.domain.event.NotificationEvent;
+import com.nova.notifications.domain.model.ChannelType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("BatchingEventListener - Micro-batched Event Delivery")
+class BatchingEventListenerTest {
+
+    @Test
+    @DisplayName("Should hand over full batches at once and the remainder on close")
+    void batchesByCount() {
+        var batches = new CopyOnWriteArrayList<List<NotificationEvent>>();
+        try (var listener = new BatchingEventListener(batches::add, 4, Duration.ofMinutes(1))) {
+            for (int i = 1; i <= 10; i++) {
+                listener.onEvent(NotificationEvent.sending(ChannelType.EMAIL, "user@test.com", i));
+            }
+        }
+
+        assertThat(batches).extracting(List::size).containsExactly(4, 4, 2);
+        assertThat(batches).flatExtracting(batch -> batch).extracting(NotificationEvent::attempt)
+                .containsExactly(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+    }
+
+    @Test
+    @DisplayName("Should hand over a partial batch once its first event has waited the maximum delay")
+    void batchesByTime() throws InterruptedException {
+        var handedOver = new CountDownLatch(1);
+        var batches = new CopyOnWriteArrayList<List<NotificationEvent>>();
+        try (var listener = new BatchingEventListener(batch -> {
+            batches.add(batch);
+            handedOver.countDown();
+        }, 100, Duration.ofMillis(50))) {
+            long start = System.nanoTime();
+            listener.onEvent(NotificationEvent.queued(ChannelType.SMS, "+15551234567"));
+            listener.onEvent(NotificationEvent.queued(ChannelType.SMS, "+15557654321"));
+
+            assertThat(handedOver.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(Duration.ofNanos(System.nanoTime() - start)).isGreaterThanOrEqualTo(Duration.ofMillis(50));
+        }
+        assertThat(batches).hasSize(1);
+        assertThat(batches.get(0)).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("Should keep batching after the delegate throws")
+    void faultyDelegate() {
+        var sizes = new CopyOnWriteArrayList<Integer>();
+        try (var listener = new BatchingEventListener(batch -> {
+            sizes.add(batch.size());
+            throw new IllegalStateException("sink down");
+        }, 2, Duration.ofMinutes(1))) {
+            for (int i = 0; i < 5; i++) {
+                listener.onEvent(NotificationEvent.queued(ChannelType.PUSH, "token"));
+            }
+        }
+
+        assertThat(sizes).containsExactly(2, 2, 1);
+    }
+
+    @Test
+    @DisplayName("Should reject a batch size below one and a non-positive delay")
+    void invalidLimits() {
+        assertThatThrownBy(() -> new BatchingEventListener(batch -> { }, 0, Duration.ofSeconds(1)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("0");
+        assertThatThrownBy(() -> new BatchingEventListener(batch -> { }, 10, Duration.ZERO))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("delay");
+    }
+}
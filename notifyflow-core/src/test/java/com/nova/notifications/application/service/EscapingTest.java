@@ -0,0 +1,54 @@
+package com.nova.notifications.application.service;
+
+import com.nova.notifications.application.template.Escaping;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Escaping - Template Value Escapers")
+class EscapingTest {
+
+    @Test
+    @DisplayName("Should return the same instance when nothing needs escaping")
+    void fastPathReturnsInput() {
+        var clean = "Plain text, 100% safe: ok";
+
+        for (var escaping : Escaping.values()) {
+            assertThat(escaping.escape(clean)).isSameAs(clean);
+        }
+        assertThat(Escaping.HTML.escape(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should escape HTML special characters, keeping the clean prefix")
+    void html() {
+        assertThat(Escaping.HTML.escape("Tom & <b>\"Jerry's\"</b>"))
+                .isEqualTo("Tom &amp; &lt;b&gt;&quot;Jerry&#39;s&quot;&lt;/b&gt;");
+    }
+
+    @Test
+    @DisplayName("Should escape JSON quotes, backslashes, control characters and line separators")
+    void json() {
+        assertThat(Escaping.JSON.escape("say \"hi\"\\\n\t\u0001 <b>"))
+                .isEqualTo("say \\\"hi\\\"\\\\\\n\\t\\u0001\\u2028<b>");
+    }
+
+    @Test
+    @DisplayName("Should escape only the characters Slack mrkdwn treats as control sequences")
+    void slack() {
+        assertThat(Escaping.SLACK.escape("<!channel> & *bold* \"x\""))
+                .isEqualTo("&lt;!channel&gt; &amp; *bold* \"x\"");
+    }
+
+    @Test
+    @DisplayName("Should look escapings up by filter name")
+    void forFilter() {
+        assertThat(Escaping.forFilter("html")).isEqualTo(Escaping.HTML);
+        assertThat(Escaping.forFilter("raw")).isEqualTo(Escaping.NONE);
+        assertThatThrownBy(() -> Escaping.forFilter("xml"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("xml");
+    }
+}
@@ -0,0 +1,99 @@
+package com.nova.notifications.application.service;
+
+import com.nova.notifications.application.capping.FrequencyCap;
+import com.nova.notifications.application.capping.FrequencyCapper;
+import com.nova.notifications.domain.model.ChannelType;
+import com.nova.notifications.domain.model.EmailNotification;
+import com.nova.notifications.domain.model.PushNotification;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("FrequencyCapper - Per-Recipient Frequency Caps")
+class FrequencyCapperTest {
+
+    private static final long NOW = 1_700_000_000_000L;
+    private static final Duration DAY = Duration.ofHours(24);
+
+    @Test
+    @DisplayName("Should count exactly within a sliding window and give back released sends")
+    void exactWindow() {
+        var cap = FrequencyCap.perRecipient("daily", 3, DAY);
+        var capper = new FrequencyCapper(List.of(cap));
+        var push = PushNotification.simple("device-1", "Title", "Body");
+
+        assertThat(capper.tryAcquire(push, NOW)).isNull();
+        assertThat(capper.tryAcquire(push, NOW + 1_000)).isNull();
+        assertThat(capper.tryAcquire(push, NOW + 2_000)).isNull();
+        assertThat(capper.tryAcquire(push, NOW + 3_000)).isEqualTo(cap);
+        assertThat(capper.tryAcquire(PushNotification.simple("device-2", "Title", "Body"), NOW + 3_000)).isNull();
+
+        capper.release(push, NOW + 2_000);
+        assertThat(capper.tryAcquire(push, NOW + 4_000)).isNull();
+        assertThat(capper.tryAcquire(push, NOW + DAY.toMillis())).isNull();
+        assertThat(capper.tryAcquire(push, NOW + DAY.toMillis() + 500)).isEqualTo(cap);
+    }
+
+    @Test
+    @DisplayName("Should never admit more than the limit in a sketch and forget sends after the window")
+    void approximateWindow() {
+        var cap = FrequencyCap.perRecipient("marketing", 3, DAY).approximate(4L << 20);
+        var capper = new FrequencyCapper(List.of(cap));
+
+        for (int round = 0; round < 5; round++) {
+            for (int i = 0; i < 20_000; i++) {
+                capper.tryAcquire(PushNotification.simple("device-" + i, "Title", "Body"), NOW + round);
+            }
+        }
+        var push = PushNotification.simple("device-42", "Title", "Body");
+        assertThat(capper.tryAcquire(push, NOW + DAY.toMillis() - 1)).isEqualTo(cap);
+        long later = NOW + DAY.toMillis() + DAY.toMillis() / 7;
+        assertThat(capper.tryAcquire(push, later)).isNull();
+
+        var fresh = PushNotification.simple("device-new", "Title", "Body");
+        assertThat(capper.tryAcquire(fresh, later)).isNull();
+        capper.release(fresh, later);
+        assertThat(capper.tryAcquire(fresh, later)).isNull();
+        assertThat(capper.tryAcquire(fresh, later)).isNull();
+        assertThat(capper.tryAcquire(fresh, later)).isNull();
+        assertThat(capper.tryAcquire(fresh, later)).isEqualTo(cap);
+    }
+
+    @Test
+    @DisplayName("Should apply caps by channel and predicate and count nothing when one refuses")
+    void selectiveCaps() {
+        var marketing = FrequencyCap.perRecipient("marketing", 1, DAY)
+                .channels(ChannelType.PUSH)
+                .matching(n -> n instanceof PushNotification p && "marketing".equals(p.data().get("category")));
+        var total = FrequencyCap.perRecipient("total", 2, DAY);
+        var capper = new FrequencyCapper(List.of(total, marketing));
+        var promo = PushNotification.withData("device-1", "Sale", "Body", Map.of("category", "marketing"));
+        var alert = PushNotification.simple("device-1", "Alert", "Body");
+
+        assertThat(capper.tryAcquire(promo, NOW)).isNull();
+        assertThat(capper.tryAcquire(promo, NOW)).isEqualTo(marketing);
+        assertThat(capper.tryAcquire(alert, NOW)).isNull();
+        assertThat(capper.tryAcquire(alert, NOW)).isEqualTo(total);
+        assertThat(capper.tryAcquire(EmailNotification.simple("a@test.com", "device-1", "S", "B"), NOW))
+                .isEqualTo(total);
+    }
+
+    @Test
+    @DisplayName("Should reject invalid caps")
+    void invalidCaps() {
+        assertThatThrownBy(() -> FrequencyCap.perRecipient("x", 0, DAY))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> FrequencyCap.perRecipient("x", 3, Duration.ofMillis(10)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> FrequencyCap.perRecipient("x", 50, DAY).approximate(1L << 20))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> FrequencyCap.perRecipient("x", 3, DAY).approximate(100))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,108 @@
+package com.nova.notifications.application.service;
+
+import com.nova.notifications.application.pubsub.IsolatedEventListener;
+import com.nova.notifications.application.pubsub.OverflowPolicy;
+import com.nova.notifications.application.pubsub.SimpleEventPublisher;
+import com.nova.notifications.domain.event.NotificationEvent;
+import com.nova.notifications.domain.model.ChannelType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("IsolatedEventListener - Per-listener Queues and Overflow Policies")
+class IsolatedEventListenerTest {
+
+    @Test
+    @DisplayName("Should keep publishing and feeding other listeners while one listener is stuck")
+    void stuckListenerIsolated() throws InterruptedException {
+        var release = new CountDownLatch(1);
+        List<NotificationEvent> healthy = new CopyOnWriteArrayList<>();
+        var publisher = new SimpleEventPublisher();
+        try (var stuck = new IsolatedEventListener(event -> await(release), 4, OverflowPolicy.DROP)) {
+            publisher.subscribe(stuck);
+            publisher.subscribe(healthy::add);
+
+            long start = System.nanoTime();
+            for (int i = 1; i <= 100; i++) {
+                publisher.publish(NotificationEvent.sending(ChannelType.SLACK, "#webhooks", i));
+            }
+
+            assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(1));
+            assertThat(healthy).hasSize(100);
+            // One event in the listener, four queued
+            assertThat(stuck.dropped()).isBetween(95L, 96L);
+            release.countDown();
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep an evenly spread sample of events once the queue is half full")
+    void sampleWhenBackedUp() throws InterruptedException {
+        var release = new CountDownLatch(1);
+        List<Integer> delivered = new CopyOnWriteArrayList<>();
+        try (var listener = new IsolatedEventListener(event -> {
+            await(release);
+            delivered.add(event.attempt());
+        }, 64, OverflowPolicy.SAMPLE)) {
+            for (int i = 1; i <= 200; i++) {
+                listener.onEvent(NotificationEvent.sending(ChannelType.PUSH, "token", i));
+            }
+            assertThat(listener.dropped()).isPositive();
+            release.countDown();
+        }
+
+        assertThat(delivered.size()).isLessThan(200);
+        // Sampled events reach past the point where the queue first filled up
+        assertThat(delivered.getLast()).isGreaterThan(65 + 2 * IsolatedEventListener.SAMPLE_RATE);
+        assertThat(delivered).isSorted();
+    }
+
+    @Test
+    @DisplayName("Should make publishers wait rather than drop events under the blocking policy")
+    void blockWhenFull() {
+        List<Integer> delivered = new CopyOnWriteArrayList<>();
+        try (var listener = new IsolatedEventListener(event -> {
+            sleep(Duration.ofMillis(1));
+            delivered.add(event.attempt());
+        }, 2, OverflowPolicy.BLOCK)) {
+            for (int i = 1; i <= 50; i++) {
+                listener.onEvent(NotificationEvent.sending(ChannelType.SMS, "+15551234567", i));
+            }
+            assertThat(listener.dropped()).isZero();
+        }
+
+        assertThat(delivered).hasSize(50).isSorted();
+    }
+
+    @Test
+    @DisplayName("Should reject a queue capacity below one")
+    void invalidCapacity() {
+        assertThatThrownBy(() -> new IsolatedEventListener(event -> { }, 0, OverflowPolicy.DROP))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("0");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,238 @@
+package com.nova.notifications.application.service;
+
+import com.nova.notifications.application.schedule.NotificationScheduler;
+import com.nova.notifications.application.schedule.ScheduleStore;
+import com.nova.notifications.application.schedule.ScheduledNotification;
+import com.nova.notifications.domain.model.Notification;
+import com.nova.notifications.domain.model.SmsNotification;
+import com.nova.notifications.domain.result.NotificationResult;
+import com.nova.notifications.infrastructure.persistence.FileScheduleStore;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("NotificationScheduler - Timing Wheel over Minute Buckets")
+class NotificationSchedulerTest {
+
+    @TempDir
+    Path directory;
+
+    private static final Instant START = Instant.parse("2026-01-01T00:00:00Z");
+
+    private final ManualClock clock = new ManualClock(START);
+    private final List<Notification> sent = new CopyOnWriteArrayList<>();
+
+    private static SmsNotification sms(String message) {
+        return new SmsNotification("+15551234567", "+15559876543", message);
+    }
+
+    private NotificationScheduler scheduler(ScheduleStore store) {
+        return new NotificationScheduler(store, notification -> {
+            sent.add(notification);
+            return CompletableFuture.completedFuture(NotificationResult.success());
+        }, 2, clock);
+    }
+
+    @Test
+    @DisplayName("Should send each notification once its due time is reached")
+    void sendsWhenDue() {
+        try (var store = FileScheduleStore.open(directory); var scheduler = scheduler(store)) {
+            scheduler.tick();
+            scheduler.schedule(sms("later"), START.plusMillis(1500));
+            scheduler.schedule(sms("soon"), START.plusMillis(500));
+
+            scheduler.tick();
+            assertThat(sent).isEmpty();
+
+            clock.advance(Duration.ofMillis(600));
+            scheduler.tick();
+            assertThat(sent).containsExactly(sms("soon"));
+
+            clock.advance(Duration.ofSeconds(1));
+            scheduler.tick();
+            assertThat(sent).containsExactly(sms("soon"), sms("later"));
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep far-future sends on disk until they enter the lookahead window")
+    void loadsBucketsAhead() {
+        try (var store = FileScheduleStore.open(directory); var scheduler = scheduler(store)) {
+            scheduler.tick();
+            scheduler.schedule(sms("tomorrow"), START.plus(Duration.ofDays(1)));
+            scheduler.schedule(sms("in ten minutes"), START.plus(Duration.ofMinutes(10)));
+            assertThat(scheduler.loadedCount()).isZero();
+
+            clock.advance(Duration.ofMinutes(8));
+            scheduler.tick();
+            assertThat(scheduler.loadedCount()).isEqualTo(1);
+            assertThat(sent).isEmpty();
+
+            clock.advance(Duration.ofMinutes(2));
+            scheduler.tick();
+            assertThat(sent).containsExactly(sms("in ten minutes"));
+            assertThat(store.bucketsThrough(Long.MAX_VALUE)).hasSize(2);
+
+            clock.advance(Duration.ofMinutes(1));
+            scheduler.tick();
+            assertThat(store.bucketsThrough(Long.MAX_VALUE)).hasSize(1);
+        }
+    }
+
+    @Test
+    @DisplayName("Should not send cancelled notifications, whether loaded or still on disk")
+    void cancelsScheduledSends() {
+        try (var store = FileScheduleStore.open(directory); var scheduler = scheduler(store)) {
+            scheduler.tick();
+            long near = scheduler.schedule(sms("near"), START.plusSeconds(1));
+            long far = scheduler.schedule(sms("far"), START.plus(Duration.ofHours(1)));
+            scheduler.schedule(sms("kept"), START.plusSeconds(2));
+
+            assertThat(scheduler.cancel(near)).isTrue();
+            assertThat(scheduler.cancel(far)).isTrue();
+            assertThat(scheduler.cancel(far)).isFalse();
+
+            clock.advance(Duration.ofHours(2));
+            scheduler.tick();
+            assertThat(sent).containsExactly(sms("kept"));
+        }
+    }
+
+    @Test
+    @DisplayName("Should send overdue notifications left over from a previous run on start")
+    void recoversOverdueSends() {
+        try (var store = FileScheduleStore.open(directory); var scheduler = scheduler(store)) {
+            scheduler.schedule(sms("missed"), START.plusSeconds(30));
+            scheduler.schedule(sms("upcoming"), START.plus(Duration.ofHours(1)));
+        }
+
+        clock.advance(Duration.ofMinutes(5));
+        try (var store = FileScheduleStore.open(directory); var scheduler = scheduler(store)) {
+            scheduler.tick();
+            assertThat(sent).containsExactly(sms("missed"));
+        }
+    }
+
+    @Test
+    @DisplayName("Should retry a bucket whose load failed on the next tick, on start and while running")
+    void retriesFailedBucketLoads() throws IOException {
+        try (var store = FileScheduleStore.open(directory); var scheduler = scheduler(store)) {
+            scheduler.schedule(sms("missed"), START.plusSeconds(30));
+        }
+        Files.writeString(directory.resolve("schedule-copy.bkt"), "stray");
+        clock.advance(Duration.ofMinutes(5));
+        long startMinute = START.getEpochSecond() / 60;
+        long laterMinute = startMinute + 10;
+
+        try (var store = new FlakyStore(FileScheduleStore.open(directory), startMinute, laterMinute);
+             var scheduler = scheduler(store)) {
+            scheduler.tick();
+            assertThat(sent).isEmpty();
+            scheduler.tick();
+            assertThat(sent).containsExactly(sms("missed"));
+
+            scheduler.schedule(sms("later"), Instant.ofEpochSecond(laterMinute * 60 + 5));
+            clock.advance(Duration.ofMinutes(3));
+            scheduler.tick();
+            scheduler.tick();
+            clock.advance(Duration.ofMinutes(3));
+            scheduler.tick();
+            assertThat(sent).containsExactly(sms("missed"), sms("later"));
+        }
+    }
+
+    /**
+     * Fails the first load of each given bucket.
+     */
+    private static final class FlakyStore implements ScheduleStore {
+        private final ScheduleStore delegate;
+        private final Set<Long> failing = ConcurrentHashMap.newKeySet();
+
+        private FlakyStore(ScheduleStore delegate, Long... failingMinutes) {
+            this.delegate = delegate;
+            this.failing.addAll(List.of(failingMinutes));
+        }
+
+        @Override
+        public long add(Notification notification, Instant dueAt) {
+            return delegate.add(notification, dueAt);
+        }
+
+        @Override
+        public boolean cancel(long id) {
+            return delegate.cancel(id);
+        }
+
+        @Override
+        public void complete(long id) {
+            delegate.complete(id);
+        }
+
+        @Override
+        public List<ScheduledNotification> loadBucket(long epochMinute) {
+            if (failing.remove(epochMinute)) {
+                throw new UncheckedIOException(new IOException("disk hiccup"));
+            }
+            return delegate.loadBucket(epochMinute);
+        }
+
+        @Override
+        public List<Long> bucketsThrough(long epochMinute) {
+            return delegate.bucketsThrough(epochMinute);
+        }
+
+        @Override
+        public void dropBucket(long epochMinute) {
+            delegate.dropBucket(epochMinute);
+        }
+
+        @Override
+        public void close() {
+            delegate.close();
+        }
+    }
+
+    private static final class ManualClock extends Clock {
+        private volatile Instant now;
+
+        private ManualClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+}
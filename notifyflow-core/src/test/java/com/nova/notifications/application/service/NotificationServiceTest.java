@@ -1,12 +1,16 @@
 package com.nova.notifications.application.service;
 
+import com.nova.notifications.application.capping.FrequencyCap;
+import com.nova.notifications.application.capping.FrequencyCapper;
 import com.nova.notifications.application.port.NotificationChannel;
 import com.nova.notifications.application.pubsub.EventListener;
 import com.nova.notifications.application.pubsub.SimpleEventPublisher;
+import com.nova.notifications.application.suppression.SuppressionList;
 import com.nova.notifications.domain.event.NotificationEvent;
 import com.nova.notifications.domain.model.ChannelType;
 import com.nova.notifications.domain.model.EmailNotification;
 import com.nova.notifications.domain.model.SmsNotification;
+import com.nova.notifications.domain.result.ErrorCategory;
 import com.nova.notifications.domain.result.NotificationResult;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -15,10 +19,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -154,4 +160,87 @@ class NotificationServiceTest {
         assertThat(capturedEvents.get(0).eventType()).isEqualTo(NotificationEvent.EventType.SENDING);
         assertThat(capturedEvents.get(1).eventType()).isEqualTo(NotificationEvent.EventType.FAILED);
     }
+
+    @Test
+    @DisplayName("Should not build events no listener subscribed to")
+    void unobservedEventsNotBuilt() {
+        var email = EmailNotification.simple("from@test.com", "to@test.com", "Subject", "Body");
+        when(emailChannel.send(any())).thenReturn(NotificationResult.success("msg-790"));
+        List<NotificationEvent> published = new ArrayList<>();
+        var publisher = new SimpleEventPublisher() {
+            @Override
+            public void publish(NotificationEvent event) {
+                published.add(event);
+                super.publish(event);
+            }
+        };
+        publisher.subscribe(event -> { }, Set.of(NotificationEvent.EventType.SENT), Set.of());
+
+        new NotificationService(Map.of(ChannelType.EMAIL, emailChannel), publisher).send(email);
+
+        assertThat(published).extracting(NotificationEvent::eventType)
+                .containsExactly(NotificationEvent.EventType.SENT);
+    }
+
+    @Test
+    @DisplayName("Should answer SUPPRESSED without calling the channel for a suppressed recipient")
+    void suppressedRecipientSkipsChannel() {
+        Set<String> suppressed = Set.of("blocked@test.com");
+        SuppressionList suppressions = new SuppressionList() {
+            @Override
+            public boolean isSuppressed(String recipient) {
+                return suppressed.contains(recipient);
+            }
+
+            @Override
+            public long size() {
+                return suppressed.size();
+            }
+
+            @Override
+            public void reload() {
+            }
+        };
+        service = new NotificationService(Map.of(ChannelType.EMAIL, emailChannel), eventPublisher, suppressions);
+        when(emailChannel.send(any())).thenReturn(NotificationResult.success("msg-1"));
+
+        List<NotificationEvent> capturedEvents = new ArrayList<>();
+        eventPublisher.subscribe(capturedEvents::add);
+
+        var result = service.send(EmailNotification.simple("from@test.com", "blocked@test.com", "Subject", "Body"));
+
+        assertThat(result.successful()).isFalse();
+        assertThat(result.errorCategory()).isEqualTo(ErrorCategory.SUPPRESSED);
+        assertThat(result.isRetryable()).isFalse();
+        assertThat(capturedEvents).extracting(NotificationEvent::eventType)
+                .containsExactly(NotificationEvent.EventType.FAILED);
+        verify(emailChannel, never()).send(any());
+
+        assertThat(service.send(EmailNotification.simple("from@test.com", "to@test.com", "Subject", "Body"))
+                .successful()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should answer FREQUENCY_CAPPED once a recipient reached a cap, not counting failed sends")
+    void frequencyCapSkipsChannel() {
+        var capper = new FrequencyCapper(List.of(FrequencyCap.perRecipient("daily", 1, Duration.ofHours(24))));
+        service = new NotificationService(Map.of(ChannelType.EMAIL, emailChannel), eventPublisher, null, capper);
+        var email = EmailNotification.simple("from@test.com", "to@test.com", "Subject", "Body");
+        when(emailChannel.send(any()))
+                .thenReturn(NotificationResult.providerError("SendGrid", "API error", null))
+                .thenReturn(NotificationResult.success("msg-1"));
+
+        assertThat(service.send(email).successful()).isFalse();
+        assertThat(service.send(email).successful()).isTrue();
+
+        List<NotificationEvent> capturedEvents = new ArrayList<>();
+        eventPublisher.subscribe(capturedEvents::add);
+        var result = service.send(email);
+
+        assertThat(result.errorCategory()).isEqualTo(ErrorCategory.FREQUENCY_CAPPED);
+        assertThat(result.errorMessage()).contains("daily");
+        assertThat(capturedEvents).extracting(NotificationEvent::eventType)
+                .containsExactly(NotificationEvent.EventType.FAILED);
+        verify(emailChannel, times(2)).send(any());
+    }
 }
@@ -0,0 +1,64 @@
+package com.nova.notifications.application.service;
+
+import com.nova.notifications.application.retry.RetryBudget;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("RetryBudget - Retry Storm Protection")
+class RetryBudgetTest {
+
+    @Test
+    @DisplayName("Should allow retries up to the configured ratio of first attempts")
+    void capsRetriesAtRatio() {
+        var budget = new RetryBudget(0.1, 0, Duration.ofMinutes(1));
+        for (int i = 0; i < 100; i++) {
+            budget.recordRequest();
+        }
+
+        int granted = 0;
+        for (int i = 0; i < 50; i++) {
+            if (budget.tryAcquireRetry()) granted++;
+        }
+
+        assertThat(granted).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("Should allow the per-second floor even without traffic")
+    void minimumRetriesWithoutTraffic() {
+        var budget = new RetryBudget(0.1, 1, Duration.ofSeconds(5));
+
+        int granted = 0;
+        for (int i = 0; i < 20; i++) {
+            if (budget.tryAcquireRetry()) granted++;
+        }
+
+        assertThat(granted).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Unlimited budget should never reject")
+    void unlimitedBudget() {
+        var budget = RetryBudget.unlimited();
+
+        for (int i = 0; i < 1_000; i++) {
+            assertThat(budget.tryAcquireRetry()).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject invalid configuration")
+    void rejectInvalidConfiguration() {
+        assertThatThrownBy(() -> new RetryBudget(-0.1, 0, Duration.ofSeconds(10)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new RetryBudget(0.1, -1, Duration.ofSeconds(10)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new RetryBudget(0.1, 0, Duration.ZERO))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
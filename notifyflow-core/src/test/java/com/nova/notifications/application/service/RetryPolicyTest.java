@@ -1,10 +1,12 @@
 package com.nova.notifications.application.service;
 
+import com.nova.notifications.application.retry.JitterStrategy;
 import com.nova.notifications.application.retry.RetryPolicy;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.time.Duration;
+import java.util.HashSet;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -62,4 +64,44 @@ class RetryPolicyTest {
 
         assertThat(policy.maxAttempts()).isEqualTo(1);
     }
+
+    @Test
+    @DisplayName("Full jitter should stay between zero and the exponential delay")
+    void fullJitterBounds() {
+        var policy = new RetryPolicy(5, Duration.ofSeconds(1), 2.0, Duration.ofSeconds(30))
+                .withJitter(JitterStrategy.FULL);
+
+        for (int i = 0; i < 200; i++) {
+            assertThat(policy.nextDelay(3, Duration.ZERO)).isBetween(Duration.ZERO, Duration.ofSeconds(4));
+        }
+    }
+
+    @Test
+    @DisplayName("Decorrelated jitter should stay between initialDelay and min(maxDelay, 3x previous)")
+    void decorrelatedJitterBounds() {
+        var policy = new RetryPolicy(5, Duration.ofMillis(100), 2.0, Duration.ofSeconds(1))
+                .withJitter(JitterStrategy.DECORRELATED);
+
+        var firstRetries = new HashSet<Duration>();
+        for (int i = 0; i < 200; i++) {
+            var first = policy.nextDelay(1, Duration.ZERO);
+            assertThat(first).isBetween(Duration.ofMillis(100), Duration.ofMillis(300));
+            firstRetries.add(first);
+            assertThat(policy.nextDelay(2, Duration.ofMillis(200)))
+                    .isBetween(Duration.ofMillis(100), Duration.ofMillis(600));
+            assertThat(policy.nextDelay(4, Duration.ofSeconds(5)))
+                    .isBetween(Duration.ofMillis(100), Duration.ofSeconds(1));
+        }
+        // Clients failing together must not all retry after exactly initialDelay
+        assertThat(firstRetries).hasSizeGreaterThan(10);
+    }
+
+    @Test
+    @DisplayName("No jitter should keep nextDelay deterministic")
+    void noJitterIsDeterministic() {
+        var policy = RetryPolicy.defaultPolicy();
+
+        assertThat(policy.jitter()).isEqualTo(JitterStrategy.NONE);
+        assertThat(policy.nextDelay(2, Duration.ofSeconds(1))).isEqualTo(policy.delayForAttempt(2));
+    }
 }
@@ -2,10 +2,15 @@ package com.nova.notifications.application.service;
 
 import com.nova.notifications.application.port.NotificationChannel;
 import com.nova.notifications.application.pubsub.SimpleEventPublisher;
+import com.nova.notifications.application.retry.DeadLetterStore;
+import com.nova.notifications.application.retry.PendingRetry;
+import com.nova.notifications.application.retry.RetryBudget;
 import com.nova.notifications.application.retry.RetryPolicy;
+import com.nova.notifications.application.retry.RetryStore;
 import com.nova.notifications.application.retry.RetryableNotificationService;
 import com.nova.notifications.domain.model.ChannelType;
 import com.nova.notifications.domain.model.EmailNotification;
+import com.nova.notifications.domain.result.ErrorCategory;
 import com.nova.notifications.domain.result.NotificationResult;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -14,11 +19,14 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.Duration;
+import java.time.Instant;
 import java.util.EnumMap;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -31,13 +39,17 @@ class RetryableNotificationServiceTest {
     private static final RetryPolicy FAST_RETRY = new RetryPolicy(3, Duration.ofMillis(1), 1.0, Duration.ofMillis(1));
 
     private RetryableNotificationService createRetryService(RetryPolicy policy) {
+        return createRetryService(policy, RetryBudget.unlimited());
+    }
+
+    private RetryableNotificationService createRetryService(RetryPolicy policy, RetryBudget budget) {
         when(emailChannel.isAvailable()).thenReturn(true);
         Map<ChannelType, NotificationChannel<?>> channels = new EnumMap<>(ChannelType.class);
         channels.put(ChannelType.EMAIL, emailChannel);
 
         var publisher = new SimpleEventPublisher();
         var notificationService = new NotificationService(channels, publisher);
-        return new RetryableNotificationService(notificationService, policy, publisher);
+        return new RetryableNotificationService(notificationService, policy, publisher, budget);
     }
 
     @Test
@@ -84,6 +96,24 @@ class RetryableNotificationServiceTest {
         verify(emailChannel, times(1)).send(any());
     }
 
+    @Test
+    @DisplayName("Should classify results built with the six-argument constructor from their error source")
+    void classifiesLegacyResults() {
+        when(emailChannel.send(any()))
+                .thenReturn(new NotificationResult(false, null, "PROVIDER:SendGrid", "Timeout", null, Instant.now()))
+                .thenReturn(new NotificationResult(false, null, "VALIDATION", "Bad address", null, Instant.now()));
+        var retryService = createRetryService(FAST_RETRY);
+        var email = EmailNotification.simple("from@test.com", "to@test.com", "Subject", "Body");
+
+        var result = retryService.sendWithRetry(email);
+
+        assertThat(result.errorCategory()).isEqualTo(ErrorCategory.VALIDATION);
+        assertThat(result.providerName()).isNull();
+        assertThat(result.retryAfter()).isNull();
+        verify(emailChannel, times(2)).send(any());
+        assertThat(new NotificationResult(true, "ok", null, null, null, Instant.now()).errorCategory()).isNull();
+    }
+
     @Test
     @DisplayName("Should exhaust all retry attempts and return last failure")
     void exhaustedRetries() {
@@ -101,4 +131,101 @@ class RetryableNotificationServiceTest {
         assertThat(result.errorMessage()).isEqualTo("Error 3");
         verify(emailChannel, times(3)).send(any());
     }
+
+    @Test
+    @DisplayName("Should stop retrying once the retry budget is exhausted")
+    void retryBudgetExhausted() {
+        when(emailChannel.send(any())).thenReturn(NotificationResult.providerError("SendGrid", "Down", null));
+
+        var retryService = createRetryService(FAST_RETRY, new RetryBudget(0.0, 0, Duration.ofSeconds(10)));
+        var email = EmailNotification.simple("from@test.com", "to@test.com", "Subject", "Body");
+
+        var result = retryService.sendWithRetry(email);
+
+        assertThat(result.successful()).isFalse();
+        assertThat(result.errorMessage()).isEqualTo("Down");
+        verify(emailChannel, times(1)).send(any());
+    }
+
+    @Test
+    @DisplayName("Should NOT retry permanent provider failures such as invalid recipients")
+    void noRetryOnInvalidRecipient() {
+        when(emailChannel.send(any())).thenReturn(NotificationResult.providerError(
+                "SendGrid", ErrorCategory.INVALID_RECIPIENT, "Mailbox does not exist", null, null));
+        var retryService = createRetryService(FAST_RETRY);
+        var email = EmailNotification.simple("from@test.com", "to@test.com", "Subject", "Body");
+
+        var result = retryService.sendWithRetry(email);
+
+        assertThat(result.errorCategory()).isEqualTo(ErrorCategory.INVALID_RECIPIENT);
+        verify(emailChannel, times(1)).send(any());
+    }
+
+    @Test
+    @DisplayName("Should wait at least the provider retry-after hint when rate limited")
+    void honorsRetryAfter() {
+        when(emailChannel.send(any()))
+                .thenReturn(NotificationResult.rateLimited("SendGrid", "429 Too Many Requests", Duration.ofMillis(150)))
+                .thenReturn(NotificationResult.success("ok-after-throttle"));
+        var retryService = createRetryService(FAST_RETRY);
+        var email = EmailNotification.simple("from@test.com", "to@test.com", "Subject", "Body");
+
+        long start = System.nanoTime();
+        var result = retryService.sendWithRetry(email);
+        long elapsedMs = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+        assertThat(result.successful()).isTrue();
+        assertThat(elapsedMs).isGreaterThanOrEqualTo(150);
+        verify(emailChannel, times(2)).send(any());
+    }
+
+    @Test
+    @DisplayName("Should persist pending retries and resume recovered ones")
+    void persistsAndResumesRetries() {
+        var store = mock(RetryStore.class);
+        var email = EmailNotification.simple("from@test.com", "to@test.com", "Subject", "Body");
+        when(store.add(any(), anyInt(), any())).thenReturn(new PendingRetry(7, email, 2, Instant.now()));
+        when(emailChannel.send(any()))
+                .thenReturn(NotificationResult.providerError("SendGrid", "Timeout", null))
+                .thenReturn(NotificationResult.success("ok-retry"))
+                .thenReturn(NotificationResult.success("ok-recovered"));
+        when(emailChannel.isAvailable()).thenReturn(true);
+        Map<ChannelType, NotificationChannel<?>> channels = new EnumMap<>(ChannelType.class);
+        channels.put(ChannelType.EMAIL, emailChannel);
+        var publisher = new SimpleEventPublisher();
+        var retryService = new RetryableNotificationService(new NotificationService(channels, publisher),
+                FAST_RETRY, publisher, RetryBudget.unlimited(), store);
+
+        assertThat(retryService.sendWithRetry(email).notificationId()).isEqualTo("ok-retry");
+        verify(store).add(eq(email), eq(2), any());
+        verify(store).remove(7);
+
+        var recovered = retryService.resume(new PendingRetry(42, email, 3, Instant.now()));
+        assertThat(recovered.notificationId()).isEqualTo("ok-recovered");
+        verify(store).remove(42);
+    }
+
+    @Test
+    @DisplayName("Should dead-letter notifications whose retries are exhausted, but not permanent failures")
+    void deadLettersExhaustedRetries() {
+        var deadLetters = mock(DeadLetterStore.class);
+        var email = EmailNotification.simple("from@test.com", "to@test.com", "Subject", "Body");
+        var down = NotificationResult.providerError("SendGrid", "Down", null);
+        when(emailChannel.send(any()))
+                .thenReturn(down, down, down)
+                .thenReturn(NotificationResult.providerError("SendGrid", ErrorCategory.INVALID_RECIPIENT,
+                        "Unknown mailbox", null, null));
+        when(emailChannel.isAvailable()).thenReturn(true);
+        Map<ChannelType, NotificationChannel<?>> channels = new EnumMap<>(ChannelType.class);
+        channels.put(ChannelType.EMAIL, emailChannel);
+        var publisher = new SimpleEventPublisher();
+        var retryService = new RetryableNotificationService(new NotificationService(channels, publisher),
+                FAST_RETRY, publisher, RetryBudget.unlimited(), null, deadLetters);
+
+        retryService.sendWithRetry(email);
+        verify(deadLetters).append(email, down, 3);
+
+        retryService.sendWithRetry(email);
+        verifyNoMoreInteractions(deadLetters);
+    }
 }
@@ -0,0 +1,154 @@
+package com.nova.notifications.application.service;
+
+import com.nova.notifications.application.pubsub.RingBufferEventPublisher;
+import com.nova.notifications.application.pubsub.WaitStrategy;
+import com.nova.notifications.domain.event.NotificationEvent;
+import com.nova.notifications.domain.model.ChannelType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("RingBufferEventPublisher - Asynchronous Pub/Sub Events")
+class RingBufferEventPublisherTest {
+
+    @ParameterizedTest
+    @EnumSource(WaitStrategy.class)
+    @DisplayName("Should deliver every event of concurrent producers in per-producer order")
+    void concurrentProducers(WaitStrategy waitStrategy) throws InterruptedException {
+        int producers = 4;
+        int eventsPerProducer = 10_000;
+        List<NotificationEvent> received = new ArrayList<>();
+        Set<String> deliveryThreads = ConcurrentHashMap.newKeySet();
+
+        try (var publisher = new RingBufferEventPublisher(64, waitStrategy, false)) {
+            publisher.subscribe(event -> {
+                received.add(event);
+                deliveryThreads.add(Thread.currentThread().getName());
+            });
+            var threads = new ArrayList<Thread>();
+            for (int p = 0; p < producers; p++) {
+                var recipient = "producer-" + p;
+                threads.add(Thread.ofPlatform().start(() -> {
+                    for (int i = 1; i <= eventsPerProducer; i++) {
+                        publisher.publish(NotificationEvent.sending(ChannelType.EMAIL, recipient, i));
+                    }
+                }));
+            }
+            for (var thread : threads) {
+                thread.join();
+            }
+        }
+
+        assertThat(received).hasSize(producers * eventsPerProducer);
+        assertThat(deliveryThreads).containsExactly("notifyflow-events");
+        Map<String, Integer> lastAttempt = new HashMap<>();
+        for (var event : received) {
+            int previous = lastAttempt.getOrDefault(event.recipient(), 0);
+            assertThat(event.attempt()).isEqualTo(previous + 1);
+            lastAttempt.put(event.recipient(), event.attempt());
+        }
+    }
+
+    @Test
+    @DisplayName("Should return from publish without waiting for a slow listener")
+    void slowListenerOffSendPath() throws InterruptedException {
+        var delivered = new CountDownLatch(10);
+        try (var publisher = new RingBufferEventPublisher()) {
+            publisher.subscribe(event -> {
+                sleep(Duration.ofMillis(20));
+                delivered.countDown();
+            });
+
+            long start = System.nanoTime();
+            for (int i = 0; i < 10; i++) {
+                publisher.publish(NotificationEvent.queued(ChannelType.SMS, "+15551234567"));
+            }
+            assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofMillis(20));
+        }
+        assertThat(delivered.getCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should keep delivering after a listener throws and deliver events published by listeners inline")
+    void faultyAndReentrantListeners() {
+        List<NotificationEvent> received = new ArrayList<>();
+        try (var publisher = new RingBufferEventPublisher(2, WaitStrategy.YIELDING, true)) {
+            publisher.subscribe(event -> {
+                throw new IllegalStateException("boom");
+            });
+            publisher.subscribe(event -> {
+                if (event.eventType() == NotificationEvent.EventType.FAILED) {
+                    for (int i = 0; i < 5; i++) {
+                        publisher.publish(NotificationEvent.retrying(event.channelType(), event.recipient(), i + 2));
+                    }
+                }
+            });
+            publisher.subscribe(received::add);
+
+            publisher.publish(NotificationEvent.failed(ChannelType.PUSH, "token", null, 1));
+            publisher.publish(NotificationEvent.queued(ChannelType.PUSH, "token"));
+        }
+
+        assertThat(received).extracting(NotificationEvent::eventType).containsExactly(
+                NotificationEvent.EventType.RETRYING, NotificationEvent.EventType.RETRYING,
+                NotificationEvent.EventType.RETRYING, NotificationEvent.EventType.RETRYING,
+                NotificationEvent.EventType.RETRYING, NotificationEvent.EventType.FAILED,
+                NotificationEvent.EventType.QUEUED);
+    }
+
+    @Test
+    @DisplayName("Should hand mutable listeners the reused slots and plain listeners immutable events")
+    void mutableListeners() {
+        List<String> viewed = new ArrayList<>();
+        List<NotificationEvent> received = new ArrayList<>();
+        var queued = NotificationEvent.queued(ChannelType.SLACK, "#ops");
+        long before = System.currentTimeMillis();
+        try (var publisher = new RingBufferEventPublisher(2, WaitStrategy.BLOCKING, true)) {
+            publisher.subscribeMutable(event -> viewed.add(event.eventType() + " " + event.recipient()
+                    + " " + event.attempt()), Set.of(), Set.of(ChannelType.SLACK));
+            publisher.subscribe(received::add);
+
+            for (int attempt = 1; attempt <= 3; attempt++) {
+                publisher.publish(NotificationEvent.EventType.SENDING, ChannelType.SLACK, "#alerts", null, attempt);
+            }
+            publisher.publish(queued);
+        }
+
+        assertThat(viewed).containsExactly("SENDING #alerts 1", "SENDING #alerts 2", "SENDING #alerts 3",
+                "QUEUED #ops 0");
+        assertThat(received).hasSize(4);
+        assertThat(received.get(2).attempt()).isEqualTo(3);
+        // Cached clock: at most a tick behind the wall clock
+        assertThat(received.get(2).timestamp().toEpochMilli()).isGreaterThanOrEqualTo(before - 10);
+        assertThat(received.get(3)).isSameAs(queued);
+    }
+
+    @Test
+    @DisplayName("Should reject buffer sizes that are not a power of two")
+    void invalidBufferSize() {
+        assertThatThrownBy(() -> new RingBufferEventPublisher(1000, WaitStrategy.BLOCKING, false))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("1000");
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
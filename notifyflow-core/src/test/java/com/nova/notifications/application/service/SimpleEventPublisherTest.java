@@ -1,7 +1,10 @@
 package com.nova.notifications.application.service;
 
+import com.nova.notifications.application.pubsub.EventListener;
+import com.nova.notifications.application.pubsub.EventPublisher;
 import com.nova.notifications.application.pubsub.SimpleEventPublisher;
 import com.nova.notifications.domain.event.NotificationEvent;
+import com.nova.notifications.domain.event.NotificationEvent.EventType;
 import com.nova.notifications.domain.model.ChannelType;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -9,6 +12,7 @@ import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -78,4 +82,72 @@ class SimpleEventPublisherTest {
 
         assertThat(received).hasSize(1);
     }
+
+    @Test
+    @DisplayName("Should call filtered listeners only for their event types and channels")
+    void filteredSubscriptions() {
+        List<NotificationEvent> failures = new ArrayList<>();
+        List<NotificationEvent> smsEvents = new ArrayList<>();
+        List<NotificationEvent> all = new ArrayList<>();
+        publisher.subscribe(failures::add, Set.of(EventType.FAILED), Set.of());
+        publisher.subscribe(smsEvents::add, Set.of(EventType.SENT, EventType.FAILED), Set.of(ChannelType.SMS));
+        publisher.subscribe(all::add);
+
+        publisher.publish(NotificationEvent.sending(ChannelType.SMS, "+15551234567", 1));
+        publisher.publish(NotificationEvent.failed(ChannelType.SMS, "+15551234567", null, 1));
+        publisher.publish(NotificationEvent.failed(ChannelType.EMAIL, "to@test.com", null, 1));
+        publisher.publish(NotificationEvent.sent(ChannelType.EMAIL, "to@test.com", null));
+
+        assertThat(failures).extracting(NotificationEvent::channelType).containsExactly(ChannelType.SMS, ChannelType.EMAIL);
+        assertThat(smsEvents).extracting(NotificationEvent::eventType).containsExactly(EventType.FAILED);
+        assertThat(all).hasSize(4);
+    }
+
+    @Test
+    @DisplayName("Should report which events have listeners as subscriptions change")
+    void hasListeners() {
+        com.nova.notifications.application.pubsub.EventListener listener = event -> { };
+        assertThat(publisher.hasListeners(EventType.SENT, ChannelType.PUSH)).isFalse();
+
+        publisher.subscribe(listener, Set.of(EventType.SENT), Set.of(ChannelType.PUSH));
+
+        assertThat(publisher.hasListeners(EventType.SENT, ChannelType.PUSH)).isTrue();
+        assertThat(publisher.hasListeners(EventType.SENT, ChannelType.EMAIL)).isFalse();
+        assertThat(publisher.hasListeners(EventType.SENDING, ChannelType.PUSH)).isFalse();
+
+        publisher.unsubscribe(listener);
+
+        assertThat(publisher.hasListeners(EventType.SENT, ChannelType.PUSH)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should filter events for publishers that only implement the unfiltered subscribe")
+    void filteredSubscriptionOnUnfilteredPublisher() {
+        List<EventListener> registered = new ArrayList<>();
+        EventPublisher legacy = new EventPublisher() {
+            @Override
+            public void publish(NotificationEvent event) {
+                registered.forEach(listener -> listener.onEvent(event));
+            }
+
+            @Override
+            public void subscribe(EventListener listener) {
+                registered.add(listener);
+            }
+
+            @Override
+            public void unsubscribe(EventListener listener) {
+                registered.remove(listener);
+            }
+        };
+        List<NotificationEvent> smsFailures = new ArrayList<>();
+        legacy.subscribe(smsFailures::add, Set.of(EventType.FAILED), Set.of(ChannelType.SMS));
+
+        legacy.publish(NotificationEvent.failed(ChannelType.EMAIL, "to@test.com", null, 1));
+        legacy.publish(NotificationEvent.sending(ChannelType.SMS, "+15551234567", 1));
+        legacy.publish(NotificationEvent.failed(ChannelType.SMS, "+15551234567", null, 1));
+
+        assertThat(smsFailures).extracting(NotificationEvent::eventType).containsExactly(EventType.FAILED);
+        assertThat(smsFailures).extracting(NotificationEvent::channelType).containsExactly(ChannelType.SMS);
+    }
 }
@@ -1,11 +1,28 @@
 package com.nova.notifications.application.service;
 
+import com.nova.notifications.application.template.CompiledTemplate;
+import com.nova.notifications.application.template.Escaping;
+import com.nova.notifications.application.template.NotificationTemplate;
+import com.nova.notifications.application.template.TemplateMode;
 import com.nova.notifications.application.template.TemplateRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
-
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -65,4 +82,170 @@ class TemplateRegistryTest {
     void getMissingTemplate() {
         assertThat(registry.get("missing")).isEmpty();
     }
+
+    @Test
+    @DisplayName("Should leave placeholders without a variable in place in lenient mode")
+    void lenientKeepsUnresolvedPlaceholders() {
+        registry.register("partial", "Hi {{name}}, code {{code}}");
+
+        assertThat(registry.render("partial", Map.of("name", "Ann"))).isEqualTo("Hi Ann, code {{code}}");
+    }
+
+    @Test
+    @DisplayName("Should fail on a missing variable in strict mode")
+    void strictFailsOnMissingVariable() {
+        var strict = new TemplateRegistry(TemplateMode.STRICT).register("otp", "Code {{code}} expires in {{minutes}}");
+
+        assertThatThrownBy(() -> strict.render("otp", Map.of("code", "1234")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("minutes")
+                .hasMessageContaining("otp");
+    }
+
+    @Test
+    @DisplayName("Should render repeated, adjacent and unterminated placeholders in one pass")
+    void compiledSegments() {
+        var template = new NotificationTemplate("t", "{{a}}{{b}}-{{a}} {{unterminated", TemplateMode.STRICT);
+
+        assertThat(template.variables()).containsExactly("a", "b");
+        assertThat(template.render(Map.of("a", "1", "b", "{{a}}"))).isEqualTo("1{{a}}-1 {{unterminated");
+    }
+
+    @Test
+    @DisplayName("Should stream the same output into an Appendable and a ByteBuffer")
+    void renderToTargets() throws IOException {
+        var template = new NotificationTemplate("t", "Grüße {{name}}, {{amount}} ¥");
+        var variables = Map.of("name", "Zoë", "amount", "五千");
+        var expected = template.render(variables);
+
+        var writer = new StringWriter();
+        template.renderTo(variables, writer);
+        assertThat(writer.toString()).isEqualTo(expected);
+
+        var buffer = ByteBuffer.allocate(64);
+        int written = template.renderTo(variables, buffer, StandardCharsets.UTF_8);
+        assertThat(written).isEqualTo(expected.getBytes(StandardCharsets.UTF_8).length);
+        assertThat(new String(buffer.array(), 0, written, StandardCharsets.UTF_8)).isEqualTo(expected);
+
+        var grown = template.renderToBuffer(variables, StandardCharsets.UTF_8);
+        assertThat(StandardCharsets.UTF_8.decode(grown).toString()).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("Should leave the buffer position unchanged when the output does not fit")
+    void renderToOverflow() {
+        var template = new NotificationTemplate("t", "Hello {{name}}");
+        var buffer = ByteBuffer.allocate(8).position(2);
+
+        assertThatThrownBy(() -> template.renderTo(Map.of("name", "World"), buffer, StandardCharsets.UTF_8))
+                .isInstanceOf(BufferOverflowException.class);
+        assertThat(buffer.position()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should apply an update as one snapshot without disturbing held snapshots")
+    void updateSwapsSnapshot() {
+        registry.register("a", "A {{x}}").register("b", "B {{x}}");
+        var before = registry.names();
+
+        registry.update(Map.of("a", "A2 {{x}}", "c", "C {{x}}"), Set.of("b"));
+
+        assertThat(before).containsExactlyInAnyOrder("a", "b");
+        assertThat(registry.names()).containsExactlyInAnyOrder("a", "c");
+        assertThat(registry.render("a", Map.of("x", "1"))).isEqualTo("A2 1");
+        assertThat(registry.unregister("c")).isTrue();
+        assertThat(registry.unregister("c")).isFalse();
+    }
+
+    /** Shaped like a class generated by the template Maven plugin */
+    public static final class GreetingTemplate extends CompiledTemplate {
+
+        public GreetingTemplate() {
+            super("greeting", TemplateMode.STRICT, new String[] {"Hi ", ", from ", ""}, new String[] {"name", "team"});
+        }
+
+        public static String format(String name, String team) {
+            return "Hi " + name + ", from " + team;
+        }
+
+        @Override
+        public String render(Map<String, String> variables) {
+            return format(value(variables, 0), value(variables, 1));
+        }
+    }
+
+    @Test
+    @DisplayName("Should register compiled templates found through ServiceLoader")
+    void registerCompiled(@TempDir Path classpath) throws IOException {
+        var services = classpath.resolve("META-INF/services/" + CompiledTemplate.class.getName());
+        Files.createDirectories(services.getParent());
+        Files.writeString(services, GreetingTemplate.class.getName() + "\n");
+
+        try (var loader = new URLClassLoader(new URL[] {classpath.toUri().toURL()}, getClass().getClassLoader())) {
+            assertThat(registry.registerCompiled(loader)).isEqualTo(1);
+        }
+
+        var template = registry.get("greeting").orElseThrow();
+        assertThat(template.template()).isEqualTo("Hi {{name}}, from {{team}}");
+        assertThat(template.variables()).containsExactly("name", "team");
+        assertThat(registry.render("greeting", Map.of("name", "Ana", "team", "Ops"))).isEqualTo("Hi Ana, from Ops");
+        assertThat(template.renderToBuffer(Map.of("name", "Ana", "team", "Ops"), StandardCharsets.UTF_8))
+                .isEqualTo(StandardCharsets.UTF_8.encode("Hi Ana, from Ops"));
+        assertThatThrownBy(() -> registry.render("greeting", Map.of("name", "Ana")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("team");
+    }
+
+    @Test
+    @DisplayName("Should fall back from language and country to language to the base template")
+    void localeFallback() {
+        registry.update(Map.of(
+                "welcome", "Welcome {{name}}",
+                "welcome_de", "Willkommen {{name}}",
+                "welcome_de_AT", "Servus {{name}}",
+                "otp", "Code {{code}}",
+                "order_shipped", "Shipped"), Set.of());
+
+        assertThat(registry.render("welcome", Locale.of("de", "AT"), Map.of("name", "Ana"))).isEqualTo("Servus Ana");
+        assertThat(registry.render("welcome", Locale.GERMANY, Map.of("name", "Ana"))).isEqualTo("Willkommen Ana");
+        assertThat(registry.render("welcome", Locale.GERMAN, Map.of("name", "Ana"))).isEqualTo("Willkommen Ana");
+        assertThat(registry.render("welcome", Locale.FRANCE, Map.of("name", "Ana"))).isEqualTo("Welcome Ana");
+        assertThat(registry.render("welcome", Locale.ROOT, Map.of("name", "Ana"))).isEqualTo("Welcome Ana");
+        assertThat(registry.get("otp", Locale.of("de", "AT"))).isEqualTo(registry.get("otp"));
+        assertThat(registry.get("order", Locale.ENGLISH)).isEmpty();
+        assertThat(registry.get("order_shipped", Locale.ENGLISH)).isPresent();
+        assertThatThrownBy(() -> registry.render("missing", Locale.GERMAN, Map.of()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("missing");
+    }
+
+    @Test
+    @DisplayName("Should re-resolve locale fallbacks when variants are added or removed")
+    void localeFallbackFollowsUpdates() {
+        registry.addLocales(List.of(Locale.GERMANY)).register("welcome", "Welcome");
+        assertThat(registry.render("welcome", Locale.GERMANY, Map.of())).isEqualTo("Welcome");
+
+        registry.register("welcome_de", "Willkommen");
+        assertThat(registry.render("welcome", Locale.GERMANY, Map.of())).isEqualTo("Willkommen");
+
+        registry.unregister("welcome_de");
+        assertThat(registry.render("welcome", Locale.GERMANY, Map.of())).isEqualTo("Welcome");
+    }
+
+    @Test
+    @DisplayName("Should escape each placeholder with its filter or the registry default")
+    void escapingPerSlot() {
+        var html = new TemplateRegistry(TemplateMode.LENIENT, Escaping.HTML)
+                .register("card", "<p>{{name}}</p><script>var d = \"{{name|json}}\";</script>{{banner|raw}}{{missing}}");
+
+        var rendered = html.render("card", Map.of("name", "<Ann \"A\">", "banner", "<hr>"));
+
+        assertThat(rendered).isEqualTo(
+                "<p>&lt;Ann &quot;A&quot;&gt;</p><script>var d = \"<Ann \\\"A\\\">\";</script><hr>{{missing}}");
+        assertThat(html.get("card").orElseThrow().renderToBuffer(Map.of("name", "<Ann \"A\">", "banner", "<hr>"),
+                StandardCharsets.UTF_8)).isEqualTo(StandardCharsets.UTF_8.encode(rendered));
+        assertThatThrownBy(() -> registry.register("bad", "{{name|xml}}"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("xml");
+    }
 }
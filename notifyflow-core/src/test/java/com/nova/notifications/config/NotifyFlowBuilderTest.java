@@ -1,5 +1,11 @@
 package com.nova.notifications.config;
 
+import com.nova.notifications.application.port.NotificationProvider;
+import com.nova.notifications.application.pubsub.OverflowPolicy;
+import com.nova.notifications.application.retry.DeadLetterFilter;
+import com.nova.notifications.application.retry.RetryPolicy;
+import com.nova.notifications.application.status.DeliveryStatus;
+import com.nova.notifications.domain.event.NotificationEvent;
 import com.nova.notifications.domain.model.*;
 import com.nova.notifications.domain.result.NotificationResult;
 import com.nova.notifications.infrastructure.channel.email.provider.SendGridProvider;
@@ -9,8 +15,17 @@ import com.nova.notifications.infrastructure.channel.sms.provider.TwilioProvider
 import com.nova.notifications.infrastructure.config.NotifyFlowBuilder;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -83,6 +98,21 @@ class NotifyFlowBuilderTest {
         assertThat(rendered).isEqualTo("Hello Alice, welcome!");
     }
 
+    @Test
+    @DisplayName("Should send an email whose body is rendered from a template during the send")
+    void sendTemplate() {
+        var notifyFlow = NotifyFlowBuilder.create()
+                .withSendGrid("test-key")
+                .withTemplate("welcome", "<h1>Hello {{name}}</h1>")
+                .build();
+        var envelope = EmailNotification.html("from@test.com", "to@test.com", "Welcome", "");
+
+        var result = notifyFlow.sendTemplate(envelope, "welcome", Map.of("name", "Alice"));
+
+        assertThat(result.successful()).isTrue();
+        assertThat(result.notificationId()).startsWith("sg-");
+    }
+
     @Test
     @DisplayName("Should return configuration error for unconfigured channel")
     void unconfiguredChannelReturnsError() {
@@ -110,4 +140,145 @@ class NotifyFlowBuilderTest {
         assertThat(result.successful()).isFalse();
         assertThat(result.errorSource()).isEqualTo("VALIDATION");
     }
+
+    @Test
+    @DisplayName("Should dead-letter exhausted retries and replay them once the provider recovers")
+    void deadLetterReplay(@TempDir Path directory) {
+        var providerUp = new AtomicBoolean(false);
+        var provider = new NotificationProvider<SmsNotification>() {
+            @Override
+            public NotificationResult send(SmsNotification notification) {
+                return providerUp.get()
+                        ? NotificationResult.success("replayed")
+                        : NotificationResult.providerError("Flaky", "Down", null);
+            }
+
+            @Override
+            public String getProviderName() {
+                return "Flaky";
+            }
+        };
+        var sms = new SmsNotification("+15551234567", "+15559876543", "Hello");
+
+        try (var notifyFlow = NotifyFlowBuilder.create()
+                .withSms(provider)
+                .withRetryPolicy(new RetryPolicy(2, Duration.ofMillis(1), 1.0, Duration.ofMillis(1)))
+                .withDeadLetters(directory)
+                .build()) {
+            assertThat(notifyFlow.sendWithRetry(sms).successful()).isFalse();
+            assertThat(notifyFlow.deadLetters().orElseThrow().pendingCount()).isEqualTo(1);
+
+            providerUp.set(true);
+            var report = notifyFlow.replayDeadLetters(DeadLetterFilter.all().provider("Flaky"), 1000);
+
+            assertThat(report.succeeded()).isEqualTo(1);
+            assertThat(report.completed()).isTrue();
+            assertThat(notifyFlow.deadLetters().orElseThrow().pendingCount()).isZero();
+        }
+    }
+
+    @Test
+    @DisplayName("Should record sent notifications in the delivery status store")
+    void deliveryStatusTracking(@TempDir Path directory) {
+        try (var notifyFlow = NotifyFlowBuilder.create()
+                .withSendGrid("test-key")
+                .withDeliveryStatus(directory)
+                .build()) {
+            var email = EmailNotification.simple("from@test.com", "to@test.com", "Subject", "Body");
+            var id = notifyFlow.send(email).notificationId();
+
+            var status = notifyFlow.deliveryStatuses().orElseThrow().latest(id).orElseThrow();
+            assertThat(status.status()).isEqualTo(DeliveryStatus.SENT);
+            assertThat(status.channelType()).isEqualTo(ChannelType.EMAIL);
+        }
+    }
+
+    @Test
+    @DisplayName("Should hand batched listeners every event by the time the instance is closed")
+    void batchedEventListener() {
+        var batches = new CopyOnWriteArrayList<List<NotificationEvent>>();
+        try (var notifyFlow = NotifyFlowBuilder.create()
+                .withSendGrid("test-key")
+                .withAsyncEvents()
+                .onEvents(batches::add, 2, Duration.ofMinutes(1), Set.of(NotificationEvent.EventType.SENT), Set.of())
+                .build()) {
+            for (int i = 0; i < 3; i++) {
+                notifyFlow.send(EmailNotification.simple("from@test.com", "to" + i + "@test.com", "Subject", "Body"));
+            }
+        }
+
+        assertThat(batches).flatExtracting(batch -> batch).extracting(NotificationEvent::recipient)
+                .containsExactly("to0@test.com", "to1@test.com", "to2@test.com");
+        assertThat(batches).allSatisfy(batch -> assertThat(batch).hasSizeLessThanOrEqualTo(2));
+    }
+
+    @Test
+    @DisplayName("Should keep sending while an isolated listener is stuck and count the events it drops")
+    void isolatedListener() {
+        var release = new CountDownLatch(1);
+        try (var notifyFlow = NotifyFlowBuilder.create()
+                .withSendGrid("test-key")
+                .withListenerIsolation(2, OverflowPolicy.DROP)
+                .onEvent(event -> {
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                })
+                .build()) {
+            for (int i = 0; i < 10; i++) {
+                var result = notifyFlow.send(EmailNotification.simple("from@test.com", "to@test.com", "Subject", "Body"));
+                assertThat(result.successful()).isTrue();
+            }
+
+            assertThat(notifyFlow.droppedEvents()).isPositive();
+            release.countDown();
+        }
+    }
+
+    @Test
+    @DisplayName("Should send a notification scheduled with sendAt, but not a cancelled one")
+    void scheduledDelivery(@TempDir Path directory) throws InterruptedException {
+        var sent = new CopyOnWriteArrayList<String>();
+        var provider = new NotificationProvider<SmsNotification>() {
+            @Override
+            public NotificationResult send(SmsNotification notification) {
+                sent.add(notification.message());
+                return NotificationResult.success();
+            }
+
+            @Override
+            public String getProviderName() {
+                return "Recording";
+            }
+        };
+
+        try (var notifyFlow = NotifyFlowBuilder.create()
+                .withSms(provider)
+                .withScheduledDelivery(directory)
+                .build()) {
+            var now = Instant.now();
+            notifyFlow.sendAt(new SmsNotification("+15551234567", "+15559876543", "due"), now.plusMillis(200));
+            long cancelled = notifyFlow.sendAt(
+                    new SmsNotification("+15551234567", "+15559876543", "cancelled"), now.plusMillis(300));
+            assertThat(notifyFlow.cancelScheduled(cancelled)).isTrue();
+
+            for (int i = 0; i < 50 && sent.isEmpty(); i++) {
+                Thread.sleep(50);
+            }
+            Thread.sleep(300);
+            assertThat(sent).containsExactly("due");
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject sendAt when scheduled delivery is not configured")
+    void sendAtWithoutScheduler() {
+        var notifyFlow = NotifyFlowBuilder.create().withSendGrid("test-key").build();
+        var email = EmailNotification.simple("from@test.com", "to@test.com", "Subject", "Body");
+
+        assertThatThrownBy(() -> notifyFlow.sendAt(email, Instant.now()))
+                .isInstanceOf(IllegalStateException.class);
+    }
 }
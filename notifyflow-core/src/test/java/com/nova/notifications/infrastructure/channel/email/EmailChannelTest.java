@@ -2,18 +2,29 @@ package com.nova.notifications.infrastructure.channel.email;
 
 import com.nova.notifications.application.port.NotificationProvider;
 import com.nova.notifications.application.port.NotificationValidator;
+import com.nova.notifications.application.port.RenderedBodyProvider;
+import com.nova.notifications.application.template.NotificationTemplate;
+import com.nova.notifications.common.ValidationMessages;
+import com.nova.notifications.domain.exception.ProviderException;
 import com.nova.notifications.domain.model.EmailNotification;
+import com.nova.notifications.domain.result.ErrorCategory;
 import com.nova.notifications.domain.result.NotificationResult;
+import com.nova.notifications.infrastructure.channel.email.validation.EmailValidator;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -73,4 +84,74 @@ class EmailChannelTest {
         assertThat(result.successful()).isFalse();
         assertThat(result.errorSource()).contains("PROVIDER");
     }
+
+    @Test
+    @DisplayName("Should carry classification of a ProviderException into the result")
+    void providerThrowsClassifiedException() {
+        when(validator.validate(any())).thenReturn(List.of());
+        when(provider.send(any())).thenThrow(ProviderException.invalidRecipient("SendGrid", "Address bounced"));
+        when(provider.getProviderName()).thenReturn("SendGrid");
+
+        var channel = new EmailChannel(provider, validator);
+        var email = EmailNotification.simple("from@test.com", "to@test.com", "Subject", "Body");
+
+        var result = channel.send(email);
+
+        assertThat(result.successful()).isFalse();
+        assertThat(result.errorCategory()).isEqualTo(ErrorCategory.INVALID_RECIPIENT);
+        assertThat(result.providerName()).isEqualTo("SendGrid");
+        assertThat(result.isRetryable()).isFalse();
+        assertThat(result.cause().getStackTrace()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should hand a template-rendered body to a buffer-accepting provider as bytes")
+    @SuppressWarnings("unchecked")
+    void sendRenderedToBufferProvider() {
+        RenderedBodyProvider<EmailNotification> bufferProvider = mock(RenderedBodyProvider.class);
+        var body = ArgumentCaptor.forClass(ByteBuffer.class);
+        when(validator.check(any())).thenReturn(EmailValidator.BODY_REQUIRED);
+        when(bufferProvider.sendRendered(any(), body.capture(), eq(StandardCharsets.UTF_8)))
+                .thenReturn(NotificationResult.success("sg-456"));
+
+        var channel = new EmailChannel(bufferProvider, validator);
+        var envelope = EmailNotification.html("from@test.com", "to@test.com", "Receipt", "");
+        var template = new NotificationTemplate("receipt", "<p>Total: {{total}}</p>");
+
+        var result = channel.sendRendered(envelope, template, Map.of("total", "€42"));
+
+        assertThat(result.successful()).isTrue();
+        assertThat(StandardCharsets.UTF_8.decode(body.getValue()).toString()).isEqualTo("<p>Total: €42</p>");
+        verify(bufferProvider, never()).send(any());
+        verify(validator, never()).validate(any());
+        verify(validator, never()).describe(any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("Should fall back to a String body for providers without buffer support")
+    void sendRenderedFallsBackToStringBody() {
+        when(provider.send(any())).thenReturn(NotificationResult.success("mg-1"));
+
+        var channel = new EmailChannel(provider, validator);
+        var envelope = EmailNotification.simple("from@test.com", "to@test.com", "Hi", "");
+
+        channel.sendRendered(envelope, new NotificationTemplate("hi", "Hello {{name}}"), Map.of("name", "Ann"));
+
+        verify(provider).send(EmailNotification.simple("from@test.com", "to@test.com", "Hi", "Hello Ann"));
+    }
+
+    @Test
+    @DisplayName("Should reject a rendered email for envelope errors other than the missing body")
+    void sendRenderedReportsEnvelopeErrorsOnly() {
+        var channel = new EmailChannel(provider, new EmailValidator());
+        var envelope = EmailNotification.simple("from@test.com", "not-an-address", "Hi", "");
+
+        var result = channel.sendRendered(envelope, new NotificationTemplate("hi", "Hello"), Map.of());
+
+        assertThat(result.successful()).isFalse();
+        assertThat(result.errorMessage())
+                .contains(ValidationMessages.EMAIL_RECIPIENT_INVALID_FORMAT)
+                .doesNotContain(ValidationMessages.EMAIL_BODY_REQUIRED);
+        verify(provider, never()).send(any());
+    }
 }
@@ -5,7 +5,10 @@ import com.nova.notifications.infrastructure.channel.email.validation.EmailValid
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
+import java.util.regex.Pattern;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -84,4 +87,51 @@ class EmailValidatorTest {
 
         assertThat(errors).hasSizeGreaterThanOrEqualTo(3);
     }
+
+    @Test
+    @DisplayName("Should accept exactly the addresses the documented regex accepts")
+    void matchesRegexGrammar() {
+        var pattern = Pattern.compile("^[A-Za-z0-9._%+-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}$");
+        var samples = new ArrayList<>(List.of("a@b.co", "a@.co", "a@b.c", "a@b.c1", "@b.co", "a@b..co",
+                "a.b+c%d_e-f@x-y.z.io", "a@b@c.co", "a@b_c.co", "a@b.co\n", "a@b.co.", "a@-.co", "é@b.co", ""));
+        var alphabet = "aZ09.-_%+@\n é".toCharArray();
+        var random = new Random(42);
+        for (int n = 0; n < 100_000; n++) {
+            var sample = new StringBuilder();
+            for (int i = random.nextInt(10); i > 0; i--) {
+                sample.append(alphabet[random.nextInt(alphabet.length)]);
+            }
+            samples.add(sample.toString());
+        }
+
+        for (var sample : samples) {
+            assertThat(EmailValidator.isValidAddress(sample)).as(sample).isEqualTo(pattern.matcher(sample).matches());
+        }
+    }
+
+    @Test
+    @DisplayName("Should return the shared empty list for a valid email")
+    void validEmailAllocatesNoErrorList() {
+        var email = new EmailNotification("sender@company.com", "to@client.com", "Hi", "Body", false,
+                List.of("cc@client.com"), List.of("bcc@client.com"));
+
+        assertThat(validator.validate(email)).isSameAs(List.of());
+    }
+
+    @Test
+    @DisplayName("Should report one code per failed rule and describe them like validate")
+    void checkAndDescribe() {
+        var email = new EmailNotification("sender@company.com", "nope", " ", "Body", false,
+                List.of("ok@client.com", "bad-cc"), List.of());
+
+        long errors = validator.check(email);
+
+        assertThat(errors).isEqualTo(EmailValidator.RECIPIENT_INVALID | EmailValidator.SUBJECT_REQUIRED
+                | EmailValidator.CC_INVALID);
+        assertThat(validator.describe(email, errors))
+                .isEqualTo(validator.validate(email))
+                .containsExactly("Recipient (to) has invalid email format: nope", "Subject is required",
+                        "CC address has invalid email format: bad-cc");
+        assertThat(validator.check(EmailNotification.simple("a@b.co", "c@d.io", "Hi", "Body"))).isZero();
+    }
 }
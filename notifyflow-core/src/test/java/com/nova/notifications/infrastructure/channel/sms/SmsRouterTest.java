@@ -0,0 +1,113 @@
+package com.nova.notifications.infrastructure.channel.sms;
+
+import com.nova.notifications.domain.model.SmsNotification;
+import com.nova.notifications.domain.result.ErrorCategory;
+import com.nova.notifications.infrastructure.channel.sms.provider.TwilioProvider;
+import com.nova.notifications.infrastructure.channel.sms.provider.VonageProvider;
+import com.nova.notifications.infrastructure.channel.sms.routing.PhoneRegions;
+import com.nova.notifications.infrastructure.channel.sms.routing.SmsRoute;
+import com.nova.notifications.infrastructure.channel.sms.routing.SmsRouter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("SmsRouter - Per-Destination Provider Selection")
+class SmsRouterTest {
+
+    private final TwilioProvider twilio = new TwilioProvider("test-sid", "test-token");
+    private final VonageProvider vonage = new VonageProvider("test-key", "test-secret");
+    private final VonageProvider vonageUk = new VonageProvider("uk-key", "uk-secret");
+
+    @Test
+    @DisplayName("Should resolve regions by longest calling-code prefix")
+    void resolvesRegions() {
+        assertThat(PhoneRegions.regionOf("+15551234567")).isEqualTo("US");
+        assertThat(PhoneRegions.regionOf("+14165551234")).isEqualTo("CA");
+        assertThat(PhoneRegions.regionOf("+12425551234")).isEqualTo("BS");
+        assertThat(PhoneRegions.regionOf("+4930123456")).isEqualTo("DE");
+        assertThat(PhoneRegions.regionOf("+77011234567")).isEqualTo("KZ");
+        assertThat(PhoneRegions.regionOf("+79161234567")).isEqualTo("RU");
+        assertThat(PhoneRegions.regionOf("+2471234567")).isNull();
+        assertThat(PhoneRegions.prefixesOf("DE")).containsExactly("49");
+    }
+
+    @Test
+    @DisplayName("Should route regions and prefixes to their providers and the rest to the default")
+    void routesByDestination() {
+        var router = new SmsRouter(twilio, List.of(
+                new SmsRoute(vonage, SmsRoute.UNLIMITED, PhoneRegions.EUROPEAN_UNION),
+                new SmsRoute(vonageUk, SmsRoute.UNLIMITED, Set.of("+44", "CA"))));
+
+        assertThat(router.providerFor("+4930123456")).isSameAs(vonage);
+        assertThat(router.providerFor("+33612345678")).isSameAs(vonage);
+        assertThat(router.providerFor("+447700900123")).isSameAs(vonageUk);
+        assertThat(router.providerFor("+14165551234")).isSameAs(vonageUk);
+        assertThat(router.providerFor("+15551234567")).isSameAs(twilio);
+        assertThat(router.providerFor("+4121234567")).isSameAs(twilio);
+        assertThat(router.providerFor("+2471234567")).isSameAs(twilio);
+
+        var result = router.send(new SmsNotification("+15559876543", "+4930123456", "Hallo"));
+        assertThat(result.notificationId()).startsWith("vonage-");
+    }
+
+    @Test
+    @DisplayName("Should let a prefix route take over unrouted regions beneath it, but not routed ones")
+    void prefixRouteCoversSharedCallingCode() {
+        var router = new SmsRouter(vonage, List.of(
+                new SmsRoute(twilio, SmsRoute.UNLIMITED, Set.of("+1")),
+                new SmsRoute(vonageUk, SmsRoute.UNLIMITED, Set.of("CA"))));
+
+        assertThat(router.providerFor("+15551234567")).isSameAs(twilio);
+        assertThat(router.providerFor("+12425551234")).isSameAs(twilio);
+        assertThat(router.providerFor("+14165551234")).isSameAs(vonageUk);
+    }
+
+    @Test
+    @DisplayName("Should keep a routed region's own route over a prefix route for its calling code")
+    void regionRouteWinsOverPrefixRoute() {
+        var router = new SmsRouter(twilio, List.of(
+                new SmsRoute(vonage, SmsRoute.UNLIMITED, Set.of("US", "RU", "GB")),
+                new SmsRoute(vonageUk, SmsRoute.UNLIMITED, Set.of("+1", "+7", "+44"))));
+
+        assertThat(router.providerFor("+12025550123")).isSameAs(vonage);
+        assertThat(router.providerFor("+79161234567")).isSameAs(vonage);
+        assertThat(router.providerFor("+447700900123")).isSameAs(vonage);
+        // Unrouted regions sharing those calling codes still go through the prefix routes
+        assertThat(router.providerFor("+14165551234")).isSameAs(vonageUk);
+        assertThat(router.providerFor("+77011234567")).isSameAs(vonageUk);
+    }
+
+    @Test
+    @DisplayName("Should fail sends over a route's rate limit as rate limited, leaving other routes alone")
+    void enforcesRouteRateLimit() {
+        var router = new SmsRouter(twilio, List.of(new SmsRoute(vonage, 5, Set.of("DE"))));
+        var toGermany = new SmsNotification("+15559876543", "+4930123456", "Hallo");
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(router.send(toGermany).successful()).isTrue();
+        }
+        var limited = router.send(toGermany);
+
+        assertThat(limited.errorCategory()).isEqualTo(ErrorCategory.RATE_LIMITED);
+        assertThat(limited.providerName()).isEqualTo("Vonage");
+        assertThat(limited.retryAfter()).isPositive();
+        assertThat(router.send(new SmsNotification("+15559876543", "+15551234567", "Hi")).successful()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should reject unknown and duplicate destinations")
+    void rejectsBadDestinations() {
+        assertThatThrownBy(() -> new SmsRoute(vonage, 0, Set.of("Germany")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Germany");
+        assertThatThrownBy(() -> new SmsRouter(twilio, List.of(
+                new SmsRoute(vonage, 0, Set.of("DE")), new SmsRoute(vonageUk, 0, Set.of("DE", "GB")))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("DE");
+    }
+}
@@ -5,6 +5,10 @@ import com.nova.notifications.infrastructure.channel.sms.validation.SmsValidator
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Pattern;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 @DisplayName("SmsValidator - Phone & Message Validation")
@@ -62,4 +66,29 @@ class SmsValidatorTest {
 
         assertThat(errors).anyMatch(e -> e.toLowerCase().contains("1600") || e.toLowerCase().contains("long"));
     }
+
+    @Test
+    @DisplayName("Should accept exactly the numbers the documented E.164 regex accepts")
+    void matchesRegexGrammar() {
+        var pattern = Pattern.compile("^\\+[1-9]\\d{7,14}$");
+        var alphabet = "+0123456789 a\u0663".toCharArray();
+        var random = new Random(42);
+        for (int n = 0; n < 100_000; n++) {
+            var sample = new StringBuilder(random.nextBoolean() ? "+" : "");
+            for (int i = random.nextInt(18); i > 0; i--) {
+                sample.append(alphabet[random.nextInt(alphabet.length)]);
+            }
+            var number = sample.toString();
+
+            assertThat(SmsValidator.isE164(number)).as(number).isEqualTo(pattern.matcher(number).matches());
+        }
+    }
+
+    @Test
+    @DisplayName("Should return the shared empty list for a valid SMS")
+    void validSmsAllocatesNoErrorList() {
+        var sms = new SmsNotification("+15551234567", "+15559876543", "Hello SMS");
+
+        assertThat(validator.validate(sms)).isSameAs(List.of());
+    }
 }
@@ -0,0 +1,102 @@
+package com.nova.notifications.infrastructure.persistence;
+
+import com.nova.notifications.domain.model.EmailNotification;
+import com.nova.notifications.domain.model.PushNotification;
+import com.nova.notifications.domain.model.SmsNotification;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("FileRetryStore - Durable Retry Queue")
+class FileRetryStoreTest {
+
+    @TempDir
+    Path directory;
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    @Test
+    @DisplayName("Should not hand out entries claimed by the running process")
+    void addedEntriesAreClaimed() {
+        try (var store = FileRetryStore.open(directory)) {
+            store.add(new SmsNotification("+15551234567", "+15559876543", "Hi"), 2, NOW);
+
+            assertThat(store.size()).isEqualTo(1);
+            assertThat(store.pollDue(NOW.plusSeconds(60), 10)).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("Should recover pending retries after reopen, earliest first and only when due")
+    void recoversAfterRestart() {
+        var email = EmailNotification.simple("from@test.com", "to@test.com", "Subject", "Body");
+        var push = PushNotification.withData("device-token-123", "Title", "Body", Map.of("k", "v"));
+        try (var store = FileRetryStore.open(directory)) {
+            store.add(email, 3, NOW.plusSeconds(10));
+            store.add(push, 2, NOW);
+            var done = store.add(email, 2, NOW);
+            store.remove(done.id());
+        }
+
+        try (var store = FileRetryStore.open(directory)) {
+            assertThat(store.size()).isEqualTo(2);
+
+            var due = store.pollDue(NOW.plusSeconds(1), 10);
+            assertThat(due).hasSize(1);
+            assertThat(due.getFirst().notification()).isEqualTo(push);
+            assertThat(due.getFirst().attempt()).isEqualTo(2);
+
+            var later = store.pollDue(NOW.plusSeconds(10), 10);
+            assertThat(later).hasSize(1);
+            assertThat(later.getFirst().notification()).isEqualTo(email);
+            assertThat(store.pollDue(NOW.plusSeconds(10), 10)).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("Should ignore a torn record at the tail of the log")
+    void truncatesTornTail() throws IOException {
+        var sms = new SmsNotification("+15551234567", "+15559876543", "Hi");
+        try (var store = FileRetryStore.open(directory)) {
+            store.add(sms, 2, NOW);
+        }
+        try (var files = Files.list(directory)) {
+            var segment = files.findFirst().orElseThrow();
+            Files.write(segment, new byte[]{0, 0, 0, 42, 1, 2, 3}, StandardOpenOption.APPEND);
+        }
+
+        try (var store = FileRetryStore.open(directory)) {
+            assertThat(store.pollDue(NOW, 10)).extracting(p -> p.notification()).containsExactly(sms);
+            store.add(sms, 3, NOW);
+        }
+        try (var store = FileRetryStore.open(directory)) {
+            assertThat(store.size()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    @DisplayName("Should roll segments and delete them once fully processed")
+    void rollsAndDeletesSegments() throws IOException {
+        var sms = new SmsNotification("+15551234567", "+15559876543", "Hi");
+        try (var store = new FileRetryStore(directory, 128, false)) {
+            for (int i = 0; i < 20; i++) {
+                var entry = store.add(sms, 2, NOW);
+                store.remove(entry.id());
+            }
+            assertThat(store.size()).isZero();
+        }
+
+        try (var files = Files.list(directory)) {
+            assertThat(files.count()).isEqualTo(1);
+        }
+    }
+}
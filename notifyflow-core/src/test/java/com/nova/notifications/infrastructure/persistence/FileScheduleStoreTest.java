@@ -0,0 +1,88 @@
+package com.nova.notifications.infrastructure.persistence;
+
+import com.nova.notifications.domain.model.EmailNotification;
+import com.nova.notifications.domain.model.SmsNotification;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("FileScheduleStore - Minute-Bucketed Schedule")
+class FileScheduleStoreTest {
+
+    @TempDir
+    Path directory;
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+    private static final long MINUTE = NOW.getEpochSecond() / 60;
+
+    private final SmsNotification sms = new SmsNotification("+15551234567", "+15559876543", "Reminder");
+    private final EmailNotification email = EmailNotification.simple("from@test.com", "to@test.com", "Subject", "Body");
+
+    @Test
+    @DisplayName("Should group entries into buckets by due minute")
+    void bucketsByMinute() {
+        try (var store = FileScheduleStore.open(directory)) {
+            store.add(sms, NOW.plusSeconds(5));
+            store.add(email, NOW.plusSeconds(59));
+            store.add(sms, NOW.plusSeconds(3600));
+
+            assertThat(store.loadBucket(MINUTE)).extracting(entry -> entry.dueAt())
+                    .containsExactly(NOW.plusSeconds(5), NOW.plusSeconds(59));
+            assertThat(store.loadBucket(MINUTE + 1)).isEmpty();
+            assertThat(store.bucketsThrough(MINUTE + 59)).containsExactly(MINUTE);
+            assertThat(store.bucketsThrough(MINUTE + 60)).containsExactly(MINUTE, MINUTE + 60);
+        }
+    }
+
+    @Test
+    @DisplayName("Should skip cancelled and completed entries, and cancel only once")
+    void cancelAndComplete() {
+        try (var store = FileScheduleStore.open(directory)) {
+            long cancelled = store.add(sms, NOW);
+            long completed = store.add(email, NOW);
+            long pending = store.add(sms, NOW.plusSeconds(1));
+
+            assertThat(store.cancel(cancelled)).isTrue();
+            assertThat(store.cancel(cancelled)).isFalse();
+            store.complete(completed);
+            assertThat(store.cancel(completed)).isFalse();
+            assertThat(store.cancel(pending + 1)).isFalse();
+            assertThat(store.cancel(((MINUTE + 5) << 32) | 0)).isFalse();
+
+            assertThat(store.loadBucket(MINUTE)).extracting(entry -> entry.id()).containsExactly(pending);
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep entries across reopen and truncate a torn tail")
+    void recoversAfterRestart() throws IOException {
+        long id;
+        try (var store = FileScheduleStore.open(directory)) {
+            id = store.add(sms, NOW.plusSeconds(30));
+        }
+        var bucket = directory.resolve("schedule-%012d.bkt".formatted(MINUTE));
+        Files.write(bucket, new byte[]{0, 0, 1, 0, 7}, StandardOpenOption.APPEND);
+
+        try (var store = FileScheduleStore.open(directory)) {
+            var entries = store.loadBucket(MINUTE);
+            assertThat(entries).hasSize(1);
+            assertThat(entries.getFirst().id()).isEqualTo(id);
+            assertThat(entries.getFirst().notification()).isEqualTo(sms);
+
+            long next = store.add(email, NOW.plusSeconds(31));
+            assertThat(store.loadBucket(MINUTE)).extracting(entry -> entry.id()).containsExactly(id, next);
+
+            store.dropBucket(MINUTE);
+            assertThat(Files.exists(bucket)).isFalse();
+            assertThat(store.bucketsThrough(MINUTE)).isEmpty();
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.nova.notifications.infrastructure.persistence;
+
+import com.nova.notifications.application.retry.DeadLetter;
+import com.nova.notifications.application.retry.DeadLetterFilter;
+import com.nova.notifications.domain.model.ChannelType;
+import com.nova.notifications.domain.model.EmailNotification;
+import com.nova.notifications.domain.model.SmsNotification;
+import com.nova.notifications.domain.result.ErrorCategory;
+import com.nova.notifications.domain.result.NotificationResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("MappedDeadLetterStore - Dead Letters")
+class MappedDeadLetterStoreTest {
+
+    @TempDir
+    Path directory;
+
+    private static final EmailNotification EMAIL =
+            EmailNotification.simple("from@test.com", "to@test.com", "Subject", "Body");
+    private static final SmsNotification SMS = new SmsNotification("+15551234567", "+15559876543", "Hi");
+
+    private static List<DeadLetter> scan(MappedDeadLetterStore store, DeadLetterFilter filter) {
+        var visited = new ArrayList<DeadLetter>();
+        store.scan(filter, visited::add);
+        return visited;
+    }
+
+    @Test
+    @DisplayName("Should keep entries and their final result across reopen")
+    void survivesReopen() {
+        var failure = NotificationResult.providerError("SendGrid", "Timeout", new RuntimeException("boom"));
+        try (var store = MappedDeadLetterStore.open(directory)) {
+            store.append(EMAIL, failure, 3);
+        }
+
+        try (var store = MappedDeadLetterStore.open(directory)) {
+            var entries = scan(store, DeadLetterFilter.all());
+            assertThat(entries).hasSize(1);
+            var entry = entries.getFirst();
+            assertThat(entry.notification()).isEqualTo(EMAIL);
+            assertThat(entry.attempts()).isEqualTo(3);
+            assertThat(entry.result().errorCategory()).isEqualTo(ErrorCategory.TRANSIENT);
+            assertThat(entry.result().providerName()).isEqualTo("SendGrid");
+            assertThat(entry.result().errorMessage()).contains("Timeout", "RuntimeException");
+            assertThat(store.pendingCount()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    @DisplayName("Should filter by channel, provider and error category, and skip replayed entries")
+    void filtersAndMarksReplayed() {
+        try (var store = MappedDeadLetterStore.open(directory)) {
+            store.append(EMAIL, NotificationResult.providerError("SendGrid", "Down", null), 3);
+            var sms = store.append(SMS, NotificationResult.providerError("Twilio", "Down", null), 3);
+            store.append(SMS, NotificationResult.rateLimited("Vonage", "Slow down", null), 2);
+
+            assertThat(scan(store, DeadLetterFilter.all().channels(ChannelType.SMS))).hasSize(2);
+            assertThat(scan(store, DeadLetterFilter.all().provider("Twilio")))
+                    .extracting(DeadLetter::id).containsExactly(sms.id());
+            assertThat(scan(store, DeadLetterFilter.all().categories(ErrorCategory.RATE_LIMITED))).hasSize(1);
+            assertThat(scan(store, DeadLetterFilter.all().errorSource("PROVIDER:SendGrid"))).hasSize(1);
+
+            store.markReplayed(sms.id());
+            assertThat(store.pendingCount()).isEqualTo(2);
+            assertThat(scan(store, DeadLetterFilter.all())).hasSize(2);
+            assertThat(scan(store, DeadLetterFilter.all().includingReplayed())).hasSize(3);
+        }
+
+        try (var store = MappedDeadLetterStore.open(directory)) {
+            assertThat(store.pendingCount()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    @DisplayName("Should roll segments, including records larger than a segment")
+    void rollsSegments() throws IOException {
+        var large = EmailNotification.simple("from@test.com", "to@test.com", "Subject", "x".repeat(4096));
+        try (var store = new MappedDeadLetterStore(directory, 1024, false)) {
+            for (int i = 0; i < 10; i++) {
+                store.append(SMS, NotificationResult.providerError("Twilio", "Down", null), 1);
+            }
+            store.append(large, NotificationResult.providerError("SendGrid", "Down", null), 1);
+            store.append(SMS, NotificationResult.providerError("Twilio", "Down", null), 1);
+        }
+
+        try (var files = Files.list(directory)) {
+            assertThat(files.count()).isGreaterThan(2);
+        }
+        try (var store = new MappedDeadLetterStore(directory, 1024, false)) {
+            var entries = scan(store, DeadLetterFilter.all());
+            assertThat(entries).hasSize(12);
+            assertThat(entries.get(10).notification()).isEqualTo(large);
+        }
+    }
+
+    @Test
+    @DisplayName("Should ignore a torn record left after the last valid one")
+    void ignoresTornTail() throws IOException {
+        try (var store = MappedDeadLetterStore.open(directory)) {
+            store.append(SMS, NotificationResult.providerError("Twilio", "Down", null), 3);
+        }
+        try (var files = Files.list(directory);
+             var channel = FileChannel.open(files.findFirst().orElseThrow(),
+                     StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            var length = ByteBuffer.allocate(Integer.BYTES);
+            channel.read(length, 0);
+            long end = 9 + length.flip().getInt();
+            channel.write(ByteBuffer.allocate(12).putInt(64).putInt(7).put((byte) 1).flip(), end);
+        }
+
+        try (var store = MappedDeadLetterStore.open(directory)) {
+            assertThat(scan(store, DeadLetterFilter.all())).hasSize(1);
+            store.append(EMAIL, NotificationResult.providerError("SendGrid", "Down", null), 3);
+        }
+        try (var store = MappedDeadLetterStore.open(directory)) {
+            assertThat(scan(store, DeadLetterFilter.all())).extracting(DeadLetter::notification)
+                    .containsExactly(SMS, EMAIL);
+        }
+    }
+}
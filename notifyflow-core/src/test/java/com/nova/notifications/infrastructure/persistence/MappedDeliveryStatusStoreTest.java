@@ -0,0 +1,71 @@
+package com.nova.notifications.infrastructure.persistence;
+
+import com.nova.notifications.application.status.DeliveryRecord;
+import com.nova.notifications.application.status.DeliveryStatus;
+import com.nova.notifications.domain.model.ChannelType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("MappedDeliveryStatusStore - Delivery Status by Notification Id")
+class MappedDeliveryStatusStoreTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Should return the latest state and the full history after reopen")
+    void latestAndHistory() {
+        try (var store = MappedDeliveryStatusStore.open(directory)) {
+            store.record("SM123", DeliveryStatus.ACCEPTED, ChannelType.SMS, null);
+            store.record("sg-456", DeliveryStatus.SENT, ChannelType.EMAIL, null);
+            store.record("SM123", DeliveryStatus.SENT, ChannelType.SMS, null);
+            store.record("SM123", DeliveryStatus.DELIVERED, ChannelType.SMS, "handset ack");
+        }
+
+        try (var store = MappedDeliveryStatusStore.open(directory)) {
+            assertThat(store.size()).isEqualTo(2);
+            var latest = store.latest("SM123").orElseThrow();
+            assertThat(latest.status()).isEqualTo(DeliveryStatus.DELIVERED);
+            assertThat(latest.channelType()).isEqualTo(ChannelType.SMS);
+            assertThat(latest.detail()).isEqualTo("handset ack");
+            assertThat(store.history("SM123")).extracting(DeliveryRecord::status)
+                    .containsExactly(DeliveryStatus.ACCEPTED, DeliveryStatus.SENT, DeliveryStatus.DELIVERED);
+            assertThat(store.latest("unknown")).isEmpty();
+            assertThat(store.history("unknown")).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep every id reachable while the index grows past its initial capacity")
+    void indexGrows() {
+        try (var store = new MappedDeliveryStatusStore(directory, 1 << 20, 16)) {
+            for (int i = 0; i < 5_000; i++) {
+                store.record("id-" + i, DeliveryStatus.SENT, ChannelType.PUSH, null);
+            }
+            store.record("id-42", DeliveryStatus.FAILED, ChannelType.PUSH, "Unregistered");
+
+            assertThat(store.size()).isEqualTo(5_000);
+            assertThat(store.latest("id-4999").orElseThrow().status()).isEqualTo(DeliveryStatus.SENT);
+            assertThat(store.latest("id-42").orElseThrow().status()).isEqualTo(DeliveryStatus.FAILED);
+        }
+    }
+
+    @Test
+    @DisplayName("Should resolve keys whose hashes collide through the record check")
+    void indexResolvesCollisions() {
+        var index = new OffHeapHashIndex(16);
+        index.put(7, 100, candidate -> false);
+        index.put(7, 200, candidate -> candidate == 200);
+        index.put(7, 101, candidate -> candidate == 100);
+
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.get(7, candidate -> candidate == 101)).isEqualTo(101);
+        assertThat(index.get(7, candidate -> candidate == 200)).isEqualTo(200);
+        assertThat(index.get(8, candidate -> true)).isEqualTo(OffHeapHashIndex.NOT_FOUND);
+    }
+}
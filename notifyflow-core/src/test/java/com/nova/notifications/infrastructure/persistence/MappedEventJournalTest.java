@@ -0,0 +1,122 @@
+package com.nova.notifications.infrastructure.persistence;
+
+import com.nova.notifications.domain.event.NotificationEvent;
+import com.nova.notifications.domain.event.NotificationEvent.EventType;
+import com.nova.notifications.domain.model.ChannelType;
+import com.nova.notifications.domain.result.ErrorCategory;
+import com.nova.notifications.domain.result.NotificationResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("MappedEventJournal - Event Journal with Replay")
+class MappedEventJournalTest {
+
+    private static final Instant START = Instant.parse("2026-01-01T00:00:00Z");
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Should replay every event with its fields and result after reopen")
+    void replayAfterReopen() {
+        var failure = NotificationResult.providerError("Twilio", "Carrier rejected", null);
+        try (var journal = MappedEventJournal.open(directory)) {
+            journal.onEvent(new NotificationEvent(EventType.SENDING, ChannelType.SMS, "+15551234567", null, 1, START));
+            journal.onEvent(new NotificationEvent(EventType.FAILED, ChannelType.SMS, "+15551234567", failure, 1,
+                    START.plusMillis(5)));
+        }
+
+        List<NotificationEvent> replayed = new ArrayList<>();
+        try (var journal = MappedEventJournal.open(directory)) {
+            assertThat(journal.size()).isEqualTo(2);
+            assertThat(journal.replay(replayed::add)).isEqualTo(2);
+        }
+
+        assertThat(replayed.get(0)).isEqualTo(
+                new NotificationEvent(EventType.SENDING, ChannelType.SMS, "+15551234567", null, 1, START));
+        var failed = replayed.get(1);
+        assertThat(failed.eventType()).isEqualTo(EventType.FAILED);
+        assertThat(failed.timestamp()).isEqualTo(START.plusMillis(5));
+        assertThat(failed.result().errorCategory()).isEqualTo(ErrorCategory.TRANSIENT);
+        assertThat(failed.result().providerName()).isEqualTo("Twilio");
+    }
+
+    @Test
+    @DisplayName("Should replay exactly the events of a time range across rolled segments")
+    void timeRangeAcrossSegments() throws Exception {
+        try (var journal = new MappedEventJournal(directory, 64 * 1024)) {
+            for (int i = 0; i < 20_000; i++) {
+                journal.onEvent(new NotificationEvent(EventType.SENT, ChannelType.EMAIL, "user" + i + "@test.com",
+                        null, 1, START.plusMillis(i)));
+            }
+        }
+        try (var files = Files.list(directory)) {
+            assertThat(files.count()).isGreaterThan(1);
+        }
+
+        List<NotificationEvent> replayed = new ArrayList<>();
+        try (var journal = MappedEventJournal.open(directory)) {
+            long count = journal.replay(START.plusMillis(12_345), START.plusMillis(12_350), replayed::add);
+
+            assertThat(count).isEqualTo(5);
+            assertThat(journal.replay(START.minusSeconds(1), START, replayed::add)).isZero();
+        }
+        assertThat(replayed).extracting(NotificationEvent::recipient).containsExactly(
+                "user12345@test.com", "user12346@test.com", "user12347@test.com", "user12348@test.com",
+                "user12349@test.com");
+    }
+
+    @Test
+    @DisplayName("Should delete whole segments older than the cutoff and keep replaying the rest")
+    void deletesOldSegments() throws Exception {
+        try (var journal = new MappedEventJournal(directory, 64 * 1024)) {
+            for (int i = 0; i < 20_000; i++) {
+                journal.onEvent(new NotificationEvent(EventType.SENT, ChannelType.EMAIL, "user" + i + "@test.com",
+                        null, 1, START.plusMillis(i)));
+            }
+            long segments;
+            try (var files = Files.list(directory)) {
+                segments = files.count();
+            }
+
+            long deleted = journal.deleteBefore(START.plusMillis(10_000));
+
+            assertThat(deleted).isPositive().isLessThanOrEqualTo(10_000);
+            assertThat(journal.size()).isEqualTo(20_000 - deleted);
+            try (var files = Files.list(directory)) {
+                assertThat(files.count()).isLessThan(segments);
+            }
+            List<NotificationEvent> replayed = new ArrayList<>();
+            assertThat(journal.replay(replayed::add)).isEqualTo(20_000 - deleted);
+            assertThat(replayed.getFirst().recipient()).isEqualTo("user" + deleted + "@test.com");
+            assertThat(journal.replay(START.plusMillis(12_345), START.plusMillis(12_350), event -> { }))
+                    .isEqualTo(5);
+            assertThat(journal.deleteBefore(START)).isZero();
+        }
+        try (var journal = MappedEventJournal.open(directory)) {
+            assertThat(journal.size()).isLessThan(20_000).isGreaterThan(10_000);
+        }
+    }
+
+    @Test
+    @DisplayName("Should journal an event stamped before its predecessor with the later time")
+    void timestampsNeverDecrease() {
+        List<NotificationEvent> replayed = new ArrayList<>();
+        try (var journal = MappedEventJournal.open(directory)) {
+            journal.onEvent(NotificationEvent.queued(ChannelType.PUSH, "token-1"));
+            journal.onEvent(new NotificationEvent(EventType.QUEUED, ChannelType.PUSH, "token-2", null, 0, START));
+            journal.replay(replayed::add);
+        }
+
+        assertThat(replayed.get(1).timestamp()).isEqualTo(replayed.get(0).timestamp());
+    }
+}
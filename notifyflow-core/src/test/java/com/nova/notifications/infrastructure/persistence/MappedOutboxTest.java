@@ -0,0 +1,119 @@
+package com.nova.notifications.infrastructure.persistence;
+
+import com.nova.notifications.application.async.OutboxEntry;
+import com.nova.notifications.domain.model.EmailNotification;
+import com.nova.notifications.domain.model.SmsNotification;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("MappedOutbox - Write-Ahead Acceptance Log")
+class MappedOutboxTest {
+
+    @TempDir
+    Path directory;
+
+    private static final Duration HOURLY = Duration.ofHours(1);
+
+    @Test
+    @DisplayName("Should complete concurrent appends once their entries are committed")
+    void groupCommitsConcurrentAppends() throws Exception {
+        ExecutorService callers = Executors.newFixedThreadPool(8);
+        try (var outbox = new MappedOutbox(directory, 1 << 20, HOURLY)) {
+            List<CompletableFuture<Long>> futures = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                var sms = new SmsNotification("+15551234567", "+15559876543", "Message " + i);
+                futures.add(CompletableFuture.supplyAsync(() -> outbox.append(sms), callers)
+                        .thenCompose(future -> future));
+            }
+
+            var ids = futures.stream().map(CompletableFuture::join).distinct().toList();
+            assertThat(ids).hasSize(200);
+        } finally {
+            callers.shutdown();
+        }
+
+        try (var outbox = new MappedOutbox(directory, 1 << 20, HOURLY)) {
+            assertThat(outbox.recovered()).hasSize(200);
+        }
+    }
+
+    @Test
+    @DisplayName("Should recover only entries that were not completed")
+    void recoversIncompleteEntries() {
+        var email = EmailNotification.simple("from@test.com", "to@test.com", "Subject", "Body");
+        var sms = new SmsNotification("+15551234567", "+15559876543", "Hi");
+        try (var outbox = MappedOutbox.open(directory)) {
+            long done = outbox.append(email).join();
+            outbox.append(sms).join();
+            outbox.complete(done);
+        }
+
+        try (var outbox = MappedOutbox.open(directory)) {
+            assertThat(outbox.recovered()).extracting(OutboxEntry::notification).containsExactly(sms);
+            outbox.complete(outbox.recovered().getFirst().id());
+        }
+        try (var outbox = MappedOutbox.open(directory)) {
+            assertThat(outbox.recovered()).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("Should delete fully completed segments at checkpoint")
+    void checkpointDeletesCompletedSegments() throws IOException {
+        try (var outbox = new MappedOutbox(directory, 256, HOURLY)) {
+            List<Long> ids = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                ids.add(outbox.append(new SmsNotification("+15551234567", "+15559876543", "Hi " + i)).join());
+            }
+            long keep = ids.getLast();
+            ids.stream().filter(id -> id != keep).forEach(outbox::complete);
+
+            outbox.checkpoint();
+
+            try (var files = Files.list(directory)) {
+                assertThat(files.count()).isEqualTo(1);
+            }
+        }
+        try (var outbox = new MappedOutbox(directory, 256, HOURLY)) {
+            assertThat(outbox.recovered()).hasSize(1);
+        }
+    }
+
+    @Test
+    @DisplayName("Should not recover entries whose callers were told the flush failed")
+    void abortsEntriesOfFailedFlush() {
+        var failed = new SmsNotification("+15551234567", "+15559876543", "Failed");
+        var accepted = new SmsNotification("+15551234567", "+15559876543", "Accepted");
+        try (var outbox = MappedOutbox.open(directory)) {
+            var failNext = new AtomicBoolean(true);
+            outbox.recordLog().syncHook = () -> {
+                if (failNext.getAndSet(false)) {
+                    throw new UncheckedIOException(new IOException("msync failed"));
+                }
+            };
+
+            assertThatThrownBy(() -> outbox.append(failed).join()).hasRootCauseMessage("msync failed");
+            outbox.append(accepted).join();
+        }
+
+        try (var outbox = MappedOutbox.open(directory)) {
+            assertThat(outbox.recovered()).extracting(OutboxEntry::notification).containsExactly(accepted);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.nova.notifications.infrastructure.persistence;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("MappedRecordLog - Append-only Mapped Segments")
+class MappedRecordLogTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Should let appends finish while a flush is in progress")
+    void appendDuringForce() throws Exception {
+        try (var recordLog = new MappedRecordLog(directory, "test-", ".log", 1 << 20)) {
+            recordLog.append((byte) 1, new byte[] {1, 2, 3});
+            var appendedMidFlush = new CompletableFuture<Long>();
+            recordLog.syncHook = () -> {
+                // Appends from another thread; this would time out if the flush held the lock
+                var append = CompletableFuture.supplyAsync(() -> {
+                    try {
+                        return recordLog.append((byte) 1, new byte[] {4, 5});
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    }
+                });
+                try {
+                    appendedMidFlush.complete(append.get(5, TimeUnit.SECONDS));
+                } catch (Exception e) {
+                    appendedMidFlush.completeExceptionally(e);
+                }
+            };
+
+            recordLog.force();
+            recordLog.syncHook = () -> { };
+
+            assertThat(appendedMidFlush).isCompleted();
+            assertThat(appendedMidFlush.get()).isPositive();
+            List<byte[]> bodies = new ArrayList<>();
+            recordLog.scan((id, state, body) -> bodies.add(body));
+            assertThat(bodies).containsExactly(new byte[] {1, 2, 3}, new byte[] {4, 5});
+        }
+    }
+
+    @Test
+    @DisplayName("Should skip stray files that only look like segments when reopening")
+    void ignoresStrayFiles() throws Exception {
+        try (var recordLog = new MappedRecordLog(directory, "test-", ".log", 1 << 20)) {
+            recordLog.append((byte) 1, new byte[] {1, 2, 3});
+            recordLog.force();
+        }
+        Files.write(directory.resolve("test-copy.log"), new byte[] {9});
+        Files.write(directory.resolve("test-.log"), new byte[] {9});
+        Files.write(directory.resolve("test-000000000000.log.bak"), new byte[] {9});
+
+        try (var recordLog = new MappedRecordLog(directory, "test-", ".log", 1 << 20)) {
+            List<byte[]> bodies = new ArrayList<>();
+            recordLog.scan((id, state, body) -> bodies.add(body));
+            assertThat(bodies).containsExactly(new byte[] {1, 2, 3});
+            assertThat(recordLog.segmentIndexes()).containsExactly(0L);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.nova.notifications.infrastructure.persistence;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("MappedSuppressionList - Memory-Mapped Recipient Suppression")
+class MappedSuppressionListTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Should match emails case-insensitively and phones and tokens exactly")
+    void matchesRecipients() throws IOException {
+        var source = Files.writeString(directory.resolve("suppressed.txt"), """
+                # bounced and unsubscribed
+                Bounced@Example.com
+
+                +15551234567
+                device-token-abc
+                bounced@example.com
+                """);
+
+        try (var list = MappedSuppressionList.open(source)) {
+            assertThat(list.size()).isEqualTo(3);
+            assertThat(list.isSuppressed("bounced@example.com")).isTrue();
+            assertThat(list.isSuppressed("BOUNCED@EXAMPLE.COM")).isTrue();
+            assertThat(list.isSuppressed("+15551234567")).isTrue();
+            assertThat(list.isSuppressed("device-token-abc")).isTrue();
+            assertThat(list.isSuppressed("DEVICE-TOKEN-ABC")).isFalse();
+            assertThat(list.isSuppressed("other@example.com")).isFalse();
+            assertThat(list.isSuppressed("+15551234568")).isFalse();
+            assertThat(list.isSuppressed(null)).isFalse();
+        }
+    }
+
+    @Test
+    @DisplayName("Should find every entry of a large list and reject recipients not on it")
+    void largeList() throws IOException {
+        var source = Files.writeString(directory.resolve("suppressed.txt"), IntStream.range(0, 100_000)
+                .mapToObj(i -> "user" + i + "@example.com")
+                .collect(Collectors.joining("\n")));
+
+        try (var list = MappedSuppressionList.open(source)) {
+            assertThat(list.size()).isEqualTo(100_000);
+            assertThat(IntStream.range(0, 100_000).allMatch(i -> list.isSuppressed("user" + i + "@example.com")))
+                    .isTrue();
+            assertThat(IntStream.range(100_000, 200_000).noneMatch(i -> list.isSuppressed("user" + i + "@example.com")))
+                    .isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("Should reuse an up-to-date index on open and pick up changes on reload")
+    void reuseAndReload() throws IOException {
+        var source = Files.writeString(directory.resolve("suppressed.txt"), "a@example.com\n");
+        MappedSuppressionList.open(source).close();
+        var index = directory.resolve("suppressed.txt.idx");
+        assertThat(index).exists();
+        Files.setLastModifiedTime(index, FileTime.from(Instant.now().plusSeconds(60)));
+        var compiledAt = Files.getLastModifiedTime(index);
+
+        try (var list = MappedSuppressionList.open(source)) {
+            assertThat(Files.getLastModifiedTime(index)).isEqualTo(compiledAt);
+            assertThat(list.isSuppressed("a@example.com")).isTrue();
+
+            Files.writeString(source, "b@example.com\nc@example.com\n");
+            list.reload();
+
+            assertThat(list.size()).isEqualTo(2);
+            assertThat(list.isSuppressed("a@example.com")).isFalse();
+            assertThat(list.isSuppressed("c@example.com")).isTrue();
+            assertThat(directory.resolve("suppressed.txt.idx.tmp")).doesNotExist();
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.nova.notifications.infrastructure.persistence;
+
+import com.nova.notifications.domain.model.EmailNotification;
+import com.nova.notifications.domain.model.Notification;
+import com.nova.notifications.domain.model.PushNotification;
+import com.nova.notifications.domain.model.SlackNotification;
+import com.nova.notifications.domain.model.SmsNotification;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("NotificationCodec - Binary Round Trip")
+class NotificationCodecTest {
+
+    static Stream<Notification> notifications() {
+        return Stream.of(
+                new EmailNotification("from@test.com", "to@test.com", "Sübject", "<p>" + "x".repeat(70_000) + "</p>",
+                        true, List.of("cc@test.com"), List.of("bcc@test.com")),
+                new SmsNotification("+15551234567", "+15559876543", "Hello"),
+                new PushNotification("device-token-123", "Title", null, Map.of("a", "1"), 3, "default"),
+                new SlackNotification("#alerts", "*Deploy* done :rocket:", null, ":robot:")
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("notifications")
+    @DisplayName("Should decode exactly what was encoded")
+    void roundTrip(Notification notification) {
+        assertThat(NotificationCodec.decode(NotificationCodec.encode(notification))).isEqualTo(notification);
+    }
+}
@@ -0,0 +1,107 @@
+package com.nova.notifications.infrastructure.template;
+
+import com.nova.notifications.application.template.TemplateRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TemplateDirectoryWatcher - Hot-Reloaded Templates")
+class TemplateDirectoryWatcherTest {
+
+    @TempDir
+    Path directory;
+
+    private final TemplateRegistry registry = new TemplateRegistry();
+
+    private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + 10_000_000_000L;
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should load every template file on start, named without its extension")
+    void loadsDirectoryOnStart() throws IOException {
+        Files.writeString(directory.resolve("welcome.html"), "<p>Hi {{name}}</p>");
+        Files.writeString(directory.resolve("otp"), "Code {{code}}");
+        Files.writeString(directory.resolve(".hidden.txt"), "ignored");
+        Files.writeString(directory.resolve("welcome.html~"), "backup");
+
+        try (var watcher = new TemplateDirectoryWatcher(directory, registry)) {
+            watcher.start();
+
+            assertThat(registry.names()).containsExactlyInAnyOrder("welcome", "otp");
+            assertThat(registry.render("welcome", Map.of("name", "Ana"))).isEqualTo("<p>Hi Ana</p>");
+        }
+    }
+
+    @Test
+    @DisplayName("Should swap in changed, added and deleted templates while running")
+    void reloadsChanges() throws IOException, InterruptedException {
+        Files.writeString(directory.resolve("welcome.txt"), "Hello {{name}}");
+        Files.writeString(directory.resolve("bye.txt"), "Bye {{name}}");
+
+        try (var watcher = new TemplateDirectoryWatcher(directory, registry)) {
+            watcher.start();
+            var original = registry.get("welcome").orElseThrow();
+
+            Files.writeString(directory.resolve("welcome.txt"), "Welcome back {{name}}");
+            Files.writeString(directory.resolve("receipt.txt"), "Paid {{total}}");
+            Files.delete(directory.resolve("bye.txt"));
+
+            awaitTrue(() -> registry.names().equals(Set.of("welcome", "receipt"))
+                    && registry.get("welcome").orElseThrow() != original);
+            assertThat(registry.render("welcome", Map.of("name", "Ana"))).isEqualTo("Welcome back Ana");
+            assertThat(registry.render("receipt", Map.of("total", "$5"))).isEqualTo("Paid $5");
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep templates registered in code alongside directory templates")
+    void keepsCodeTemplates() throws IOException, InterruptedException {
+        registry.register("inline", "Inline {{x}}");
+        Files.writeString(directory.resolve("file.txt"), "File {{x}}");
+
+        try (var watcher = new TemplateDirectoryWatcher(directory, registry)) {
+            watcher.start();
+            Files.delete(directory.resolve("file.txt"));
+
+            awaitTrue(() -> registry.get("file").isEmpty());
+            assertThat(registry.names()).containsExactly("inline");
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep a template when another file of that name is deleted or a change fails to compile")
+    void keepsTemplatesOnUnrelatedDeleteOrBadFile() throws IOException, InterruptedException {
+        Files.writeString(directory.resolve("welcome.html"), "Hi {{name}}");
+        Files.writeString(directory.resolve("welcome.tmp"), "scratch");
+        Files.writeString(directory.resolve("otp.txt"), "Code {{code}}");
+
+        try (var watcher = new TemplateDirectoryWatcher(directory, registry)) {
+            watcher.start();
+            Files.delete(directory.resolve("welcome.tmp"));
+            Files.writeString(directory.resolve("otp.txt"), "Code {{code|xml}}");
+            Files.writeString(directory.resolve("receipt.txt"), "Paid {{total}}");
+
+            awaitTrue(() -> registry.get("receipt").isPresent()
+                    && registry.render("welcome", Map.of("name", "Ana")).equals("Hi Ana"));
+            assertThat(registry.render("otp", Map.of("code", "42"))).isEqualTo("Code 42");
+
+            Files.writeString(directory.resolve("otp.txt"), "OTP {{code}}");
+            awaitTrue(() -> registry.render("otp", Map.of("code", "42")).equals("OTP 42"));
+            assertThat(registry.names()).containsExactlyInAnyOrder("welcome", "otp", "receipt");
+        }
+    }
+}
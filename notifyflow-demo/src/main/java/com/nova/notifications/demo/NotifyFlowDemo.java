@@ -6,6 +6,7 @@ import com.nova.notifications.domain.model.*;
 import com.nova.notifications.domain.result.NotificationResult;
 import com.nova.notifications.infrastructure.config.NotifyFlow;
 import com.nova.notifications.infrastructure.config.NotifyFlowBuilder;
+import com.nova.notifications.templates.OrderTemplate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -60,7 +61,6 @@ public class NotifyFlowDemo {
                 .withSlackWebhook("https://hooks.slack.com/services/T00/B00/demo")
                 .withTemplate("welcome", "Hello {{name}}, welcome to {{company}}!")
                 .withTemplate("otp", "Your verification code is: {{code}}. Expires in {{minutes}} minutes.")
-                .withTemplate("order", "Order #{{orderId}} confirmed. Total: {{total}}")
                 .onEvent(NotifyFlowDemo::logEvent)
                 .build();
     }
@@ -151,6 +151,10 @@ public class NotifyFlowDemo {
         var otpBody = notifyFlow.renderTemplate("otp", Map.of("code", "847291", "minutes", "5"));
         log.info("Rendered OTP: {}", otpBody);
 
+        // "order" is compiled at build time from src/main/notifyflow-templates/order.txt
+        log.info("Rendered order: {}", notifyFlow.renderTemplate("order", Map.of("orderId", "1042", "total", "$99.90")));
+        log.info("Rendered order (typed): {}", OrderTemplate.format("1043", "$12.50"));
+
         // Use rendered template in a notification
         var email = EmailNotification.simple("noreply@app.com", "alice@client.com", "Welcome!", welcomeBody);
         printResult("Template Email", notifyFlow.send(email));
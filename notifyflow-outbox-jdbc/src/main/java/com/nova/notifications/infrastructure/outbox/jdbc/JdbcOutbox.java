@@ -0,0 +1,69 @@
+package com.nova.notifications.infrastructure.outbox.jdbc;
+
+import com.nova.notifications.domain.model.Notification;
+import com.nova.notifications.infrastructure.persistence.NotificationCodec;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Writes notifications into the outbox table inside the caller's transaction.
+ * <p>
+ * The application enqueues notifications on the same {@link Connection} as its business
+ * writes; they become visible to {@link JdbcOutboxDispatcher} only when that transaction
+ * commits, and disappear with it on rollback. No provider call happens inside the
+ * transaction, so commit latency no longer depends on provider latency.
+ * </p>
+ *
+ * <pre>{@code
+ * try (var connection = dataSource.getConnection()) {
+ *     connection.setAutoCommit(false);
+ *     orders.save(connection, order);
+ *     outbox.enqueue(connection, EmailNotification.simple(...));
+ *     connection.commit();
+ * }
+ * }</pre>
+ */
+public class JdbcOutbox {
+
+    private final String insertSql;
+
+    public JdbcOutbox(JdbcOutboxSettings settings) {
+        Objects.requireNonNull(settings, "JdbcOutboxSettings must not be null");
+        this.insertSql = "INSERT INTO " + settings.tableName()
+                + " (channel, payload, status, attempts, created_at, next_attempt_at) VALUES (?, ?, '"
+                + JdbcOutboxConstants.STATUS_PENDING + "', 0, ?, ?)";
+    }
+
+    /**
+     * Enqueues a notification. Does not commit.
+     */
+    public void enqueue(Connection connection, Notification notification) throws SQLException {
+        enqueueAll(connection, List.of(notification));
+    }
+
+    /**
+     * Enqueues notifications with a single batched insert. Does not commit.
+     */
+    public void enqueueAll(Connection connection, List<? extends Notification> notifications) throws SQLException {
+        if (notifications.isEmpty()) {
+            return;
+        }
+        var now = Timestamp.from(Instant.now());
+        try (PreparedStatement insert = connection.prepareStatement(insertSql)) {
+            for (var notification : notifications) {
+                insert.setString(1, notification.channelType().name());
+                insert.setBytes(2, NotificationCodec.encode(notification));
+                insert.setTimestamp(3, now);
+                insert.setTimestamp(4, now);
+                insert.addBatch();
+            }
+            insert.executeBatch();
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.nova.notifications.infrastructure.outbox.jdbc;
+
+/**
+ * Constants for the JDBC outbox (defaults, row statuses, error messages).
+ */
+public final class JdbcOutboxConstants {
+
+    private JdbcOutboxConstants() {
+        // Utility class - prevent instantiation
+    }
+
+    // ========== Defaults ==========
+
+    public static final String DEFAULT_TABLE = "notification_outbox";
+    public static final int DEFAULT_BATCH_SIZE = 100;
+    public static final long DEFAULT_POLL_INTERVAL_MILLIS = 500;
+    public static final String DEFAULT_LOCK_CLAUSE = "FOR UPDATE SKIP LOCKED";
+
+    /** Classpath location of the reference DDL */
+    public static final String SCHEMA_RESOURCE = "/META-INF/notifyflow/outbox-schema.sql";
+
+    // ========== Row Statuses ==========
+
+    public static final String STATUS_PENDING = "PENDING";
+    public static final String STATUS_SENT = "SENT";
+    public static final String STATUS_FAILED = "FAILED";
+
+    public static final int LAST_ERROR_MAX_LENGTH = 1024;
+
+    // ========== Error Messages ==========
+
+    public static final String TABLE_NAME_INVALID = "Table name must be a plain SQL identifier: ";
+    public static final String BATCH_SIZE_INVALID = "Batch size must be at least 1";
+    public static final String POLL_INTERVAL_INVALID = "Poll interval must be positive";
+    public static final String MAX_ATTEMPTS_INVALID = "maxAttempts must be >= 1";
+    public static final String RETRY_POLICY_NULL = "Retry policy must not be null";
+    public static final String LOCK_CLAUSE_NULL = "Lock clause must not be null";
+    public static final String DIALECT_NULL = "Dialect must not be null";
+    public static final String UNDECODABLE_PAYLOAD = "Payload could not be decoded: ";
+}
@@ -0,0 +1,45 @@
+package com.nova.notifications.infrastructure.outbox.jdbc;
+
+/**
+ * How the polling query limits and locks the rows it claims, which differs by database.
+ * <p>
+ * The dispatcher also caps the rows it reads at the batch size through JDBC, which is the
+ * only limit for {@link #ORACLE}.
+ * </p>
+ */
+public enum JdbcOutboxDialect {
+
+    /** {@code FETCH FIRST n ROWS ONLY} before the lock clause (PostgreSQL, H2). */
+    STANDARD {
+        @Override
+        String claimClause(int batchSize, String lockClause) {
+            return " ORDER BY id FETCH FIRST " + batchSize + " ROWS ONLY " + lockClause;
+        }
+    },
+
+    /** {@code LIMIT n} before the lock clause (MySQL 8, MariaDB 10.6). */
+    MYSQL {
+        @Override
+        String claimClause(int batchSize, String lockClause) {
+            return " ORDER BY id LIMIT " + batchSize + " " + lockClause;
+        }
+    },
+
+    /**
+     * No row limit in SQL, since Oracle rejects {@code FOR UPDATE} together with
+     * {@code FETCH FIRST} or a {@code ROWNUM} subquery (ORA-02014). With
+     * {@code SKIP LOCKED}, Oracle locks rows as they are fetched, so reading only the
+     * first {@code batchSize} rows claims only those.
+     */
+    ORACLE {
+        @Override
+        String claimClause(int batchSize, String lockClause) {
+            return " ORDER BY id " + lockClause;
+        }
+    };
+
+    /**
+     * Returns the part of the polling query after its {@code WHERE} clause.
+     */
+    abstract String claimClause(int batchSize, String lockClause);
+}
@@ -0,0 +1,231 @@
+package com.nova.notifications.infrastructure.outbox.jdbc;
+
+import com.nova.notifications.domain.model.Notification;
+import com.nova.notifications.domain.result.NotificationResult;
+import com.nova.notifications.infrastructure.config.NotifyFlow;
+import com.nova.notifications.infrastructure.persistence.NotificationCodec;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Polls the outbox table and sends pending rows through {@link NotifyFlow#sendBatch}.
+ * <p>
+ * Each poll runs in one transaction: it claims up to {@code batchSize} pending rows in the
+ * configured {@link JdbcOutboxDialect} with the configured lock clause
+ * ({@code FOR UPDATE SKIP LOCKED} by default, so concurrent dispatchers take disjoint
+ * batches), sends them as one batch, records every outcome with
+ * a single batched update and commits. While rows keep coming in full batches, the next
+ * poll starts immediately; once the table is drained, the dispatcher waits
+ * {@code pollInterval}.
+ * </p>
+ * <p>
+ * Retryable failures stay pending until the retry policy's {@code maxAttempts} is reached;
+ * each one moves the row's {@code next_attempt_at} forward by the policy's backoff delay (or
+ * the provider's retry-after hint, if longer), and polls only claim rows that are due. Other
+ * failures are marked failed. A crash between sending and committing leaves the rows
+ * pending, so delivery is at-least-once.
+ * </p>
+ */
+public class JdbcOutboxDispatcher implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(JdbcOutboxDispatcher.class);
+
+    private record Row(long id, int attempts, Notification notification, String decodeError) {
+    }
+
+    private final DataSource dataSource;
+    private final NotifyFlow notifyFlow;
+    private final JdbcOutboxSettings settings;
+    private final String selectSql;
+    private final String updateSql;
+    private final ScheduledExecutorService scheduler;
+
+    public JdbcOutboxDispatcher(DataSource dataSource, NotifyFlow notifyFlow, JdbcOutboxSettings settings) {
+        this.dataSource = Objects.requireNonNull(dataSource, "DataSource must not be null");
+        this.notifyFlow = Objects.requireNonNull(notifyFlow, "NotifyFlow must not be null");
+        this.settings = Objects.requireNonNull(settings, "JdbcOutboxSettings must not be null");
+        this.selectSql = "SELECT id, attempts, payload FROM " + settings.tableName()
+                + " WHERE status = '" + JdbcOutboxConstants.STATUS_PENDING + "' AND next_attempt_at <= ?"
+                + settings.dialect().claimClause(settings.batchSize(), settings.lockClause());
+        this.updateSql = "UPDATE " + settings.tableName()
+                + " SET status = ?, attempts = ?, notification_id = ?, last_error = ?, processed_at = ?,"
+                + " next_attempt_at = ?"
+                + " WHERE id = ?";
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            var thread = new Thread(runnable, "notifyflow-outbox-dispatcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Starts polling in the background.
+     */
+    public void start() {
+        long interval = settings.pollInterval().toMillis();
+        scheduler.scheduleWithFixedDelay(this::drain, 0, interval, TimeUnit.MILLISECONDS);
+        log.info("Outbox dispatcher started on table '{}' (batch size {}, poll interval {}ms)",
+                settings.tableName(), settings.batchSize(), interval);
+    }
+
+    /**
+     * Claims, sends and marks one batch of pending rows.
+     *
+     * @return the number of rows processed
+     */
+    public int dispatchOnce() throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try {
+                var rows = claim(connection);
+                if (!rows.isEmpty()) {
+                    markProcessed(connection, rows, send(rows));
+                }
+                connection.commit();
+                return rows.size();
+            } catch (SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Processes batches until a poll returns less than a full batch.
+     */
+    private void drain() {
+        try {
+            int processed;
+            do {
+                processed = dispatchOnce();
+                if (processed > 0) {
+                    log.debug("Dispatched {} outbox rows", processed);
+                }
+            } while (processed == settings.batchSize() && !Thread.currentThread().isInterrupted());
+        } catch (SQLException | RuntimeException e) {
+            log.error("Outbox poll failed: {}", e.getMessage(), e);
+        }
+    }
+
+    private List<Row> claim(Connection connection) throws SQLException {
+        var rows = new ArrayList<Row>();
+        try (PreparedStatement select = connection.prepareStatement(selectSql)) {
+            select.setTimestamp(1, Timestamp.from(Instant.now()));
+            // The only row limit for dialects that cannot limit a locking query in SQL
+            select.setMaxRows(settings.batchSize());
+            select.setFetchSize(settings.batchSize());
+            try (var resultSet = select.executeQuery()) {
+                while (resultSet.next()) {
+                    long id = resultSet.getLong(1);
+                    int attempts = resultSet.getInt(2);
+                    try {
+                        rows.add(new Row(id, attempts, NotificationCodec.decode(resultSet.getBytes(3)), null));
+                    } catch (IllegalArgumentException e) {
+                        rows.add(new Row(id, attempts, null,
+                                JdbcOutboxConstants.UNDECODABLE_PAYLOAD + e.getMessage()));
+                    }
+                }
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Sends the decodable rows as one batch.
+     *
+     * @return one result per row, null for rows that could not be decoded
+     */
+    private List<NotificationResult> send(List<Row> rows) {
+        var notifications = rows.stream().map(Row::notification).filter(Objects::nonNull).toList();
+        var sent = notifications.isEmpty() ? List.<NotificationResult>of() : notifyFlow.sendBatch(notifications).join();
+        var results = new ArrayList<NotificationResult>(rows.size());
+        int next = 0;
+        for (var row : rows) {
+            results.add(row.notification() == null ? null : sent.get(next++));
+        }
+        return results;
+    }
+
+    private void markProcessed(Connection connection, List<Row> rows, List<NotificationResult> results)
+            throws SQLException {
+        var now = Instant.now();
+        var processedAt = Timestamp.from(now);
+        try (PreparedStatement update = connection.prepareStatement(updateSql)) {
+            for (int i = 0; i < rows.size(); i++) {
+                var row = rows.get(i);
+                var result = results.get(i);
+                int attempts = row.attempts() + 1;
+                var status = statusFor(result, attempts);
+                update.setString(1, status);
+                update.setInt(2, attempts);
+                update.setString(3, result != null ? result.notificationId() : null);
+                update.setString(4, truncate(result != null ? result.errorMessage() : row.decodeError()));
+                update.setTimestamp(5, processedAt);
+                update.setTimestamp(6, JdbcOutboxConstants.STATUS_PENDING.equals(status)
+                        ? Timestamp.from(now.plus(retryDelay(result, attempts)))
+                        : processedAt);
+                update.setLong(7, row.id());
+                update.addBatch();
+            }
+            update.executeBatch();
+        }
+    }
+
+    private String statusFor(NotificationResult result, int attempts) {
+        if (result == null) {
+            return JdbcOutboxConstants.STATUS_FAILED;
+        }
+        if (result.successful()) {
+            return JdbcOutboxConstants.STATUS_SENT;
+        }
+        return result.isRetryable() && attempts < settings.maxAttempts()
+                ? JdbcOutboxConstants.STATUS_PENDING
+                : JdbcOutboxConstants.STATUS_FAILED;
+    }
+
+    /**
+     * Backoff before the next attempt of a row that has failed {@code attempts} times,
+     * stretched to the provider's retry-after hint when that is longer.
+     */
+    private Duration retryDelay(NotificationResult result, int attempts) {
+        var policy = settings.retryPolicy();
+        var delay = policy.nextDelay(attempts, policy.delayForAttempt(attempts - 1));
+        var retryAfter = result.retryAfter();
+        return retryAfter != null && retryAfter.compareTo(delay) > 0 ? retryAfter : delay;
+    }
+
+    private static String truncate(String message) {
+        if (message == null || message.length() <= JdbcOutboxConstants.LAST_ERROR_MAX_LENGTH) {
+            return message;
+        }
+        return message.substring(0, JdbcOutboxConstants.LAST_ERROR_MAX_LENGTH);
+    }
+
+    /**
+     * Stops polling, waiting briefly for a batch in progress to finish. A batch that does
+     * not finish is rolled back when its connection closes and is sent again later.
+     */
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+        try {
+            scheduler.awaitTermination(settings.pollInterval().toMillis() * 2, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.nova.notifications.infrastructure.outbox.jdbc;
+
+import com.nova.notifications.application.retry.RetryPolicy;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+/**
+ * Immutable configuration for the JDBC outbox.
+ * <p>
+ * The dialect decides how the polling query limits its rows: {@link JdbcOutboxDialect#STANDARD}
+ * for PostgreSQL and H2, {@link JdbcOutboxDialect#MYSQL} for MySQL 8, and
+ * {@link JdbcOutboxDialect#ORACLE} for Oracle. The tests run against H2 only; the other
+ * dialects follow each database's documented syntax.
+ * </p>
+ * <p>
+ * The lock clause is appended to the polling query. The default,
+ * {@code FOR UPDATE SKIP LOCKED}, lets several dispatchers poll the same table without
+ * blocking each other. On databases without {@code SKIP LOCKED}, use {@code FOR UPDATE}
+ * and run a single dispatcher.
+ * </p>
+ * <p>
+ * The retry policy bounds the attempts per row and spaces them out: a row that failed with a
+ * retryable error is not claimed again until its backoff delay, or the provider's
+ * retry-after hint if longer, has passed.
+ * </p>
+ *
+ * @param tableName    outbox table, optionally schema-qualified
+ * @param batchSize    maximum number of rows claimed per poll
+ * @param pollInterval pause between polls when the table is drained
+ * @param retryPolicy  attempts before a retryable failure is marked failed, and the delay between them
+ * @param lockClause   row-locking clause appended to the polling query
+ * @param dialect      how the polling query limits the rows it claims
+ */
+public record JdbcOutboxSettings(
+        String tableName,
+        int batchSize,
+        Duration pollInterval,
+        RetryPolicy retryPolicy,
+        String lockClause,
+        JdbcOutboxDialect dialect
+) {
+
+    private static final Pattern IDENTIFIER = Pattern.compile("[A-Za-z_][A-Za-z0-9_]*(\\.[A-Za-z_][A-Za-z0-9_]*)?");
+
+    public JdbcOutboxSettings {
+        // The table name is concatenated into SQL, so only plain identifiers are accepted
+        if (tableName == null || !IDENTIFIER.matcher(tableName).matches()) {
+            throw new IllegalArgumentException(JdbcOutboxConstants.TABLE_NAME_INVALID + tableName);
+        }
+        if (batchSize < 1) {
+            throw new IllegalArgumentException(JdbcOutboxConstants.BATCH_SIZE_INVALID);
+        }
+        if (pollInterval == null || pollInterval.isNegative() || pollInterval.isZero()) {
+            throw new IllegalArgumentException(JdbcOutboxConstants.POLL_INTERVAL_INVALID);
+        }
+        Objects.requireNonNull(retryPolicy, JdbcOutboxConstants.RETRY_POLICY_NULL);
+        Objects.requireNonNull(lockClause, JdbcOutboxConstants.LOCK_CLAUSE_NULL);
+        Objects.requireNonNull(dialect, JdbcOutboxConstants.DIALECT_NULL);
+    }
+
+    /**
+     * Default settings: table {@code notification_outbox}, batches of 100, polled every 500ms,
+     * {@link RetryPolicy#defaultPolicy()} (3 attempts, 1s initial delay, doubling up to 30s),
+     * {@code FOR UPDATE SKIP LOCKED}, {@link JdbcOutboxDialect#STANDARD}.
+     */
+    public static JdbcOutboxSettings defaults() {
+        return new JdbcOutboxSettings(
+                JdbcOutboxConstants.DEFAULT_TABLE,
+                JdbcOutboxConstants.DEFAULT_BATCH_SIZE,
+                Duration.ofMillis(JdbcOutboxConstants.DEFAULT_POLL_INTERVAL_MILLIS),
+                RetryPolicy.defaultPolicy(),
+                JdbcOutboxConstants.DEFAULT_LOCK_CLAUSE,
+                JdbcOutboxDialect.STANDARD
+        );
+    }
+
+    public JdbcOutboxSettings withTableName(String name) {
+        return new JdbcOutboxSettings(name, batchSize, pollInterval, retryPolicy, lockClause, dialect);
+    }
+
+    public JdbcOutboxSettings withBatchSize(int size) {
+        return new JdbcOutboxSettings(tableName, size, pollInterval, retryPolicy, lockClause, dialect);
+    }
+
+    public JdbcOutboxSettings withPollInterval(Duration interval) {
+        return new JdbcOutboxSettings(tableName, batchSize, interval, retryPolicy, lockClause, dialect);
+    }
+
+    /**
+     * Attempts before a retryable failure is marked failed.
+     */
+    public int maxAttempts() {
+        return retryPolicy.maxAttempts();
+    }
+
+    public JdbcOutboxSettings withMaxAttempts(int attempts) {
+        if (attempts < 1) {
+            throw new IllegalArgumentException(JdbcOutboxConstants.MAX_ATTEMPTS_INVALID);
+        }
+        return withRetryPolicy(new RetryPolicy(attempts, retryPolicy.initialDelay(),
+                retryPolicy.backoffMultiplier(), retryPolicy.maxDelay(), retryPolicy.jitter()));
+    }
+
+    public JdbcOutboxSettings withRetryPolicy(RetryPolicy policy) {
+        return new JdbcOutboxSettings(tableName, batchSize, pollInterval, policy, lockClause, dialect);
+    }
+
+    public JdbcOutboxSettings withLockClause(String clause) {
+        return new JdbcOutboxSettings(tableName, batchSize, pollInterval, retryPolicy, clause, dialect);
+    }
+
+    public JdbcOutboxSettings withDialect(JdbcOutboxDialect sqlDialect) {
+        return new JdbcOutboxSettings(tableName, batchSize, pollInterval, retryPolicy, lockClause, sqlDialect);
+    }
+}
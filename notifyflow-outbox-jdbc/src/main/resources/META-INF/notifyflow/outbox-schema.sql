@@ -0,0 +1,16 @@
+-- NotifyFlow transactional outbox table.
+-- Portable DDL. On PostgreSQL use BYTEA for payload, on MySQL use LONGBLOB.
+CREATE TABLE notification_outbox (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    channel         VARCHAR(16)   NOT NULL,
+    payload         VARBINARY(1048576) NOT NULL,
+    status          VARCHAR(16)   NOT NULL,
+    attempts        INT           DEFAULT 0 NOT NULL,
+    notification_id VARCHAR(255),
+    last_error      VARCHAR(1024),
+    created_at      TIMESTAMP     NOT NULL,
+    next_attempt_at TIMESTAMP     NOT NULL,
+    processed_at    TIMESTAMP
+);
+
+CREATE INDEX notification_outbox_pending ON notification_outbox (status, next_attempt_at, id);
@@ -0,0 +1,218 @@
+package com.nova.notifications.infrastructure.outbox.jdbc;
+
+import com.nova.notifications.application.port.NotificationProvider;
+import com.nova.notifications.application.retry.RetryPolicy;
+import com.nova.notifications.domain.model.SmsNotification;
+import com.nova.notifications.domain.result.NotificationResult;
+import com.nova.notifications.infrastructure.config.NotifyFlow;
+import com.nova.notifications.infrastructure.config.NotifyFlowBuilder;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("JdbcOutboxDispatcher - Transactional Outbox on H2")
+class JdbcOutboxDispatcherTest {
+
+    private JdbcDataSource dataSource;
+    private Connection keepAlive;
+    private final List<String> sentMessages = new CopyOnWriteArrayList<>();
+    private Function<SmsNotification, NotificationResult> behaviour;
+    private NotifyFlow notifyFlow;
+
+    private final JdbcOutboxSettings settings = JdbcOutboxSettings.defaults().withBatchSize(10);
+    private final JdbcOutbox outbox = new JdbcOutbox(settings);
+
+    @BeforeEach
+    void setUp() throws SQLException, IOException {
+        dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:outbox-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        keepAlive = dataSource.getConnection();
+        try (var schema = getClass().getResourceAsStream(JdbcOutboxConstants.SCHEMA_RESOURCE);
+             var statement = keepAlive.createStatement()) {
+            for (var ddl : new String(schema.readAllBytes(), StandardCharsets.UTF_8).split(";")) {
+                var sql = ddl.lines().filter(line -> !line.strip().startsWith("--"))
+                        .collect(Collectors.joining(" ")).trim();
+                if (!sql.isEmpty()) {
+                    statement.execute(sql);
+                }
+            }
+        }
+
+        behaviour = sms -> NotificationResult.success("SM-" + sms.message());
+        var provider = new NotificationProvider<SmsNotification>() {
+            @Override
+            public NotificationResult send(SmsNotification notification) {
+                sentMessages.add(notification.message());
+                return behaviour.apply(notification);
+            }
+
+            @Override
+            public String getProviderName() {
+                return "Stub";
+            }
+        };
+        notifyFlow = NotifyFlowBuilder.create().withSms(provider).withAsyncExecutor(Runnable::run).build();
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        notifyFlow.close();
+        keepAlive.close();
+    }
+
+    private static SmsNotification sms(String message) {
+        return new SmsNotification("+15551234567", "+15559876543", message);
+    }
+
+    private List<String> statuses() throws SQLException {
+        var statuses = new ArrayList<String>();
+        try (var statement = keepAlive.createStatement();
+             var rows = statement.executeQuery("SELECT status, notification_id FROM notification_outbox ORDER BY id")) {
+            while (rows.next()) {
+                statuses.add(rows.getString(1) + ":" + rows.getString(2));
+            }
+        }
+        return statuses;
+    }
+
+    private Instant nextAttemptAt() throws SQLException {
+        try (var statement = keepAlive.createStatement();
+             var rows = statement.executeQuery("SELECT next_attempt_at FROM notification_outbox")) {
+            rows.next();
+            return rows.getTimestamp(1).toInstant();
+        }
+    }
+
+    @Test
+    @DisplayName("Should send only notifications whose business transaction committed")
+    void sendsCommittedRowsOnly() throws SQLException {
+        try (var connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            outbox.enqueueAll(connection, List.of(sms("a"), sms("b")));
+            connection.commit();
+
+            outbox.enqueue(connection, sms("rolled-back"));
+            connection.rollback();
+        }
+
+        var dispatcher = new JdbcOutboxDispatcher(dataSource, notifyFlow, settings);
+        assertThat(dispatcher.dispatchOnce()).isEqualTo(2);
+        assertThat(dispatcher.dispatchOnce()).isZero();
+
+        assertThat(sentMessages).containsExactly("a", "b");
+        assertThat(statuses()).containsExactly("SENT:SM-a", "SENT:SM-b");
+    }
+
+    @Test
+    @DisplayName("Should keep retryable failures pending until maxAttempts, then mark them failed")
+    void retriesUpToMaxAttempts() throws SQLException {
+        behaviour = sms -> NotificationResult.providerError("Stub", "Timeout", null);
+        try (var connection = dataSource.getConnection()) {
+            outbox.enqueue(connection, sms("flaky"));
+        }
+        var noBackoff = new RetryPolicy(2, Duration.ZERO, 1.0, Duration.ZERO);
+        var dispatcher = new JdbcOutboxDispatcher(dataSource, notifyFlow, settings.withRetryPolicy(noBackoff));
+
+        dispatcher.dispatchOnce();
+        assertThat(statuses()).containsExactly("PENDING:null");
+        dispatcher.dispatchOnce();
+        assertThat(statuses()).containsExactly("FAILED:null");
+        assertThat(dispatcher.dispatchOnce()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should not claim a failed row again before its backoff delay has passed")
+    void waitsForBackoffBeforeRetrying() throws SQLException {
+        behaviour = sms -> NotificationResult.providerError("Stub", "Timeout", null);
+        try (var connection = dataSource.getConnection()) {
+            outbox.enqueue(connection, sms("flaky"));
+        }
+        var backoff = new RetryPolicy(3, Duration.ofMinutes(1), 2.0, Duration.ofMinutes(10));
+        var dispatcher = new JdbcOutboxDispatcher(dataSource, notifyFlow, settings.withRetryPolicy(backoff));
+
+        var before = Instant.now();
+        assertThat(dispatcher.dispatchOnce()).isEqualTo(1);
+        assertThat(nextAttemptAt()).isAfterOrEqualTo(before.plus(Duration.ofMinutes(1)).minusMillis(1));
+        assertThat(dispatcher.dispatchOnce()).isZero();
+        assertThat(sentMessages).containsExactly("flaky");
+
+        try (var statement = keepAlive.createStatement()) {
+            statement.executeUpdate("UPDATE notification_outbox SET next_attempt_at = TIMESTAMP '2000-01-01 00:00:00'");
+        }
+        assertThat(dispatcher.dispatchOnce()).isEqualTo(1);
+        assertThat(sentMessages).containsExactly("flaky", "flaky");
+        assertThat(statuses()).containsExactly("PENDING:null");
+    }
+
+    @Test
+    @DisplayName("Should honour the provider's retry-after hint when it exceeds the backoff delay")
+    void honoursRetryAfter() throws SQLException {
+        behaviour = sms -> NotificationResult.rateLimited("Stub", "Slow down", Duration.ofHours(1));
+        try (var connection = dataSource.getConnection()) {
+            outbox.enqueue(connection, sms("throttled"));
+        }
+        var noBackoff = new RetryPolicy(3, Duration.ZERO, 1.0, Duration.ZERO);
+        var dispatcher = new JdbcOutboxDispatcher(dataSource, notifyFlow, settings.withRetryPolicy(noBackoff));
+
+        var before = Instant.now();
+        dispatcher.dispatchOnce();
+
+        assertThat(nextAttemptAt()).isAfterOrEqualTo(before.plus(Duration.ofHours(1)).minusMillis(1));
+        assertThat(dispatcher.dispatchOnce()).isZero();
+        assertThat(statuses()).containsExactly("PENDING:null");
+    }
+
+    @Test
+    @DisplayName("Should claim at most one batch in every dialect")
+    void claimsOneBatchPerDialect() throws SQLException {
+        try (var connection = dataSource.getConnection()) {
+            outbox.enqueueAll(connection, List.of(sms("1"), sms("2"), sms("3"), sms("4"), sms("5"), sms("6"),
+                    sms("7")));
+        }
+
+        for (var dialect : JdbcOutboxDialect.values()) {
+            var dispatcher = new JdbcOutboxDispatcher(dataSource, notifyFlow,
+                    settings.withBatchSize(2).withDialect(dialect));
+            assertThat(dispatcher.dispatchOnce()).as(dialect.name()).isEqualTo(2);
+        }
+        assertThat(sentMessages).containsExactly("1", "2", "3", "4", "5", "6");
+    }
+
+    @Test
+    @DisplayName("Should let concurrent dispatchers skip rows locked by another poll")
+    void skipsLockedRows() throws SQLException {
+        try (var connection = dataSource.getConnection()) {
+            outbox.enqueueAll(connection, List.of(sms("1"), sms("2"), sms("3")));
+        }
+
+        try (var holder = dataSource.getConnection()) {
+            holder.setAutoCommit(false);
+            try (var statement = holder.createStatement()) {
+                statement.executeQuery("SELECT id FROM notification_outbox ORDER BY id FETCH FIRST 2 ROWS ONLY "
+                        + JdbcOutboxConstants.DEFAULT_LOCK_CLAUSE).close();
+            }
+
+            var dispatcher = new JdbcOutboxDispatcher(dataSource, notifyFlow, settings);
+            assertThat(dispatcher.dispatchOnce()).isEqualTo(1);
+            assertThat(sentMessages).containsExactly("3");
+            holder.rollback();
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.nova.notifications.maven.template;
+
+import com.nova.notifications.application.template.Escaping;
+import com.nova.notifications.application.template.TemplateMode;
+import org.apache.maven.model.Resource;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.project.MavenProject;
+
+import java.io.File;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+
+/**
+ * Compiles the templates under {@code src/main/notifyflow-templates} into Java classes.
+ * <p>
+ * The generated sources and their {@code META-INF/services} registration are added to the
+ * build, so the templates are compiled with the project and registered automatically when
+ * a {@code NotifyFlow} is built. Invalid templates fail the build.
+ * </p>
+ */
+@Mojo(name = "generate", defaultPhase = LifecyclePhase.GENERATE_SOURCES, threadSafe = true)
+public class GenerateTemplatesMojo extends AbstractMojo {
+
+    /** Directory holding the template files */
+    @Parameter(property = "notifyflow.templates.directory",
+            defaultValue = "${project.basedir}/src/main/notifyflow-templates")
+    private File templateDirectory;
+
+    /** Root of the generated Java sources */
+    @Parameter(defaultValue = "${project.build.directory}/generated-sources/notifyflow-templates")
+    private File sourceOutputDirectory;
+
+    /** Root of the generated service registration */
+    @Parameter(defaultValue = "${project.build.directory}/generated-resources/notifyflow-templates")
+    private File resourceOutputDirectory;
+
+    /** Package of the generated classes */
+    @Parameter(property = "notifyflow.templates.package", defaultValue = "${project.groupId}.templates")
+    private String packageName;
+
+    /** How the generated templates render placeholders without a variable */
+    @Parameter(property = "notifyflow.templates.mode", defaultValue = "LENIENT")
+    private TemplateMode mode;
+
+    /** How values are escaped in placeholders without a filter such as {@code {{name|html}}} */
+    @Parameter(property = "notifyflow.templates.escaping", defaultValue = "NONE")
+    private Escaping escaping;
+
+    /** Encoding of the template files */
+    @Parameter(defaultValue = "${project.build.sourceEncoding}")
+    private String encoding;
+
+    @Parameter(defaultValue = "${project}", readonly = true, required = true)
+    private MavenProject project;
+
+    @Override
+    public void execute() throws MojoExecutionException, MojoFailureException {
+        if (!templateDirectory.isDirectory()) {
+            getLog().info("No template directory at " + templateDirectory + ", skipping");
+            return;
+        }
+        var charset = encoding != null ? Charset.forName(encoding) : Charset.defaultCharset();
+        try {
+            var compiler = new TemplateCompiler(new TemplateClassGenerator(packageName, mode), escaping, charset);
+            var classes = compiler.compile(templateDirectory.toPath(), sourceOutputDirectory.toPath(),
+                    resourceOutputDirectory.toPath());
+            getLog().info("Compiled " + classes.size() + " template(s) into " + packageName);
+        } catch (TemplateCompilationException e) {
+            throw new MojoFailureException("Invalid templates:" + System.lineSeparator() + e.getMessage(), e);
+        } catch (IllegalArgumentException e) {
+            throw new MojoFailureException(e.getMessage(), e);
+        } catch (UncheckedIOException e) {
+            throw new MojoExecutionException("Failed to compile templates: " + e.getCause().getMessage(), e);
+        }
+
+        project.addCompileSourceRoot(sourceOutputDirectory.getPath());
+        var resource = new Resource();
+        resource.setDirectory(resourceOutputDirectory.getPath());
+        project.addResource(resource);
+    }
+}
@@ -0,0 +1,218 @@
+package com.nova.notifications.maven.template;
+
+import com.nova.notifications.application.template.Escaping;
+import com.nova.notifications.application.template.TemplateMode;
+
+import javax.lang.model.SourceVersion;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Generates the Java source of a {@code CompiledTemplate} subclass for a parsed template.
+ * <p>
+ * Literals become string constants and rendering becomes one concatenation expression,
+ * which javac compiles to a single {@code invokedynamic} string concatenation; slots that
+ * escape their value call the {@link Escaping} constant directly. The class
+ * offers a static {@value TemplatePluginConstants#FORMAT_METHOD} method with one
+ * {@code String} parameter per distinct variable, and implements {@code render(Map)} by
+ * looking the variables up and delegating to it.
+ * </p>
+ */
+public class TemplateClassGenerator {
+
+    private static final String INDENT = "    ";
+
+    private final String packageName;
+    private final TemplateMode mode;
+
+    public TemplateClassGenerator(String packageName, TemplateMode mode) {
+        if (!SourceVersion.isName(packageName)) {
+            throw new IllegalArgumentException(TemplatePluginConstants.INVALID_PACKAGE + packageName);
+        }
+        this.packageName = packageName;
+        this.mode = mode;
+    }
+
+    public String packageName() {
+        return packageName;
+    }
+
+    /**
+     * Returns the source of the class for {@code template}.
+     */
+    public String generate(TemplateSource template) {
+        var className = template.className();
+        var literals = template.literals();
+        var slots = template.slots();
+        Map<String, Integer> firstSlot = new LinkedHashMap<>();
+        for (int i = 0; i < slots.size(); i++) {
+            firstSlot.putIfAbsent(slots.get(i), i);
+        }
+        Map<String, String> parameters = parameterNames(firstSlot.keySet());
+        boolean escaped = template.escapings().stream().anyMatch(escaping -> escaping != Escaping.NONE);
+
+        var source = new StringBuilder();
+        source.append("package ").append(packageName).append(";\n\n")
+                .append("import com.nova.notifications.application.template.CompiledTemplate;\n")
+                .append(escaped ? "import com.nova.notifications.application.template.Escaping;\n" : "")
+                .append("import com.nova.notifications.application.template.TemplateMode;\n\n")
+                .append("import java.util.Map;\n\n")
+                .append("/**\n")
+                .append(" * Template {@code ").append(javadocSafe(template.name())).append("}, compiled from {@code ")
+                .append(javadocSafe(template.fileName())).append("}.\n")
+                .append(" * <p>\n")
+                .append(" * Generated by notifyflow-template-maven-plugin - do not edit.\n")
+                .append(" * </p>\n")
+                .append(" */\n")
+                .append("public final class ").append(className).append(" extends CompiledTemplate {\n\n")
+                .append(INDENT).append("public static final String NAME = ").append(quote(template.name())).append(";\n\n");
+
+        for (int i = 0; i < literals.size(); i++) {
+            source.append(INDENT).append("private static final String L").append(i).append(" = ")
+                    .append(constant(literals.get(i))).append(";\n");
+        }
+
+        source.append('\n')
+                .append(INDENT).append("public ").append(className).append("() {\n")
+                .append(INDENT).append(INDENT).append("super(NAME, TemplateMode.").append(mode.name())
+                .append(", new String[] {").append(literalList(literals.size())).append("},\n")
+                .append(INDENT).append(INDENT).append(INDENT).append(INDENT).append("new String[] {")
+                .append(String.join(", ", slots.stream().map(TemplateClassGenerator::quote).toList())).append('}')
+                .append(escaped ? escapingArray(template.escapings()) : "").append(");\n")
+                .append(INDENT).append("}\n\n");
+
+        source.append(INDENT).append("/**\n")
+                .append(INDENT).append(" * Renders the template from its variables.\n")
+                .append(INDENT).append(" */\n")
+                .append(INDENT).append("public static String ").append(TemplatePluginConstants.FORMAT_METHOD).append('(')
+                .append(String.join(", ", parameters.values().stream().map(parameter -> "String " + parameter).toList()))
+                .append(") {\n")
+                .append(INDENT).append(INDENT).append("return ")
+                .append(concatenation(className, template, parameters)).append(";\n")
+                .append(INDENT).append("}\n\n");
+
+        var lookups = new ArrayList<String>();
+        firstSlot.values().forEach(slot -> lookups.add("value(variables, " + slot + ")"));
+        source.append(INDENT).append("@Override\n")
+                .append(INDENT).append("public String render(Map<String, String> variables) {\n")
+                .append(INDENT).append(INDENT).append("return ").append(TemplatePluginConstants.FORMAT_METHOD)
+                .append('(').append(String.join(", ", lookups)).append(");\n")
+                .append(INDENT).append("}\n")
+                .append("}\n");
+        return source.toString();
+    }
+
+    /**
+     * Maps each variable to a parameter name, suffixing Java keywords and any name
+     * taken by an earlier variable.
+     */
+    private static Map<String, String> parameterNames(Iterable<String> variables) {
+        Map<String, String> parameters = new LinkedHashMap<>();
+        var used = new HashSet<String>();
+        for (var variable : variables) {
+            var parameter = variable;
+            while (SourceVersion.isKeyword(parameter) || used.contains(parameter)) {
+                parameter += "_";
+            }
+            used.add(parameter);
+            parameters.put(variable, parameter);
+        }
+        return parameters;
+    }
+
+    private static String escapingArray(List<Escaping> escapings) {
+        return ",\n" + INDENT.repeat(4) + "new Escaping[] {"
+                + String.join(", ", escapings.stream().map(escaping -> "Escaping." + escaping.name()).toList()) + "}";
+    }
+
+    /**
+     * Builds {@code L0 + a + L1 + Escaping.HTML.escape(b) + ...}, skipping empty literals.
+     * Constants are qualified with the class name so a variable cannot shadow them.
+     */
+    private static String concatenation(String className, TemplateSource template, Map<String, String> parameters) {
+        var literals = template.literals();
+        var slots = template.slots();
+        var parts = new ArrayList<String>();
+        for (int i = 0; i < literals.size(); i++) {
+            if (!literals.get(i).isEmpty()) {
+                parts.add(className + ".L" + i);
+            }
+            if (i < slots.size()) {
+                var parameter = parameters.get(slots.get(i));
+                var escaping = template.escapings().get(i);
+                parts.add(escaping == Escaping.NONE
+                        ? parameter
+                        : "Escaping." + escaping.name() + ".escape(" + parameter + ")");
+            }
+        }
+        if (parts.isEmpty()) {
+            return "\"\"";
+        }
+        // A lone variable still goes through concatenation, so null renders as "null" like elsewhere
+        return parts.size() == 1 && !parts.get(0).startsWith(className + ".")
+                ? "\"\" + " + parts.get(0)
+                : String.join(" + ", parts);
+    }
+
+    private static String literalList(int count) {
+        var names = new ArrayList<String>(count);
+        for (int i = 0; i < count; i++) {
+            names.add("L" + i);
+        }
+        return String.join(", ", names);
+    }
+
+    /**
+     * Returns a string constant expression. Literals too long for one class-file constant
+     * are joined from chunks at class initialization.
+     */
+    private static String constant(String literal) {
+        if (literal.length() <= TemplatePluginConstants.MAX_CONSTANT_CHARS) {
+            return quote(literal);
+        }
+        var chunks = new ArrayList<String>();
+        int start = 0;
+        while (start < literal.length()) {
+            int end = Math.min(start + TemplatePluginConstants.MAX_CONSTANT_CHARS, literal.length());
+            if (end < literal.length() && Character.isHighSurrogate(literal.charAt(end - 1))) {
+                end--;
+            }
+            chunks.add(quote(literal.substring(start, end)));
+            start = end;
+        }
+        return "String.join(\"\", " + String.join(", ", chunks) + ")";
+    }
+
+    /**
+     * Quotes a string as a Java literal, escaping everything outside printable ASCII so the
+     * generated file does not depend on the source encoding.
+     */
+    static String quote(String value) {
+        var quoted = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> quoted.append("\\\"");
+                case '\\' -> quoted.append("\\\\");
+                case '\n' -> quoted.append("\\n");
+                case '\r' -> quoted.append("\\r");
+                case '\t' -> quoted.append("\\t");
+                default -> {
+                    if (c < 0x20 || c > 0x7e) {
+                        quoted.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        quoted.append(c);
+                    }
+                }
+            }
+        }
+        return quoted.append('"').toString();
+    }
+
+    private static String javadocSafe(String text) {
+        return text.replace("*/", "*&#47;").replace("@", "&#64;");
+    }
+}
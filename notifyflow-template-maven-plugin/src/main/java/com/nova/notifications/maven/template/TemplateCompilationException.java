@@ -0,0 +1,23 @@
+package com.nova.notifications.maven.template;
+
+import java.util.List;
+
+/**
+ * Thrown when one or more template files are invalid.
+ */
+public class TemplateCompilationException extends RuntimeException {
+
+    private final List<String> errors;
+
+    public TemplateCompilationException(List<String> errors) {
+        super(String.join(System.lineSeparator(), errors));
+        this.errors = List.copyOf(errors);
+    }
+
+    /**
+     * Returns every problem found, as {@code file:line: message}.
+     */
+    public List<String> errors() {
+        return errors;
+    }
+}
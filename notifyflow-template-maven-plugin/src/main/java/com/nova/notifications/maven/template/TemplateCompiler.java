@@ -0,0 +1,125 @@
+package com.nova.notifications.maven.template;
+
+import com.nova.notifications.application.template.CompiledTemplate;
+import com.nova.notifications.application.template.Escaping;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Compiles a directory of template files into Java sources and a {@code ServiceLoader}
+ * registration.
+ * <p>
+ * Follows the layout of a runtime template directory: each regular file is one template,
+ * named after the file without its extension; hidden files and editor backups ending in
+ * {@code ~} are ignored. Every file is parsed before anything is written, and all problems
+ * are reported together.
+ * </p>
+ */
+public class TemplateCompiler {
+
+    /** Path of the registration file below the resource output directory */
+    public static final String SERVICE_FILE = "META-INF/services/" + CompiledTemplate.class.getName();
+
+    private final TemplateClassGenerator generator;
+    private final Escaping defaultEscaping;
+    private final Charset encoding;
+
+    /**
+     * @param defaultEscaping escaping for placeholders without a filter
+     */
+    public TemplateCompiler(TemplateClassGenerator generator, Escaping defaultEscaping, Charset encoding) {
+        this.generator = generator;
+        this.defaultEscaping = defaultEscaping;
+        this.encoding = encoding;
+    }
+
+    /**
+     * Compiles every template in {@code templateDirectory}.
+     *
+     * @param sourceOutput   root of the generated Java sources
+     * @param resourceOutput root of the generated resources
+     * @return the fully qualified names of the generated classes
+     * @throws TemplateCompilationException if any template is invalid; nothing is written then
+     */
+    public List<String> compile(Path templateDirectory, Path sourceOutput, Path resourceOutput) {
+        var errors = new ArrayList<String>();
+        var templates = new ArrayList<TemplateSource>();
+        Map<String, String> fileByClass = new HashMap<>();
+        for (var file : templateFiles(templateDirectory)) {
+            var fileName = file.getFileName().toString();
+            String text;
+            try {
+                text = Files.readString(file, encoding);
+            } catch (IOException e) {
+                errors.add(TemplatePluginConstants.READ_FAILED.formatted(fileName, e.getMessage()));
+                continue;
+            }
+            var template = TemplateSource.parse(templateName(fileName), fileName, text, defaultEscaping, errors);
+            if (template == null) {
+                continue;
+            }
+            var previous = fileByClass.putIfAbsent(template.className(), fileName);
+            if (previous != null) {
+                errors.add(TemplatePluginConstants.DUPLICATE_CLASS.formatted(fileName, template.className(), previous));
+                continue;
+            }
+            templates.add(template);
+        }
+        if (!errors.isEmpty()) {
+            throw new TemplateCompilationException(errors);
+        }
+
+        var packageDirectory = sourceOutput.resolve(generator.packageName().replace('.', '/'));
+        var classNames = new ArrayList<String>(templates.size());
+        try {
+            Files.createDirectories(packageDirectory);
+            // Classes of templates deleted since the last build must not linger
+            try (Stream<Path> stale = Files.list(packageDirectory)) {
+                for (var file : (Iterable<Path>) stale.filter(f -> f.toString().endsWith(".java"))::iterator) {
+                    Files.delete(file);
+                }
+            }
+            for (var template : templates) {
+                Files.writeString(packageDirectory.resolve(template.className() + ".java"), generator.generate(template));
+                classNames.add(generator.packageName() + "." + template.className());
+            }
+            var serviceFile = resourceOutput.resolve(SERVICE_FILE);
+            Files.createDirectories(serviceFile.getParent());
+            Files.write(serviceFile, classNames);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return classNames;
+    }
+
+    private static List<Path> templateFiles(Path directory) {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(Files::isRegularFile)
+                    .filter(file -> templateName(file.getFileName().toString()) != null)
+                    .sorted()
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Returns the template name for a file name, or null for files that are not templates.
+     */
+    private static String templateName(String fileName) {
+        if (fileName.startsWith(".") || fileName.endsWith("~")) {
+            return null;
+        }
+        int dot = fileName.lastIndexOf('.');
+        return dot > 0 ? fileName.substring(0, dot) : fileName;
+    }
+}
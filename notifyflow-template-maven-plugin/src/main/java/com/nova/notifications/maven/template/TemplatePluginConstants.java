@@ -0,0 +1,33 @@
+package com.nova.notifications.maven.template;
+
+/**
+ * Constants for the template compiler (generated names, limits, error messages).
+ */
+public final class TemplatePluginConstants {
+
+    /** Suffix appended to the template name to form the generated class name */
+    public static final String CLASS_SUFFIX = "Template";
+
+    /** Name of the generated static method taking the variables as parameters */
+    public static final String FORMAT_METHOD = "format";
+
+    /** Longest literal emitted as one string constant; 3 UTF-8 bytes per char stays under the 65535 byte limit */
+    public static final int MAX_CONSTANT_CHARS = 20_000;
+
+    /** A static method takes at most 255 parameter slots */
+    public static final int MAX_VARIABLES = 255;
+
+    // ========== Error Messages ==========
+
+    public static final String UNTERMINATED_PLACEHOLDER = "%s:%d: unterminated placeholder";
+    public static final String INVALID_VARIABLE = "%s:%d: '%s' is not a valid variable name";
+    public static final String UNKNOWN_FILTER = "%s:%d: unknown filter '%s'";
+    public static final String TOO_MANY_VARIABLES = "%s: more than " + MAX_VARIABLES + " distinct variables";
+    public static final String DUPLICATE_CLASS = "%s: generates class %s, as does %s";
+    public static final String INVALID_PACKAGE = "Invalid package name for generated templates: ";
+    public static final String READ_FAILED = "%s: cannot be read: %s";
+
+    private TemplatePluginConstants() {
+        // Utility class - prevent instantiation
+    }
+}
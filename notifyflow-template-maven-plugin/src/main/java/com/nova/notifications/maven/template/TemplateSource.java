@@ -0,0 +1,118 @@
+package com.nova.notifications.maven.template;
+
+import com.nova.notifications.application.template.Escaping;
+import com.nova.notifications.common.TemplateConstants;
+
+import javax.lang.model.SourceVersion;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A template file parsed at build time into literals and slots.
+ * <p>
+ * Segments the text exactly as {@code NotificationTemplate} does at runtime, but treats
+ * what the runtime tolerates as mistakes: an unterminated placeholder, or a placeholder
+ * whose name is not a Java identifier (such as {@code {{ name }}}), fails the build.
+ * An unknown escaping filter fails it too, where the runtime would fail on registration.
+ * </p>
+ *
+ * @param name      the template name
+ * @param fileName  the file the template was read from, for messages
+ * @param literals  the text before each slot, followed by the text after the last one
+ * @param slots     the variable name of each placeholder
+ * @param escapings the escaping of each placeholder
+ */
+public record TemplateSource(String name, String fileName, List<String> literals, List<String> slots,
+                             List<Escaping> escapings) {
+
+    public TemplateSource {
+        literals = List.copyOf(literals);
+        slots = List.copyOf(slots);
+        escapings = List.copyOf(escapings);
+    }
+
+    /**
+     * Parses a template.
+     *
+     * @param defaultEscaping escaping for placeholders without a filter
+     * @param errors          receives every problem found, as {@code file:line: message}
+     * @return the parsed template, or null if errors were found
+     */
+    public static TemplateSource parse(String name, String fileName, String text, Escaping defaultEscaping,
+                                       List<String> errors) {
+        var literals = new ArrayList<String>();
+        var slots = new ArrayList<String>();
+        var escapings = new ArrayList<Escaping>();
+        int errorCount = errors.size();
+        int prefixLength = TemplateConstants.PLACEHOLDER_PREFIX.length();
+        int suffixLength = TemplateConstants.PLACEHOLDER_SUFFIX.length();
+        int literalStart = 0;
+        int open = text.indexOf(TemplateConstants.PLACEHOLDER_PREFIX);
+        while (open >= 0) {
+            int close = text.indexOf(TemplateConstants.PLACEHOLDER_SUFFIX, open + prefixLength);
+            if (close < 0) {
+                errors.add(TemplatePluginConstants.UNTERMINATED_PLACEHOLDER.formatted(fileName, lineOf(text, open)));
+                break;
+            }
+            var variable = text.substring(open + prefixLength, close);
+            var escaping = defaultEscaping;
+            int separator = variable.indexOf(TemplateConstants.FILTER_SEPARATOR);
+            if (separator >= 0) {
+                var filter = variable.substring(separator + 1);
+                variable = variable.substring(0, separator);
+                try {
+                    escaping = Escaping.forFilter(filter);
+                } catch (IllegalArgumentException e) {
+                    errors.add(TemplatePluginConstants.UNKNOWN_FILTER.formatted(fileName, lineOf(text, open), filter));
+                }
+            }
+            if (!SourceVersion.isIdentifier(variable)) {
+                errors.add(TemplatePluginConstants.INVALID_VARIABLE.formatted(fileName, lineOf(text, open), variable));
+            }
+            literals.add(text.substring(literalStart, open));
+            slots.add(variable);
+            escapings.add(escaping);
+            literalStart = close + suffixLength;
+            open = text.indexOf(TemplateConstants.PLACEHOLDER_PREFIX, literalStart);
+        }
+        literals.add(text.substring(literalStart));
+
+        if (slots.stream().distinct().count() > TemplatePluginConstants.MAX_VARIABLES) {
+            errors.add(TemplatePluginConstants.TOO_MANY_VARIABLES.formatted(fileName));
+        }
+        return errors.size() == errorCount ? new TemplateSource(name, fileName, literals, slots, escapings) : null;
+    }
+
+    private static int lineOf(String text, int index) {
+        int line = 1;
+        for (int i = 0; i < index; i++) {
+            if (text.charAt(i) == '\n') {
+                line++;
+            }
+        }
+        return line;
+    }
+
+    /**
+     * Returns the generated class name: the template name in upper camel case plus
+     * {@value TemplatePluginConstants#CLASS_SUFFIX}, e.g. {@code order-shipped} becomes
+     * {@code OrderShippedTemplate}.
+     */
+    public String className() {
+        var className = new StringBuilder();
+        boolean upper = true;
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                className.append(upper ? Character.toUpperCase(c) : c);
+                upper = false;
+            } else {
+                upper = true;
+            }
+        }
+        if (className.isEmpty() || !Character.isJavaIdentifierStart(className.charAt(0))) {
+            className.insert(0, 'T');
+        }
+        return className.append(TemplatePluginConstants.CLASS_SUFFIX).toString();
+    }
+}
@@ -0,0 +1,118 @@
+package com.nova.notifications.maven.template;
+
+import com.nova.notifications.application.template.CompiledTemplate;
+import com.nova.notifications.application.template.Escaping;
+import com.nova.notifications.application.template.NotificationTemplate;
+import com.nova.notifications.application.template.TemplateMode;
+import com.nova.notifications.application.template.TemplateRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("TemplateCompiler - Build-Time Template Classes")
+class TemplateCompilerTest {
+
+    @TempDir
+    Path workDirectory;
+
+    private final TemplateCompiler compiler = new TemplateCompiler(
+            new TemplateClassGenerator("com.example.templates", TemplateMode.STRICT), Escaping.NONE,
+            StandardCharsets.UTF_8);
+
+    private Path templates() throws IOException {
+        return Files.createDirectories(workDirectory.resolve("templates"));
+    }
+
+    /**
+     * Compiles the generated sources with javac against notifyflow-core.
+     */
+    private Path javac(Path sources) throws IOException, URISyntaxException {
+        var classes = Files.createDirectories(workDirectory.resolve("classes"));
+        var core = Path.of(CompiledTemplate.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        try (Stream<Path> files = Files.walk(sources)) {
+            var args = Stream.concat(
+                    Stream.of("-d", classes.toString(), "-classpath", core.toString()),
+                    files.filter(file -> file.toString().endsWith(".java")).map(Path::toString)).toArray(String[]::new);
+            assertThat(ToolProvider.getSystemJavaCompiler().run(null, null, null, args)).isZero();
+        }
+        return classes;
+    }
+
+    @Test
+    @DisplayName("Should generate classes that render like runtime templates and register through ServiceLoader")
+    void compilesAndRegisters() throws Exception {
+        var order = "Order #{{id}} for {{class}}: \"{{item}}\" \\ {{id}}\né€😀";
+        Files.writeString(templates().resolve("order-shipped.txt"), order);
+        Files.writeString(templates().resolve("only-variable"), "{{value}}");
+        Files.writeString(templates().resolve("big.html"), "x".repeat(50_000) + "{{v}}");
+        var card = "<p>{{item|html}}</p>{\"id\": \"{{id|json}}\"} {{item}}";
+        Files.writeString(templates().resolve("card.html"), card);
+        Files.writeString(templates().resolve(".ignored"), "{{broken");
+
+        var sources = workDirectory.resolve("generated-sources");
+        var resources = workDirectory.resolve("generated-resources");
+        var classNames = compiler.compile(templates(), sources, resources);
+
+        assertThat(classNames).containsExactly("com.example.templates.BigTemplate", "com.example.templates.CardTemplate",
+                "com.example.templates.OnlyVariableTemplate", "com.example.templates.OrderShippedTemplate");
+        var classes = javac(sources);
+
+        try (var loader = new URLClassLoader(new URL[] {classes.toUri().toURL(), resources.toUri().toURL()},
+                getClass().getClassLoader())) {
+            var registry = new TemplateRegistry();
+            assertThat(registry.registerCompiled(loader)).isEqualTo(4);
+
+            var variables = Map.of("id", "42", "class", "VIP", "item", "Lamp", "value", "v", "v", "!");
+            var runtime = new NotificationTemplate("order-shipped", order, TemplateMode.STRICT);
+            var compiled = registry.get("order-shipped").orElseThrow();
+            assertThat(compiled.template()).isEqualTo(order);
+            assertThat(compiled.mode()).isEqualTo(TemplateMode.STRICT);
+            assertThat(compiled.render(variables)).isEqualTo(runtime.render(variables));
+            assertThat(registry.render("only-variable", variables)).isEqualTo("v");
+            assertThat(registry.render("big", variables)).hasSize(50_001).endsWith("x!");
+            var escapedVariables = Map.of("item", "<Lamp & \"Shade\">", "id", "4\"2");
+            assertThat(registry.render("card", escapedVariables))
+                    .isEqualTo(new NotificationTemplate("card", card, TemplateMode.STRICT).render(escapedVariables))
+                    .isEqualTo("<p>&lt;Lamp &amp; &quot;Shade&quot;&gt;</p>{\"id\": \"4\\\"2\"} <Lamp & \"Shade\">");
+            assertThat(registry.get("card").orElseThrow().template()).isEqualTo(card);
+
+            var format = loader.loadClass("com.example.templates.OrderShippedTemplate")
+                    .getMethod("format", String.class, String.class, String.class);
+            assertThat(format.invoke(null, "42", "VIP", "Lamp")).isEqualTo(runtime.render(variables));
+            assertThatThrownBy(() -> compiled.render(Map.of("id", "42")))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("class");
+        }
+    }
+
+    @Test
+    @DisplayName("Should report every invalid template and write nothing")
+    void reportsAllErrors() throws IOException {
+        Files.writeString(templates().resolve("a.txt"), "Hello\n{{ name }}");
+        Files.writeString(templates().resolve("b.txt"), "Code {{code");
+        Files.writeString(templates().resolve("c.txt"), "{{code|xml}}");
+        Files.writeString(templates().resolve("ok.txt"), "Fine {{x}}");
+
+        var sources = workDirectory.resolve("generated-sources");
+        assertThatThrownBy(() -> compiler.compile(templates(), sources, workDirectory.resolve("generated-resources")))
+                .isInstanceOfSatisfying(TemplateCompilationException.class, e -> assertThat(e.errors()).containsExactly(
+                        "a.txt:2: ' name ' is not a valid variable name",
+                        "b.txt:1: unterminated placeholder",
+                        "c.txt:1: unknown filter 'xml'"));
+        assertThat(sources).doesNotExist();
+    }
+}